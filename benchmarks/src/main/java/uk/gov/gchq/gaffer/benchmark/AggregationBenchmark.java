@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.util.AggregatorUtil;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks aggregating a batch of {@link BenchmarkData#NUM_ELEMENTS}
+ * elements at ingest.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AggregationBenchmark {
+
+    @Param({"ROAD_TRAFFIC", "SIMPLE"})
+    public SchemaShape schemaShape;
+
+    private Schema schema;
+    private List<Element> elements;
+
+    @Setup
+    public void setup() {
+        schema = schemaShape.getSchema();
+        elements = schemaShape.generateElements(BenchmarkData.NUM_ELEMENTS, BenchmarkData.createRandom());
+    }
+
+    /**
+     * Aggregates a copy of the elements, as aggregation updates the
+     * properties of the elements in place.
+     *
+     * @param blackhole consumes the aggregated elements
+     */
+    @Benchmark
+    public void ingestAggregate(final Blackhole blackhole) {
+        final Iterable<Element> aggregated = AggregatorUtil.ingestAggregate(copyElements(), schema);
+        for (final Element element : aggregated) {
+            blackhole.consume(element);
+        }
+    }
+
+    private Iterable<Element> copyElements() {
+        final Element[] copies = new Element[elements.size()];
+        for (int i = 0; i < copies.length; i++) {
+            copies[i] = elements.get(i).shallowClone();
+        }
+        return Arrays.asList(copies);
+    }
+}
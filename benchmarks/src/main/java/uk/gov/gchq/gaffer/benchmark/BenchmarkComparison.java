@@ -0,0 +1,180 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two sets of benchmark results written by JMH in its JSON result
+ * format, for example the results of running the benchmarks on two commits:
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar -rf json -rff baseline.json
+ * java -cp benchmarks/target/benchmarks.jar uk.gov.gchq.gaffer.benchmark.BenchmarkComparison baseline.json candidate.json [thresholdPercentage]
+ * </pre>
+ * The change in score of each benchmark is printed, and the process exits
+ * with a non zero status if any benchmark has regressed by more than the
+ * threshold percentage.
+ */
+@SuppressWarnings("PMD.SystemPrintln") //Ok for main function and method called only from it
+public final class BenchmarkComparison {
+    public static final double DEFAULT_THRESHOLD_PERCENTAGE = 10.0;
+
+    private static final String THROUGHPUT_MODE = "thrpt";
+
+    private BenchmarkComparison() {
+        // Private constructor to prevent instantiation.
+    }
+
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: " + BenchmarkComparison.class.getName() + " <baseline results> <candidate results> [threshold percentage]");
+            System.exit(1);
+        }
+
+        final double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENTAGE;
+        final List<Change> changes;
+        try (InputStream baseline = new FileInputStream(args[0]);
+             InputStream candidate = new FileInputStream(args[1])) {
+            changes = compare(baseline, candidate);
+        }
+
+        boolean regressed = false;
+        for (final Change change : changes) {
+            final boolean isRegression = change.isRegression(threshold);
+            regressed |= isRegression;
+            System.out.println(String.format("%-100s %12.3f %12.3f %-8s %+8.2f%%%s",
+                    change.getName(), change.getBaselineScore(), change.getCandidateScore(), change.getUnit(),
+                    change.getPercentageChange(), isRegression ? " REGRESSION" : ""));
+        }
+
+        if (regressed) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Compares the scores of the benchmarks that are in both sets of results.
+     *
+     * @param baseline  the baseline results in JMH JSON format
+     * @param candidate the candidate results in JMH JSON format
+     * @return the change in each benchmark's score, ordered by benchmark name
+     * @throws IOException if the results cannot be read
+     */
+    public static List<Change> compare(final InputStream baseline, final InputStream candidate) throws IOException {
+        final Map<String, JsonNode> baselineResults = readResults(baseline);
+        final Map<String, JsonNode> candidateResults = readResults(candidate);
+
+        final List<Change> changes = new ArrayList<>();
+        for (final Map.Entry<String, JsonNode> entry : new TreeMap<>(baselineResults).entrySet()) {
+            final JsonNode candidateResult = candidateResults.get(entry.getKey());
+            if (null != candidateResult) {
+                final JsonNode baselineMetric = entry.getValue().get("primaryMetric");
+                final JsonNode candidateMetric = candidateResult.get("primaryMetric");
+                changes.add(new Change(entry.getKey(),
+                        THROUGHPUT_MODE.equals(entry.getValue().path("mode").asText()),
+                        baselineMetric.get("score").asDouble(),
+                        candidateMetric.get("score").asDouble(),
+                        candidateMetric.path("scoreUnit").asText()));
+            }
+        }
+        return changes;
+    }
+
+    private static Map<String, JsonNode> readResults(final InputStream results) throws IOException {
+        final Map<String, JsonNode> resultsByName = new LinkedHashMap<>();
+        for (final JsonNode result : JSONSerialiser.getMapper().readTree(results)) {
+            resultsByName.put(getName(result), result);
+        }
+        return resultsByName;
+    }
+
+    private static String getName(final JsonNode result) {
+        final StringBuilder name = new StringBuilder(result.get("benchmark").asText());
+        final JsonNode params = result.get("params");
+        if (null != params) {
+            final Map<String, String> sortedParams = new TreeMap<>();
+            final Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+            while (fields.hasNext()) {
+                final Map.Entry<String, JsonNode> field = fields.next();
+                sortedParams.put(field.getKey(), field.getValue().asText());
+            }
+            name.append(sortedParams);
+        }
+        return name.toString();
+    }
+
+    /**
+     * The change in score of a single benchmark.
+     */
+    public static final class Change {
+        private final String name;
+        private final boolean higherIsBetter;
+        private final double baselineScore;
+        private final double candidateScore;
+        private final String unit;
+
+        public Change(final String name, final boolean higherIsBetter, final double baselineScore, final double candidateScore, final String unit) {
+            this.name = name;
+            this.higherIsBetter = higherIsBetter;
+            this.baselineScore = baselineScore;
+            this.candidateScore = candidateScore;
+            this.unit = unit;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public double getBaselineScore() {
+            return baselineScore;
+        }
+
+        public double getCandidateScore() {
+            return candidateScore;
+        }
+
+        public String getUnit() {
+            return unit;
+        }
+
+        /**
+         * @return the percentage change in score, where a positive change is
+         * an improvement regardless of whether the benchmark measures time or
+         * throughput
+         */
+        public double getPercentageChange() {
+            final double change = (candidateScore - baselineScore) / baselineScore * 100;
+            return higherIsBetter ? change : -change;
+        }
+
+        public boolean isRegression(final double thresholdPercentage) {
+            return getPercentageChange() < -thresholdPercentage;
+        }
+    }
+}
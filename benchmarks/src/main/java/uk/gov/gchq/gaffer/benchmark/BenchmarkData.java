@@ -0,0 +1,121 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.benchmark;
+
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.traffic.generator.RoadTrafficDataField;
+import uk.gov.gchq.gaffer.traffic.generator.RoadTrafficStringElementGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates the data used by the benchmarks. All data is generated offline
+ * from a seeded {@link Random}, so each run of a benchmark uses the same data.
+ */
+public final class BenchmarkData {
+    public static final long SEED = 20230101L;
+    public static final int NUM_ELEMENTS = 1024;
+
+    public static final String EDGE = "edge";
+    public static final String COUNT = "count";
+    public static final String TIMESTAMP = "timestamp";
+    public static final int MAX_COUNT = 1000;
+    public static final long START_TIME = 1672531200000L;
+
+    private static final String[] REGIONS = {"South West", "South East", "London", "North West", "Wales", "Scotland"};
+    private static final String[] LOCATIONS = {"Wiltshire", "Bristol", "Kent", "Camden", "Cheshire", "Cardiff", "Fife"};
+    private static final String[] ROAD_CATEGORIES = {"TM", "PM", "PR", "TR"};
+    private static final String[] DIRECTIONS = {"N", "E", "S", "W"};
+    private static final int NUM_ROADS = 50;
+    private static final int NUM_JUNCTIONS = 30;
+    private static final int NUM_DAYS = 28;
+    private static final int HOURS_PER_DAY = 24;
+
+    private BenchmarkData() {
+        // Private constructor to prevent instantiation.
+    }
+
+    /**
+     * @return a random with the benchmark seed
+     */
+    public static Random createRandom() {
+        return new Random(SEED);
+    }
+
+    /**
+     * Generates lines of road traffic counts in the same CSV format as the
+     * road traffic sample data.
+     *
+     * @param numLines the number of lines to generate
+     * @param random   the source of randomness
+     * @return the generated lines
+     */
+    public static List<String> generateRoadTrafficLines(final int numLines, final Random random) {
+        final List<String> lines = new ArrayList<>(numLines);
+        for (int i = 0; i < numLines; i++) {
+            final int road = random.nextInt(NUM_ROADS);
+            final int junction = random.nextInt(NUM_JUNCTIONS);
+            final List<String> fields = new ArrayList<>();
+            fields.add(REGIONS[road % REGIONS.length]);
+            fields.add("E0600" + (road % LOCATIONS.length));
+            fields.add(LOCATIONS[road % LOCATIONS.length]);
+            fields.add(Integer.toString(road * NUM_JUNCTIONS + junction));
+            fields.add(Integer.toString(380000 + road * 100));
+            fields.add(Integer.toString(170000 + junction * 100));
+            fields.add("M" + road);
+            fields.add(Integer.toString(junction));
+            fields.add(Integer.toString(380000 + road * 100 + junction));
+            fields.add(Integer.toString(170000 + junction * 100));
+            fields.add(Integer.toString(junction + 1));
+            fields.add(Integer.toString(380000 + road * 100 + junction + 1));
+            fields.add(Integer.toString(170000 + (junction + 1) * 100));
+            fields.add(ROAD_CATEGORIES[road % ROAD_CATEGORIES.length]);
+            fields.add(DIRECTIONS[random.nextInt(DIRECTIONS.length)]);
+            fields.add("2000");
+            fields.add(String.format("2000-05-%02d 00:00:00", 1 + random.nextInt(NUM_DAYS)));
+            fields.add(Integer.toString(random.nextInt(HOURS_PER_DAY)));
+            for (int j = 0; j < RoadTrafficDataField.VEHICLE_COUNTS.size(); j++) {
+                fields.add(Integer.toString(random.nextInt(MAX_COUNT)));
+            }
+            lines.add("\"" + String.join("\",\"", fields) + "\"");
+        }
+        return lines;
+    }
+
+    /**
+     * Generates road traffic elements by applying the road traffic element
+     * generator to generated lines of road traffic counts.
+     *
+     * @param numElements the number of elements to generate
+     * @param random      the source of randomness
+     * @return the generated elements
+     */
+    public static List<Element> generateRoadTrafficElements(final int numElements, final Random random) {
+        final RoadTrafficStringElementGenerator generator = new RoadTrafficStringElementGenerator();
+        final List<Element> elements = new ArrayList<>(numElements);
+        while (elements.size() < numElements) {
+            for (final String line : generateRoadTrafficLines(1, random)) {
+                for (final Element element : generator._apply(line)) {
+                    elements.add(element);
+                }
+            }
+        }
+        return elements.subList(0, numElements);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.benchmark;
+
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Value;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uk.gov.gchq.gaffer.accumulostore.key.AccumuloElementConverter;
+import uk.gov.gchq.gaffer.accumulostore.key.core.impl.byteEntity.ByteEntityAccumuloElementConverter;
+import uk.gov.gchq.gaffer.accumulostore.key.core.impl.classic.ClassicAccumuloElementConverter;
+import uk.gov.gchq.gaffer.commonutil.pair.Pair;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks converting elements to and from Accumulo keys and values.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ElementConverterBenchmark {
+    private static final int MASK = BenchmarkData.NUM_ELEMENTS - 1;
+
+    @Param({"ROAD_TRAFFIC", "SIMPLE"})
+    public SchemaShape schemaShape;
+
+    @Param({"byteEntity", "classic"})
+    public String keyPackage;
+
+    private AccumuloElementConverter converter;
+    private Element[] elements;
+    private Key[] keys;
+    private Value[] values;
+    private int index;
+
+    @Setup
+    public void setup() {
+        final Schema schema = schemaShape.getSchema();
+        converter = "classic".equals(keyPackage) ? new ClassicAccumuloElementConverter(schema) : new ByteEntityAccumuloElementConverter(schema);
+        final List<Element> generated = schemaShape.generateElements(BenchmarkData.NUM_ELEMENTS, BenchmarkData.createRandom());
+        elements = generated.toArray(new Element[0]);
+        keys = new Key[elements.length];
+        values = new Value[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            keys[i] = converter.getKeysFromElement(elements[i]).getFirst();
+            values[i] = converter.getValueFromElement(elements[i]);
+        }
+    }
+
+    @Benchmark
+    public Pair<Key, Key> getKeysFromElement() {
+        return converter.getKeysFromElement(elements[next()]);
+    }
+
+    @Benchmark
+    public Value getValueFromElement() {
+        return converter.getValueFromElement(elements[next()]);
+    }
+
+    @Benchmark
+    public Element getFullElement() {
+        final int i = next();
+        return converter.getFullElement(keys[i], values[i], false);
+    }
+
+    private int next() {
+        index = (index + 1) & MASK;
+        return index;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
+import uk.gov.gchq.koryphe.impl.predicate.IsLessThan;
+import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks testing elements against an {@link ElementFilter} on the
+ * count property.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ElementFilterBenchmark {
+    private static final int MASK = BenchmarkData.NUM_ELEMENTS - 1;
+
+    @Param({"ROAD_TRAFFIC", "SIMPLE"})
+    public SchemaShape schemaShape;
+
+    private ElementFilter filter;
+    private Element[] elements;
+    private int index;
+
+    @Setup
+    public void setup() {
+        filter = new ElementFilter.Builder()
+                .select(BenchmarkData.COUNT)
+                .execute(new IsMoreThan(BenchmarkData.MAX_COUNT / 10L))
+                .select(BenchmarkData.COUNT)
+                .execute(new IsLessThan(BenchmarkData.MAX_COUNT * 10L))
+                .build();
+        elements = schemaShape.generateElements(BenchmarkData.NUM_ELEMENTS, BenchmarkData.createRandom())
+                .toArray(new Element[0]);
+    }
+
+    @Benchmark
+    public boolean test() {
+        index = (index + 1) & MASK;
+        return filter.test(elements[index]);
+    }
+}
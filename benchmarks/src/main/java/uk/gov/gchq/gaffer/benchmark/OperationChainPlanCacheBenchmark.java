@@ -0,0 +1,107 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uk.gov.gchq.gaffer.cache.impl.HashMapCacheService;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
+import uk.gov.gchq.gaffer.graph.Graph;
+import uk.gov.gchq.gaffer.graph.GraphConfig;
+import uk.gov.gchq.gaffer.mapstore.MapStoreProperties;
+import uk.gov.gchq.gaffer.operation.OperationChain;
+import uk.gov.gchq.gaffer.operation.OperationException;
+import uk.gov.gchq.gaffer.operation.data.EntitySeed;
+import uk.gov.gchq.gaffer.operation.impl.Limit;
+import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
+import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
+import uk.gov.gchq.gaffer.user.User;
+import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks executing the same operation chain, with a different seed each
+ * time, on a graph with and without a cache of prepared operation chains.
+ * A plan cache size of 0 disables the cache, which is the graph default.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OperationChainPlanCacheBenchmark {
+    private static final int NUM_SEEDS = 32;
+    private static final int MASK = NUM_SEEDS - 1;
+
+    @Param({"0", "100"})
+    public int planCacheSize;
+
+    private final User user = new User.Builder().userId("user").opAuths("auth").build();
+    private Graph graph;
+    private int index;
+
+    @Setup
+    public void setup() throws OperationException {
+        final MapStoreProperties properties = new MapStoreProperties();
+        properties.setCacheServiceClass(HashMapCacheService.class.getName());
+        graph = new Graph.Builder()
+                .config(new GraphConfig.Builder()
+                        .graphId("planCacheBenchmark")
+                        .planCacheSize(planCacheSize)
+                        .build())
+                .addSchema(SchemaShape.SIMPLE.getSchema())
+                .storeProperties(properties)
+                .build();
+        graph.execute(new AddElements.Builder()
+                .input(SchemaShape.SIMPLE.generateElements(BenchmarkData.NUM_ELEMENTS, BenchmarkData.createRandom()))
+                .build(), user);
+    }
+
+    @Benchmark
+    public Iterable<? extends Element> execute() throws OperationException {
+        index = (index + 1) & MASK;
+        return graph.execute(new OperationChain.Builder()
+                .first(new GetElements.Builder()
+                        .input(new EntitySeed((long) index))
+                        .view(new View.Builder()
+                                .edge(BenchmarkData.EDGE, new ViewElementDefinition.Builder()
+                                        .preAggregationFilter(new ElementFilter.Builder()
+                                                .select(BenchmarkData.COUNT)
+                                                .execute(new IsMoreThan(BenchmarkData.MAX_COUNT / 10L))
+                                                .build())
+                                        .build())
+                                .build())
+                        .build())
+                .then(new Limit<>(10))
+                .build(), user);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.benchmark;
+
+import uk.gov.gchq.gaffer.accumulostore.AccumuloSerialisationFactory;
+import uk.gov.gchq.gaffer.commonutil.StreamUtil;
+import uk.gov.gchq.gaffer.data.element.Edge;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.schema.SchemaEdgeDefinition;
+import uk.gov.gchq.gaffer.store.schema.SchemaOptimiser;
+import uk.gov.gchq.gaffer.store.schema.TypeDefinition;
+import uk.gov.gchq.gaffer.traffic.ElementGroup;
+import uk.gov.gchq.koryphe.impl.binaryoperator.Max;
+import uk.gov.gchq.koryphe.impl.binaryoperator.Sum;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The shapes of schema that the benchmarks are run against. Each shape
+ * provides its schema, optimised in the same way as the Accumulo store, and
+ * can generate elements for it offline.
+ */
+public enum SchemaShape {
+    /**
+     * The road traffic example schema, with elements generated from synthetic
+     * road traffic counts by the road traffic element generator.
+     */
+    ROAD_TRAFFIC {
+        @Override
+        protected Schema createSchema() {
+            return Schema.fromJson(StreamUtil.schemas(ElementGroup.class));
+        }
+
+        @Override
+        public List<Element> generateElements(final int numElements, final Random random) {
+            return BenchmarkData.generateRoadTrafficElements(numElements, random);
+        }
+    },
+
+    /**
+     * A single edge group with long vertices and two aggregated long
+     * properties. Vertices are drawn from a small range so the elements
+     * contain duplicates to aggregate.
+     */
+    SIMPLE {
+        private static final String VERTEX = "vertex.long";
+        private static final String COUNT = "count.long";
+        private static final String TIMESTAMP = "timestamp.long";
+        private static final int NUM_VERTICES = 32;
+
+        @Override
+        protected Schema createSchema() {
+            return new Schema.Builder()
+                    .type(VERTEX, Long.class)
+                    .type(COUNT, new TypeDefinition.Builder()
+                            .clazz(Long.class)
+                            .aggregateFunction(new Sum())
+                            .build())
+                    .type(TIMESTAMP, new TypeDefinition.Builder()
+                            .clazz(Long.class)
+                            .aggregateFunction(new Max())
+                            .build())
+                    .type("true", Boolean.class)
+                    .edge(BenchmarkData.EDGE, new SchemaEdgeDefinition.Builder()
+                            .source(VERTEX)
+                            .destination(VERTEX)
+                            .directed("true")
+                            .property(BenchmarkData.COUNT, COUNT)
+                            .property(BenchmarkData.TIMESTAMP, TIMESTAMP)
+                            .build())
+                    .build();
+        }
+
+        @Override
+        public List<Element> generateElements(final int numElements, final Random random) {
+            final List<Element> elements = new ArrayList<>(numElements);
+            for (int i = 0; i < numElements; i++) {
+                elements.add(new Edge.Builder()
+                        .group(BenchmarkData.EDGE)
+                        .source((long) random.nextInt(NUM_VERTICES))
+                        .dest((long) random.nextInt(NUM_VERTICES))
+                        .directed(true)
+                        .property(BenchmarkData.COUNT, 1L + random.nextInt(BenchmarkData.MAX_COUNT))
+                        .property(BenchmarkData.TIMESTAMP, BenchmarkData.START_TIME + random.nextInt(Integer.MAX_VALUE))
+                        .build());
+            }
+            return elements;
+        }
+    };
+
+    /**
+     * @return the schema, optimised for the Accumulo store
+     */
+    public Schema getSchema() {
+        return new SchemaOptimiser(new AccumuloSerialisationFactory()).optimise(createSchema(), true);
+    }
+
+    protected abstract Schema createSchema();
+
+    /**
+     * Generates elements that are valid for this schema.
+     *
+     * @param numElements the number of elements to generate
+     * @param random      the source of randomness, seeded so the elements are the same for each run
+     * @return the generated elements
+     */
+    public abstract List<Element> generateElements(final int numElements, final Random random);
+}
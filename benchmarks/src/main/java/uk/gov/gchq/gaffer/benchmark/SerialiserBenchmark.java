@@ -0,0 +1,115 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
+import uk.gov.gchq.gaffer.serialisation.implementation.ordered.OrderedLongSerialiser;
+import uk.gov.gchq.gaffer.serialisation.implementation.raw.CompactRawLongSerialiser;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks serialising and deserialising longs, which are the most common
+ * vertex and property type.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerialiserBenchmark {
+    private static final int MASK = BenchmarkData.NUM_ELEMENTS - 1;
+
+    @Param({"OrderedLongSerialiser", "CompactRawLongSerialiser"})
+    public String serialiserName;
+
+    /**
+     * SMALL values are counts below {@link BenchmarkData#MAX_COUNT}, LARGE
+     * values are spread over the full range of longs.
+     */
+    @Param({"SMALL", "LARGE"})
+    public String valueRange;
+
+    private ToBytesSerialiser<Long> serialiser;
+    private Long[] values;
+    private byte[][] serialisedValues;
+    private byte[] allSerialisedValues;
+    private int[] offsets;
+    private final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    private int index;
+
+    @Setup
+    public void setup() throws SerialisationException {
+        serialiser = "CompactRawLongSerialiser".equals(serialiserName) ? new CompactRawLongSerialiser() : new OrderedLongSerialiser();
+        final Random random = BenchmarkData.createRandom();
+        values = new Long[BenchmarkData.NUM_ELEMENTS];
+        serialisedValues = new byte[BenchmarkData.NUM_ELEMENTS][];
+        offsets = new int[BenchmarkData.NUM_ELEMENTS];
+        final ByteArrayOutputStream all = new ByteArrayOutputStream();
+        for (int i = 0; i < BenchmarkData.NUM_ELEMENTS; i++) {
+            values[i] = "LARGE".equals(valueRange) ? random.nextLong() : (long) random.nextInt(BenchmarkData.MAX_COUNT);
+            serialisedValues[i] = serialiser.serialise(values[i]);
+            offsets[i] = all.size();
+            all.write(serialisedValues[i], 0, serialisedValues[i].length);
+        }
+        allSerialisedValues = all.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] serialise() throws SerialisationException {
+        return serialiser.serialise(values[next()]);
+    }
+
+    @Benchmark
+    public int serialiseToStream() throws SerialisationException {
+        stream.reset();
+        serialiser.serialiseTo(values[next()], stream);
+        return stream.size();
+    }
+
+    @Benchmark
+    public Long deserialise() throws SerialisationException {
+        return serialiser.deserialise(serialisedValues[next()]);
+    }
+
+    @Benchmark
+    public Long deserialiseWithOffset() throws SerialisationException {
+        final int i = next();
+        return serialiser.deserialise(allSerialisedValues, offsets[i], serialisedValues[i].length);
+    }
+
+    private int next() {
+        index = (index + 1) & MASK;
+        return index;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.benchmark;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.benchmark.BenchmarkComparison.Change;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class BenchmarkComparisonTest {
+
+    @Test
+    public void shouldCompareMatchingBenchmarksAndParams() throws IOException {
+        // Given
+        final InputStream baseline = toStream("["
+                + result("a.Benchmark.time", "avgt", "{\"shape\": \"SIMPLE\"}", 100)
+                + "," + result("a.Benchmark.time", "avgt", "{\"shape\": \"ROAD_TRAFFIC\"}", 200)
+                + "," + result("a.Benchmark.removed", "avgt", null, 10)
+                + "]");
+        final InputStream candidate = toStream("["
+                + result("a.Benchmark.time", "avgt", "{\"shape\": \"ROAD_TRAFFIC\"}", 100)
+                + "," + result("a.Benchmark.time", "avgt", "{\"shape\": \"SIMPLE\"}", 150)
+                + "]");
+
+        // When
+        final List<Change> changes = BenchmarkComparison.compare(baseline, candidate);
+
+        // Then
+        assertThat(changes).hasSize(2);
+        assertThat(changes.get(0).getName()).isEqualTo("a.Benchmark.time{shape=ROAD_TRAFFIC}");
+        assertThat(changes.get(0).getPercentageChange()).isCloseTo(50.0, within(0.001));
+        assertThat(changes.get(0).isRegression(10)).isFalse();
+        assertThat(changes.get(1).getName()).isEqualTo("a.Benchmark.time{shape=SIMPLE}");
+        assertThat(changes.get(1).getPercentageChange()).isCloseTo(-50.0, within(0.001));
+        assertThat(changes.get(1).isRegression(10)).isTrue();
+    }
+
+    @Test
+    public void shouldTreatHigherThroughputAsAnImprovement() throws IOException {
+        // Given
+        final InputStream baseline = toStream("[" + result("a.Benchmark.ops", "thrpt", null, 100) + "]");
+        final InputStream candidate = toStream("[" + result("a.Benchmark.ops", "thrpt", null, 120) + "]");
+
+        // When
+        final List<Change> changes = BenchmarkComparison.compare(baseline, candidate);
+
+        // Then
+        assertThat(changes).singleElement()
+                .satisfies(change -> {
+                    assertThat(change.getPercentageChange()).isCloseTo(20.0, within(0.001));
+                    assertThat(change.isRegression(10)).isFalse();
+                });
+    }
+
+    private static String result(final String benchmark, final String mode, final String params, final double score) {
+        return "{\"benchmark\": \"" + benchmark + "\", \"mode\": \"" + mode + "\", "
+                + (null != params ? "\"params\": " + params + ", " : "")
+                + "\"primaryMetric\": {\"score\": " + score + ", \"scoreUnit\": \"ns/op\"}}";
+    }
+
+    private static InputStream toStream(final String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.benchmark;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SchemaShapeTest {
+
+    @ParameterizedTest
+    @EnumSource(SchemaShape.class)
+    public void shouldGenerateTheSameValidElementsForTheSameSeed(final SchemaShape schemaShape) {
+        // Given
+        final Schema schema = schemaShape.getSchema();
+
+        // When
+        final List<Element> elements = schemaShape.generateElements(BenchmarkData.NUM_ELEMENTS, BenchmarkData.createRandom());
+        final List<Element> elementsFromSameSeed = schemaShape.generateElements(BenchmarkData.NUM_ELEMENTS, BenchmarkData.createRandom());
+
+        // Then
+        assertThat(schema.validate().isValid()).isTrue();
+        assertThat(elements).hasSize(BenchmarkData.NUM_ELEMENTS)
+                .allSatisfy(element -> assertThat(schema.getElement(element.getGroup())).isNotNull())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(elementsFromSameSeed);
+    }
+}
@@ -19,9 +19,12 @@ package uk.gov.gchq.gaffer.cache;
 import uk.gov.gchq.gaffer.cache.exception.CacheOperationException;
 import uk.gov.gchq.gaffer.core.exception.GafferRuntimeException;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 
 import static java.util.Objects.nonNull;
 
@@ -32,6 +35,7 @@ import static java.util.Objects.nonNull;
  */
 public class Cache<K, V> {
     public static final String ERROR_ADDING_KEY_TO_CACHE_KEY_S = "Error adding key to cache. key: %s";
+    public static final String VERSION_CACHE_NAME = "CacheVersion";
     protected String cacheName;
 
     public Cache(final String cacheName) {
@@ -42,6 +46,18 @@ public class Cache<K, V> {
         return CacheServiceLoader.getService().getFromCache(cacheName, key);
     }
 
+    /**
+     * Get the values associated with the specified keys in a single bulk lookup.
+     * Keys which are not present in the cache are not included in the result.
+     *
+     * @param keys the keys of the values to get
+     * @return a {@link Map} of the keys found to their values
+     */
+    public Map<K, V> getAllFromCache(final Collection<K> keys) {
+        final Map<K, V> values = CacheServiceLoader.getService().getAllFromCache(cacheName, keys);
+        return (null == values) ? Collections.emptyMap() : values;
+    }
+
     public String getCacheName() {
         return cacheName;
     }
@@ -95,6 +111,27 @@ public class Cache<K, V> {
         CacheServiceLoader.getService().removeFromCache(cacheName, key);
     }
 
+    /**
+     * Get the version of this cache, which changes each time the cache calls
+     * {@link #updateVersion()}. The version is held in the cache service, so
+     * it is shared by every instance using the same cache service.
+     *
+     * @return the version, or null if the version has never been updated
+     */
+    public String getVersion() {
+        return CacheServiceLoader.isEnabled() ? CacheServiceLoader.getService().getFromCache(VERSION_CACHE_NAME, cacheName) : null;
+    }
+
+    /**
+     * Update the version of this cache to a new unique value. This should be
+     * called after the values in the cache have been changed.
+     *
+     * @throws CacheOperationException if there was an error updating the version
+     */
+    protected void updateVersion() throws CacheOperationException {
+        CacheServiceLoader.getService().putInCache(VERSION_CACHE_NAME, cacheName, UUID.randomUUID().toString());
+    }
+
     /**
      * Get the cache.
      *
@@ -20,7 +20,11 @@ import uk.gov.gchq.gaffer.cache.exception.CacheOperationException;
 import uk.gov.gchq.gaffer.commonutil.exception.OverwritingException;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Interface that All cache objects must abide by so components may instantiate any implementation of a cache - no
@@ -75,6 +79,121 @@ public interface ICache<K, V> {
      */
     void remove(final K key);
 
+    /**
+     * Retrieve the values associated with the given keys. Keys which are not
+     * present in the cache are not included in the returned map.
+     * Implementations should override this to fetch the values in a single
+     * bulk call where the underlying cache supports it.
+     *
+     * @param keys the keys to lookup in the cache
+     * @return a {@link Map} of the keys found to their values
+     */
+    default Map<K, V> getAll(final Collection<K> keys) {
+        final Map<K, V> values = new HashMap<>();
+        if (null != keys) {
+            for (final K key : keys) {
+                final V value = get(key);
+                if (null != value) {
+                    values.put(key, value);
+                }
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Add all of the given key-value pairs to the cache.
+     *
+     * @param entries the key-value pairs to add
+     * @throws CacheOperationException if there is an error adding the key-value pairs to the cache
+     */
+    default void putAll(final Map<K, V> entries) throws CacheOperationException {
+        if (null != entries) {
+            for (final Map.Entry<K, V> entry : entries.entrySet()) {
+                put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Remove the entries associated with the specified keys.
+     *
+     * @param keys the keys of the entries to remove
+     */
+    default void removeAll(final Collection<K> keys) {
+        if (null != keys) {
+            for (final K key : keys) {
+                remove(key);
+            }
+        }
+    }
+
+    /**
+     * Asynchronously retrieve the value associated with the given key.
+     *
+     * @param key the key to lookup in the cache
+     * @return a {@link CompletableFuture} of the value associated with the key
+     */
+    default CompletableFuture<V> getAsync(final K key) {
+        return CompletableFuture.supplyAsync(() -> get(key));
+    }
+
+    /**
+     * Asynchronously retrieve the values associated with the given keys.
+     *
+     * @param keys the keys to lookup in the cache
+     * @return a {@link CompletableFuture} of the keys found to their values
+     * @see #getAll(Collection)
+     */
+    default CompletableFuture<Map<K, V>> getAllAsync(final Collection<K> keys) {
+        return CompletableFuture.supplyAsync(() -> getAll(keys));
+    }
+
+    /**
+     * Asynchronously add a new key-value pair to the cache. If the put fails the
+     * future completes exceptionally with a {@link CacheOperationException}.
+     *
+     * @param key   the key to add
+     * @param value the value to add
+     * @return a {@link CompletableFuture} which completes once the value has been added
+     */
+    default CompletableFuture<Void> putAsync(final K key, final V value) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                put(key, value);
+            } catch (final CacheOperationException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Asynchronously add all of the given key-value pairs to the cache. If the put
+     * fails the future completes exceptionally with a {@link CacheOperationException}.
+     *
+     * @param entries the key-value pairs to add
+     * @return a {@link CompletableFuture} which completes once the values have been added
+     */
+    default CompletableFuture<Void> putAllAsync(final Map<K, V> entries) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                putAll(entries);
+            } catch (final CacheOperationException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Asynchronously remove the entry associated with the specified key.
+     *
+     * @param key the key of the entry to remove
+     * @return a {@link CompletableFuture} which completes once the entry has been removed
+     */
+    default CompletableFuture<Void> removeAsync(final K key) {
+        return CompletableFuture.runAsync(() -> remove(key));
+    }
+
     /**
      * Get all values present in the cache.
      *
@@ -19,6 +19,7 @@ package uk.gov.gchq.gaffer.cache;
 import uk.gov.gchq.gaffer.cache.exception.CacheOperationException;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 
@@ -65,6 +66,21 @@ public interface ICacheService {
         return cache.get(key);
     }
 
+    /**
+     * Get the values associated with the specified cache and keys, using a
+     * single bulk lookup where the cache supports it.
+     *
+     * @param cacheName the name of the cache to look in
+     * @param keys      the keys of the entries to lookup
+     * @param <K>       The object type that acts as the key for the cache
+     * @param <V>       The value that is stored in the cache
+     * @return a {@link Map} of the keys found to their values
+     */
+    default <K, V> Map<K, V> getAllFromCache(final String cacheName, final Collection<K> keys) {
+        final ICache<K, V> cache = getCache(cacheName);
+        return cache.getAll(keys);
+    }
+
     /**
      * Add a new key-value pair to the specified cache.
      *
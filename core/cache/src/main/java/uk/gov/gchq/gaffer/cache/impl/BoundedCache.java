@@ -0,0 +1,317 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.cache.impl;
+
+import uk.gov.gchq.gaffer.cache.ICache;
+import uk.gov.gchq.gaffer.cache.exception.CacheOperationException;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.serialisation.implementation.JavaSerialiser;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * A thread-safe, in-process implementation of the {@link ICache} interface
+ * which bounds the number of entries and the total weight of the cache,
+ * evicting the least recently used entries once either limit is exceeded.
+ * Entries can also be given a time to live, after which they are expired.
+ * <p>
+ * Reads are served from a {@link ConcurrentHashMap} without locking. The
+ * access order used for eviction is maintained separately and is only updated
+ * by a read if it is not contended, so under heavy load the eviction order
+ * is an approximation of LRU.
+ * <p>
+ * When Java serialisation is enabled values are stored as serialised bytes and
+ * the weight of an entry is the length of those bytes, otherwise each entry has
+ * a weight of 1. The deserialised value can optionally be retained alongside the
+ * bytes, so it is only deserialised on the first read.
+ *
+ * @param <K> The object type that acts as the key for the cache
+ * @param <V> The value that is stored in the cache
+ */
+public class BoundedCache<K, V> implements ICache<K, V> {
+    private static final JavaSerialiser JAVA_SERIALISER = new JavaSerialiser();
+
+    private final long maxEntries;
+    private final long maxWeight;
+    private final long timeToLiveMillis;
+    private final boolean useJavaSerialisation;
+    private final boolean retainDeserialised;
+    private final LongSupplier clock;
+
+    private final ConcurrentHashMap<K, CacheEntry> cache = new ConcurrentHashMap<>();
+    private final LinkedHashMap<K, CacheEntry> accessOrder = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private long totalWeight;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * @param maxEntries           the maximum number of entries, 0 or less for no limit
+     * @param maxWeight            the maximum total weight of the entries, 0 or less for no limit
+     * @param timeToLiveMillis     the time an entry lives for after it is added, 0 or less for no limit
+     * @param useJavaSerialisation true if values should be stored as Java serialised bytes
+     * @param retainDeserialised   true if deserialised values should be kept alongside the serialised bytes
+     */
+    public BoundedCache(final long maxEntries, final long maxWeight, final long timeToLiveMillis,
+                        final boolean useJavaSerialisation, final boolean retainDeserialised) {
+        this(maxEntries, maxWeight, timeToLiveMillis, useJavaSerialisation, retainDeserialised, System::currentTimeMillis);
+    }
+
+    BoundedCache(final long maxEntries, final long maxWeight, final long timeToLiveMillis,
+                 final boolean useJavaSerialisation, final boolean retainDeserialised, final LongSupplier clock) {
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.timeToLiveMillis = timeToLiveMillis;
+        this.useJavaSerialisation = useJavaSerialisation;
+        this.retainDeserialised = retainDeserialised;
+        this.clock = clock;
+    }
+
+    @Override
+    public V get(final K key) {
+        final CacheEntry entry = null != key ? cache.get(key) : null;
+        if (null == entry) {
+            missCount.incrementAndGet();
+            return null;
+        }
+
+        if (entry.isExpired(clock.getAsLong())) {
+            expire(key, entry);
+            missCount.incrementAndGet();
+            return null;
+        }
+
+        hitCount.incrementAndGet();
+        if (evictionLock.tryLock()) {
+            try {
+                accessOrder.get(key);
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+        return entry.getValue();
+    }
+
+    @Override
+    public void put(final K key, final V value) throws CacheOperationException {
+        if (null == value) {
+            remove(key);
+            return;
+        }
+
+        final CacheEntry entry;
+        if (useJavaSerialisation) {
+            try {
+                final byte[] bytes = JAVA_SERIALISER.serialise(value);
+                entry = new CacheEntry(null, bytes, bytes.length, getExpiryTime());
+            } catch (final SerialisationException e) {
+                throw new CacheOperationException("Unable to serialise value for key: " + key, e);
+            }
+        } else {
+            entry = new CacheEntry(value, null, 1, getExpiryTime());
+        }
+
+        evictionLock.lock();
+        try {
+            final CacheEntry previous = cache.put(key, entry);
+            if (null != previous) {
+                totalWeight -= previous.weight;
+            }
+            accessOrder.put(key, entry);
+            totalWeight += entry.weight;
+            evictIfRequired();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public void remove(final K key) {
+        evictionLock.lock();
+        try {
+            final CacheEntry previous = cache.remove(key);
+            if (null != previous) {
+                accessOrder.remove(key);
+                totalWeight -= previous.weight;
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public Collection<V> getAllValues() {
+        removeExpired();
+        final List<V> values = new ArrayList<>(cache.size());
+        for (final CacheEntry entry : cache.values()) {
+            values.add(entry.getValue());
+        }
+        return values;
+    }
+
+    @Override
+    public Set<K> getAllKeys() {
+        removeExpired();
+        return new HashSet<>(cache.keySet());
+    }
+
+    @Override
+    public int size() {
+        removeExpired();
+        return cache.size();
+    }
+
+    @Override
+    public void clear() {
+        evictionLock.lock();
+        try {
+            cache.clear();
+            accessOrder.clear();
+            totalWeight = 0;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of reads which found a value
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * @return the number of reads which did not find a value
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * @return the number of entries removed due to the size, weight or time to live limits
+     */
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    /**
+     * @return the total weight of the entries currently in the cache
+     */
+    public long getWeight() {
+        evictionLock.lock();
+        try {
+            return totalWeight;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private long getExpiryTime() {
+        return timeToLiveMillis > 0 ? clock.getAsLong() + timeToLiveMillis : Long.MAX_VALUE;
+    }
+
+    private void evictIfRequired() {
+        final Iterator<Map.Entry<K, CacheEntry>> eldest = accessOrder.entrySet().iterator();
+        while (eldest.hasNext() && isOverLimit()) {
+            final Map.Entry<K, CacheEntry> entry = eldest.next();
+            eldest.remove();
+            cache.remove(entry.getKey(), entry.getValue());
+            totalWeight -= entry.getValue().weight;
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    private boolean isOverLimit() {
+        return (maxEntries > 0 && accessOrder.size() > maxEntries)
+                || (maxWeight > 0 && totalWeight > maxWeight);
+    }
+
+    private void expire(final K key, final CacheEntry entry) {
+        evictionLock.lock();
+        try {
+            if (cache.remove(key, entry)) {
+                accessOrder.remove(key);
+                totalWeight -= entry.weight;
+                evictionCount.incrementAndGet();
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void removeExpired() {
+        if (timeToLiveMillis > 0) {
+            final long now = clock.getAsLong();
+            cache.forEach((key, entry) -> {
+                if (entry.isExpired(now)) {
+                    expire(key, entry);
+                }
+            });
+        }
+    }
+
+    private final class CacheEntry {
+        private final byte[] bytes;
+        private final long weight;
+        private final long expiryTime;
+        private volatile Object value;
+
+        CacheEntry(final Object value, final byte[] bytes, final long weight, final long expiryTime) {
+            this.value = value;
+            this.bytes = bytes;
+            this.weight = weight;
+            this.expiryTime = expiryTime;
+        }
+
+        boolean isExpired(final long now) {
+            return now >= expiryTime;
+        }
+
+        @SuppressWarnings("unchecked")
+        V getValue() {
+            if (null == bytes) {
+                return (V) value;
+            }
+
+            Object deserialised = value;
+            if (null == deserialised) {
+                try {
+                    deserialised = JAVA_SERIALISER.deserialise(bytes);
+                } catch (final SerialisationException e) {
+                    throw new RuntimeException(e);
+                }
+                if (retainDeserialised) {
+                    value = deserialised;
+                }
+            }
+            return (V) deserialised;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.cache.impl;
+
+import uk.gov.gchq.gaffer.cache.ICache;
+import uk.gov.gchq.gaffer.cache.ICacheService;
+import uk.gov.gchq.gaffer.cache.util.CacheProperties;
+
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation of the {@link ICacheService} interface which uses a
+ * {@link BoundedCache} as the cache implementation, so caches are thread-safe
+ * and can be limited in size.
+ * <p>
+ * By default caches are unbounded. Caches such as the named operation, named view
+ * and federated graph caches must never drop entries, so limits should only be set
+ * for caches which can be evicted, by appending the cache name to
+ * {@link #MAX_ENTRIES} or {@link #MAX_WEIGHT}. Setting these properties without a
+ * cache name applies the limit to every cache.
+ * <p>
+ * A time to live can be set for all caches using {@link CacheProperties#CACHE_TIME_TO_LIVE}
+ * and overridden for an individual cache by appending the cache name to that property.
+ */
+public class BoundedCacheService implements ICacheService {
+    public static final String MAX_ENTRIES = "gaffer.cache.bounded.maxEntries";
+    public static final String MAX_WEIGHT = "gaffer.cache.bounded.maxWeight";
+    public static final String JAVA_SERIALISATION_CACHE = "gaffer.cache.bounded.useJavaSerialisation";
+    public static final String RETAIN_DESERIALISED = "gaffer.cache.bounded.retainDeserialised";
+    private static final String MAX_ENTRIES_DEFAULT = "0";
+    private static final String MAX_WEIGHT_DEFAULT = "0";
+    private static final String TIME_TO_LIVE_DEFAULT = "0";
+
+    private final ConcurrentHashMap<String, BoundedCache<?, ?>> caches = new ConcurrentHashMap<>();
+    private Properties properties = new Properties();
+
+    @Override
+    public void initialise(final Properties properties) {
+        this.properties = null != properties ? properties : new Properties();
+    }
+
+    @Override
+    public void shutdown() {
+        caches.clear();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K, V> ICache<K, V> getCache(final String cacheName) {
+        // Each cache name is only ever used for a single key and value type
+        return (BoundedCache<K, V>) caches.computeIfAbsent(cacheName, this::createCache);
+    }
+
+    private BoundedCache<?, ?> createCache(final String cacheName) {
+        return new BoundedCache<>(
+                Long.parseLong(getCacheProperty(MAX_ENTRIES, cacheName, MAX_ENTRIES_DEFAULT)),
+                Long.parseLong(getCacheProperty(MAX_WEIGHT, cacheName, MAX_WEIGHT_DEFAULT)),
+                Long.parseLong(getCacheProperty(CacheProperties.CACHE_TIME_TO_LIVE, cacheName, TIME_TO_LIVE_DEFAULT)),
+                Boolean.parseBoolean(properties.getProperty(JAVA_SERIALISATION_CACHE)),
+                Boolean.parseBoolean(properties.getProperty(RETAIN_DESERIALISED)));
+    }
+
+    private String getCacheProperty(final String key, final String cacheName, final String defaultValue) {
+        return properties.getProperty(key + "." + cacheName, properties.getProperty(key, defaultValue));
+    }
+}
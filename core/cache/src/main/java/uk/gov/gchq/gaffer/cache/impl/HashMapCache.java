@@ -25,11 +25,15 @@ import uk.gov.gchq.gaffer.serialisation.implementation.JavaSerialiser;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Simple implementation of the {@link ICache} interface, using a {@link HashMap}
  * as the cache data store.
+ * As the cache is not thread-safe, the asynchronous methods run on the calling
+ * thread and return completed futures.
  *
  * @param <K> The object type that acts as the key for the HashMap
  * @param <V> The value that is stored in the HashMap
@@ -49,13 +53,21 @@ public class HashMapCache<K, V> implements ICache<K, V> {
 
     @Override
     public V get(final K key) {
-        try {
-            return (V) (useJavaSerialisation
-                    ? JAVA_SERIALISER.deserialise((byte[]) cache.get(key))
-                    : cache.get(key));
-        } catch (final SerialisationException e) {
-            throw new RuntimeException(e);
+        return toValue(cache.get(key));
+    }
+
+    @Override
+    public Map<K, V> getAll(final Collection<K> keys) {
+        final Map<K, V> values = new HashMap<>();
+        if (null != keys) {
+            for (final K key : keys) {
+                final Object value = cache.get(key);
+                if (null != value) {
+                    values.put(key, toValue(value));
+                }
+            }
         }
+        return values;
     }
 
     @Override
@@ -71,23 +83,71 @@ public class HashMapCache<K, V> implements ICache<K, V> {
         }
     }
 
+    @Override
+    public void putAll(final Map<K, V> entries) {
+        if (null != entries) {
+            entries.forEach(this::put);
+        }
+    }
+
     @Override
     public void remove(final K key) {
         cache.remove(key);
     }
 
+    @Override
+    public void removeAll(final Collection<K> keys) {
+        if (null != keys) {
+            cache.keySet().removeAll(keys);
+        }
+    }
+
+    @Override
+    public CompletableFuture<V> getAsync(final K key) {
+        return CompletableFuture.completedFuture(get(key));
+    }
+
+    @Override
+    public CompletableFuture<Map<K, V>> getAllAsync(final Collection<K> keys) {
+        return CompletableFuture.completedFuture(getAll(keys));
+    }
+
+    @Override
+    public CompletableFuture<Void> putAsync(final K key, final V value) {
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        try {
+            put(key, value);
+            future.complete(null);
+        } catch (final RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    @Override
+    public CompletableFuture<Void> putAllAsync(final Map<K, V> entries) {
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        try {
+            putAll(entries);
+            future.complete(null);
+        } catch (final RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    @Override
+    public CompletableFuture<Void> removeAsync(final K key) {
+        remove(key);
+        return CompletableFuture.completedFuture(null);
+    }
+
     @Override
     public Collection<V> getAllValues() {
         ArrayList<V> rtn = Lists.newArrayList();
         if (useJavaSerialisation) {
             cache.values()
-                    .forEach((Object o) -> {
-                        try {
-                            rtn.add((V) JAVA_SERIALISER.deserialise((byte[]) o));
-                        } catch (final SerialisationException e) {
-                            throw new RuntimeException(e);
-                        }
-                    });
+                    .forEach((Object o) -> rtn.add(toValue(o)));
         } else {
             rtn.addAll((Collection<V>) cache.values());
         }
@@ -108,4 +168,17 @@ public class HashMapCache<K, V> implements ICache<K, V> {
     public void clear() {
         cache.clear();
     }
+
+    private V toValue(final Object cached) {
+        if (null == cached) {
+            return null;
+        }
+        try {
+            return (V) (useJavaSerialisation
+                    ? JAVA_SERIALISER.deserialise((byte[]) cached)
+                    : cached);
+        } catch (final SerialisationException e) {
+            throw new RuntimeException(e);
+        }
+    }
 }
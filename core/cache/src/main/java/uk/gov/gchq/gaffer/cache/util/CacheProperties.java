@@ -35,4 +35,12 @@ public final class CacheProperties {
      */
     public static final String CACHE_CONFIG_FILE = "gaffer.cache.config.file";
 
+    /**
+     * Name of the property to use in order to define the time to live of cache
+     * entries in milliseconds. The time to live of a single cache can be set by
+     * appending "." and the cache name. Only used by cache services which support
+     * expiry.
+     */
+    public static final String CACHE_TIME_TO_LIVE = "gaffer.cache.timeToLive";
+
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.cache.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.cache.ICache;
+import uk.gov.gchq.gaffer.cache.exception.CacheOperationException;
+import uk.gov.gchq.gaffer.cache.util.CacheProperties;
+import uk.gov.gchq.gaffer.commonutil.exception.OverwritingException;
+
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class BoundedCacheServiceTest {
+
+    private static final String CACHE_NAME = "test";
+
+    private final BoundedCacheService service = new BoundedCacheService();
+
+    @AfterEach
+    public void after() {
+        service.shutdown();
+    }
+
+    @Test
+    public void shouldReturnInstanceOfBoundedCache() {
+        // Given
+        service.initialise(null);
+
+        // When
+        final ICache cache = service.getCache(CACHE_NAME);
+
+        // Then
+        assertThat(cache).isInstanceOf(BoundedCache.class);
+    }
+
+    @Test
+    public void shouldReUseCacheIfOneExists() throws CacheOperationException {
+        // Given
+        service.initialise(null);
+        service.putInCache(CACHE_NAME, "key", 1);
+
+        // When
+        final ICache<String, Integer> sameCache = service.getCache(CACHE_NAME);
+
+        // Then
+        assertThat(sameCache.size()).isOne();
+        assertThat(sameCache.get("key")).isOne();
+    }
+
+    @Test
+    public void shouldOnlyUpdateIfInstructed() throws CacheOperationException {
+        // Given
+        service.initialise(null);
+        service.putInCache(CACHE_NAME, "key", 1);
+
+        // When / Then
+        assertThatExceptionOfType(OverwritingException.class)
+                .isThrownBy(() -> service.putSafeInCache(CACHE_NAME, "key", 2));
+        assertThat((Integer) service.getFromCache(CACHE_NAME, "key")).isOne();
+    }
+
+    @Test
+    public void shouldLimitCachesToMaxEntries() throws CacheOperationException {
+        // Given
+        final Properties properties = new Properties();
+        properties.setProperty(BoundedCacheService.MAX_ENTRIES, "2");
+        service.initialise(properties);
+
+        // When
+        service.putInCache(CACHE_NAME, "key1", 1);
+        service.putInCache(CACHE_NAME, "key2", 2);
+        service.putInCache(CACHE_NAME, "key3", 3);
+
+        // Then
+        assertThat(service.sizeOfCache(CACHE_NAME)).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldNotLimitCachesByDefault() throws CacheOperationException {
+        // Given
+        service.initialise(null);
+
+        // When
+        for (int i = 0; i < 20000; i++) {
+            service.putInCache(CACHE_NAME, "key" + i, i);
+        }
+
+        // Then
+        assertThat(service.sizeOfCache(CACHE_NAME)).isEqualTo(20000);
+    }
+
+    @Test
+    public void shouldOnlyLimitCachesConfiguredByName() throws CacheOperationException {
+        // Given
+        final Properties properties = new Properties();
+        properties.setProperty(BoundedCacheService.MAX_ENTRIES + "." + CACHE_NAME, "2");
+        service.initialise(properties);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            service.putInCache(CACHE_NAME, "key" + i, i);
+            service.putInCache("other", "key" + i, i);
+        }
+
+        // Then
+        assertThat(service.sizeOfCache(CACHE_NAME)).isEqualTo(2);
+        assertThat(service.sizeOfCache("other")).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldUsePerCacheTimeToLive() throws CacheOperationException, InterruptedException {
+        // Given
+        final Properties properties = new Properties();
+        properties.setProperty(CacheProperties.CACHE_TIME_TO_LIVE, "1");
+        properties.setProperty(CacheProperties.CACHE_TIME_TO_LIVE + "." + CACHE_NAME, "0");
+        service.initialise(properties);
+        service.putInCache(CACHE_NAME, "key", 1);
+        service.putInCache("other", "key", 1);
+
+        // When
+        Thread.sleep(10);
+
+        // Then
+        assertThat(service.sizeOfCache(CACHE_NAME)).isOne();
+        assertThat(service.sizeOfCache("other")).isZero();
+    }
+}
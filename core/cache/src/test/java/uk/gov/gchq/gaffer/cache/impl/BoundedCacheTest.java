@@ -0,0 +1,176 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.cache.impl;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.cache.exception.CacheOperationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BoundedCacheTest {
+
+    @Test
+    public void shouldAddAndGetEntries() throws CacheOperationException {
+        // Given
+        final BoundedCache<String, Integer> cache = new BoundedCache<>(0, 0, 0, false, false);
+
+        // When
+        cache.put("key1", 1);
+        cache.put("key2", 2);
+
+        // Then
+        assertThat(cache.get("key1")).isEqualTo(1);
+        assertThat(cache.getAllKeys()).containsExactlyInAnyOrder("key1", "key2");
+        assertThat(cache.getAllValues()).containsExactlyInAnyOrder(1, 2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedEntryWhenMaxEntriesExceeded() throws CacheOperationException {
+        // Given
+        final BoundedCache<String, Integer> cache = new BoundedCache<>(2, 0, 0, false, false);
+        cache.put("key1", 1);
+        cache.put("key2", 2);
+        cache.get("key1");
+
+        // When
+        cache.put("key3", 3);
+
+        // Then
+        assertThat(cache.getAllKeys()).containsExactlyInAnyOrder("key1", "key3");
+        assertThat(cache.getEvictionCount()).isOne();
+    }
+
+    @Test
+    public void shouldEvictEntriesWhenMaxWeightExceeded() throws CacheOperationException {
+        // Given
+        final long smallWeight = getSerialisedWeight("a");
+        final long largeWeight = getSerialisedWeight("abcdefghijklmnopqrstuvwxyz");
+        final BoundedCache<String, String> cache = new BoundedCache<>(0, smallWeight + largeWeight - 1, 0, true, false);
+        cache.put("small", "a");
+
+        // When
+        cache.put("large", "abcdefghijklmnopqrstuvwxyz");
+
+        // Then
+        assertThat(cache.getAllKeys()).containsExactly("large");
+        assertThat(cache.getWeight()).isEqualTo(largeWeight);
+        assertThat(cache.getEvictionCount()).isOne();
+    }
+
+    @Test
+    public void shouldExpireEntriesAfterTimeToLive() throws CacheOperationException {
+        // Given
+        final AtomicLong clock = new AtomicLong(0);
+        final BoundedCache<String, Integer> cache = new BoundedCache<>(0, 0, 100, false, false, clock::get);
+        cache.put("key1", 1);
+        clock.set(50);
+        cache.put("key2", 2);
+
+        // When
+        clock.set(100);
+
+        // Then
+        assertThat(cache.get("key1")).isNull();
+        assertThat(cache.get("key2")).isEqualTo(2);
+        assertThat(cache.size()).isOne();
+        assertThat(cache.getEvictionCount()).isOne();
+    }
+
+    @Test
+    public void shouldCountHitsAndMisses() throws CacheOperationException {
+        // Given
+        final BoundedCache<String, Integer> cache = new BoundedCache<>(0, 0, 0, false, false);
+        cache.put("key1", 1);
+
+        // When
+        cache.get("key1");
+        cache.get("key1");
+        cache.get("unknown");
+
+        // Then
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(cache.getMissCount()).isOne();
+    }
+
+    @Test
+    public void shouldReturnCopiesWhenUsingJavaSerialisation() throws CacheOperationException {
+        // Given
+        final BoundedCache<String, List<String>> cache = new BoundedCache<>(0, 0, 0, true, false);
+        final List<String> value = new ArrayList<>();
+        value.add("a");
+        cache.put("key", value);
+
+        // When
+        value.add("b");
+
+        // Then
+        assertThat(cache.get("key")).containsExactly("a");
+        assertThat(cache.get("key")).isNotSameAs(cache.get("key"));
+    }
+
+    @Test
+    public void shouldRetainDeserialisedValuesWhenRequested() throws CacheOperationException {
+        // Given
+        final BoundedCache<String, List<String>> cache = new BoundedCache<>(0, 0, 0, true, true);
+        final List<String> value = new ArrayList<>();
+        value.add("a");
+        cache.put("key", value);
+
+        // When
+        final List<String> first = cache.get("key");
+        final List<String> second = cache.get("key");
+
+        // Then
+        assertThat(first).containsExactly("a").isNotSameAs(value);
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void shouldUpdateWeightWhenEntriesAreReplacedAndRemoved() throws CacheOperationException {
+        // Given
+        final BoundedCache<String, Integer> cache = new BoundedCache<>(0, 0, 0, false, false);
+        cache.put("key1", 1);
+        cache.put("key1", 2);
+        cache.put("key2", 3);
+
+        // When
+        cache.remove("key2");
+
+        // Then
+        assertThat(cache.getWeight()).isOne();
+        assertThat(cache.get("key1")).isEqualTo(2);
+
+        // When
+        cache.clear();
+
+        // Then
+        assertThat(cache.getWeight()).isZero();
+        assertThat(cache.size()).isZero();
+    }
+
+    private static long getSerialisedWeight(final String value) throws CacheOperationException {
+        final BoundedCache<String, String> cache = new BoundedCache<>(0, 0, 0, true, false);
+        cache.put("key", value);
+        return cache.getWeight();
+    }
+}
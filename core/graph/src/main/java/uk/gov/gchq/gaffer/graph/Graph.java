@@ -106,6 +106,11 @@ public final class Graph {
 
     private final GraphConfig config;
 
+    /**
+     * The cache of prepared operation chains, or null if they are not cached.
+     */
+    private final OperationChainPlanCache planCache;
+
     /**
      * Constructs a {@code Graph} with the given {@link uk.gov.gchq.gaffer.store.Store}
      * and
@@ -120,6 +125,8 @@ public final class Graph {
     private Graph(final GraphConfig config, final Store store) {
         this.config = config;
         this.store = store;
+        this.planCache = null != config.getPlanCacheSize() && config.getPlanCacheSize() > 0
+                ? new OperationChainPlanCache(config.getPlanCacheSize(), config.getHooks()) : null;
     }
 
     /**
@@ -310,49 +317,66 @@ public final class Graph {
 
         final Context clonedContext = request.getContext().shallowClone();
         final OperationChain clonedOpChain = request.getOperationChain().shallowClone();
+        final OperationChainPlanCache.Key planKey = null != planCache && OperationChainPlanCache.isCacheable(config.getHooks())
+                ? planCache.createKey(clonedOpChain, clonedContext.getUser(), getSchema()) : null;
+        OperationChain opChain = null != planKey ? planCache.get(planKey) : null;
         O result = null;
         try {
-            updateOperationChainView(clonedOpChain);
-            for (final GraphHook graphHook : config.getHooks()) {
-                graphHook.preExecute(clonedOpChain, clonedContext);
-            }
-            // This updates the view, used for empty or null views, for
-            // example if there is a NamedOperation that has been resolved
-            // that contains an empty view
-            updateOperationChainView(clonedOpChain);
-            // Runs the updateGraphHook instance (if set) or if not runs a
-            // new instance
-            ArrayList<UpdateViewHook> hookInstances = new ArrayList<>();
-            for (final GraphHook graphHook : config.getHooks()) {
-                if (UpdateViewHook.class.isAssignableFrom(graphHook.getClass())) {
-                    hookInstances.add((UpdateViewHook) graphHook);
+            if (null == opChain) {
+                opChain = clonedOpChain;
+                prepareOperationChain(opChain, clonedContext);
+                if (null != planKey) {
+                    planCache.put(planKey, opChain);
                 }
             }
-            if (hookInstances.size() == 0) {
-                hookInstances.add(new UpdateViewHook());
-            }
-            for (final UpdateViewHook hook : hookInstances) {
-                hook.preExecute(clonedOpChain, clonedContext);
-            }
-            result = (O) storeExecuter.execute(clonedOpChain, clonedContext);
+            result = (O) storeExecuter.execute(opChain, clonedContext);
             for (final GraphHook graphHook : config.getHooks()) {
-                result = graphHook.postExecute(result, clonedOpChain, clonedContext);
+                result = graphHook.postExecute(result, opChain, clonedContext);
             }
         } catch (final Exception e) {
             for (final GraphHook graphHook : config.getHooks()) {
                 try {
-                    result = graphHook.onFailure(result, clonedOpChain, clonedContext, e);
+                    result = graphHook.onFailure(result, opChain, clonedContext, e);
                 } catch (final Exception graphHookE) {
                     LOGGER.warn("Error in graphHook {} : {}", graphHook.getClass().getSimpleName(), graphHookE.getMessage(), graphHookE);
                 }
             }
-            CloseableUtil.close(clonedOpChain);
+            CloseableUtil.close(opChain);
             CloseableUtil.close(result);
             throw e;
+        } finally {
+            if (null != planCache && OperationChainPlanCache.isInvalidatedBy(opChain)) {
+                planCache.clear();
+            }
         }
         return new GraphResult<>(result, clonedContext);
     }
 
+    private void prepareOperationChain(final OperationChain<?> opChain, final Context context) {
+        updateOperationChainView(opChain);
+        for (final GraphHook graphHook : config.getHooks()) {
+            graphHook.preExecute(opChain, context);
+        }
+        // This updates the view, used for empty or null views, for
+        // example if there is a NamedOperation that has been resolved
+        // that contains an empty view
+        updateOperationChainView(opChain);
+        // Runs the updateGraphHook instance (if set) or if not runs a
+        // new instance
+        ArrayList<UpdateViewHook> hookInstances = new ArrayList<>();
+        for (final GraphHook graphHook : config.getHooks()) {
+            if (UpdateViewHook.class.isAssignableFrom(graphHook.getClass())) {
+                hookInstances.add((UpdateViewHook) graphHook);
+            }
+        }
+        if (hookInstances.size() == 0) {
+            hookInstances.add(new UpdateViewHook());
+        }
+        for (final UpdateViewHook hook : hookInstances) {
+            hook.preExecute(opChain, context);
+        }
+    }
+
     private void updateOperationChainView(final Operations<?> operations) {
 
         for (final Operation operation : operations.getOperations()) {
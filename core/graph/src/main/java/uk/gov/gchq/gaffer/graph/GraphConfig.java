@@ -47,6 +47,8 @@ import java.util.List;
  * {@link uk.gov.gchq.gaffer.store.StoreProperties} to create a {@link Graph}.
  * This configuration is made up of graph properties such as a graphId, {@link GraphLibrary},
  * a graph {@link View} and {@link GraphHook}s.
+ * The planCacheSize sets the maximum number of prepared operation chains the
+ * graph will cache. By default prepared operation chains are not cached.
  * To create an instance of GraphConfig you can either use the {@link uk.gov.gchq.gaffer.graph.GraphConfig.Builder}
  * or a json file.
  * If you wish to write a GraphHook in a separate json file and include it, you
@@ -63,6 +65,7 @@ public final class GraphConfig {
     private GraphLibrary library;
     private String description;
     private final List<GraphHook> hooks = new ArrayList<>();
+    private Integer planCacheSize;
 
     public GraphConfig() {
     }
@@ -135,6 +138,14 @@ public final class GraphConfig {
         }
     }
 
+    public Integer getPlanCacheSize() {
+        return planCacheSize;
+    }
+
+    public void setPlanCacheSize(final Integer planCacheSize) {
+        this.planCacheSize = planCacheSize;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -142,6 +153,7 @@ public final class GraphConfig {
                 .append("view", getView())
                 .append("library", library)
                 .append("hooks", hooks)
+                .append("planCacheSize", planCacheSize)
                 .toString();
     }
 
@@ -202,6 +214,9 @@ public final class GraphConfig {
                     this.config.setDescription(config.getDescription());
                 }
                 this.config.getHooks().addAll(config.getHooks());
+                if (null != config.getPlanCacheSize()) {
+                    this.config.setPlanCacheSize(config.getPlanCacheSize());
+                }
             }
             return this;
         }
@@ -260,6 +275,11 @@ public final class GraphConfig {
             return addHooks(hooks);
         }
 
+        public Builder planCacheSize(final Integer planCacheSize) {
+            this.config.setPlanCacheSize(planCacheSize);
+            return this;
+        }
+
         public Builder addHook(final Path hookPath) {
             if (null == hookPath || !hookPath.toFile().exists()) {
                 throw new IllegalArgumentException("Unable to find graph hook file: " + hookPath);
@@ -0,0 +1,407 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.graph;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.Funnels;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.gov.gchq.gaffer.cache.Cache;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.graph.hook.AddOperationsToChain;
+import uk.gov.gchq.gaffer.graph.hook.FunctionAuthoriser;
+import uk.gov.gchq.gaffer.graph.hook.GraphHook;
+import uk.gov.gchq.gaffer.graph.hook.NamedOperationResolver;
+import uk.gov.gchq.gaffer.graph.hook.NamedViewResolver;
+import uk.gov.gchq.gaffer.graph.hook.OperationAuthoriser;
+import uk.gov.gchq.gaffer.graph.hook.OperationChainLimiter;
+import uk.gov.gchq.gaffer.graph.hook.UpdateViewHook;
+import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
+import uk.gov.gchq.gaffer.named.operation.AddNamedOperation;
+import uk.gov.gchq.gaffer.named.operation.DeleteNamedOperation;
+import uk.gov.gchq.gaffer.named.view.AddNamedView;
+import uk.gov.gchq.gaffer.named.view.DeleteNamedView;
+import uk.gov.gchq.gaffer.operation.Operation;
+import uk.gov.gchq.gaffer.operation.OperationChain;
+import uk.gov.gchq.gaffer.operation.Operations;
+import uk.gov.gchq.gaffer.operation.io.Input;
+import uk.gov.gchq.gaffer.store.operation.handler.named.cache.NamedOperationCache;
+import uk.gov.gchq.gaffer.store.operation.handler.named.cache.NamedViewCache;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.user.User;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A cache of prepared {@link OperationChain}s for a {@link Graph}, similar to
+ * prepared statements in a database.
+ * <p>
+ * Preparing an operation chain involves merging and expanding the views and
+ * running the {@link GraphHook#preExecute(OperationChain, uk.gov.gchq.gaffer.store.Context)}
+ * methods, for example to resolve named operations and named views. When the
+ * same chain is executed again by the same user, with only a different input
+ * to the first operation, the prepared chain is taken from the cache and the
+ * new input is bound into it.
+ * <p>
+ * Chains are only cached if all of the graph hooks are known to depend only
+ * on the operation chain and the user. Chains are keyed on a hash of their
+ * json, so the key does not hold on to the json itself. The key also contains
+ * the groups in the schema and the versions of the named operation and named
+ * view caches, so a chain is prepared again after the schema changes or after
+ * named operations or named views are changed, including by a different
+ * {@link Graph} instance sharing the same cache service. The cache is also
+ * cleared whenever named operations or named views are added or deleted
+ * through the graph.
+ * <p>
+ * Prepared chains are cached as json and deserialised for each execution,
+ * so every execution has its own views, functions and options. Views and
+ * options are shared by {@link OperationChain#shallowClone()}, and the
+ * filters, aggregators and transformers in a view hold state while they are
+ * being applied, so cloned chains cannot safely be executed concurrently.
+ */
+final class OperationChainPlanCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(OperationChainPlanCache.class);
+
+    private static final Set<Class<? extends GraphHook>> CACHEABLE_HOOKS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            AddOperationsToChain.class,
+            FunctionAuthoriser.class,
+            NamedOperationResolver.class,
+            NamedViewResolver.class,
+            OperationAuthoriser.class,
+            OperationChainLimiter.class,
+            UpdateViewHook.class)));
+
+    private static final Set<Class<? extends Operation>> INVALIDATING_OPERATIONS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            AddNamedOperation.class,
+            DeleteNamedOperation.class,
+            AddNamedView.class,
+            DeleteNamedView.class)));
+
+    private final int maxSize;
+    private final List<Cache<?, ?>> versionedCaches;
+    private final Map<Key, Plan> plans;
+    private long generation;
+
+    OperationChainPlanCache(final int maxSize) {
+        this(maxSize, Collections.emptyList());
+    }
+
+    /**
+     * @param maxSize the maximum number of prepared operation chains to cache
+     * @param hooks   the graph hooks, used to find the named operation and
+     *                named view caches the prepared chains depend on
+     */
+    OperationChainPlanCache(final int maxSize, final List<GraphHook> hooks) {
+        this.maxSize = maxSize;
+        this.versionedCaches = new ArrayList<>();
+        for (final GraphHook hook : hooks) {
+            if (hook instanceof NamedOperationResolver) {
+                versionedCaches.add(new NamedOperationCache(((NamedOperationResolver) hook).getCacheNameSuffix()));
+            } else if (hook instanceof NamedViewResolver) {
+                versionedCaches.add(new NamedViewCache(((NamedViewResolver) hook).getCacheNameSuffix()));
+            }
+        }
+        this.plans = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * @param hooks the graph hooks
+     * @return true if the graph hooks only depend on the operation chain and the user
+     */
+    static boolean isCacheable(final List<GraphHook> hooks) {
+        for (final GraphHook hook : hooks) {
+            if (!CACHEABLE_HOOKS.contains(hook.getClass())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param operations the operations to check
+     * @return true if executing the operations may change how chains are prepared
+     */
+    static boolean isInvalidatedBy(final Operations<?> operations) {
+        for (final Operation operation : operations.getOperations()) {
+            if (null != operation && INVALIDATING_OPERATIONS.contains(operation.getClass())) {
+                return true;
+            }
+            if (operation instanceof Operations && isInvalidatedBy((Operations<?>) operation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Creates the key for an operation chain, which is a hash of its json
+     * without the input of the first operation, along with the user, the
+     * groups in the schema and the versions of the named operation and named
+     * view caches.
+     *
+     * @param opChain the operation chain before it has been prepared
+     * @param user    the user executing the operation chain
+     * @param schema  the schema of the graph
+     * @return the key, or null if the operation chain cannot be cached
+     */
+    Key createKey(final OperationChain<?> opChain, final User user, final Schema schema) {
+        final Object input = getFirstInput(opChain);
+        final HashCode hash;
+        try {
+            hash = hashWithoutInput(opChain, input);
+        } catch (final IOException e) {
+            LOGGER.debug("Unable to cache operation chain as it could not be serialised: {}", e.getMessage());
+            return null;
+        }
+
+        final List<String> versions = new ArrayList<>(versionedCaches.size());
+        for (final Cache<?, ?> cache : versionedCaches) {
+            versions.add(cache.getVersion());
+        }
+
+        final Set<String> entityGroups = null != schema ? schema.getEntityGroups() : Collections.emptySet();
+        final Set<String> edgeGroups = null != schema ? schema.getEdgeGroups() : Collections.emptySet();
+        synchronized (this) {
+            return new Key(user, hash, entityGroups, edgeGroups, versions, input, generation);
+        }
+    }
+
+    /**
+     * Gets a copy of the prepared operation chain for the key, with the input
+     * of the key bound into it.
+     *
+     * @param key the key
+     * @return the prepared operation chain, or null if it has not been cached
+     */
+    OperationChain<?> get(final Key key) {
+        final Plan plan;
+        synchronized (this) {
+            plan = plans.get(key);
+        }
+        if (null == plan) {
+            return null;
+        }
+
+        final OperationChain<?> opChain;
+        try {
+            opChain = JSONSerialiser.deserialise(plan.json, OperationChain.class);
+        } catch (final SerialisationException e) {
+            LOGGER.debug("Unable to deserialise cached operation chain: {}", e.getMessage());
+            return null;
+        }
+        setInputs(opChain, plan.inputPaths, key.input);
+        return opChain;
+    }
+
+    /**
+     * Caches the json of an operation chain that has been prepared for the key.
+     * The locations the input of the key was bound to are recorded and the
+     * input is left out of the json, so a different input can be bound into
+     * the cached chain.
+     *
+     * @param key             the key
+     * @param preparedOpChain the prepared operation chain
+     */
+    void put(final Key key, final OperationChain<?> preparedOpChain) {
+        final List<int[]> inputPaths = new ArrayList<>();
+        if (null != key.input) {
+            findInputPaths(preparedOpChain, key.input, new int[0], inputPaths);
+        }
+
+        final byte[] json;
+        setInputs(preparedOpChain, inputPaths, null);
+        try {
+            json = JSONSerialiser.serialise(preparedOpChain);
+        } catch (final SerialisationException e) {
+            LOGGER.debug("Unable to cache prepared operation chain as it could not be serialised: {}", e.getMessage());
+            return;
+        } finally {
+            setInputs(preparedOpChain, inputPaths, key.input);
+        }
+
+        synchronized (this) {
+            // Do not cache a chain that was prepared before the cache was cleared
+            if (key.generation == generation) {
+                plans.put(key, new Plan(json, inputPaths));
+                if (plans.size() > maxSize) {
+                    plans.remove(plans.keySet().iterator().next());
+                }
+            }
+        }
+    }
+
+    synchronized void clear() {
+        plans.clear();
+        generation++;
+    }
+
+    synchronized int size() {
+        return plans.size();
+    }
+
+    private static Object getFirstInput(final OperationChain<?> opChain) {
+        if (!opChain.getOperations().isEmpty() && opChain.getOperations().get(0) instanceof Input) {
+            return ((Input) opChain.getOperations().get(0)).getInput();
+        }
+        return null;
+    }
+
+    private static HashCode hashWithoutInput(final OperationChain<?> opChain, final Object input) throws IOException {
+        if (null == input) {
+            return hash(opChain);
+        }
+
+        final Input firstOperation = (Input) opChain.getOperations().get(0);
+        firstOperation.setInput(null);
+        try {
+            return hash(opChain);
+        } finally {
+            firstOperation.setInput(input);
+        }
+    }
+
+    private static HashCode hash(final OperationChain<?> opChain) throws IOException {
+        // The json is written straight into the hasher rather than being
+        // built up in memory
+        final Hasher hasher = Hashing.sha256().newHasher();
+        JSONSerialiser.getMapper()
+                .writer(JSONSerialiser.getFilterProvider())
+                .writeValue(Funnels.asOutputStream(hasher), opChain);
+        return hasher.hash();
+    }
+
+    private static void findInputPaths(final Operations<?> operations, final Object input, final int[] path, final List<int[]> inputPaths) {
+        int index = 0;
+        for (final Operation operation : operations.getOperations()) {
+            final int[] operationPath = Arrays.copyOf(path, path.length + 1);
+            operationPath[path.length] = index++;
+            if (operation instanceof Input && input == ((Input) operation).getInput()) {
+                inputPaths.add(operationPath);
+            }
+            if (operation instanceof Operations) {
+                findInputPaths((Operations<?>) operation, input, operationPath, inputPaths);
+            }
+        }
+    }
+
+    private static void setInputs(final Operations<?> operations, final List<int[]> inputPaths, final Object input) {
+        for (final int[] inputPath : inputPaths) {
+            ((Input) getOperation(operations, inputPath)).setInput(input);
+        }
+    }
+
+    private static Operation getOperation(final Operations<?> operations, final int[] path) {
+        Operations<?> current = operations;
+        Operation operation = null;
+        for (final int index : path) {
+            final Iterator<? extends Operation> itr = current.getOperations().iterator();
+            for (int i = 0; i < index; i++) {
+                itr.next();
+            }
+            operation = itr.next();
+            if (operation instanceof Operations) {
+                current = (Operations<?>) operation;
+            }
+        }
+        return operation;
+    }
+
+    /**
+     * The key of a prepared operation chain, along with the input to bind
+     * into it.
+     */
+    static final class Key {
+        private final User user;
+        private final HashCode hash;
+        private final Set<String> entityGroups;
+        private final Set<String> edgeGroups;
+        private final List<String> versions;
+        // Whether there is an input is part of the key, as a chain prepared
+        // without an input has nowhere to bind one
+        private final boolean hasInput;
+        private final Object input;
+        private final long generation;
+
+        private Key(final User user, final HashCode hash, final Set<String> entityGroups, final Set<String> edgeGroups,
+                    final List<String> versions, final Object input, final long generation) {
+            this.user = user;
+            this.hash = hash;
+            this.entityGroups = entityGroups;
+            this.edgeGroups = edgeGroups;
+            this.versions = versions;
+            this.hasInput = null != input;
+            this.input = input;
+            this.generation = generation;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+
+            if (null == obj || getClass() != obj.getClass()) {
+                return false;
+            }
+
+            final Key key = (Key) obj;
+
+            return new EqualsBuilder()
+                    .append(hash, key.hash)
+                    .append(hasInput, key.hasInput)
+                    .append(user, key.user)
+                    .append(versions, key.versions)
+                    .append(entityGroups, key.entityGroups)
+                    .append(edgeGroups, key.edgeGroups)
+                    .isEquals();
+        }
+
+        @Override
+        public int hashCode() {
+            return new HashCodeBuilder(17, 37)
+                    .append(hash)
+                    .append(hasInput)
+                    .append(user)
+                    .append(versions)
+                    .toHashCode();
+        }
+    }
+
+    private static final class Plan {
+        private final byte[] json;
+        private final List<int[]> inputPaths;
+
+        private Plan(final byte[] json, final List<int[]> inputPaths) {
+            this.json = json;
+            this.inputPaths = inputPaths;
+        }
+    }
+}
@@ -61,6 +61,7 @@ public class GraphConfigTest extends JSONSerialisationTest<GraphConfig> {
         assertEquals(obj.getView(), deserialisedObj.getView());
         assertEquals(obj.getLibrary().getClass(), deserialisedObj.getLibrary().getClass());
         assertEquals(obj.getDescription(), deserialisedObj.getDescription());
+        assertEquals(obj.getPlanCacheSize(), deserialisedObj.getPlanCacheSize());
         assertEquals((List) obj.getHooks().stream().map(GraphHook::getClass).collect(Collectors.toList()), (List) deserialisedObj.getHooks().stream().map(GraphHook::getClass).collect(Collectors.toList()));
     }
 
@@ -135,6 +136,7 @@ public class GraphConfigTest extends JSONSerialisationTest<GraphConfig> {
                 .addHook(hook1)
                 .addHook(hook2)
                 .view(view)
+                .planCacheSize(100)
                 .build();
     }
 }
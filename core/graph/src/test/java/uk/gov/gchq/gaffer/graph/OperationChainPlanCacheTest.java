@@ -0,0 +1,301 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.graph;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.cache.CacheServiceLoader;
+import uk.gov.gchq.gaffer.cache.exception.CacheOperationException;
+import uk.gov.gchq.gaffer.cache.impl.HashMapCacheService;
+import uk.gov.gchq.gaffer.cache.util.CacheProperties;
+import uk.gov.gchq.gaffer.commonutil.TestGroups;
+import uk.gov.gchq.gaffer.commonutil.TestPropertyNames;
+import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.NamedViewDetail;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
+import uk.gov.gchq.gaffer.graph.hook.FunctionAuthoriser;
+import uk.gov.gchq.gaffer.graph.hook.GraphHook;
+import uk.gov.gchq.gaffer.graph.hook.Log4jLogger;
+import uk.gov.gchq.gaffer.graph.hook.NamedOperationResolver;
+import uk.gov.gchq.gaffer.graph.hook.NamedViewResolver;
+import uk.gov.gchq.gaffer.named.operation.AddNamedOperation;
+import uk.gov.gchq.gaffer.operation.Operation;
+import uk.gov.gchq.gaffer.operation.OperationChain;
+import uk.gov.gchq.gaffer.operation.data.EntitySeed;
+import uk.gov.gchq.gaffer.operation.impl.Limit;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
+import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
+import uk.gov.gchq.gaffer.store.operation.handler.named.cache.NamedViewCache;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.schema.SchemaEdgeDefinition;
+import uk.gov.gchq.gaffer.user.User;
+import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OperationChainPlanCacheTest {
+    private static final User USER = new User.Builder().userId("user").opAuths("auth1").build();
+    private static final Schema SCHEMA = new Schema.Builder()
+            .edge(TestGroups.EDGE, new SchemaEdgeDefinition())
+            .build();
+    private static final String SUFFIX = "planCacheTest";
+
+    @BeforeAll
+    public static void setUp() {
+        final Properties properties = new Properties();
+        properties.setProperty(CacheProperties.CACHE_SERVICE_CLASS, HashMapCacheService.class.getName());
+        CacheServiceLoader.initialise(properties);
+    }
+
+    @Test
+    public void shouldBindNewInputIntoCachedOperationChain() {
+        // Given
+        final OperationChainPlanCache cache = new OperationChainPlanCache(10);
+        final List<EntitySeed> firstInput = Collections.singletonList(new EntitySeed("A"));
+        final List<EntitySeed> secondInput = Collections.singletonList(new EntitySeed("B"));
+        final OperationChain<?> preparedOpChain = getOpChain(firstInput);
+        cache.put(cache.createKey(getOpChain(firstInput), USER, SCHEMA), preparedOpChain);
+
+        // When
+        final OperationChain<?> cachedOpChain = cache.get(cache.createKey(getOpChain(secondInput), USER, SCHEMA));
+
+        // Then
+        assertThat(cachedOpChain).isNotNull().isNotSameAs(preparedOpChain);
+        assertThat(cachedOpChain.getOperations()).hasSize(2);
+        assertThat(((GetElements) cachedOpChain.getOperations().get(0)).getInput()).isSameAs(secondInput);
+        assertThat(((Limit<?>) cachedOpChain.getOperations().get(1)).getResultLimit()).isEqualTo(5);
+        assertThat(((GetElements) preparedOpChain.getOperations().get(0)).getInput()).isSameAs(firstInput);
+    }
+
+    @Test
+    public void shouldNotGetOperationChainCachedForDifferentUser() {
+        // Given
+        final OperationChainPlanCache cache = new OperationChainPlanCache(10);
+        final List<EntitySeed> input = Collections.singletonList(new EntitySeed("A"));
+        final User otherUser = new User.Builder().userId("user").opAuths("auth1", "auth2").build();
+        cache.put(cache.createKey(getOpChain(input), USER, SCHEMA), getOpChain(input));
+
+        // When
+        final OperationChain<?> cachedOpChain = cache.get(cache.createKey(getOpChain(input), otherUser, SCHEMA));
+
+        // Then
+        assertThat(cachedOpChain).isNull();
+    }
+
+    @Test
+    public void shouldNotGetOperationChainCachedWithoutInputWhenInputIsProvided() {
+        // Given
+        final OperationChainPlanCache cache = new OperationChainPlanCache(10);
+        cache.put(cache.createKey(getOpChain(null), USER, SCHEMA), getOpChain(null));
+
+        // When
+        final OperationChain<?> cachedOpChain = cache.get(cache.createKey(getOpChain(Collections.singletonList(new EntitySeed("A"))), USER, SCHEMA));
+
+        // Then
+        assertThat(cachedOpChain).isNull();
+    }
+
+    @Test
+    public void shouldNotGetOperationChainCachedForDifferentSchemaGroups() {
+        // Given
+        final OperationChainPlanCache cache = new OperationChainPlanCache(10);
+        final List<EntitySeed> input = Collections.singletonList(new EntitySeed("A"));
+        final Schema otherSchema = new Schema.Builder()
+                .merge(SCHEMA)
+                .edge(TestGroups.EDGE_2, new SchemaEdgeDefinition())
+                .build();
+        cache.put(cache.createKey(getOpChain(input), USER, SCHEMA), getOpChain(input));
+
+        // When
+        final OperationChain<?> cachedOpChain = cache.get(cache.createKey(getOpChain(input), USER, otherSchema));
+
+        // Then
+        assertThat(cachedOpChain).isNull();
+    }
+
+    @Test
+    public void shouldNotGetOperationChainCachedBeforeNamedViewsWereChangedByAnotherInstance() throws CacheOperationException {
+        // Given
+        final OperationChainPlanCache cache = new OperationChainPlanCache(10,
+                Collections.singletonList(new NamedViewResolver(SUFFIX)));
+        final List<EntitySeed> input = Collections.singletonList(new EntitySeed("A"));
+        cache.put(cache.createKey(getOpChain(input), USER, SCHEMA), getOpChain(input));
+        assertThat(cache.get(cache.createKey(getOpChain(input), USER, SCHEMA))).isNotNull();
+
+        // When
+        new NamedViewCache(SUFFIX).addNamedView(new NamedViewDetail.Builder()
+                .name("namedView")
+                .creatorId(USER.getUserId())
+                .view(new View.Builder().build())
+                .build(), true);
+
+        // Then
+        assertThat(cache.get(cache.createKey(getOpChain(input), USER, SCHEMA))).isNull();
+    }
+
+    @Test
+    public void shouldNotShareCachedOperationChainBetweenExecutions() {
+        // Given
+        final OperationChainPlanCache cache = new OperationChainPlanCache(10);
+        final List<EntitySeed> input = Collections.singletonList(new EntitySeed("A"));
+        cache.put(cache.createKey(getOpChain(input), USER, SCHEMA), getOpChain(input));
+        final OperationChain<?> firstOpChain = cache.get(cache.createKey(getOpChain(input), USER, SCHEMA));
+
+        // When
+        ((Limit<?>) firstOpChain.getOperations().get(1)).setInput(Collections.singletonList(1));
+        final OperationChain<?> secondOpChain = cache.get(cache.createKey(getOpChain(input), USER, SCHEMA));
+
+        // Then
+        assertThat(secondOpChain.getOperations().get(1)).isNotSameAs(firstOpChain.getOperations().get(1));
+        assertThat(((Limit<?>) secondOpChain.getOperations().get(1)).getInput()).isNull();
+    }
+
+    @Test
+    public void shouldGiveConcurrentExecutionsTheirOwnCopyOfCachedOperationChain() throws Exception {
+        // Given
+        final OperationChainPlanCache cache = new OperationChainPlanCache(10);
+        final List<EntitySeed> firstInput = Collections.singletonList(new EntitySeed("A"));
+        cache.put(cache.createKey(getOpChainWithView(firstInput), USER, SCHEMA), getOpChainWithView(firstInput));
+        final int executions = 8;
+        final ExecutorService executor = Executors.newFixedThreadPool(executions);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<OperationChain<?>>> futures = new ArrayList<>();
+
+        // When
+        try {
+            for (int i = 0; i < executions; i++) {
+                final List<EntitySeed> input = Collections.singletonList(new EntitySeed("seed" + i));
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get(cache.createKey(getOpChainWithView(input), USER, SCHEMA));
+                }));
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        final Set<View> views = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < executions; i++) {
+            final GetElements getElements = (GetElements) futures.get(i).get().getOperations().get(0);
+            assertThat(getElements.getInput()).containsExactly(new EntitySeed("seed" + i));
+            assertThat(getElements.getView().getEdge(TestGroups.EDGE).getPreAggregationFilter()).isNotNull();
+            views.add(getElements.getView());
+        }
+        assertThat(views).hasSize(executions);
+    }
+
+    @Test
+    public void shouldNotCacheOperationChainPreparedBeforeCacheWasCleared() {
+        // Given
+        final OperationChainPlanCache cache = new OperationChainPlanCache(10);
+        final OperationChainPlanCache.Key key = cache.createKey(new OperationChain<>(new GetAllElements()), USER, SCHEMA);
+
+        // When
+        cache.clear();
+        cache.put(key, new OperationChain<>(new GetAllElements()));
+
+        // Then
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedOperationChain() {
+        // Given
+        final OperationChainPlanCache cache = new OperationChainPlanCache(2);
+        final OperationChainPlanCache.Key key1 = cache.createKey(new OperationChain<>(new Limit<>(1)), USER, SCHEMA);
+        final OperationChainPlanCache.Key key2 = cache.createKey(new OperationChain<>(new Limit<>(2)), USER, SCHEMA);
+        final OperationChainPlanCache.Key key3 = cache.createKey(new OperationChain<>(new Limit<>(3)), USER, SCHEMA);
+        cache.put(key1, new OperationChain<>(new Limit<>(1)));
+        cache.put(key2, new OperationChain<>(new Limit<>(2)));
+        cache.get(key1);
+
+        // When
+        cache.put(key3, new OperationChain<>(new Limit<>(3)));
+
+        // Then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(key1)).isNotNull();
+        assertThat(cache.get(key2)).isNull();
+        assertThat(cache.get(key3)).isNotNull();
+    }
+
+    @Test
+    public void shouldOnlyBeCacheableWithKnownGraphHooks() {
+        // Given
+        final List<GraphHook> knownHooks = Arrays.asList(new NamedViewResolver("suffix"), new NamedOperationResolver("suffix"), new FunctionAuthoriser());
+        final List<GraphHook> otherHooks = Arrays.asList(new NamedOperationResolver("suffix"), new Log4jLogger());
+
+        // When / Then
+        assertThat(OperationChainPlanCache.isCacheable(knownHooks)).isTrue();
+        assertThat(OperationChainPlanCache.isCacheable(otherHooks)).isFalse();
+    }
+
+    @Test
+    public void shouldBeInvalidatedByAddingNamedOperation() {
+        // Given
+        final OperationChain<?> opChain = new OperationChain<>(Arrays.<Operation>asList(
+                new GetAllElements(),
+                new OperationChain<>(new AddNamedOperation.Builder()
+                        .name("namedOperation")
+                        .operationChain(new OperationChain<>(new GetAllElements()))
+                        .build())));
+
+        // When / Then
+        assertThat(OperationChainPlanCache.isInvalidatedBy(opChain)).isTrue();
+        assertThat(OperationChainPlanCache.isInvalidatedBy(getOpChain(null))).isFalse();
+    }
+
+    private OperationChain<?> getOpChainWithView(final List<EntitySeed> input) {
+        final GetElements getElements = new GetElements.Builder()
+                .view(new View.Builder()
+                        .edge(TestGroups.EDGE, new ViewElementDefinition.Builder()
+                                .preAggregationFilter(new ElementFilter.Builder()
+                                        .select(TestPropertyNames.COUNT)
+                                        .execute(new IsMoreThan(1))
+                                        .build())
+                                .build())
+                        .build())
+                .build();
+        getElements.setInput(input);
+        return new OperationChain<>(getElements);
+    }
+
+    private OperationChain<?> getOpChain(final List<EntitySeed> input) {
+        final GetElements getElements = new GetElements();
+        getElements.setInput(input);
+        return new OperationChain.Builder()
+                .first(getElements)
+                .then(new Limit<>(5))
+                .build();
+    }
+}
@@ -16,26 +16,88 @@
 
 package uk.gov.gchq.gaffer.jobtracker;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import uk.gov.gchq.gaffer.cache.Cache;
+import uk.gov.gchq.gaffer.cache.CacheServiceLoader;
+import uk.gov.gchq.gaffer.cache.ICache;
+import uk.gov.gchq.gaffer.cache.ICacheService;
 import uk.gov.gchq.gaffer.cache.exception.CacheOperationException;
+import uk.gov.gchq.gaffer.commonutil.ExecutorService;
 import uk.gov.gchq.gaffer.user.User;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
 /**
  * A {@code JobTracker} is an entry in a Gaffer cache service which is used to store
  * details of jobs submitted to the graph.
+ * <p>
+ * Secondary indexes on the job status, user and parent job id are maintained in
+ * a separate cache, so jobs can be looked up by those fields without reading
+ * every job in the cache. Each job has its own index entry for each indexed
+ * value, keyed on the index, the value and the job id, so updating a job only
+ * writes the entries for that job and updates from different nodes do not
+ * overwrite each other. Jobs are looked up by scanning the index keys, and
+ * jobs read through an index are always checked against the value they were
+ * looked up by, as concurrent updates to the same job may leave entries out of
+ * date.
+ * <p>
+ * If a retention period is set, finished, failed and cancelled jobs which ended
+ * longer ago than that period are pruned in the background, using the Gaffer
+ * {@link ExecutorService}, as other jobs finish.
  */
 public class JobTracker extends Cache<String, JobDetail> {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobTracker.class);
     private static final String CACHE_SERVICE_NAME_PREFIX = "JobTracker";
+    private static final String INDEX_CACHE_SERVICE_NAME_PREFIX = "JobTrackerIndex";
+    private static final String INDEX_SEPARATOR = "|";
+    private static final String STATUS_INDEX = "status";
+    private static final String USER_INDEX = "user";
+    private static final String PARENT_INDEX = "parent";
+    private static final int BATCH_SIZE = 1000;
+    private static final long MAX_PRUNE_INTERVAL_MILLIS = 60 * 60 * 1000L;
+    private static final Set<JobStatus> PRUNABLE_STATUSES = Collections.unmodifiableSet(
+            EnumSet.of(JobStatus.FINISHED, JobStatus.FAILED, JobStatus.CANCELLED));
+
+    private final String indexCacheName;
+    private final long retentionMillis;
+    private final AtomicBoolean pruneScheduled = new AtomicBoolean();
+    private volatile long lastPruneTime;
+    private volatile boolean indexChecked;
 
     public JobTracker(final String suffixCacheName) {
+        this(suffixCacheName, 0);
+    }
+
+    /**
+     * @param suffixCacheName the suffix of the cache name
+     * @param retentionMillis the time in milliseconds to keep jobs for after they have ended,
+     *                        0 or less to keep them forever
+     */
+    public JobTracker(final String suffixCacheName, final long retentionMillis) {
         super(getCacheNameFrom(suffixCacheName));
+        this.indexCacheName = Cache.getCacheNameFrom(INDEX_CACHE_SERVICE_NAME_PREFIX, suffixCacheName);
+        this.retentionMillis = retentionMillis;
+        this.lastPruneTime = System.currentTimeMillis();
     }
 
     public static String getCacheNameFrom(final String suffixCacheName) {
@@ -51,10 +113,16 @@ public class JobTracker extends Cache<String, JobDetail> {
     public void addOrUpdateJob(final JobDetail jobDetail, final User user) {
         try {
             validateJobDetail(jobDetail);
+            final JobDetail previous = super.getFromCache(jobDetail.getJobId());
             super.addToCache(jobDetail.getJobId(), jobDetail, true);
+            updateIndex(previous, jobDetail);
         } catch (final CacheOperationException e) {
             throw new RuntimeException("Failed to add jobDetail " + jobDetail.toString() + " to the cache", e);
         }
+
+        if (PRUNABLE_STATUSES.contains(jobDetail.getStatus()) && isPruneDue()) {
+            schedulePrune();
+        }
     }
 
     /**
@@ -73,39 +141,242 @@ public class JobTracker extends Cache<String, JobDetail> {
     }
 
     /**
-     * Get all jobs from the job tracker cache.
+     * Get all jobs from the job tracker cache. The jobs are read from the
+     * cache in batches as the returned {@link Iterable} is consumed.
      *
      * @param user the user making the request to the job tracker
      * @return a {@link Iterable} containing all of the job details
      */
     public Iterable<JobDetail> getAllJobs(final User user) {
+        return getJobs(getAllKeys(), jd -> true);
+    }
 
-        return getAllJobsMatching(user, jd -> true);
+    /**
+     * Get a page of the jobs in the job tracker cache, ordered by job id.
+     *
+     * @param user   the user making the request to the job tracker
+     * @param offset the number of jobs to skip
+     * @param limit  the maximum number of jobs to return
+     * @return a {@link List} containing the requested page of job details
+     */
+    public List<JobDetail> getAllJobs(final User user, final int offset, final int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("Offset and limit must not be negative");
+        }
+        final List<String> page = getAllKeys().stream()
+                .filter(Objects::nonNull)
+                .sorted()
+                .skip(offset)
+                .limit(limit)
+                .collect(Collectors.toList());
+        final Map<String, JobDetail> jobs = getAllFromCache(page);
+        return page.stream()
+                .map(jobs::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
     /**
-     * Get all scheduled jobs from the job tracker cache.
+     * Get all scheduled jobs from the job tracker cache. These are found by
+     * reading every job rather than through the status index, so a scheduled
+     * job is never missed if the index is incomplete.
      *
      * @return a {@link Iterable} containing all of the scheduled job details
      */
     public Iterable<JobDetail> getAllScheduledJobs() {
+        return getJobs(getAllKeys(), jd -> JobStatus.SCHEDULED_PARENT == jd.getStatus());
+    }
 
-        return getAllJobsMatching(new User(), jd -> jd.getStatus().equals(JobStatus.SCHEDULED_PARENT));
+    /**
+     * Get all jobs with the given status, using the status index.
+     *
+     * @param status the status of the jobs to get
+     * @return a {@link Iterable} containing the matching job details
+     */
+    public Iterable<JobDetail> getJobsWithStatus(final JobStatus status) {
+        return getJobs(getIndexedJobIds(STATUS_INDEX, String.valueOf(status)),
+                jd -> Objects.equals(status, jd.getStatus()));
     }
 
-    private Iterable<JobDetail> getAllJobsMatching(final User user, final Predicate<JobDetail> jobDetailPredicate) {
+    /**
+     * Get all jobs submitted by the given user, using the user index.
+     *
+     * @param userId the id of the user who submitted the jobs
+     * @return a {@link Iterable} containing the matching job details
+     */
+    public Iterable<JobDetail> getJobsForUser(final String userId) {
+        return getJobs(getIndexedJobIds(USER_INDEX, userId),
+                jd -> nonNull(jd.getUser()) && Objects.equals(userId, jd.getUser().getUserId()));
+    }
 
-        final Set<String> jobIds = getAllKeys();
-        final List<JobDetail> jobs = jobIds.stream()
-                .filter(Objects::nonNull)
-                .map(jobId -> getJob(jobId, user))
+    /**
+     * Get all jobs with the given parent job, using the parent job index.
+     *
+     * @param parentJobId the id of the parent job
+     * @return a {@link Iterable} containing the matching job details
+     */
+    public Iterable<JobDetail> getChildJobs(final String parentJobId) {
+        return getJobs(getIndexedJobIds(PARENT_INDEX, parentJobId),
+                jd -> Objects.equals(parentJobId, jd.getParentJobId()));
+    }
+
+    /**
+     * Remove finished, failed and cancelled jobs which ended longer ago than
+     * the retention period. Does nothing if no retention period is set.
+     *
+     * @return the number of jobs removed
+     */
+    public int pruneJobs() {
+        lastPruneTime = System.currentTimeMillis();
+        if (retentionMillis <= 0) {
+            return 0;
+        }
+
+        final long cutOff = lastPruneTime - retentionMillis;
+        final List<JobDetail> expired = new ArrayList<>();
+        for (final JobStatus status : PRUNABLE_STATUSES) {
+            for (final JobDetail jobDetail : getJobsWithStatus(status)) {
+                if (nonNull(jobDetail.getEndTime()) && jobDetail.getEndTime() < cutOff) {
+                    expired.add(jobDetail);
+                }
+            }
+        }
+
+        if (!expired.isEmpty()) {
+            final List<String> jobIds = new ArrayList<>(expired.size());
+            final List<String> indexKeys = new ArrayList<>();
+            for (final JobDetail jobDetail : expired) {
+                jobIds.add(jobDetail.getJobId());
+                indexKeys.addAll(getIndexKeys(jobDetail));
+            }
+            CacheServiceLoader.getService().<String, JobDetail>getCache(getCacheName()).removeAll(jobIds);
+            CacheServiceLoader.getService().<String, String>getCache(indexCacheName).removeAll(indexKeys);
+        }
+        return expired.size();
+    }
+
+    private boolean isPruneDue() {
+        return retentionMillis > 0
+                && System.currentTimeMillis() - lastPruneTime >= Math.min(retentionMillis, MAX_PRUNE_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Prunes the jobs in the background, so jobs are not pruned on the thread
+     * updating a job. At most one prune is scheduled at a time.
+     */
+    private void schedulePrune() {
+        if (ExecutorService.isEnabled() && pruneScheduled.compareAndSet(false, true)) {
+            ExecutorService.getService().execute(() -> {
+                try {
+                    pruneJobs();
+                } catch (final RuntimeException e) {
+                    LOGGER.warn("Failed to prune jobs from the job tracker", e);
+                } finally {
+                    pruneScheduled.set(false);
+                }
+            });
+        }
+    }
+
+    private Iterable<JobDetail> getJobs(final Collection<String> jobIds, final Predicate<JobDetail> jobDetailPredicate) {
+        final List<String> ids = jobIds.stream()
                 .filter(Objects::nonNull)
-                .filter(jobDetailPredicate)
                 .collect(Collectors.toList());
+        return () -> new BatchedJobIterator(ids, jobDetailPredicate);
+    }
+
+    private List<String> getIndexedJobIds(final String index, final String value) {
+        ensureIndexed();
+        final String prefix = getIndexKey(index, value) + INDEX_SEPARATOR;
+        final Set<String> indexKeys = CacheServiceLoader.getService().getAllKeysFromCache(indexCacheName);
+        if (isNull(indexKeys)) {
+            return Collections.emptyList();
+        }
+        return indexKeys.stream()
+                .filter(indexKey -> indexKey.startsWith(prefix))
+                .map(indexKey -> indexKey.substring(prefix.length()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Builds the index from the jobs in the cache if the index is empty, for
+     * example if the jobs were added before the index existed.
+     */
+    private void ensureIndexed() {
+        if (indexChecked) {
+            return;
+        }
+        synchronized (this) {
+            if (!indexChecked) {
+                final ICacheService service = CacheServiceLoader.getService();
+                if (service.sizeOfCache(indexCacheName) == 0 && service.sizeOfCache(getCacheName()) > 0) {
+                    final Map<String, String> additions = new HashMap<>();
+                    for (final JobDetail jobDetail : getAllJobs(new User())) {
+                        for (final String indexKey : getIndexKeys(jobDetail)) {
+                            additions.put(indexKey, jobDetail.getJobId());
+                        }
+                    }
+                    try {
+                        service.<String, String>getCache(indexCacheName).putAll(additions);
+                    } catch (final CacheOperationException e) {
+                        throw new RuntimeException("Failed to index the jobs in the cache", e);
+                    }
+                }
+                indexChecked = true;
+            }
+        }
+    }
+
+    /**
+     * Writes the index entries for the job which are new, and removes the
+     * entries for the values the job no longer has.
+     */
+    private void updateIndex(final JobDetail previous, final JobDetail jobDetail) throws CacheOperationException {
+        final Set<String> indexKeys = getIndexKeys(jobDetail);
+        final Set<String> previousIndexKeys = nonNull(previous) ? getIndexKeys(previous) : Collections.emptySet();
+        final Map<String, String> additions = new HashMap<>();
+        for (final String indexKey : indexKeys) {
+            if (!previousIndexKeys.contains(indexKey)) {
+                additions.put(indexKey, jobDetail.getJobId());
+            }
+        }
+        final List<String> removals = new ArrayList<>();
+        for (final String previousIndexKey : previousIndexKeys) {
+            if (!indexKeys.contains(previousIndexKey)) {
+                removals.add(previousIndexKey);
+            }
+        }
 
-        return jobs;
+        final ICache<String, String> index = CacheServiceLoader.getService().getCache(indexCacheName);
+        if (!additions.isEmpty()) {
+            index.putAll(additions);
+        }
+        if (!removals.isEmpty()) {
+            index.removeAll(removals);
+        }
     }
 
+    private static Set<String> getIndexKeys(final JobDetail jobDetail) {
+        final Set<String> indexKeys = new HashSet<>();
+        if (nonNull(jobDetail.getStatus())) {
+            indexKeys.add(getIndexKey(STATUS_INDEX, jobDetail.getStatus().name(), jobDetail.getJobId()));
+        }
+        if (nonNull(jobDetail.getUser()) && nonNull(jobDetail.getUser().getUserId())) {
+            indexKeys.add(getIndexKey(USER_INDEX, jobDetail.getUser().getUserId(), jobDetail.getJobId()));
+        }
+        if (nonNull(jobDetail.getParentJobId())) {
+            indexKeys.add(getIndexKey(PARENT_INDEX, jobDetail.getParentJobId(), jobDetail.getJobId()));
+        }
+        return indexKeys;
+    }
+
+    private static String getIndexKey(final String index, final String value, final String jobId) {
+        return getIndexKey(index, value) + INDEX_SEPARATOR + jobId;
+    }
+
+    private static String getIndexKey(final String index, final String value) {
+        return index + INDEX_SEPARATOR + value;
+    }
 
     private void validateJobDetail(final JobDetail jobDetail) {
         if (null == jobDetail) {
@@ -116,4 +387,43 @@ public class JobTracker extends Cache<String, JobDetail> {
             throw new IllegalArgumentException("jobId is required");
         }
     }
+
+    /**
+     * Reads job details from the cache in batches of job ids, skipping jobs
+     * which have been removed or do not match the predicate. The predicate is
+     * applied to every job as index entries may be out of date.
+     */
+    private final class BatchedJobIterator implements Iterator<JobDetail> {
+        private final List<String> jobIds;
+        private final Predicate<JobDetail> jobDetailPredicate;
+        private int nextBatchStart;
+        private Iterator<JobDetail> batch = Collections.emptyIterator();
+
+        BatchedJobIterator(final List<String> jobIds, final Predicate<JobDetail> jobDetailPredicate) {
+            this.jobIds = jobIds;
+            this.jobDetailPredicate = jobDetailPredicate;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!batch.hasNext() && nextBatchStart < jobIds.size()) {
+                final int end = Math.min(nextBatchStart + BATCH_SIZE, jobIds.size());
+                final List<String> batchIds = jobIds.subList(nextBatchStart, end);
+                nextBatchStart = end;
+                batch = getAllFromCache(batchIds).values().stream()
+                        .filter(Objects::nonNull)
+                        .filter(jobDetailPredicate)
+                        .iterator();
+            }
+            return batch.hasNext();
+        }
+
+        @Override
+        public JobDetail next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return batch.next();
+        }
+    }
 }
@@ -23,6 +23,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 import com.google.common.collect.Maps;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
@@ -48,6 +49,7 @@ import java.util.Set;
 @JsonInclude(JsonInclude.Include.NON_DEFAULT)
 @JsonDeserialize(builder = NamedOperationDetail.Builder.class)
 @SuppressWarnings("PMD.ImmutableField") //False positives
+@SuppressFBWarnings(value = "SE_TRANSIENT_FIELD_NOT_RESTORED", justification = "The template is compiled again when it is first used")
 public class NamedOperationDetail implements AccessControlledResource, Serializable {
 
     private static final long serialVersionUID = -8831783492657131469L;
@@ -63,6 +65,8 @@ public class NamedOperationDetail implements AccessControlledResource, Serializa
     private Integer score;
     private String readAccessPredicateJson;
     private String writeAccessPredicateJson;
+    private transient NamedOperationTemplate template;
+    private transient boolean templateCompiled;
 
     protected NamedOperationDetail() {
     }
@@ -174,6 +178,36 @@ public class NamedOperationDetail implements AccessControlledResource, Serializa
         return "\"${" + paramKey + "}\"";
     }
 
+    /**
+     * Gets the compiled template of the operations, compiling it the first
+     * time it is requested.
+     *
+     * @return the template, or null if the operations cannot be compiled
+     */
+    @JsonIgnore
+    public NamedOperationTemplate getTemplate() {
+        if (!templateCompiled) {
+            template = NamedOperationTemplate.compile(operations, parameters);
+            templateCompiled = true;
+        }
+        return template;
+    }
+
+    /**
+     * Sets a template that has already been compiled from these operations,
+     * so it does not need to be compiled again.
+     *
+     * @param template the template
+     * @throws IllegalArgumentException if the template was not compiled from these operations and parameters
+     */
+    public void setTemplate(final NamedOperationTemplate template) {
+        if (!template.isCompiledFrom(this)) {
+            throw new IllegalArgumentException("Template was not compiled from the operations of named operation: " + operationName);
+        }
+        this.template = template;
+        this.templateCompiled = true;
+    }
+
     /**
      * Gets the OperationChain after adding in default values for any parameters. If a parameter
      * does not have a default, null is inserted.
@@ -183,6 +217,23 @@ public class NamedOperationDetail implements AccessControlledResource, Serializa
      */
     @JsonIgnore
     public OperationChain getOperationChainWithDefaultParams() {
+        final NamedOperationTemplate compiledTemplate = getTemplate();
+        return null != compiledTemplate ? compiledTemplate.getOperationChainWithDefaultParams() : substituteDefaultParams();
+    }
+
+    /**
+     * Gets the OperationChain after adding in any provided parameters.
+     *
+     * @param executionParams the parameters for the {@link uk.gov.gchq.gaffer.operation.Operation} to be executed
+     * @return The {@link OperationChain}
+     * @throws IllegalArgumentException if substituting the parameters fails
+     */
+    public OperationChain getOperationChain(final Map<String, Object> executionParams) {
+        final NamedOperationTemplate compiledTemplate = getTemplate();
+        return null != compiledTemplate ? compiledTemplate.getOperationChain(executionParams) : substituteParams(executionParams);
+    }
+
+    private OperationChain substituteDefaultParams() {
         String opStringWithDefaults = operations;
 
         if (null != parameters) {
@@ -208,14 +259,7 @@ public class NamedOperationDetail implements AccessControlledResource, Serializa
         return opChain;
     }
 
-    /**
-     * Gets the OperationChain after adding in any provided parameters.
-     *
-     * @param executionParams the parameters for the {@link uk.gov.gchq.gaffer.operation.Operation} to be executed
-     * @return The {@link OperationChain}
-     * @throws IllegalArgumentException if substituting the parameters fails
-     */
-    public OperationChain getOperationChain(final Map<String, Object> executionParams) {
+    private OperationChain substituteParams(final Map<String, Object> executionParams) {
         String opStringWithParams = operations;
 
         // First check all the parameters supplied are expected parameter names
@@ -0,0 +1,300 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.named.operation;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
+import uk.gov.gchq.gaffer.operation.OperationChain;
+import uk.gov.gchq.gaffer.operation.OperationChainDAO;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A compiled form of the operations in a {@link NamedOperationDetail}.
+ * <p>
+ * The operations json is parsed once into a json tree and the location of
+ * each parameter in the tree is recorded. Resolving the operation chain then
+ * only requires binding the parameter values into a copy of the tree, rather
+ * than substituting the parameters into the json string and parsing it again.
+ * The default value of each parameter is converted to json when the template
+ * is compiled.
+ * <p>
+ * Templates are immutable, so they can be shared between threads.
+ */
+public final class NamedOperationTemplate {
+    private final String operations;
+    private final Map<String, ParameterDetail> parameters;
+    private final JsonNode operationChain;
+    private final List<ParameterSlot> slots;
+    private final Map<String, JsonNode> defaultValues;
+
+    private NamedOperationTemplate(final String operations, final Map<String, ParameterDetail> parameters,
+                                   final JsonNode operationChain, final List<ParameterSlot> slots,
+                                   final Map<String, JsonNode> defaultValues) {
+        this.operations = operations;
+        this.parameters = parameters;
+        this.operationChain = operationChain;
+        this.slots = slots;
+        this.defaultValues = defaultValues;
+    }
+
+    /**
+     * Compiles the operations and parameters of a named operation into a
+     * template.
+     *
+     * @param operations the operations json, containing parameters in the form "${paramName}"
+     * @param parameters the details of the parameters, may be null
+     * @return the template, or null if the operations cannot be compiled,
+     * for example if a parameter is used as a json field name or the json is invalid
+     */
+    public static NamedOperationTemplate compile(final String operations, final Map<String, ParameterDetail> parameters) {
+        final JsonNode operationChain;
+        try {
+            operationChain = JSONSerialiser.getJsonNodeFromString(operations);
+        } catch (final SerialisationException e) {
+            return null;
+        }
+        if (null == operationChain) {
+            return null;
+        }
+
+        final List<ParameterSlot> slots = new ArrayList<>();
+        final Map<String, JsonNode> defaultValues = new HashMap<>();
+        if (null != parameters) {
+            if (!findSlots(operationChain, JsonPointer.compile(""), parameters, slots)) {
+                return null;
+            }
+            for (final Map.Entry<String, ParameterDetail> entry : parameters.entrySet()) {
+                if (!entry.getValue().isRequired()) {
+                    try {
+                        defaultValues.put(entry.getKey(), toJsonNode(entry.getValue().getDefaultValue()));
+                    } catch (final SerialisationException e) {
+                        return null;
+                    }
+                }
+            }
+        }
+
+        return new NamedOperationTemplate(operations, parameters, operationChain,
+                Collections.unmodifiableList(slots), Collections.unmodifiableMap(defaultValues));
+    }
+
+    /**
+     * @param detail the named operation detail
+     * @return true if this template was compiled from the operations and parameters of the detail
+     */
+    public boolean isCompiledFrom(final NamedOperationDetail detail) {
+        return null != detail
+                && operations.equals(detail.getOperations())
+                && Objects.equals(parameters, detail.getParameters());
+    }
+
+    /**
+     * Binds the default values of the parameters into the template. If a
+     * parameter does not have a default, null is inserted.
+     *
+     * @return The {@link OperationChain}
+     * @throws IllegalArgumentException if binding the parameters fails
+     */
+    public OperationChain getOperationChainWithDefaultParams() {
+        final JsonNode boundOperationChain = operationChain.deepCopy();
+        for (final ParameterSlot slot : slots) {
+            final JsonNode defaultValue = defaultValues.get(slot.paramKey);
+            slot.bind(boundOperationChain, null != defaultValue ? defaultValue : NullNode.getInstance());
+        }
+        return toOperationChain(boundOperationChain);
+    }
+
+    /**
+     * Binds the provided parameters into the template, using the default
+     * values for any parameters that are not provided.
+     *
+     * @param executionParams the parameters for the {@link uk.gov.gchq.gaffer.operation.Operation} to be executed
+     * @return The {@link OperationChain}
+     * @throws IllegalArgumentException if binding the parameters fails
+     */
+    public OperationChain getOperationChain(final Map<String, Object> executionParams) {
+        final Map<String, JsonNode> values = new HashMap<>();
+        if (null != parameters) {
+            if (null != executionParams && !parameters.keySet().containsAll(executionParams.keySet())) {
+                throw new IllegalArgumentException("Unexpected parameter name in NamedOperation");
+            }
+
+            for (final Map.Entry<String, ParameterDetail> entry : parameters.entrySet()) {
+                final String paramKey = entry.getKey();
+                if (null != executionParams && executionParams.containsKey(paramKey)) {
+                    try {
+                        values.put(paramKey, toJsonNode(toValueClass(executionParams.get(paramKey), entry.getValue().getValueClass())));
+                    } catch (final SerialisationException e) {
+                        throw new IllegalArgumentException(e.getMessage(), e);
+                    }
+                } else if (!entry.getValue().isRequired()) {
+                    values.put(paramKey, defaultValues.get(paramKey));
+                } else {
+                    throw new IllegalArgumentException("Missing parameter " + paramKey + " with no default");
+                }
+            }
+        }
+
+        final JsonNode boundOperationChain = operationChain.deepCopy();
+        for (final ParameterSlot slot : slots) {
+            slot.bind(boundOperationChain, values.get(slot.paramKey));
+        }
+        return toOperationChain(boundOperationChain);
+    }
+
+    private static OperationChain toOperationChain(final JsonNode boundOperationChain) {
+        try {
+            return JSONSerialiser.getMapper().treeToValue(boundOperationChain, OperationChainDAO.class);
+        } catch (final Exception e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Converts the value to the parameter's value class, by serialising and
+     * deserialising it, unless it is already of that class.
+     */
+    private static Object toValueClass(final Object value, final Class valueClass) throws SerialisationException {
+        if (null == value || valueClass.equals(value.getClass())) {
+            return value;
+        }
+        return JSONSerialiser.deserialise(JSONSerialiser.serialise(value), valueClass);
+    }
+
+    /**
+     * Converts a value to the json node that would be parsed from its
+     * serialised json. Common simple values are converted directly.
+     */
+    private static JsonNode toJsonNode(final Object value) throws SerialisationException {
+        if (null == value) {
+            return NullNode.getInstance();
+        }
+        if (value instanceof String) {
+            return TextNode.valueOf((String) value);
+        }
+        if (value instanceof Boolean) {
+            return BooleanNode.valueOf((Boolean) value);
+        }
+        if (value instanceof Integer) {
+            return IntNode.valueOf((Integer) value);
+        }
+        if (value instanceof Long) {
+            final long l = (Long) value;
+            return l >= Integer.MIN_VALUE && l <= Integer.MAX_VALUE ? IntNode.valueOf((int) l) : LongNode.valueOf(l);
+        }
+        final byte[] json = JSONSerialiser.serialise(value);
+        try {
+            return JSONSerialiser.getMapper().readTree(json);
+        } catch (final IOException e) {
+            throw new SerialisationException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Records the location of every string value in the tree that is a
+     * parameter.
+     *
+     * @return false if a parameter cannot be bound, for example if it is used as a field name
+     */
+    private static boolean findSlots(final JsonNode node, final JsonPointer pointer,
+                                     final Map<String, ParameterDetail> parameters, final List<ParameterSlot> slots) {
+        if (node.isObject()) {
+            final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                final Map.Entry<String, JsonNode> field = fields.next();
+                if (null != getParamKey(field.getKey(), parameters)) {
+                    return false;
+                }
+                if (!findSlots(field.getValue(), pointer.append(JsonPointer.compile("/" + escape(field.getKey()))), parameters, slots)) {
+                    return false;
+                }
+            }
+        } else if (node.isArray()) {
+            for (int i = 0; i < node.size(); i++) {
+                if (!findSlots(node.get(i), pointer.append(JsonPointer.compile("/" + i)), parameters, slots)) {
+                    return false;
+                }
+            }
+        } else if (node.isTextual()) {
+            final String paramKey = getParamKey(node.textValue(), parameters);
+            if (null != paramKey) {
+                if (pointer.matches()) {
+                    // The whole operations json is a parameter, so there is no container to bind it into
+                    return false;
+                }
+                slots.add(new ParameterSlot(pointer, paramKey));
+            }
+        }
+        return true;
+    }
+
+    private static String getParamKey(final String text, final Map<String, ParameterDetail> parameters) {
+        if (text.startsWith("${") && text.endsWith("}")) {
+            final String paramKey = text.substring(2, text.length() - 1);
+            if (parameters.containsKey(paramKey)) {
+                return paramKey;
+            }
+        }
+        return null;
+    }
+
+    private static String escape(final String fieldName) {
+        return fieldName.replace("~", "~0").replace("/", "~1");
+    }
+
+    /**
+     * The location of a parameter in the operation chain json tree.
+     */
+    private static final class ParameterSlot {
+        private final JsonPointer parent;
+        private final JsonPointer last;
+        private final String paramKey;
+
+        private ParameterSlot(final JsonPointer pointer, final String paramKey) {
+            this.parent = pointer.head();
+            this.last = pointer.last();
+            this.paramKey = paramKey;
+        }
+
+        private void bind(final JsonNode operationChain, final JsonNode value) {
+            final JsonNode container = operationChain.at(parent);
+            if (container.isObject()) {
+                ((ObjectNode) container).set(last.getMatchingProperty(), value);
+            } else {
+                ((ArrayNode) container).set(last.getMatchingIndex(), value);
+            }
+        }
+    }
+}
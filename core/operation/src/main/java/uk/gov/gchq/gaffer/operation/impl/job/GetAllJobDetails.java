@@ -30,13 +30,16 @@ import java.util.Map;
 
 /**
  * A {@code GetAllJobDetails} operation is used to retrieve all of the {@link JobDetail}s
- * related to a Gaffer graph.
+ * related to a Gaffer graph. If a limit is set, only that page of the job details,
+ * ordered by job id and starting at the offset, is returned.
  */
 @JsonPropertyOrder(value = {"class"}, alphabetic = true)
 @Since("1.0.0")
 @Summary("Gets all running and historic job details")
 public class GetAllJobDetails implements
         Output<Iterable<JobDetail>> {
+    private Integer offset;
+    private Integer limit;
     private Map<String, String> options;
 
     @Override
@@ -47,10 +50,28 @@ public class GetAllJobDetails implements
     @Override
     public GetAllJobDetails shallowClone() {
         return new GetAllJobDetails.Builder()
+                .offset(offset)
+                .limit(limit)
                 .options(options)
                 .build();
     }
 
+    public Integer getOffset() {
+        return offset;
+    }
+
+    public void setOffset(final Integer offset) {
+        this.offset = offset;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public void setLimit(final Integer limit) {
+        this.limit = limit;
+    }
+
     @Override
     public Map<String, String> getOptions() {
         return options;
@@ -66,5 +87,15 @@ public class GetAllJobDetails implements
         public Builder() {
             super(new GetAllJobDetails());
         }
+
+        public Builder offset(final Integer offset) {
+            _getOp().setOffset(offset);
+            return _self();
+        }
+
+        public Builder limit(final Integer limit) {
+            _getOp().setLimit(limit);
+            return _self();
+        }
     }
 }
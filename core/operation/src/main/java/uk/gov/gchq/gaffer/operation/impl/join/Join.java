@@ -45,12 +45,15 @@ import java.util.Map;
  * <p>
  * Note: The input iterables are limited by default to 100,000 as these are read into memory as a Collection.
  * This limit can be changed by adding specifying a collectionLimit in the Operation.
+ * <p>
+ * If the Join is lazy, only the side that is not keyed on is read into memory and limited,
+ * the keyed side is streamed and the joined results are produced as they are consumed.
  *
  * @param <I> Iterable input type.
  */
 @Since("1.8.0")
 @Summary("Joins two iterables based on a join type")
-@JsonPropertyOrder(value = {"input", "operation", "matchMethod", "matchKey", "flatten", "joinType", "collectionLimit", "options"}, alphabetic = true)
+@JsonPropertyOrder(value = {"input", "operation", "matchMethod", "matchKey", "flatten", "joinType", "collectionLimit", "lazy", "options"}, alphabetic = true)
 public class Join<I> implements InputOutput<Iterable<? extends I>,
         Iterable<? extends MapTuple>>, MultiInput<I>,
         Operations<Operation> {
@@ -61,6 +64,7 @@ public class Join<I> implements InputOutput<Iterable<? extends I>,
     private MatchKey matchKey;
     private JoinType joinType;
     private Integer collectionLimit;
+    private boolean lazy;
     private Map<String, String> options;
 
     @Override
@@ -121,6 +125,14 @@ public class Join<I> implements InputOutput<Iterable<? extends I>,
         this.collectionLimit = collectionLimit;
     }
 
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    public void setLazy(final boolean lazy) {
+        this.lazy = lazy;
+    }
+
     @Override
     public Join<I> shallowClone() throws CloneFailedException {
         return new Join.Builder<I>()
@@ -131,6 +143,7 @@ public class Join<I> implements InputOutput<Iterable<? extends I>,
                 .flatten(flatten)
                 .joinType(joinType)
                 .collectionLimit(collectionLimit)
+                .lazy(lazy)
                 .options(options)
                 .build();
     }
@@ -204,5 +217,10 @@ public class Join<I> implements InputOutput<Iterable<? extends I>,
             return _self();
         }
 
+        public Builder<I> lazy(final boolean lazy) {
+            _getOp().setLazy(lazy);
+            return _self();
+        }
+
     }
 }
@@ -16,12 +16,17 @@
 
 package uk.gov.gchq.gaffer.operation.impl.join.methods;
 
+import uk.gov.gchq.gaffer.commonutil.CloseableUtil;
 import uk.gov.gchq.gaffer.operation.impl.join.match.Match;
 import uk.gov.gchq.gaffer.operation.impl.join.match.MatchKey;
 import uk.gov.gchq.koryphe.tuple.MapTuple;
 
+import java.io.Closeable;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 /**
  * Used by the Join Operation to join two Lists together.
@@ -29,6 +34,29 @@ import java.util.List;
 public abstract class JoinFunction {
 
     public List<MapTuple> join(final Iterable left, final Iterable right, final Match match, final MatchKey matchKey, final Boolean flatten) {
+        final List<MapTuple> resultList = new ArrayList<>();
+        for (final MapTuple mapTuple : joinLazily(left, right, match, matchKey, flatten)) {
+            resultList.add(mapTuple);
+        }
+        return resultList;
+    }
+
+    /**
+     * Joins two Iterables together without materialising the result.
+     * <p>
+     * The match is initialised straight away with the side that is not keyed
+     * on, so only that side needs to fit in memory. The keyed side is then
+     * iterated on demand, each time the returned Iterable is iterated, and
+     * the tuples for each key are produced as they are needed.
+     *
+     * @param left     the left side of the join
+     * @param right    the right side of the join
+     * @param match    the match method
+     * @param matchKey the side to key the join on
+     * @param flatten  true if a tuple should be produced for each match
+     * @return an Iterable producing the joined tuples on demand
+     */
+    public Iterable<MapTuple> joinLazily(final Iterable left, final Iterable right, final Match match, final MatchKey matchKey, final Boolean flatten) {
         final String keyName; // For LEFT keyed Joins it's LEFT and vice versa for RIGHT.
         final String matchingValuesName; // the matching values name (opposite of keyName)
         final Iterable keys; // The key iterate over
@@ -44,30 +72,80 @@ public abstract class JoinFunction {
             match.init(left);
         }
 
-        List<MapTuple> resultList = new ArrayList<>();
-        List matching;
+        return new JoinIterable(keys, match, keyName, matchingValuesName, flatten);
+    }
+
+    protected abstract List<MapTuple> joinFlattened(Object key, List matches, String keyName, String matchingValuesName);
+
+    protected abstract MapTuple joinAggregated(Object key, List matches, String keyName, String matchingValuesName);
+
+    private final class JoinIterable implements Iterable<MapTuple>, Closeable {
+        private final Iterable keys;
+        private final Match match;
+        private final String keyName;
+        private final String matchingValuesName;
+        private final boolean flatten;
+
+        private JoinIterable(final Iterable keys, final Match match, final String keyName, final String matchingValuesName, final Boolean flatten) {
+            this.keys = keys;
+            this.match = match;
+            this.keyName = keyName;
+            this.matchingValuesName = matchingValuesName;
+            this.flatten = Boolean.TRUE.equals(flatten);
+        }
+
+        @Override
+        public Iterator<MapTuple> iterator() {
+            return new JoinIterator(keys.iterator());
+        }
+
+        @Override
+        public void close() {
+            CloseableUtil.close(keys);
+        }
+
+        private final class JoinIterator implements Iterator<MapTuple>, Closeable {
+            private final Iterator keyIterator;
+            private Iterator<MapTuple> pending = Collections.emptyIterator();
+
+            private JoinIterator(final Iterator keyIterator) {
+                this.keyIterator = keyIterator;
+            }
 
-        if (flatten) {
-            for (final Object keyObj : keys) {
-                matching = match.matching(keyObj);
-                final List<MapTuple> mapTuples = joinFlattened(keyObj, matching, keyName, matchingValuesName);
-                if (!mapTuples.isEmpty()) {
-                    resultList.addAll(mapTuples);
+            @Override
+            public boolean hasNext() {
+                while (!pending.hasNext() && keyIterator.hasNext()) {
+                    final Object keyObj = keyIterator.next();
+                    final List matching = match.matching(keyObj);
+                    if (flatten) {
+                        pending = joinFlattened(keyObj, matching, keyName, matchingValuesName).iterator();
+                    } else {
+                        final MapTuple mapTuple = joinAggregated(keyObj, matching, keyName, matchingValuesName);
+                        if (mapTuple != null) {
+                            pending = Collections.singletonList(mapTuple).iterator();
+                        }
+                    }
                 }
+
+                if (!pending.hasNext()) {
+                    close();
+                    return false;
+                }
+                return true;
             }
-        } else {
-            for (final Object keyObj : keys) {
-                matching = match.matching(keyObj);
-                final MapTuple mapTuple = joinAggregated(keyObj, matching, keyName, matchingValuesName);
-                if (mapTuple != null) {
-                    resultList.add(mapTuple);
+
+            @Override
+            public MapTuple next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
                 }
+                return pending.next();
+            }
+
+            @Override
+            public void close() {
+                CloseableUtil.close(keyIterator);
             }
         }
-        return resultList;
     }
-
-    protected abstract List<MapTuple> joinFlattened(Object key, List matches, String keyName, String matchingValuesName);
-
-    protected abstract MapTuple joinAggregated(Object key, List matches, String keyName, String matchingValuesName);
 }
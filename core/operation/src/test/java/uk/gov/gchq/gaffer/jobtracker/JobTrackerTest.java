@@ -0,0 +1,209 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.jobtracker;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.cache.CacheServiceLoader;
+import uk.gov.gchq.gaffer.cache.exception.CacheOperationException;
+import uk.gov.gchq.gaffer.cache.impl.HashMapCacheService;
+import uk.gov.gchq.gaffer.cache.util.CacheProperties;
+import uk.gov.gchq.gaffer.user.User;
+
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JobTrackerTest {
+
+    private static final String SUFFIX_CACHE_NAME = "Suffix";
+    private static final User USER_A = new User("userA");
+    private static final User USER_B = new User("userB");
+
+    private static final String INDEX_CACHE_NAME = "JobTrackerIndex_" + SUFFIX_CACHE_NAME.toLowerCase();
+
+    private final JobTracker jobTracker = new JobTracker(SUFFIX_CACHE_NAME, 60_000L);
+
+    @BeforeAll
+    public static void setUp() {
+        final Properties properties = new Properties();
+        properties.setProperty(CacheProperties.CACHE_SERVICE_CLASS, HashMapCacheService.class.getName());
+        CacheServiceLoader.initialise(properties);
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        CacheServiceLoader.shutdown();
+    }
+
+    @BeforeEach
+    public void beforeEach() throws CacheOperationException {
+        jobTracker.clearCache();
+        CacheServiceLoader.getService().clearCache(INDEX_CACHE_NAME);
+    }
+
+    @Test
+    public void shouldGetJobsByStatusUserAndParent() {
+        // Given
+        final JobDetail job1 = getJobDetail("job1", null, USER_A, JobStatus.RUNNING);
+        final JobDetail job2 = getJobDetail("job2", "job1", USER_B, JobStatus.SCHEDULED_PARENT);
+        final JobDetail job3 = getJobDetail("job3", "job1", USER_A, JobStatus.FINISHED);
+
+        // When
+        jobTracker.addOrUpdateJob(job1, USER_A);
+        jobTracker.addOrUpdateJob(job2, USER_B);
+        jobTracker.addOrUpdateJob(job3, USER_A);
+
+        // Then
+        assertThat(jobTracker.getJobsWithStatus(JobStatus.RUNNING)).containsExactly(job1);
+        assertThat(jobTracker.getAllScheduledJobs()).containsExactly(job2);
+        assertThat(jobTracker.getJobsForUser(USER_A.getUserId())).containsExactlyInAnyOrder(job1, job3);
+        assertThat(jobTracker.getChildJobs("job1")).containsExactlyInAnyOrder(job2, job3);
+        assertThat(jobTracker.getAllJobs(USER_A)).containsExactlyInAnyOrder(job1, job2, job3);
+    }
+
+    @Test
+    public void shouldUpdateStatusIndexWhenJobChanges() {
+        // Given
+        final JobDetail running = getJobDetail("job1", null, USER_A, JobStatus.RUNNING);
+        jobTracker.addOrUpdateJob(running, USER_A);
+
+        // When
+        final JobDetail finished = getJobDetail("job1", null, USER_A, JobStatus.FINISHED);
+        jobTracker.addOrUpdateJob(finished, USER_A);
+
+        // Then
+        assertThat(jobTracker.getJobsWithStatus(JobStatus.RUNNING)).isEmpty();
+        assertThat(jobTracker.getJobsWithStatus(JobStatus.FINISHED)).containsExactly(finished);
+    }
+
+    @Test
+    public void shouldStoreOneIndexEntryPerJobAndIndexedValue() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            jobTracker.addOrUpdateJob(getJobDetail("job" + i, null, USER_A, JobStatus.RUNNING), USER_A);
+        }
+
+        // When
+        jobTracker.addOrUpdateJob(getJobDetail("job0", null, USER_A, JobStatus.FINISHED), USER_A);
+
+        // Then
+        assertThat(CacheServiceLoader.getService().getAllKeysFromCache(INDEX_CACHE_NAME))
+                .containsExactlyInAnyOrder(
+                        "status|FINISHED|job0", "status|RUNNING|job1", "status|RUNNING|job2",
+                        "status|RUNNING|job3", "status|RUNNING|job4",
+                        "user|userA|job0", "user|userA|job1", "user|userA|job2",
+                        "user|userA|job3", "user|userA|job4");
+        assertThat(CacheServiceLoader.getService().<String, String>getFromCache(INDEX_CACHE_NAME, "status|FINISHED|job0"))
+                .isEqualTo("job0");
+    }
+
+    @Test
+    public void shouldGetScheduledJobsWithoutIndexEntries() throws CacheOperationException {
+        // Given
+        final JobDetail scheduled = getJobDetail("job1", null, USER_A, JobStatus.SCHEDULED_PARENT);
+        jobTracker.addOrUpdateJob(scheduled, USER_A);
+        jobTracker.addOrUpdateJob(getJobDetail("job2", null, USER_A, JobStatus.RUNNING), USER_A);
+        jobTracker.getJobsWithStatus(JobStatus.RUNNING);
+
+        // When
+        CacheServiceLoader.getService().clearCache(INDEX_CACHE_NAME);
+
+        // Then
+        assertThat(jobTracker.getJobsWithStatus(JobStatus.SCHEDULED_PARENT)).isEmpty();
+        assertThat(jobTracker.getAllScheduledJobs()).containsExactly(scheduled);
+    }
+
+    @Test
+    public void shouldRemoveEmptyIndexEntriesWhenJobsArePruned() {
+        // Given
+        final JobDetail oldFinished = getJobDetail("job1", "parent", USER_B, JobStatus.FINISHED);
+        oldFinished.setEndTime(System.currentTimeMillis() - 120_000L);
+        jobTracker.addOrUpdateJob(oldFinished, USER_B);
+
+        // When
+        jobTracker.pruneJobs();
+
+        // Then
+        assertThat(CacheServiceLoader.getService().getAllKeysFromCache(INDEX_CACHE_NAME)).isEmpty();
+        assertThat(jobTracker.getChildJobs("parent")).isEmpty();
+    }
+
+    @Test
+    public void shouldGetPagesOfJobsOrderedByJobId() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            jobTracker.addOrUpdateJob(getJobDetail("job" + i, null, USER_A, JobStatus.RUNNING), USER_A);
+        }
+
+        // When / Then
+        assertThat(jobTracker.getAllJobs(USER_A, 0, 2)).extracting(JobDetail::getJobId)
+                .containsExactly("job0", "job1");
+        assertThat(jobTracker.getAllJobs(USER_A, 4, 2)).extracting(JobDetail::getJobId)
+                .containsExactly("job4");
+    }
+
+    @Test
+    public void shouldPruneEndedJobsOlderThanRetentionPeriod() {
+        // Given
+        final JobDetail oldFinished = getJobDetail("job1", null, USER_A, JobStatus.FINISHED);
+        oldFinished.setEndTime(System.currentTimeMillis() - 120_000L);
+        final JobDetail recentFinished = getJobDetail("job2", null, USER_A, JobStatus.FINISHED);
+        recentFinished.setEndTime(System.currentTimeMillis());
+        final JobDetail oldRunning = getJobDetail("job3", null, USER_A, JobStatus.RUNNING);
+        oldRunning.setStartTime(System.currentTimeMillis() - 120_000L);
+        jobTracker.addOrUpdateJob(oldFinished, USER_A);
+        jobTracker.addOrUpdateJob(recentFinished, USER_A);
+        jobTracker.addOrUpdateJob(oldRunning, USER_A);
+
+        // When
+        final int pruned = jobTracker.pruneJobs();
+
+        // Then
+        assertThat(pruned).isOne();
+        assertThat(jobTracker.getJob("job1", USER_A)).isNull();
+        assertThat(jobTracker.getJobsForUser(USER_A.getUserId())).containsExactlyInAnyOrder(recentFinished, oldRunning);
+    }
+
+    @Test
+    public void shouldNotPruneJobsWithoutRetentionPeriod() {
+        // Given
+        final JobTracker unlimitedJobTracker = new JobTracker(SUFFIX_CACHE_NAME);
+        final JobDetail oldFinished = getJobDetail("job1", null, USER_A, JobStatus.FINISHED);
+        oldFinished.setEndTime(0L);
+        unlimitedJobTracker.addOrUpdateJob(oldFinished, USER_A);
+
+        // When
+        final int pruned = unlimitedJobTracker.pruneJobs();
+
+        // Then
+        assertThat(pruned).isZero();
+        assertThat(unlimitedJobTracker.getJob("job1", USER_A)).isEqualTo(oldFinished);
+    }
+
+    private static JobDetail getJobDetail(final String jobId, final String parentJobId, final User user, final JobStatus status) {
+        return new JobDetail.Builder()
+                .jobId(jobId)
+                .parentJobId(parentJobId)
+                .user(user)
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.named.operation;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.commonutil.JsonAssert;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
+import uk.gov.gchq.gaffer.operation.OperationChain;
+import uk.gov.gchq.gaffer.operation.OperationChainDAO;
+import uk.gov.gchq.gaffer.operation.impl.Limit;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class NamedOperationTemplateTest {
+    private static final String OPERATIONS = "{\"operations\":[{\"class\":\"uk.gov.gchq.gaffer.operation.impl.get.GetAllElements\"},"
+            + "{\"class\":\"uk.gov.gchq.gaffer.operation.impl.Limit\",\"resultLimit\":\"${param1}\",\"truncate\":\"${param2}\"}]}";
+
+    @Test
+    public void shouldBindParametersIntoOperationChain() {
+        // Given
+        final NamedOperationTemplate template = NamedOperationTemplate.compile(OPERATIONS, getParameters());
+        final Map<String, Object> params = new HashMap<>();
+        params.put("param1", 5L);
+        params.put("param2", false);
+
+        // When
+        final OperationChain<?> opChain = template.getOperationChain(params);
+
+        // Then
+        assertThat(opChain.getOperations()).hasSize(2);
+        assertThat(opChain.getOperations().get(0)).isInstanceOf(GetAllElements.class);
+        final Limit<?> limit = (Limit<?>) opChain.getOperations().get(1);
+        assertThat(limit.getResultLimit()).isEqualTo(5);
+        assertThat(limit.getTruncate()).isFalse();
+    }
+
+    @Test
+    public void shouldBindDefaultValuesIntoOperationChain() {
+        // Given
+        final NamedOperationTemplate template = NamedOperationTemplate.compile(OPERATIONS, getParameters());
+
+        // When
+        final OperationChain<?> opChain = template.getOperationChainWithDefaultParams();
+
+        // Then
+        final Limit<?> limit = (Limit<?>) opChain.getOperations().get(1);
+        assertThat(limit.getResultLimit()).isEqualTo(10);
+        assertThat(limit.getTruncate()).isTrue();
+    }
+
+    @Test
+    public void shouldNotModifyTemplateWhenBindingParameters() {
+        // Given
+        final NamedOperationTemplate template = NamedOperationTemplate.compile(OPERATIONS, getParameters());
+        template.getOperationChain(Collections.singletonMap("param1", 5L));
+
+        // When
+        final OperationChain<?> opChain = template.getOperationChain(Collections.emptyMap());
+
+        // Then
+        final Limit<?> limit = (Limit<?>) opChain.getOperations().get(1);
+        assertThat(limit.getResultLimit()).isEqualTo(10);
+    }
+
+    @Test
+    public void shouldProduceSameOperationChainAsSubstitutingParametersIntoJson() throws SerialisationException {
+        // Given
+        final NamedOperationTemplate template = NamedOperationTemplate.compile(OPERATIONS, getParameters());
+        final Map<String, Object> params = Collections.singletonMap("param1", 3L);
+        final String substitutedJson = OPERATIONS
+                .replace("\"${param1}\"", "3")
+                .replace("\"${param2}\"", "true");
+
+        // When
+        final OperationChain<?> opChain = template.getOperationChain(params);
+
+        // Then
+        final OperationChain<?> expected = JSONSerialiser.deserialise(substitutedJson, OperationChainDAO.class);
+        JsonAssert.assertEquals(JSONSerialiser.serialise(expected), JSONSerialiser.serialise(opChain));
+    }
+
+    @Test
+    public void shouldOnlyBeCompiledFromMatchingNamedOperationDetail() {
+        // Given
+        final NamedOperationTemplate template = NamedOperationTemplate.compile(OPERATIONS, getParameters());
+        final NamedOperationDetail detail = new NamedOperationDetail.Builder()
+                .operationName("test")
+                .operationChain(OPERATIONS)
+                .parameters(getParameters())
+                .build();
+        final NamedOperationDetail otherDetail = new NamedOperationDetail.Builder()
+                .operationName("test")
+                .operationChain(OPERATIONS)
+                .build();
+
+        // When / Then
+        assertThat(template.isCompiledFrom(detail)).isTrue();
+        assertThat(template.isCompiledFrom(otherDetail)).isFalse();
+        assertThatIllegalArgumentException().isThrownBy(() -> otherDetail.setTemplate(template));
+    }
+
+    @Test
+    public void shouldThrowExceptionForUnexpectedParameter() {
+        // Given
+        final NamedOperationTemplate template = NamedOperationTemplate.compile(OPERATIONS, getParameters());
+
+        // When / Then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> template.getOperationChain(Collections.singletonMap("unknown", 1L)))
+                .withMessageContaining("Unexpected parameter name in NamedOperation");
+    }
+
+    @Test
+    public void shouldThrowExceptionForMissingRequiredParameter() {
+        // Given
+        final Map<String, ParameterDetail> parameters = getParameters();
+        parameters.put("param1", new ParameterDetail.Builder()
+                .valueClass(Long.class)
+                .required(true)
+                .build());
+        final NamedOperationTemplate template = NamedOperationTemplate.compile(OPERATIONS, parameters);
+
+        // When / Then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> template.getOperationChain(Collections.emptyMap()))
+                .withMessageContaining("Missing parameter param1 with no default");
+    }
+
+    @Test
+    public void shouldNotCompileWhenParameterIsUsedAsFieldName() {
+        // Given
+        final String operations = "{\"operations\":[{\"class\":\"uk.gov.gchq.gaffer.operation.impl.Limit\",\"${param1}\":10}]}";
+
+        // When
+        final NamedOperationTemplate template = NamedOperationTemplate.compile(operations, getParameters());
+
+        // Then
+        assertThat(template).isNull();
+    }
+
+    private Map<String, ParameterDetail> getParameters() {
+        final Map<String, ParameterDetail> parameters = new HashMap<>();
+        parameters.put("param1", new ParameterDetail.Builder()
+                .valueClass(Long.class)
+                .defaultValue(10L)
+                .required(false)
+                .build());
+        parameters.put("param2", new ParameterDetail.Builder()
+                .valueClass(Boolean.class)
+                .defaultValue(true)
+                .required(false)
+                .build());
+        return parameters;
+    }
+}
@@ -44,7 +44,7 @@ public class JoinTest extends OperationTest<Join> {
         // Given
         final Join op = new Join.Builder<>().input(Arrays.asList(1, 2, 3))
                 .operation(new GetAllElements.Builder().build()).matchMethod(new TestMatchImpl())
-                .matchKey(MatchKey.LEFT).joinType(JoinType.INNER).flatten(false).collectionLimit(10).build();
+                .matchKey(MatchKey.LEFT).joinType(JoinType.INNER).flatten(false).collectionLimit(10).lazy(true).build();
 
         // Then
         assertEquals(Arrays.asList(1, 2, 3), op.getInput());
@@ -54,6 +54,7 @@ public class JoinTest extends OperationTest<Join> {
         assertEquals(MatchKey.LEFT, op.getMatchKey());
         assertTrue(op.isFlatten() instanceof Boolean);
         assertTrue(op.getCollectionLimit().equals(10));
+        assertTrue(op.isLazy());
     }
 
     @Test
@@ -62,7 +63,7 @@ public class JoinTest extends OperationTest<Join> {
         // Given
         final Join op = new Join.Builder<>().input(Arrays.asList(1, 2, 3))
                 .operation(new GetAllElements.Builder().build()).matchMethod(new TestMatchImpl())
-                .matchKey(MatchKey.LEFT).joinType(JoinType.INNER).flatten(false).collectionLimit(10).build();
+                .matchKey(MatchKey.LEFT).joinType(JoinType.INNER).flatten(false).collectionLimit(10).lazy(true).build();
 
         // When
         final Join clone = op.shallowClone();
@@ -72,6 +73,7 @@ public class JoinTest extends OperationTest<Join> {
         assertEquals(clone.getOperation(), op.getOperation());
         assertEquals(clone.getJoinType(), op.getJoinType());
         assertEquals(clone.getMatchMethod(), op.getMatchMethod());
+        assertEquals(clone.isLazy(), op.isLazy());
     }
 
     @Test
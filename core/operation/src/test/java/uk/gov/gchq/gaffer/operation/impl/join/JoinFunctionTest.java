@@ -31,8 +31,10 @@ import uk.gov.gchq.koryphe.tuple.MapTuple;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -65,6 +67,50 @@ public abstract class JoinFunctionTest {
         testJoinFunction(new CustomMatch(), MatchKey.RIGHT, true, getExpectedRightKeyResultsFlattenedForCustomMatch());
     }
 
+    @Test
+    public void shouldLazilyJoinTwoIterablesWithTheSameResults() {
+        for (final MatchKey matchKey : MatchKey.values()) {
+            for (final boolean flatten : new boolean[] {true, false}) {
+                final List<MapTuple> expected = getJoinFunction().join(leftInput, rightInput, new ElementMatch(), matchKey, flatten);
+                final List<MapTuple> actual = new ArrayList<>();
+                getJoinFunction().joinLazily(leftInput, rightInput, new ElementMatch(), matchKey, flatten).forEach(actual::add);
+
+                assertTupleListsEquality(expected, actual);
+            }
+        }
+    }
+
+    @Test
+    public void shouldOnlyReadKeysAsLazyJoinResultsAreConsumed() {
+        // Given
+        final AtomicInteger keysRead = new AtomicInteger();
+        final Iterable<Element> keys = () -> new Iterator<Element>() {
+            private final Iterator<Element> delegate = leftInput.iterator();
+
+            @Override
+            public boolean hasNext() {
+                return delegate.hasNext();
+            }
+
+            @Override
+            public Element next() {
+                keysRead.incrementAndGet();
+                return delegate.next();
+            }
+        };
+
+        // When
+        final Iterable<MapTuple> result = getJoinFunction().joinLazily(keys, rightInput, new ElementMatch(), MatchKey.LEFT, true);
+
+        // Then
+        assertEquals(0, keysRead.get());
+        final Iterator<MapTuple> iterator = result.iterator();
+        if (iterator.hasNext()) {
+            iterator.next();
+            assertTrue(keysRead.get() < leftInput.size());
+        }
+    }
+
     private void testJoinFunction(final Match match, final MatchKey matchKey, final boolean flatten, List<MapTuple> expectedOutput) {
         if (null == getJoinFunction()) {
             throw new RuntimeException("No JoinFunction specified by the test.");
@@ -49,6 +49,8 @@ public class GetAllJobDetailsTest extends OperationTest<GetAllJobDetails> {
     public void shouldShallowCloneOperation() {
         // Given
         final GetAllJobDetails getAllJobDetails = new GetAllJobDetails.Builder()
+                .offset(20)
+                .limit(10)
                 .build();
 
         // When
@@ -57,6 +59,8 @@ public class GetAllJobDetailsTest extends OperationTest<GetAllJobDetails> {
         // Then
         assertThat(clone).isNotSameAs(getAllJobDetails);
         assertThat(clone).isNotNull();
+        assertThat(clone.getOffset()).isEqualTo(20);
+        assertThat(clone.getLimit()).isEqualTo(10);
     }
 
     @Override
@@ -20,6 +20,11 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
 /**
  * A class that implements this interface is responsible for serialising an
  * object of class T to a byte array, and for deserialising it back again.
@@ -52,6 +57,65 @@ public interface ToBytesSerialiser<T> extends Serialiser<T, byte[]> {
     @Override
     byte[] serialise(final T object) throws SerialisationException;
 
+    /**
+     * Serialise some object and write the serialised bytes to the output
+     * stream. Serialisers should override this to write directly to the
+     * stream rather than creating an intermediate byte array.
+     *
+     * @param object the object to be serialised
+     * @param output the stream to write the serialised bytes to
+     * @throws SerialisationException if the object fails to serialise or the bytes cannot be written
+     */
+    default void serialiseTo(final T object, final OutputStream output) throws SerialisationException {
+        try {
+            output.write(serialise(object));
+        } catch (final IOException e) {
+            throw new SerialisationException("Unable to write serialised bytes", e);
+        }
+    }
+
+    /**
+     * Serialise some object and write the serialised bytes to the buffer,
+     * starting at its current position. The position of the buffer is advanced
+     * past the serialised bytes.
+     *
+     * @param object the object to be serialised
+     * @param buffer the buffer to write the serialised bytes to
+     * @throws SerialisationException if the object fails to serialise or the buffer does not have enough space
+     */
+    default void serialiseTo(final T object, final ByteBuffer buffer) throws SerialisationException {
+        try {
+            buffer.put(serialise(object));
+        } catch (final BufferOverflowException e) {
+            throw new SerialisationException("Buffer does not have enough space for the serialised bytes", e);
+        }
+    }
+
+    /**
+     * Deserialise the remaining bytes in the buffer into the original object.
+     * The position of the buffer is advanced to its limit.
+     * <p>
+     * If the buffer is backed by an array then the bytes are deserialised
+     * using {@link #deserialise(byte[], int, int)} without copying them.
+     *
+     * @param buffer the buffer containing the bytes to deserialise
+     * @return T the deserialised object
+     * @throws SerialisationException if the object fails to deserialise
+     */
+    default T deserialise(final ByteBuffer buffer) throws SerialisationException {
+        final int length = buffer.remaining();
+        final T object;
+        if (buffer.hasArray()) {
+            object = deserialise(buffer.array(), buffer.arrayOffset() + buffer.position(), length);
+        } else {
+            final byte[] bytes = new byte[length];
+            buffer.duplicate().get(bytes);
+            object = deserialise(bytes, 0, length);
+        }
+        buffer.position(buffer.limit());
+        return object;
+    }
+
     /**
      * @param allBytes The bytes to be decoded into characters
      * @param offset   The index of the first byte to decode
@@ -20,6 +20,10 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 
 import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.UnsupportedCharsetException;
 
 /**
  * Abstract serialiser that deserialises the given byte[] via an interim String object.
@@ -76,6 +80,27 @@ public abstract class ToBytesViaStringDeserialiser<T> implements ToBytesSerialis
         }
     }
 
+    /**
+     * Deserialise the remaining bytes in the buffer into the original object.
+     * Direct buffers are decoded straight into characters without first
+     * copying the bytes into an array.
+     *
+     * @param buffer the buffer containing the bytes to deserialise
+     * @return T the deserialised object
+     * @throws SerialisationException if the object fails to deserialise
+     */
+    @Override
+    public T deserialise(final ByteBuffer buffer) throws SerialisationException {
+        if (buffer.hasArray()) {
+            return ToBytesSerialiser.super.deserialise(buffer);
+        }
+        try {
+            return deserialiseString(Charset.forName(charset).decode(buffer).toString());
+        } catch (final IllegalCharsetNameException | UnsupportedCharsetException e) {
+            throw new SerialisationException(e.getMessage(), e);
+        }
+    }
+
     protected abstract T deserialiseString(final String value) throws SerialisationException;
 
     @Override
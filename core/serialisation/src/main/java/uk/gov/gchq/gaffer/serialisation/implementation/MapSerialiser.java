@@ -26,7 +26,8 @@ import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 import uk.gov.gchq.gaffer.serialisation.util.LengthValueBytesSerialiserUtil;
 import uk.gov.gchq.koryphe.serialisation.json.SimpleClassNameIdResolver;
 
-import java.io.IOException;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -49,24 +50,25 @@ public class MapSerialiser implements ToBytesSerialiser<Map> {
 
     @Override
     public byte[] serialise(final Map object) throws SerialisationException {
-        LengthValueBytesSerialiserUtil.LengthValueBuilder builder = new LengthValueBytesSerialiserUtil.LengthValueBuilder();
-        try {
-            for (final Object o : object.entrySet()) {
-                if (o instanceof Map.Entry) {
-                    Map.Entry entry = (Map.Entry) o;
-                    final ToBytesSerialiser keySerialiser = getKeySerialiser();
-                    final ToBytesSerialiser valueSerialiser = getValueSerialiser();
-                    checkSerialiers(keySerialiser, valueSerialiser);
-                    builder.appendLengthValueFromObjectToByteStream(keySerialiser, entry.getKey());
-                    builder.appendLengthValueFromObjectToByteStream(valueSerialiser, entry.getValue());
-                } else {
-                    throw new SerialisationException("Was not able to process EntrySet of Map");
-                }
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        serialiseTo(object, output);
+        return output.toByteArray();
+    }
+
+    @Override
+    public void serialiseTo(final Map object, final OutputStream output) throws SerialisationException {
+        for (final Object o : object.entrySet()) {
+            if (o instanceof Map.Entry) {
+                Map.Entry entry = (Map.Entry) o;
+                final ToBytesSerialiser keySerialiser = getKeySerialiser();
+                final ToBytesSerialiser valueSerialiser = getValueSerialiser();
+                checkSerialiers(keySerialiser, valueSerialiser);
+                LengthValueBytesSerialiserUtil.appendLengthValueFromObjectToStream(output, keySerialiser, entry.getKey());
+                LengthValueBytesSerialiserUtil.appendLengthValueFromObjectToStream(output, valueSerialiser, entry.getValue());
+            } else {
+                throw new SerialisationException("Was not able to process EntrySet of Map");
             }
-        } catch (final IOException e) {
-            throw new SerialisationException(e.getMessage(), e);
         }
-        return builder.toArray();
     }
 
     protected void checkSerialiers(final ToBytesSerialiser keySerialiser, final ToBytesSerialiser valueSerialiser) {
@@ -76,6 +78,11 @@ public class MapSerialiser implements ToBytesSerialiser<Map> {
 
     @Override
     public Map<? extends Object, ? extends Object> deserialise(final byte[] bytes) throws SerialisationException {
+        return deserialise(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public Map<? extends Object, ? extends Object> deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
         Map map;
         if (null == getMapClass()) {
             map = new HashMap<>();
@@ -86,14 +93,14 @@ public class MapSerialiser implements ToBytesSerialiser<Map> {
                 throw new SerialisationException("Failed to create map instance" + e.getMessage(), e);
             }
         }
-        final int arrayLength = bytes.length;
-        int carriage = 0;
-        while (carriage < arrayLength) {
+        final int end = offset + length;
+        int carriage = offset;
+        while (carriage < end) {
             final ToBytesSerialiser keySerialiser = getKeySerialiser();
             final ToBytesSerialiser valueSerialiser = getValueSerialiser();
             checkSerialiers(keySerialiser, valueSerialiser);
-            LengthValueBytesSerialiserUtil.ObjectCarriage c = LengthValueBytesSerialiserUtil.deserialiseNextObject(keySerialiser, carriage, bytes);
-            LengthValueBytesSerialiserUtil.ObjectCarriage c2 = LengthValueBytesSerialiserUtil.deserialiseNextObject(valueSerialiser, c.getCarriage(), bytes);
+            LengthValueBytesSerialiserUtil.ObjectCarriage c = LengthValueBytesSerialiserUtil.deserialiseNextObject(keySerialiser, carriage, allBytes);
+            LengthValueBytesSerialiserUtil.ObjectCarriage c2 = LengthValueBytesSerialiserUtil.deserialiseNextObject(valueSerialiser, c.getCarriage(), allBytes);
             map.put(c.getObject(), c2.getObject());
             carriage = c2.getCarriage();
         }
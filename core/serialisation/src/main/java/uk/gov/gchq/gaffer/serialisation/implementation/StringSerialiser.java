@@ -19,7 +19,15 @@ package uk.gov.gchq.gaffer.serialisation.implementation;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesViaStringDeserialiser;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.IllegalCharsetNameException;
 import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
 
 /**
  * A {@code StringSerialiser} is used to serialise {@link String}s.
@@ -47,6 +55,34 @@ public class StringSerialiser extends ToBytesViaStringDeserialiser<String> {
         return value;
     }
 
+    /**
+     * Encodes the string straight into the buffer, without first creating
+     * an array of the encoded bytes.
+     *
+     * @param object the string to be serialised
+     * @param buffer the buffer to write the serialised bytes to
+     * @throws SerialisationException if the buffer does not have enough space
+     */
+    @Override
+    public void serialiseTo(final String object, final ByteBuffer buffer) throws SerialisationException {
+        if (null == object) {
+            buffer.put(serialiseNull());
+            return;
+        }
+        final CharsetEncoder encoder;
+        try {
+            encoder = Charset.forName(getCharset()).newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        } catch (final IllegalCharsetNameException | UnsupportedCharsetException e) {
+            throw new SerialisationException(e.getMessage(), e);
+        }
+        final CoderResult result = encoder.encode(CharBuffer.wrap(object), buffer, true);
+        if (result.isOverflow() || encoder.flush(buffer).isOverflow()) {
+            throw new SerialisationException("Buffer does not have enough space for the serialised bytes");
+        }
+    }
+
     @Override
     public String deserialiseEmpty() {
         return "";
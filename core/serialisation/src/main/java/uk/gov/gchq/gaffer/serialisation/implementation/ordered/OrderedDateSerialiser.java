@@ -19,6 +19,8 @@ package uk.gov.gchq.gaffer.serialisation.implementation.ordered;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.Date;
 
 /**
@@ -36,9 +38,29 @@ public class OrderedDateSerialiser implements ToBytesSerialiser<Date> {
         return LONG_SERIALISER.serialise(object.getTime());
     }
 
+    @Override
+    public void serialiseTo(final Date object, final OutputStream output) throws SerialisationException {
+        LONG_SERIALISER.serialiseTo(object.getTime(), output);
+    }
+
+    @Override
+    public void serialiseTo(final Date object, final ByteBuffer buffer) throws SerialisationException {
+        LONG_SERIALISER.serialiseTo(object.getTime(), buffer);
+    }
+
     @Override
     public Date deserialise(final byte[] bytes) throws SerialisationException {
-        return new Date(LONG_SERIALISER.deserialise(bytes));
+        return deserialise(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public Date deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
+        return new Date(LONG_SERIALISER.deserialise(allBytes, offset, length));
+    }
+
+    @Override
+    public Date deserialise(final ByteBuffer buffer) throws SerialisationException {
+        return new Date(LONG_SERIALISER.deserialise(buffer));
     }
 
     @Override
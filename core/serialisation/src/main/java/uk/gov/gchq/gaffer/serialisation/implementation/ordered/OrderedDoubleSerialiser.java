@@ -19,6 +19,9 @@ package uk.gov.gchq.gaffer.serialisation.implementation.ordered;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
 /**
  * An {@code OrderedDoubleSerialser} serialises a {@link Double} to
  * an array of bytes by directly converting the double to a raw long and
@@ -32,24 +35,32 @@ public class OrderedDoubleSerialiser implements ToBytesSerialiser<Double> {
 
     @Override
     public byte[] serialise(final Double object) {
-        long l = Double.doubleToRawLongBits(object);
-        if (l < 0) {
-            l = ~l;
-        } else {
-            l = l ^ 0x8000000000000000L;
-        }
-        return LONG_SERIALISER.serialise(l);
+        return LONG_SERIALISER.serialise(toSortableLong(object));
+    }
+
+    @Override
+    public void serialiseTo(final Double object, final OutputStream output) throws SerialisationException {
+        LONG_SERIALISER.serialiseTo(toSortableLong(object), output);
+    }
+
+    @Override
+    public void serialiseTo(final Double object, final ByteBuffer buffer) throws SerialisationException {
+        LONG_SERIALISER.serialiseTo(toSortableLong(object), buffer);
     }
 
     @Override
     public Double deserialise(final byte[] bytes) throws SerialisationException {
-        long l = LONG_SERIALISER.deserialise(bytes);
-        if (l < 0) {
-            l = l ^ 0x8000000000000000L;
-        } else {
-            l = ~l;
-        }
-        return Double.longBitsToDouble(l);
+        return deserialise(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public Double deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
+        return fromSortableLong(LONG_SERIALISER.deserialise(allBytes, offset, length));
+    }
+
+    @Override
+    public Double deserialise(final ByteBuffer buffer) throws SerialisationException {
+        return fromSortableLong(LONG_SERIALISER.deserialise(buffer));
     }
 
     @Override
@@ -81,4 +92,14 @@ public class OrderedDoubleSerialiser implements ToBytesSerialiser<Double> {
     public int hashCode() {
         return OrderedDoubleSerialiser.class.getName().hashCode();
     }
+
+    private static long toSortableLong(final Double object) {
+        final long l = Double.doubleToRawLongBits(object);
+        return l < 0 ? ~l : l ^ 0x8000000000000000L;
+    }
+
+    private static double fromSortableLong(final long sortableLong) {
+        final long l = sortableLong < 0 ? sortableLong ^ 0x8000000000000000L : ~sortableLong;
+        return Double.longBitsToDouble(l);
+    }
 }
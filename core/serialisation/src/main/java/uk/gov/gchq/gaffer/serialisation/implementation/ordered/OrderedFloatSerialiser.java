@@ -19,6 +19,9 @@ package uk.gov.gchq.gaffer.serialisation.implementation.ordered;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
 /**
  * An {@code OrderedFloatSerialser} serialises a {@link Float} to
  * an array of bytes by directly converting the float to a raw int and
@@ -32,24 +35,32 @@ public class OrderedFloatSerialiser implements ToBytesSerialiser<Float> {
 
     @Override
     public byte[] serialise(final Float object) {
-        int i = Float.floatToRawIntBits(object);
-        if (i < 0) {
-            i = ~i;
-        } else {
-            i = i ^ 0x80000000;
-        }
-        return INTEGER_SERIALISER.serialise(i);
+        return INTEGER_SERIALISER.serialise(toSortableInt(object));
+    }
+
+    @Override
+    public void serialiseTo(final Float object, final OutputStream output) throws SerialisationException {
+        INTEGER_SERIALISER.serialiseTo(toSortableInt(object), output);
+    }
+
+    @Override
+    public void serialiseTo(final Float object, final ByteBuffer buffer) throws SerialisationException {
+        INTEGER_SERIALISER.serialiseTo(toSortableInt(object), buffer);
     }
 
     @Override
     public Float deserialise(final byte[] bytes) throws SerialisationException {
-        int i = INTEGER_SERIALISER.deserialise(bytes);
-        if (i < 0) {
-            i = i ^ 0x80000000;
-        } else {
-            i = ~i;
-        }
-        return Float.intBitsToFloat(i);
+        return deserialise(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public Float deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
+        return fromSortableInt(INTEGER_SERIALISER.deserialise(allBytes, offset, length));
+    }
+
+    @Override
+    public Float deserialise(final ByteBuffer buffer) throws SerialisationException {
+        return fromSortableInt(INTEGER_SERIALISER.deserialise(buffer));
     }
 
     @Override
@@ -81,4 +92,14 @@ public class OrderedFloatSerialiser implements ToBytesSerialiser<Float> {
     public int hashCode() {
         return OrderedFloatSerialiser.class.getName().hashCode();
     }
+
+    private static int toSortableInt(final Float object) {
+        final int i = Float.floatToRawIntBits(object);
+        return i < 0 ? ~i : i ^ 0x80000000;
+    }
+
+    private static float fromSortableInt(final int sortableInt) {
+        final int i = sortableInt < 0 ? sortableInt ^ 0x80000000 : ~sortableInt;
+        return Float.intBitsToFloat(i);
+    }
 }
@@ -19,6 +19,10 @@ package uk.gov.gchq.gaffer.serialisation.implementation.ordered;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
 /**
  * An {@code OrderedIntegerSerialser} serialises a {@link Integer} to
  * an array of bytes. This serialiser preserves ordering.
@@ -30,47 +34,83 @@ public class OrderedIntegerSerialiser implements ToBytesSerialiser<Integer> {
 
     @Override
     public byte[] serialise(final Integer object) {
-        final Integer signedI = object ^ 0x80000000;
-        int shift = 56;
-        int prefix = (signedI.intValue()) < 0 ? 255 : 0;
-
-        int index;
-        for (index = 0; index < 4 && (signedI.intValue() >> shift & 255) == prefix; ++index) {
-            shift -= 8;
+        final int signedI = object ^ 0x80000000;
+        final int numPrefixBytes = getNumPrefixBytes(signedI);
+        final byte[] ret = new byte[5 - numPrefixBytes];
+        ret[0] = getLengthByte(signedI, numPrefixBytes);
+        int index = 1;
+        for (int shift = 24 - (numPrefixBytes << 3); shift >= 0; shift -= 8) {
+            ret[index++] = (byte) (signedI >> shift);
         }
+        return ret;
+    }
 
-        byte[] ret = new byte[5 - index];
-        ret[0] = (byte) (4 - index);
-
-        for (index = 1; index < ret.length; ++index) {
-            ret[index] = (byte) (signedI.intValue() >> shift);
-            shift -= 8;
+    @Override
+    public void serialiseTo(final Integer object, final OutputStream output) throws SerialisationException {
+        final int signedI = object ^ 0x80000000;
+        final int numPrefixBytes = getNumPrefixBytes(signedI);
+        try {
+            output.write(getLengthByte(signedI, numPrefixBytes));
+            for (int shift = 24 - (numPrefixBytes << 3); shift >= 0; shift -= 8) {
+                output.write((byte) (signedI >> shift));
+            }
+        } catch (final IOException e) {
+            throw new SerialisationException("Unable to write serialised bytes", e);
         }
+    }
 
-        if (signedI.intValue() < 0) {
-            ret[0] = (byte) (8 - ret[0]);
+    @Override
+    public void serialiseTo(final Integer object, final ByteBuffer buffer) throws SerialisationException {
+        final int signedI = object ^ 0x80000000;
+        final int numPrefixBytes = getNumPrefixBytes(signedI);
+        if (buffer.remaining() < 5 - numPrefixBytes) {
+            throw new SerialisationException("Buffer does not have enough space for the serialised bytes");
+        }
+        buffer.put(getLengthByte(signedI, numPrefixBytes));
+        for (int shift = 24 - (numPrefixBytes << 3); shift >= 0; shift -= 8) {
+            buffer.put((byte) (signedI >> shift));
         }
-        return ret;
     }
 
     @Override
     public Integer deserialise(final byte[] bytes) throws SerialisationException {
-        if (bytes[0] >= 0 && bytes[0] <= 8) {
-            int i = 0;
-            int shift = 0;
+        return deserialise(bytes, 0, bytes.length);
+    }
 
-            for (int idx = bytes.length - 1; idx >= 0 + 1; --idx) {
-                i = (int) ((long) i + (((long) bytes[idx] & 255L) << shift));
-                shift += 8;
-            }
+    @Override
+    public Integer deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
+        final byte lengthByte = allBytes[offset];
+        if (lengthByte < 0 || lengthByte > 8) {
+            throw new SerialisationException("Unexpected length " + (255 & lengthByte));
+        }
 
-            if (bytes[0] > 4) {
-                i |= -1 << (8 - bytes[0] << 3);
-            }
-            return Integer.valueOf(i) ^ 0x80000000;
-        } else {
-            throw new SerialisationException("Unexpected length " + (255 & bytes[0]));
+        int i = 0;
+        int shift = 0;
+        for (int idx = offset + length - 1; idx > offset; --idx) {
+            i += (allBytes[idx] & 255) << shift;
+            shift += 8;
         }
+
+        return toInteger(i, lengthByte);
+    }
+
+    @Override
+    public Integer deserialise(final ByteBuffer buffer) throws SerialisationException {
+        final int offset = buffer.position();
+        final byte lengthByte = buffer.get(offset);
+        if (lengthByte < 0 || lengthByte > 8) {
+            throw new SerialisationException("Unexpected length " + (255 & lengthByte));
+        }
+
+        int i = 0;
+        int shift = 0;
+        for (int idx = buffer.limit() - 1; idx > offset; --idx) {
+            i += (buffer.get(idx) & 255) << shift;
+            shift += 8;
+        }
+        buffer.position(buffer.limit());
+
+        return toInteger(i, lengthByte);
     }
 
     @Override
@@ -102,4 +142,31 @@ public class OrderedIntegerSerialiser implements ToBytesSerialiser<Integer> {
     public int hashCode() {
         return OrderedIntegerSerialiser.class.getName().hashCode();
     }
+
+    /**
+     * Counts the leading bytes that only contain the sign of the value, which
+     * are not written.
+     */
+    private static int getNumPrefixBytes(final int signedI) {
+        final int prefix = signedI < 0 ? 255 : 0;
+        int shift = 24;
+        int numPrefixBytes = 0;
+        while (numPrefixBytes < 4 && ((signedI >> shift) & 255) == prefix) {
+            numPrefixBytes++;
+            shift -= 8;
+        }
+        return numPrefixBytes;
+    }
+
+    private static byte getLengthByte(final int signedI, final int numPrefixBytes) {
+        return (byte) (signedI < 0 ? 4 + numPrefixBytes : 4 - numPrefixBytes);
+    }
+
+    private static int toInteger(final int value, final byte lengthByte) {
+        int i = value;
+        if (lengthByte > 4) {
+            i |= -1 << ((8 - lengthByte) << 3);
+        }
+        return i ^ 0x80000000;
+    }
 }
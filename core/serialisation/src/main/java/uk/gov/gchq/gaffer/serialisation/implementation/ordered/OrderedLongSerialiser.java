@@ -19,6 +19,10 @@ package uk.gov.gchq.gaffer.serialisation.implementation.ordered;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
 /**
  * An {@code OrderedLongSerialser} serialises a {@link Long} to
  * an array of bytes. This serialiser preserves ordering.
@@ -30,53 +34,83 @@ public class OrderedLongSerialiser implements ToBytesSerialiser<Long> {
 
     @Override
     public byte[] serialise(final Long object) {
-        final Long signedL = object ^ 0x8000000000000000L;
-        int shift = 56;
-        int index;
-        int prefix = signedL < 0 ? 0xff : 0x00;
+        final long signedL = object ^ 0x8000000000000000L;
+        final int numPrefixBytes = getNumPrefixBytes(signedL);
+        final byte[] ret = new byte[9 - numPrefixBytes];
+        ret[0] = getLengthByte(signedL, numPrefixBytes);
+        int index = 1;
+        for (int shift = 56 - (numPrefixBytes << 3); shift >= 0; shift -= 8) {
+            ret[index++] = (byte) (signedL >> shift);
+        }
+        return ret;
+    }
 
-        for (index = 0; index < 8; index++) {
-            if (((signedL >> shift) & 0xff) != prefix) {
-                break;
+    @Override
+    public void serialiseTo(final Long object, final OutputStream output) throws SerialisationException {
+        final long signedL = object ^ 0x8000000000000000L;
+        final int numPrefixBytes = getNumPrefixBytes(signedL);
+        try {
+            output.write(getLengthByte(signedL, numPrefixBytes));
+            for (int shift = 56 - (numPrefixBytes << 3); shift >= 0; shift -= 8) {
+                output.write((byte) (signedL >> shift));
             }
-
-            shift -= 8;
+        } catch (final IOException e) {
+            throw new SerialisationException("Unable to write serialised bytes", e);
         }
+    }
 
-        byte[] ret = new byte[9 - index];
-        ret[0] = (byte) (8 - index);
-        for (index = 1; index < ret.length; index++) {
-            ret[index] = (byte) (signedL >> shift);
-            shift -= 8;
+    @Override
+    public void serialiseTo(final Long object, final ByteBuffer buffer) throws SerialisationException {
+        final long signedL = object ^ 0x8000000000000000L;
+        final int numPrefixBytes = getNumPrefixBytes(signedL);
+        if (buffer.remaining() < 9 - numPrefixBytes) {
+            throw new SerialisationException("Buffer does not have enough space for the serialised bytes");
         }
-
-        if (signedL < 0) {
-            ret[0] = (byte) (16 - ret[0]);
+        buffer.put(getLengthByte(signedL, numPrefixBytes));
+        for (int shift = 56 - (numPrefixBytes << 3); shift >= 0; shift -= 8) {
+            buffer.put((byte) (signedL >> shift));
         }
-
-        return ret;
     }
 
     @Override
     public Long deserialise(final byte[] bytes) throws SerialisationException {
+        return deserialise(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public Long deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
+        final byte lengthByte = allBytes[offset];
+        if (lengthByte < 0 || lengthByte > 16) {
+            throw new SerialisationException("Unexpected length " + (0xff & lengthByte));
+        }
 
         long l = 0;
         int shift = 0;
-
-        if (bytes[0] < 0 || bytes[0] > 16) {
-            throw new SerialisationException("Unexpected length " + (0xff & bytes[0]));
+        for (int i = offset + length - 1; i > offset; i--) {
+            l += (allBytes[i] & 0xffL) << shift;
+            shift += 8;
         }
 
-        for (int i = bytes.length - 1; i >= 0 + 1; i--) {
-            l += (bytes[i] & 0xffL) << shift;
-            shift += 8;
+        return toLong(l, lengthByte);
+    }
+
+    @Override
+    public Long deserialise(final ByteBuffer buffer) throws SerialisationException {
+        final int offset = buffer.position();
+        final byte lengthByte = buffer.get(offset);
+        if (lengthByte < 0 || lengthByte > 16) {
+            throw new SerialisationException("Unexpected length " + (0xff & lengthByte));
         }
 
-        if (bytes[0] > 8) {
-            l |= -1L << ((16 - bytes[0]) << 3);
+        long l = 0;
+        int shift = 0;
+        for (int i = buffer.limit() - 1; i > offset; i--) {
+            l += (buffer.get(i) & 0xffL) << shift;
+            shift += 8;
         }
+        buffer.position(buffer.limit());
 
-        return l ^ 0x8000000000000000L;
+        return toLong(l, lengthByte);
     }
 
     @Override
@@ -108,4 +142,32 @@ public class OrderedLongSerialiser implements ToBytesSerialiser<Long> {
     public int hashCode() {
         return OrderedLongSerialiser.class.getName().hashCode();
     }
+
+    /**
+     * Counts the leading bytes that only contain the sign of the value, which
+     * are not written.
+     */
+    private static int getNumPrefixBytes(final long signedL) {
+        final int prefix = signedL < 0 ? 0xff : 0x00;
+        int shift = 56;
+        int numPrefixBytes = 0;
+        while (numPrefixBytes < 8 && ((signedL >> shift) & 0xff) == prefix) {
+            numPrefixBytes++;
+            shift -= 8;
+        }
+        return numPrefixBytes;
+    }
+
+    private static byte getLengthByte(final long signedL, final int numPrefixBytes) {
+        return (byte) (signedL < 0 ? 8 + numPrefixBytes : 8 - numPrefixBytes);
+    }
+
+    private static long toLong(final long value, final byte lengthByte) {
+        long l = value;
+        if (lengthByte > 8) {
+            l |= -1L << ((16 - lengthByte) << 3);
+        }
+
+        return l ^ 0x8000000000000000L;
+    }
 }
@@ -19,6 +19,9 @@ package uk.gov.gchq.gaffer.serialisation.implementation.raw;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
 /**
  * Serialises integers using a variable-length scheme that means smaller integers get serialised into a smaller
  * number of bytes. For example, integers i which are between -112 and 127 inclusive are serialised into one byte. Very
@@ -43,13 +46,26 @@ public class CompactRawIntegerSerialiser implements ToBytesSerialiser<Integer> {
         return CompactRawSerialisationUtils.writeLong(i);
     }
 
+    @Override
+    public void serialiseTo(final Integer i, final OutputStream output) throws SerialisationException {
+        CompactRawSerialisationUtils.write(i, output);
+    }
+
+    @Override
+    public void serialiseTo(final Integer i, final ByteBuffer buffer) throws SerialisationException {
+        CompactRawSerialisationUtils.write(i, buffer);
+    }
+
     @Override
     public Integer deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
-        final long result = CompactRawSerialisationUtils.readLong(allBytes, offset);
-        if ((result > Integer.MAX_VALUE) || (result < Integer.MIN_VALUE)) {
-            throw new SerialisationException("Value too long to fit in integer");
-        }
-        return (int) result;
+        return toInteger(CompactRawSerialisationUtils.readLong(allBytes, offset));
+    }
+
+    @Override
+    public Integer deserialise(final ByteBuffer buffer) throws SerialisationException {
+        final long result = CompactRawSerialisationUtils.read(buffer);
+        buffer.position(buffer.limit());
+        return toInteger(result);
     }
 
     @Override
@@ -81,4 +97,11 @@ public class CompactRawIntegerSerialiser implements ToBytesSerialiser<Integer> {
     public int hashCode() {
         return CompactRawIntegerSerialiser.class.getName().hashCode();
     }
+
+    private static int toInteger(final long result) throws SerialisationException {
+        if ((result > Integer.MAX_VALUE) || (result < Integer.MIN_VALUE)) {
+            throw new SerialisationException("Value too long to fit in integer");
+        }
+        return (int) result;
+    }
 }
@@ -19,6 +19,9 @@ package uk.gov.gchq.gaffer.serialisation.implementation.raw;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
 /**
  * Serialises longs using a variable-length scheme that means smaller longs get serialised into a smaller
  * number of bytes. For example, longs i which are between -112 and 127 inclusive are serialised into one byte. Very
@@ -39,6 +42,16 @@ public class CompactRawLongSerialiser implements ToBytesSerialiser<Long> {
         return CompactRawSerialisationUtils.writeLong(l);
     }
 
+    @Override
+    public void serialiseTo(final Long l, final OutputStream output) throws SerialisationException {
+        CompactRawSerialisationUtils.write(l, output);
+    }
+
+    @Override
+    public void serialiseTo(final Long l, final ByteBuffer buffer) throws SerialisationException {
+        CompactRawSerialisationUtils.write(l, buffer);
+    }
+
     @Override
     public Long deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
         return CompactRawSerialisationUtils.readLong(allBytes, offset);
@@ -49,6 +62,13 @@ public class CompactRawLongSerialiser implements ToBytesSerialiser<Long> {
         return CompactRawSerialisationUtils.readLong(bytes);
     }
 
+    @Override
+    public Long deserialise(final ByteBuffer buffer) throws SerialisationException {
+        final long result = CompactRawSerialisationUtils.read(buffer);
+        buffer.position(buffer.limit());
+        return result;
+    }
+
     @Override
     public Long deserialiseEmpty() {
         return null;
@@ -20,6 +20,9 @@ import uk.gov.gchq.gaffer.exception.SerialisationException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
 
 /**
  * The methods in this class are used in both {@link CompactRawIntegerSerialiser} and {@link CompactRawLongSerialiser}.
@@ -160,6 +163,71 @@ public final class CompactRawSerialisationUtils {
         }
     }
 
+    /**
+     * Writes a long to the provided {@link ByteBuffer}, starting at its current position.
+     * NB: This code is very similar to the code in the {@link CompactRawSerialisationUtils#write(long, OutputStream)}
+     * method, but avoids the cost of wrapping the buffer in a stream.
+     *
+     * @param l      The long to write.
+     * @param buffer The {@link ByteBuffer} to write data to.
+     * @throws SerialisationException if the buffer does not have enough space for the long.
+     */
+    public static void write(final long l, final ByteBuffer buffer) throws SerialisationException {
+        try {
+            long value = l;
+            if (value >= -112 && value <= 127) {
+                buffer.put((byte) value);
+                return;
+            }
+            int len = -112;
+            if (value < 0) {
+                value ^= -1L; // take one's complement'
+                len = -120;
+            }
+            long tmp = value;
+            while (tmp != 0) {
+                tmp = tmp >> 8;
+                len--;
+            }
+            buffer.put((byte) len);
+            len = (len < -120) ? -(len + 120) : -(len + 112);
+            for (int idx = len; idx != 0; idx--) {
+                final int shiftBits = (idx - 1) * 8;
+                final long mask = 0xFFL << shiftBits;
+                buffer.put((byte) ((value & mask) >> shiftBits));
+            }
+        } catch (final BufferOverflowException e) {
+            throw new SerialisationException("Buffer does not have enough space to write long", e);
+        }
+    }
+
+    /**
+     * Reads a long from the provided {@link ByteBuffer}, starting at its current position. The position
+     * of the buffer is advanced past the bytes that were read.
+     *
+     * @param buffer The {@link ByteBuffer} to read data from.
+     * @return The value of the serialised long.
+     * @throws SerialisationException if the buffer does not contain a complete long.
+     */
+    public static long read(final ByteBuffer buffer) throws SerialisationException {
+        try {
+            final byte firstByte = buffer.get();
+            final int len = decodeVIntSize(firstByte);
+            if (len == 1) {
+                return (long) firstByte;
+            }
+            long i = 0;
+            for (int idx = 0; idx < len - 1; idx++) {
+                final byte b = buffer.get();
+                i = i << 8;
+                i = i | (b & 0xFF);
+            }
+            return isNegativeVInt(firstByte) ? ~i : i;
+        } catch (final BufferUnderflowException e) {
+            throw new SerialisationException("Buffer does not contain a complete long", e);
+        }
+    }
+
     public static int decodeVIntSize(final byte value) {
         if (value >= -112) {
             return 1;
@@ -23,6 +23,7 @@ import uk.gov.gchq.gaffer.serialisation.implementation.raw.CompactRawSerialisati
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Arrays;
 
 import static java.util.Objects.requireNonNull;
@@ -47,6 +48,26 @@ public final class LengthValueBytesSerialiserUtil {
         return appendLengthValueFromBytesToByteStream(byteOut, serialiser.serialise(object));
     }
 
+    /**
+     * Serialises the object and writes the length of the serialised bytes,
+     * followed by the bytes, to the output stream.
+     *
+     * @param output     the stream to write to
+     * @param serialiser the serialiser for the object
+     * @param object     the object to serialise
+     * @throws SerialisationException if the object fails to serialise or the bytes cannot be written
+     */
+    public static void appendLengthValueFromObjectToStream(final OutputStream output, final ToBytesSerialiser serialiser, final Object object) throws SerialisationException {
+        requireNonNull(serialiser, "Given serialiser is null");
+        final byte[] serialisedObject = serialiser.serialise(object);
+        CompactRawSerialisationUtils.write(serialisedObject.length, output);
+        try {
+            output.write(serialisedObject);
+        } catch (final IOException e) {
+            throw new SerialisationException(e.getMessage(), e);
+        }
+    }
+
     public static ByteArrayOutputStream appendLengthValueFromBytesToByteStream(final ByteArrayOutputStream byteOut, final byte[] serialisedObject) throws SerialisationException {
         CompactRawSerialisationUtils.write(serialisedObject.length, byteOut);
         try {
@@ -194,19 +215,11 @@ public final class LengthValueBytesSerialiserUtil {
 
 
     public static <T> ObjectCarriage<T> deserialiseNextObject(final ToBytesSerialiser<T> serialiser, final int currentCarriage, final byte[] bytes) throws SerialisationException {
-        int rtn = currentCarriage;
-        int numBytesForLength = CompactRawSerialisationUtils.decodeVIntSize(bytes[rtn]);
-        int currentPropLength = getCurrentPropLength(bytes, rtn, numBytesForLength);
-        int from = rtn += numBytesForLength;
-        int to = rtn += currentPropLength;
-        T object = serialiser.deserialise(Arrays.copyOfRange(bytes, from, to));
-        return new ObjectCarriage<T>(object, rtn);
-    }
-
-    private static int getCurrentPropLength(final byte[] bytes, final int pos, final int numBytesForLength) throws SerialisationException {
-        final byte[] length = new byte[numBytesForLength];
-        System.arraycopy(bytes, pos, length, 0, numBytesForLength);
-        return (int) CompactRawSerialisationUtils.readLong(length);
+        final int numBytesForLength = CompactRawSerialisationUtils.decodeVIntSize(bytes[currentCarriage]);
+        final int currentPropLength = (int) CompactRawSerialisationUtils.readLong(bytes, currentCarriage);
+        final int from = currentCarriage + numBytesForLength;
+        final T object = serialiser.deserialise(bytes, from, currentPropLength);
+        return new ObjectCarriage<T>(object, from + currentPropLength);
     }
 
 
@@ -21,10 +21,13 @@ import org.junit.jupiter.api.Test;
 import uk.gov.gchq.gaffer.commonutil.pair.Pair;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
@@ -59,4 +62,58 @@ public abstract class ToBytesSerialisationTest<T> extends SerialisationTest<T, b
                 "The getSerialisation() shouldn't return the same instance each time it's called, required for this test.");
         assertEquals(this.serialiser, serialiser2, "different instances that are the same should be equal");
     }
+
+    @Test
+    public void shouldSerialiseToAndDeserialiseFromBuffersAndStreams() throws SerialisationException {
+        for (final Pair<T, byte[]> pair : historicSerialisationPairs) {
+            assertBufferAndStreamSerialisation(pair.getFirst());
+        }
+    }
+
+    /**
+     * Checks the stream, buffer and offset methods of the serialiser produce
+     * and consume the same bytes as {@link ToBytesSerialiser#serialise(Object)}.
+     *
+     * @param value the value to serialise
+     * @throws SerialisationException if the value fails to serialise
+     */
+    @SuppressWarnings("unchecked")
+    protected void assertBufferAndStreamSerialisation(final T value) throws SerialisationException {
+        // Given
+        final ToBytesSerialiser<T> toBytesSerialiser = (ToBytesSerialiser<T>) serialiser;
+        final byte[] bytes = toBytesSerialiser.serialise(value);
+        final byte[] padded = new byte[bytes.length + 2];
+        System.arraycopy(bytes, 0, padded, 1, bytes.length);
+
+        // When
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        toBytesSerialiser.serialiseTo(value, stream);
+        final ByteBuffer buffer = ByteBuffer.allocate(bytes.length + 2);
+        buffer.position(1);
+        toBytesSerialiser.serialiseTo(value, buffer);
+        final ByteBuffer heapBuffer = ByteBuffer.wrap(padded, 1, bytes.length);
+        final ByteBuffer directBuffer = ByteBuffer.allocateDirect(bytes.length);
+        directBuffer.put(bytes).flip();
+
+        // Then
+        assertArrayEquals(bytes, stream.toByteArray());
+        assertEquals(bytes.length + 1, buffer.position());
+        assertArrayEquals(padded, buffer.array());
+        assertDeserialised(value, toBytesSerialiser.deserialise(padded, 1, bytes.length));
+        assertDeserialised(value, toBytesSerialiser.deserialise(heapBuffer));
+        assertFalse(heapBuffer.hasRemaining());
+        assertDeserialised(value, toBytesSerialiser.deserialise(directBuffer));
+        assertFalse(directBuffer.hasRemaining());
+    }
+
+    /**
+     * Checks a deserialised value matches the value that was serialised.
+     * Override this if the serialised type does not implement equals.
+     *
+     * @param expected the value that was serialised
+     * @param actual   the deserialised value
+     */
+    protected void assertDeserialised(final T expected, final T actual) {
+        assertEquals(expected, actual);
+    }
 }
@@ -94,4 +94,9 @@ public class BytesSerialiserTest extends ToBytesSerialisationTest<byte[]> {
     protected void deserialiseSecond(final Pair<byte[], byte[]> pair) throws SerialisationException {
         assertArrayEquals(pair.getFirst(), serialiser.deserialise(pair.getSecond()));
     }
+
+    @Override
+    protected void assertDeserialised(final byte[] expected, final byte[] actual) {
+        assertArrayEquals(expected, actual);
+    }
 }
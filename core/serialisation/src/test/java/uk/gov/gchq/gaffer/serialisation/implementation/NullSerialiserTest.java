@@ -60,6 +60,11 @@ public class NullSerialiserTest extends ToBytesSerialisationTest<Object> {
         }
     }
 
+    @Override
+    protected void assertDeserialised(final Object expected, final Object actual) {
+        assertNull(actual);
+    }
+
     @Override
     public Serialiser<Object, byte[]> getSerialisation() {
         return new NullSerialiser();
@@ -22,8 +22,11 @@ import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.Serialiser;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialisationTest;
 
+import java.nio.ByteBuffer;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class StringSerialiserTest extends ToBytesSerialisationTest<String> {
@@ -65,6 +68,16 @@ public class StringSerialiserTest extends ToBytesSerialisationTest<String> {
         assertEquals("", value);
     }
 
+    @Test
+    public void shouldThrowExceptionWhenBufferIsTooSmall() {
+        // Given
+        final ByteBuffer buffer = ByteBuffer.allocate(3);
+
+        // When / Then
+        assertThrows(SerialisationException.class,
+                () -> ((StringSerialiser) serialiser).serialiseTo("some string", buffer));
+    }
+
     @Override
     public Serialiser<String, byte[]> getSerialisation() {
         return new StringSerialiser();
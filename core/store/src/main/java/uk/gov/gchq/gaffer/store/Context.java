@@ -38,14 +38,15 @@ import java.util.UUID;
 public class Context {
     private final User user;
     private final String jobId;
-    private final Map<String, Object> config;
+    private Map<String, Object> config;
     private OperationChain<?> originalOpChain;
     private Map<String, Object> variables;
+    private boolean concurrent;
 
     /**
      * Map of exporter simple class name to exporter
      */
-    private final Map<Class<? extends Exporter>, Exporter> exporters = new HashMap<>();
+    private Map<Class<? extends Exporter>, Exporter> exporters = new HashMap<>();
 
     public Context() {
         this(new User());
@@ -82,6 +83,36 @@ public class Context {
         return new Context(this);
     }
 
+    /**
+     * Creates a copy of the current {@link Context} for running part of the
+     * same job on another thread. The copy keeps the job ID and shares the
+     * exporters, config and variables of this context, which are switched to
+     * synchronised maps so that copies used concurrently can update them
+     * safely. Each copy has its own original operation chain.
+     *
+     * @return a copy of this {@link Context} for concurrent use
+     */
+    public synchronized Context concurrentCopy() {
+        if (!concurrent) {
+            exporters = Collections.synchronizedMap(exporters);
+            config = Collections.synchronizedMap(config);
+            variables = Collections.synchronizedMap(null != variables ? variables : new HashMap<>());
+            concurrent = true;
+        }
+        final Context copy = new Context(this, jobId);
+        copy.exporters = exporters;
+        copy.config = config;
+        copy.variables = variables;
+        copy.concurrent = true;
+        return copy;
+    }
+
+    private Context(final Context context, final String jobId) {
+        this.user = context.user;
+        this.jobId = jobId;
+        this.originalOpChain = context.originalOpChain;
+    }
+
     private Context(final User user, final Map<String, Object> config) {
         if (null == user) {
             throw new IllegalArgumentException("User is required");
@@ -140,10 +171,12 @@ public class Context {
     }
 
     public void addExporter(final Exporter exporter) {
-        if (exporters.containsKey(exporter.getClass())) {
-            throw new IllegalArgumentException("Exporter of type " + exporter.getClass() + " has already been registered");
+        synchronized (exporters) {
+            if (exporters.containsKey(exporter.getClass())) {
+                throw new IllegalArgumentException("Exporter of type " + exporter.getClass() + " has already been registered");
+            }
+            exporters.put(exporter.getClass(), exporter);
         }
-        exporters.put(exporter.getClass(), exporter);
     }
 
     public <E> E getExporter(final Class<? extends E> exporterClass) {
@@ -157,9 +190,11 @@ public class Context {
         }
 
         // Check to see if the class is a subclass of an exporter
-        for (final Map.Entry<Class<? extends Exporter>, Exporter> entry : exporters.entrySet()) {
-            if (exporterClass.isAssignableFrom(entry.getKey())) {
-                return (E) entry.getValue();
+        synchronized (exporters) {
+            for (final Map.Entry<Class<? extends Exporter>, Exporter> entry : exporters.entrySet()) {
+                if (exporterClass.isAssignableFrom(entry.getKey())) {
+                    return (E) entry.getValue();
+                }
             }
         }
 
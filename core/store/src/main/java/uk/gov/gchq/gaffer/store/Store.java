@@ -809,7 +809,7 @@ public abstract class Store {
 
     protected JobTracker createJobTracker() {
         if (properties.getJobTrackerEnabled()) {
-            return new JobTracker(getProperties().getCacheServiceNameSuffix());
+            return new JobTracker(getProperties().getCacheServiceNameSuffix(), getProperties().getJobTrackerRetentionMillis());
         }
         return null;
     }
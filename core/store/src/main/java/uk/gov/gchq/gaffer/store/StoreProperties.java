@@ -64,6 +64,8 @@ public class StoreProperties implements Cloneable {
     public static final String OPERATION_DECLARATIONS_JSON = "gaffer.store.operation.declarations.json";
 
     public static final String JOB_TRACKER_ENABLED = "gaffer.store.job.tracker.enabled";
+    public static final String JOB_TRACKER_RETENTION_MILLIS = "gaffer.store.job.tracker.retention.millis";
+    public static final String JOB_TRACKER_RETENTION_MILLIS_DEFAULT = "0";
 
     public static final String EXECUTOR_SERVICE_THREAD_COUNT = "gaffer.store.job.executor.threads";
     public static final String EXECUTOR_SERVICE_THREAD_COUNT_DEFAULT = "50";
@@ -314,6 +316,20 @@ public class StoreProperties implements Cloneable {
         set(JOB_TRACKER_ENABLED, jobTrackerEnabled.toString());
     }
 
+    /**
+     * Get the time in milliseconds that finished, failed and cancelled jobs are
+     * kept in the job tracker for after they have ended. 0 or less keeps jobs forever.
+     *
+     * @return the job retention period in milliseconds
+     */
+    public Long getJobTrackerRetentionMillis() {
+        return Long.parseLong(get(JOB_TRACKER_RETENTION_MILLIS, JOB_TRACKER_RETENTION_MILLIS_DEFAULT));
+    }
+
+    public void setJobTrackerRetentionMillis(final Long retentionMillis) {
+        set(JOB_TRACKER_RETENTION_MILLIS, retentionMillis.toString());
+    }
+
     public String getSchemaClassName() {
         return get(SCHEMA_CLASS, Schema.class.getName());
     }
@@ -23,11 +23,13 @@ import uk.gov.gchq.gaffer.store.Context;
 import uk.gov.gchq.gaffer.store.Store;
 import uk.gov.gchq.gaffer.store.operation.handler.OutputOperationHandler;
 
+import static uk.gov.gchq.gaffer.core.exception.Status.BAD_REQUEST;
 import static uk.gov.gchq.gaffer.core.exception.Status.SERVICE_UNAVAILABLE;
 
 /**
  * A {@code GetAllJobDetailsHandler} handles {@link GetAllJobDetails} operations
- * by querying the configured store's job tracker for all job information.
+ * by querying the configured store's job tracker for all job information, or
+ * for a single page of it if the operation has a limit.
  */
 public class GetAllJobDetailsHandler implements OutputOperationHandler<GetAllJobDetails, Iterable<JobDetail>> {
     @Override
@@ -36,6 +38,15 @@ public class GetAllJobDetailsHandler implements OutputOperationHandler<GetAllJob
             throw new OperationException("The Job Tracker has not been configured", SERVICE_UNAVAILABLE);
         }
 
+        if (null != operation.getLimit()) {
+            final int offset = null != operation.getOffset() ? operation.getOffset() : 0;
+            try {
+                return store.getJobTracker().getAllJobs(context.getUser(), offset, operation.getLimit());
+            } catch (final IllegalArgumentException e) {
+                throw new OperationException(e.getMessage(), e, BAD_REQUEST);
+            }
+        }
+
         return store.getJobTracker().getAllJobs(context.getUser());
     }
 }
@@ -73,6 +73,18 @@ public class JoinHandler<I> implements OutputOperationHandler<Join<I>, Iterable<
         final Iterable limitedRightIterable;
 
         try {
+            if (operation.isLazy()) {
+                // Only the side being matched against is held in memory, so only it is limited
+                if (matchKey.equals(MatchKey.LEFT)) {
+                    limitedLeftIterable = operation.getInput();
+                    limitedRightIterable = new LimitedIterable(rightIterable, 0, limit, false);
+                } else {
+                    limitedLeftIterable = new LimitedIterable(operation.getInput(), 0, limit, false);
+                    limitedRightIterable = null != rightIterable ? rightIterable : new ArrayList<>();
+                }
+                return joinFunction.joinLazily(limitedLeftIterable, limitedRightIterable, operation.getMatchMethod(), matchKey, operation.isFlatten());
+            }
+
             limitedLeftIterable = new LimitedIterable(operation.getInput(), 0, limit, false);
             limitedRightIterable = new LimitedIterable(rightIterable, 0, limit, false);
             return joinFunction.join(limitedLeftIterable, limitedRightIterable, operation.getMatchMethod(), matchKey, operation.isFlatten());
@@ -16,20 +16,33 @@
 
 package uk.gov.gchq.gaffer.store.operation.handler.join.match;
 
+import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.Entity;
 import uk.gov.gchq.gaffer.data.element.comparison.ElementJoinComparator;
 import uk.gov.gchq.gaffer.operation.impl.join.match.Match;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * Tests for matches for Elements within a Join Operation, groupBy properties can be optionally specified.
+ * <p>
+ * The match candidates are read once, when the match is initialised, and indexed by
+ * the same identity used by the {@link ElementJoinComparator}: the element class, group,
+ * identifiers and groupBy property values. Each call to {@link #matching(Object)} is
+ * then a single lookup rather than a scan of every candidate.
  */
 public class ElementMatch implements Match {
     private final ElementJoinComparator elementJoinComparator;
     private Iterable matchCandidates;
+    private Map<JoinKey, List<Element>> indexedMatchCandidates;
 
     private static final String NULL_MATCH_CANDIDATES_ERROR_MESSAGE = "ElementMatch must be initialised with non-null match candidates";
 
@@ -47,6 +60,8 @@ public class ElementMatch implements Match {
 
     public void setElementGroupByProperties(final Set<String> groupByProperties) {
         elementJoinComparator.setGroupByProperties(groupByProperties);
+        // The index is keyed on the groupBy properties so must be rebuilt
+        indexedMatchCandidates = null;
     }
 
     @Override
@@ -55,6 +70,7 @@ public class ElementMatch implements Match {
             throw new IllegalArgumentException(NULL_MATCH_CANDIDATES_ERROR_MESSAGE);
         }
         this.matchCandidates = matchCandidates;
+        this.indexedMatchCandidates = index(matchCandidates);
     }
 
     @Override
@@ -63,14 +79,98 @@ public class ElementMatch implements Match {
             throw new IllegalArgumentException(NULL_MATCH_CANDIDATES_ERROR_MESSAGE);
         }
 
+        if (indexedMatchCandidates == null) {
+            indexedMatchCandidates = index(matchCandidates);
+        }
+
         List matches = new ArrayList<>();
 
+        if (testObject == null) {
+            return matches;
+        }
 
-        for (final Object entry : matchCandidates) {
-            if (elementJoinComparator.test((Element) entry, (Element) testObject)) {
-                matches.add(((Element) entry).shallowClone());
+        final List<Element> candidates = indexedMatchCandidates.get(createKey((Element) testObject, getSortedGroupByProperties()));
+        if (candidates != null) {
+            for (final Element candidate : candidates) {
+                matches.add(candidate.shallowClone());
             }
         }
         return matches;
     }
+
+    private Map<JoinKey, List<Element>> index(final Iterable candidates) {
+        final String[] groupByProperties = getSortedGroupByProperties();
+        final Map<JoinKey, List<Element>> index = new HashMap<>();
+        for (final Object candidate : candidates) {
+            if (candidate != null) {
+                final Element element = (Element) candidate;
+                index.computeIfAbsent(createKey(element, groupByProperties), k -> new ArrayList<>()).add(element);
+            }
+        }
+        return index;
+    }
+
+    private String[] getSortedGroupByProperties() {
+        final Set<String> groupByProperties = elementJoinComparator.getGroupByProperties();
+        return groupByProperties == null ? new String[0] : new TreeSet<>(groupByProperties).toArray(new String[0]);
+    }
+
+    private static JoinKey createKey(final Element element, final String[] groupByProperties) {
+        final Object[] identifiers;
+        if (element instanceof Entity) {
+            identifiers = new Object[] {((Entity) element).getVertex()};
+        } else {
+            final Edge edge = (Edge) element;
+            identifiers = new Object[] {edge.getSource(), edge.getDestination(), edge.getDirectedType()};
+        }
+
+        final Object[] groupByValues = new Object[groupByProperties.length];
+        for (int i = 0; i < groupByProperties.length; i++) {
+            groupByValues[i] = element.getProperty(groupByProperties[i]);
+        }
+
+        return new JoinKey(element.getClass(), element.getGroup(), identifiers, groupByValues);
+    }
+
+    /**
+     * The identity of an {@link Element} as seen by the {@link ElementJoinComparator}.
+     */
+    private static final class JoinKey {
+        private final Class<?> elementClass;
+        private final String group;
+        private final Object[] identifiers;
+        private final Object[] groupByValues;
+        private final int hashCode;
+
+        JoinKey(final Class<?> elementClass, final String group, final Object[] identifiers, final Object[] groupByValues) {
+            this.elementClass = elementClass;
+            this.group = group;
+            this.identifiers = identifiers;
+            this.groupByValues = groupByValues;
+            this.hashCode = Objects.hash(elementClass, group, Arrays.hashCode(identifiers), Arrays.hashCode(groupByValues));
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+
+            final JoinKey other = (JoinKey) obj;
+            return hashCode == other.hashCode
+                    && elementClass.equals(other.elementClass)
+                    && Objects.equals(group, other.group)
+                    && Arrays.equals(identifiers, other.identifiers)
+                    && Arrays.equals(groupByValues, other.groupByValues);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
@@ -24,15 +24,23 @@ import org.slf4j.LoggerFactory;
 import uk.gov.gchq.gaffer.cache.Cache;
 import uk.gov.gchq.gaffer.cache.exception.CacheOperationException;
 import uk.gov.gchq.gaffer.named.operation.NamedOperationDetail;
+import uk.gov.gchq.gaffer.named.operation.NamedOperationTemplate;
 import uk.gov.gchq.gaffer.user.User;
 
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Wrapper around the {@link uk.gov.gchq.gaffer.cache.CacheServiceLoader} to provide an interface for handling
  * the {@link uk.gov.gchq.gaffer.named.operation.NamedOperation}s for a Gaffer graph.
+ * <p>
+ * The compiled {@link NamedOperationTemplate} of each named operation is held
+ * alongside the cache, so the operations are only parsed once rather than
+ * every time the named operation is resolved. A template is only reused if it
+ * was compiled from the same operations and parameters as the cached detail.
  */
 public class NamedOperationCache extends Cache<String, NamedOperationDetail> {
 
@@ -40,6 +48,8 @@ public class NamedOperationCache extends Cache<String, NamedOperationDetail> {
     public static final String CACHE_SERVICE_NAME_PREFIX = "NamedOperation";
     public static final String NAMED_OPERATION_CACHE_WAS_MADE_WITH_NULL_OR_EMPTY_SUFFIX = "NamedOperation Cache was made with Null or Empty suffix, This is very likely a mistake. GraphId or a supplied suffix is normal";
 
+    private final ConcurrentMap<String, NamedOperationTemplate> templates = new ConcurrentHashMap<>();
+
     public NamedOperationCache(final String suffixCacheName) {
         super(getCacheNameFrom(suffixCacheName));
         if (Strings.isNullOrEmpty(suffixCacheName)) {
@@ -157,8 +167,8 @@ public class NamedOperationCache extends Cache<String, NamedOperationDetail> {
         } else {
             addToCache(name, namedOperation, overwrite);
         }
-
-
+        templates.remove(name);
+        updateVersion();
     }
 
     /**
@@ -178,6 +188,8 @@ public class NamedOperationCache extends Cache<String, NamedOperationDetail> {
         final NamedOperationDetail existing = getFromCache(name);
         if (existing.hasWriteAccess(user, adminAuth)) {
             deleteFromCache(name);
+            templates.remove(name);
+            updateVersion();
         } else {
             throw new CacheOperationException(String.format("User %s does not have authority to delete named operation: %s", user, name));
         }
@@ -199,12 +211,20 @@ public class NamedOperationCache extends Cache<String, NamedOperationDetail> {
     public NamedOperationDetail getNamedOperation(final String name, final User user, final String adminAuth) throws CacheOperationException {
         final NamedOperationDetail op = getFromCache(name);
         if (op.hasReadAccess(user, adminAuth)) {
+            setTemplate(name, op);
             return op;
         } else {
             throw new CacheOperationException(String.format("User: %s does not have read access to %s", user, name));
         }
     }
 
+    @Override
+    public void clearCache() throws CacheOperationException {
+        super.clearCache();
+        templates.clear();
+        updateVersion();
+    }
+
     /**
      * Get all the named operations held in the cache.
      *
@@ -215,17 +235,23 @@ public class NamedOperationCache extends Cache<String, NamedOperationDetail> {
     public Iterable<NamedOperationDetail> getAllNamedOperations(final User user, final String adminAuth) {
         final Set<String> keys = getAllKeys();
         final Set<NamedOperationDetail> executables = new HashSet<>();
-        for (final String key : keys) {
-            try {
-                final NamedOperationDetail op = getFromCache(key);
-                if (op.hasReadAccess(user, adminAuth)) {
-                    executables.add(op);
-                }
-            } catch (final CacheOperationException e) {
-                LOGGER.error(e.getMessage(), e);
+        for (final NamedOperationDetail op : getAllFromCache(keys).values()) {
+            if (op.hasReadAccess(user, adminAuth)) {
+                executables.add(op);
             }
-
         }
         return executables;
     }
+
+    private void setTemplate(final String name, final NamedOperationDetail op) {
+        final NamedOperationTemplate template = templates.get(name);
+        if (null != template && template.isCompiledFrom(op)) {
+            op.setTemplate(template);
+        } else {
+            final NamedOperationTemplate compiledTemplate = op.getTemplate();
+            if (null != compiledTemplate) {
+                templates.put(name, compiledTemplate);
+            }
+        }
+    }
 }
@@ -134,14 +134,9 @@ public class NamedViewCache extends Cache<String, NamedViewDetail> {
             throws CacheOperationException {
         final Set<String> keys = super.getAllKeys();
         final Set<NamedViewDetail> views = new HashSet<>();
-        for (final String key : keys) {
-            try {
-                final NamedViewDetail namedViewDetail = getFromCache(key);
-                if (namedViewDetail.hasReadAccess(user, adminAuth)) {
-                    views.add(namedViewDetail);
-                }
-            } catch (final CacheOperationException e) {
-                throw e;
+        for (final NamedViewDetail namedViewDetail : getAllFromCache(keys).values()) {
+            if (namedViewDetail.hasReadAccess(user, adminAuth)) {
+                views.add(namedViewDetail);
             }
         }
         return views;
@@ -158,6 +153,7 @@ public class NamedViewCache extends Cache<String, NamedViewDetail> {
     public void addToCache(final NamedViewDetail namedView, final boolean overwrite)
             throws CacheOperationException {
         super.addToCache(namedView.getName(), namedView, overwrite);
+        updateVersion();
     }
 
     /**
@@ -253,5 +249,12 @@ public class NamedViewCache extends Cache<String, NamedViewDetail> {
             }
         }
         deleteFromCache(name);
+        updateVersion();
+    }
+
+    @Override
+    public void clearCache() throws CacheOperationException {
+        super.clearCache();
+        updateVersion();
     }
 }
@@ -0,0 +1,304 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.serialiser;
+
+import uk.gov.gchq.gaffer.commonutil.CloseableUtil;
+import uk.gov.gchq.gaffer.core.exception.GafferRuntimeException;
+import uk.gov.gchq.gaffer.data.element.Edge;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.id.EdgeId.MatchedVertex;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
+import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
+import uk.gov.gchq.gaffer.serialisation.implementation.raw.CompactRawSerialisationUtils;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.schema.SchemaElementDefinition;
+import uk.gov.gchq.gaffer.store.schema.SchemaOptimiser;
+import uk.gov.gchq.gaffer.store.schema.TypeDefinition;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Serialises a stream of operation results into a compact binary format, so
+ * {@link Element}s can be transferred between Gaffer instances without
+ * converting them to JSON.
+ * <p>
+ * Each result is written as a frame made up of a frame type byte, the length
+ * of the frame and then its value:
+ * <ul>
+ * <li>{@link Element}s are written using an {@link ElementSerialiser} for the
+ * graph {@link Schema}, preceded by a byte for the matched vertex of edges.</li>
+ * <li>Any other results are written as JSON using the {@link JSONSerialiser}.
+ * This includes elements with properties that do not match their schema
+ * definition, such as transient properties added by a view transformer.</li>
+ * </ul>
+ * The stream is terminated by an end frame, so a stream that was cut short
+ * can be detected when it is read.
+ * <p>
+ * The stream can only be used with schemas where all vertices and properties
+ * have {@link ToBytesSerialiser}s, once default serialisers have been added.
+ */
+public class ElementStreamSerialiser {
+    /**
+     * The media type used in REST requests and responses for this format.
+     */
+    public static final String MEDIA_TYPE = "application/x-gaffer-elements";
+
+    static final byte END_FRAME = 0;
+    static final byte ELEMENT_FRAME = 1;
+    static final byte OBJECT_FRAME = 2;
+
+    private static final byte NO_MATCHED_VERTEX = 0;
+    private static final byte MATCHED_SOURCE = 1;
+    private static final byte MATCHED_DESTINATION = 2;
+
+    private final ElementSerialiser elementSerialiser;
+    private final Schema schema;
+
+    /**
+     * Creates a serialiser for the schema. Default serialisers are added to
+     * a copy of the schema, so the same serialisers are used by any Gaffer
+     * instance with the same original schema.
+     *
+     * @param schema the original graph schema
+     * @throws IllegalArgumentException if the schema does not have {@link ToBytesSerialiser}s
+     *                                  for the vertices and all properties
+     */
+    public ElementStreamSerialiser(final Schema schema) {
+        this.schema = new SchemaOptimiser().optimise(schema.clone(), false);
+        if (!hasToBytesSerialisers(this.schema)) {
+            throw new IllegalArgumentException("Element streams require " + ToBytesSerialiser.class.getSimpleName()
+                    + "s for the vertices and all properties in the schema");
+        }
+        this.elementSerialiser = new ElementSerialiser(this.schema);
+    }
+
+    /**
+     * Writes the results to the output stream, followed by the end frame.
+     * If the results are not {@link Iterable} they are written as a single frame.
+     *
+     * @param results the results to write
+     * @param out     the output stream
+     * @throws IOException if the results could not be written
+     */
+    public void serialise(final Object results, final OutputStream out) throws IOException {
+        if (results instanceof Iterable) {
+            for (final Object item : (Iterable<?>) results) {
+                out.write(serialiseFrame(item));
+            }
+        } else {
+            out.write(serialiseFrame(results));
+        }
+        out.write(serialiseEnd());
+    }
+
+    /**
+     * Serialises a single result into a frame.
+     *
+     * @param item the result
+     * @return the frame bytes
+     * @throws SerialisationException if the result could not be serialised
+     */
+    public byte[] serialiseFrame(final Object item) throws SerialisationException {
+        final byte frameType;
+        final byte[] value;
+        if (item instanceof Element && matchesSchema((Element) item)) {
+            frameType = ELEMENT_FRAME;
+            final byte[] elementBytes = elementSerialiser.serialise((Element) item);
+            value = new byte[elementBytes.length + 1];
+            value[0] = getMatchedVertexByte(item);
+            System.arraycopy(elementBytes, 0, value, 1, elementBytes.length);
+        } else {
+            frameType = OBJECT_FRAME;
+            value = JSONSerialiser.serialise(item);
+        }
+
+        final ByteArrayOutputStream frame = new ByteArrayOutputStream(value.length + 6);
+        frame.write(frameType);
+        CompactRawSerialisationUtils.write(value.length, frame);
+        frame.write(value, 0, value.length);
+        return frame.toByteArray();
+    }
+
+    /**
+     * @return the bytes of the end frame
+     */
+    public byte[] serialiseEnd() {
+        return new byte[] {END_FRAME};
+    }
+
+    /**
+     * Lazily reads the results from the input stream. The returned iterable
+     * can only be iterated over once, and closing it closes the input stream.
+     *
+     * @param in         the input stream containing the frames
+     * @param resultType the class to deserialise results written as JSON into
+     * @param <T>        the type of the results
+     * @return a closeable iterable of the results
+     */
+    public <T> Iterable<T> deserialise(final InputStream in, final Class<T> resultType) {
+        return new FrameIterable<>(in, resultType);
+    }
+
+    private Object deserialiseFrame(final byte frameType, final byte[] value, final Class<?> resultType) throws SerialisationException {
+        if (ELEMENT_FRAME == frameType) {
+            final byte[] elementBytes = new byte[value.length - 1];
+            System.arraycopy(value, 1, elementBytes, 0, elementBytes.length);
+            final Element element = elementSerialiser.deserialise(elementBytes);
+            if (element instanceof Edge && NO_MATCHED_VERTEX != value[0]) {
+                final Edge edge = (Edge) element;
+                edge.setIdentifiers(edge.getSource(), edge.getDestination(), edge.isDirected(),
+                        MATCHED_DESTINATION == value[0] ? MatchedVertex.DESTINATION : MatchedVertex.SOURCE);
+            }
+            return element;
+        }
+        if (OBJECT_FRAME == frameType) {
+            return JSONSerialiser.deserialise(value, resultType);
+        }
+        throw new SerialisationException("Unknown element stream frame type: " + frameType);
+    }
+
+    /**
+     * The {@link ElementSerialiser} only writes the properties in the schema,
+     * so elements with any other properties, or with property values that are
+     * not of the schema type, cannot be written as element frames.
+     */
+    private boolean matchesSchema(final Element element) {
+        final SchemaElementDefinition elementDef = schema.getElement(element.getGroup());
+        if (null == elementDef) {
+            return false;
+        }
+        for (final Map.Entry<String, Object> property : element.getProperties().entrySet()) {
+            if (!elementDef.containsProperty(property.getKey())) {
+                return false;
+            }
+            final Class<?> propertyClass = elementDef.getPropertyClass(property.getKey());
+            if (null != property.getValue() && (null == propertyClass || !propertyClass.isInstance(property.getValue()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasToBytesSerialisers(final Schema schema) {
+        if (!(schema.getVertexSerialiser() instanceof ToBytesSerialiser)) {
+            return false;
+        }
+        for (final String group : schema.getGroups()) {
+            final SchemaElementDefinition elementDef = schema.getElement(group);
+            for (final String property : elementDef.getProperties()) {
+                final TypeDefinition typeDef = elementDef.getPropertyTypeDef(property);
+                if (null == typeDef || !(typeDef.getSerialiser() instanceof ToBytesSerialiser)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static byte getMatchedVertexByte(final Object item) {
+        if (item instanceof Edge && null != ((Edge) item).getMatchedVertex()) {
+            return MatchedVertex.DESTINATION == ((Edge) item).getMatchedVertex() ? MATCHED_DESTINATION : MATCHED_SOURCE;
+        }
+        return NO_MATCHED_VERTEX;
+    }
+
+    private final class FrameIterable<T> implements Closeable, Iterable<T> {
+        private final DataInputStream in;
+        private final Class<T> resultType;
+        private boolean iterated;
+
+        private FrameIterable(final InputStream in, final Class<T> resultType) {
+            this.in = new DataInputStream(new BufferedInputStream(in));
+            this.resultType = resultType;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            if (iterated) {
+                throw new IllegalStateException("An element stream can only be iterated over once");
+            }
+            iterated = true;
+            return new FrameIterator();
+        }
+
+        @Override
+        public void close() {
+            CloseableUtil.close(in);
+        }
+
+        private final class FrameIterator implements Iterator<T> {
+            private T next;
+            private boolean hasNext;
+            private boolean finished;
+
+            @Override
+            public boolean hasNext() {
+                if (!hasNext && !finished) {
+                    readNext();
+                }
+                return hasNext;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                hasNext = false;
+                final T item = next;
+                next = null;
+                return item;
+            }
+
+            private void readNext() {
+                try {
+                    final int frameType = in.read();
+                    if (-1 == frameType) {
+                        throw new SerialisationException("Element stream ended before the end frame was received");
+                    }
+                    if (END_FRAME == frameType) {
+                        finished = true;
+                        close();
+                        return;
+                    }
+                    final long length = CompactRawSerialisationUtils.read(in);
+                    if (length < 0 || length > Integer.MAX_VALUE) {
+                        throw new SerialisationException("Invalid element stream frame length: " + length);
+                    }
+                    final byte[] value = new byte[(int) length];
+                    in.readFully(value);
+                    next = resultType.cast(deserialiseFrame((byte) frameType, value, resultType));
+                    hasNext = true;
+                } catch (final IOException e) {
+                    finished = true;
+                    close();
+                    throw new GafferRuntimeException("Unable to read element stream: " + e.getMessage(), e);
+                }
+            }
+        }
+    }
+}
@@ -163,6 +163,33 @@ public class ContextTest {
         assertEquals(context.getVariables(), clonedContext.getVariables());
     }
 
+    @Test
+    public void shouldCreateConcurrentCopyWithSameJobIdAndSharedState() {
+        // Given
+        final String testConf = "testConf";
+        final Exporter exporter = mock(Exporter.class);
+        final Context context = new Context.Builder()
+                .user(new User("user"))
+                .config(testConf, "testConfVal")
+                .variable("testVar", "testVarVal")
+                .build();
+        context.addExporter(exporter);
+
+        // When
+        final Context copy = context.concurrentCopy();
+        copy.setVariable("testVar2", "testVarVal2");
+        copy.setOriginalOpChain(new OperationChain<>());
+
+        // Then
+        assertNotSame(context, copy);
+        assertEquals(context.getJobId(), copy.getJobId());
+        assertEquals(context.getUser(), copy.getUser());
+        assertSame(exporter, copy.getExporter(exporter.getClass()));
+        assertEquals("testConfVal", copy.getConfig(testConf));
+        assertEquals("testVarVal2", context.getVariable("testVar2"));
+        assertNotSame(context.getOriginalOpChain(), copy.getOriginalOpChain());
+    }
+
     @Test
     public void shouldAddVariables() {
         // Given
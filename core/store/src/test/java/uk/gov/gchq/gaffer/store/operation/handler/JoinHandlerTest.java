@@ -28,6 +28,7 @@ import uk.gov.gchq.gaffer.store.operation.handler.join.JoinHandler;
 import uk.gov.gchq.gaffer.store.operation.handler.join.match.ElementMatch;
 import uk.gov.gchq.gaffer.store.operation.handler.join.match.KeyFunctionMatch;
 import uk.gov.gchq.gaffer.user.User;
+import uk.gov.gchq.koryphe.tuple.MapTuple;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -95,4 +96,47 @@ public class JoinHandlerTest {
         // When / Then
         assertThatExceptionOfType(OperationException.class).isThrownBy(() -> handler.doOperation(joinOp, context, store)).withMessage("A match method must be supplied");
     }
+
+    @Test
+    public void shouldNotLimitKeyedSideWhenLazy() throws OperationException {
+        // Given
+        final JoinHandler handler = new JoinHandler();
+        final List<Integer> inputList = Arrays.asList(1, 2, 3);
+
+        final Join<Integer> joinOp = new Join.Builder<Integer>()
+                .input(inputList)
+                .joinType(JoinType.FULL)
+                .matchKey(MatchKey.LEFT)
+                .matchMethod(new KeyFunctionMatch())
+                .collectionLimit(1)
+                .lazy(true)
+                .build();
+
+        // When
+        final Iterable<? extends MapTuple> results = handler.doOperation(joinOp, context, store);
+
+        // Then
+        assertThat(results).hasSize(3);
+    }
+
+    @Test
+    public void shouldLimitMatchedSideWhenLazy() {
+        // Given
+        final JoinHandler handler = new JoinHandler();
+        final List<Integer> inputList = Arrays.asList(1, 2, 3);
+
+        final Join<Integer> joinOp = new Join.Builder<Integer>()
+                .input(inputList)
+                .joinType(JoinType.FULL)
+                .matchKey(MatchKey.RIGHT)
+                .matchMethod(new KeyFunctionMatch())
+                .collectionLimit(1)
+                .lazy(true)
+                .build();
+
+        // When / Then
+        assertThatExceptionOfType(OperationException.class)
+                .isThrownBy(() -> handler.doOperation(joinOp, context, store))
+                .withMessageContaining("exceeded");
+    }
 }
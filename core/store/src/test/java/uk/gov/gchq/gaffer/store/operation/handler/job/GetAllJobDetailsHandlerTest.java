@@ -29,6 +29,8 @@ import uk.gov.gchq.gaffer.store.Context;
 import uk.gov.gchq.gaffer.store.Store;
 import uk.gov.gchq.gaffer.user.User;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.BDDMockito.given;
@@ -52,11 +54,12 @@ public class GetAllJobDetailsHandlerTest {
 
     @Test
     public void shouldGetAllJobDetailsByDelegatingToJobTracker(@Mock final Store store, @Mock final User user,
-                                                               @Mock final GetAllJobDetails operation, @Mock final JobTracker jobTracker,
+                                                               @Mock final JobTracker jobTracker,
                                                                @Mock final Iterable<JobDetail> jobsDetails)
             throws OperationException {
         // Given
         final GetAllJobDetailsHandler handler = new GetAllJobDetailsHandler();
+        final GetAllJobDetails operation = new GetAllJobDetails();
 
         given(store.getJobTracker()).willReturn(jobTracker);
         given(jobTracker.getAllJobs(user)).willReturn(jobsDetails);
@@ -67,4 +70,26 @@ public class GetAllJobDetailsHandlerTest {
         // Then
         assertThat(results).isSameAs(jobsDetails);
     }
+
+    @Test
+    public void shouldGetPageOfJobDetailsFromJobTrackerWhenLimitIsSet(@Mock final Store store, @Mock final User user,
+                                                                      @Mock final JobTracker jobTracker,
+                                                                      @Mock final List<JobDetail> jobsDetails)
+            throws OperationException {
+        // Given
+        final GetAllJobDetailsHandler handler = new GetAllJobDetailsHandler();
+        final GetAllJobDetails operation = new GetAllJobDetails.Builder()
+                .offset(20)
+                .limit(10)
+                .build();
+
+        given(store.getJobTracker()).willReturn(jobTracker);
+        given(jobTracker.getAllJobs(user, 20, 10)).willReturn(jobsDetails);
+
+        // When
+        final Iterable<JobDetail> results = handler.doOperation(operation, new Context(user), store);
+
+        // Then
+        assertThat(results).isSameAs(jobsDetails);
+    }
 }
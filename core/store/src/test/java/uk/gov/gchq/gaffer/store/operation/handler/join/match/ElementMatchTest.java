@@ -21,11 +21,14 @@ import org.junit.jupiter.api.Test;
 import uk.gov.gchq.gaffer.commonutil.CollectionUtil;
 import uk.gov.gchq.gaffer.commonutil.TestGroups;
 import uk.gov.gchq.gaffer.commonutil.TestPropertyNames;
+import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.Entity;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
@@ -230,4 +233,127 @@ public class ElementMatchTest {
         // Then
         assertThat(matchingElements).isEmpty();
     }
+
+    @Test
+    public void shouldMatchEdgesOnSourceDestinationAndDirection() {
+        // Given
+        Edge testEdge = new Edge.Builder()
+                .group(TestGroups.EDGE)
+                .source("a")
+                .dest("b")
+                .directed(true)
+                .property(TestPropertyNames.COUNT, 3L)
+                .build();
+
+        Edge undirectedEdge = new Edge.Builder()
+                .group(TestGroups.EDGE)
+                .source("a")
+                .dest("b")
+                .directed(false)
+                .property(TestPropertyNames.COUNT, 3L)
+                .build();
+
+        Edge otherDestinationEdge = new Edge.Builder()
+                .group(TestGroups.EDGE)
+                .source("a")
+                .dest("c")
+                .directed(true)
+                .property(TestPropertyNames.COUNT, 3L)
+                .build();
+
+        Entity entity = new Entity.Builder()
+                .group(TestGroups.EDGE)
+                .vertex("a")
+                .property(TestPropertyNames.COUNT, 3L)
+                .build();
+
+        List<Element> comparisonElementList = Arrays.asList(testEdge.shallowClone(), undirectedEdge, otherDestinationEdge, entity);
+
+        ElementMatch elementMatch = new ElementMatch(TestPropertyNames.COUNT);
+        elementMatch.init(comparisonElementList);
+
+        // When
+        List<Element> matchingElements = elementMatch.matching(testEdge);
+
+        // Then
+        assertThat(matchingElements).containsExactly(testEdge);
+    }
+
+    @Test
+    public void shouldOnlyIterateMatchCandidatesOnce() {
+        // Given
+        Entity testEntity = new Entity.Builder()
+                .group(TestGroups.ENTITY_3)
+                .vertex("vertex")
+                .property(TestPropertyNames.COUNT, 3L)
+                .build();
+
+        AtomicInteger iterations = new AtomicInteger();
+        List<Entity> comparisonEntityList = Collections.singletonList(testEntity.shallowClone());
+        Iterable<Entity> countingIterable = () -> {
+            iterations.incrementAndGet();
+            return comparisonEntityList.iterator();
+        };
+
+        ElementMatch elementMatch = new ElementMatch(TestPropertyNames.COUNT);
+        elementMatch.init(countingIterable);
+
+        // When
+        elementMatch.matching(testEntity);
+        elementMatch.matching(testEntity);
+        List<Element> matchingElements = elementMatch.matching(testEntity);
+
+        // Then
+        assertThat(matchingElements).containsExactly(testEntity);
+        assertThat(iterations).hasValue(1);
+    }
+
+    @Test
+    public void shouldReturnClonesOfMatchCandidates() {
+        // Given
+        Entity testEntity = new Entity.Builder()
+                .group(TestGroups.ENTITY_3)
+                .vertex("vertex")
+                .property(TestPropertyNames.COUNT, 3L)
+                .build();
+
+        Entity candidate = testEntity.shallowClone();
+
+        ElementMatch elementMatch = new ElementMatch();
+        elementMatch.init(Collections.singletonList(candidate));
+
+        // When
+        List<Element> matchingElements = elementMatch.matching(testEntity);
+
+        // Then
+        assertThat(matchingElements).containsExactly(candidate);
+        assertThat(matchingElements.get(0)).isNotSameAs(candidate);
+    }
+
+    @Test
+    public void shouldUseUpdatedGroupByPropertiesAfterInitialisation() {
+        // Given
+        Entity testEntity = new Entity.Builder()
+                .group(TestGroups.ENTITY_3)
+                .vertex("vertex")
+                .property(TestPropertyNames.COUNT, 3L)
+                .build();
+
+        Entity testEntity2 = new Entity.Builder()
+                .group(TestGroups.ENTITY_3)
+                .vertex("vertex")
+                .property(TestPropertyNames.COUNT, 5L)
+                .build();
+
+        ElementMatch elementMatch = new ElementMatch();
+        elementMatch.init(Arrays.asList(testEntity.shallowClone(), testEntity2.shallowClone()));
+        assertThat(elementMatch.matching(testEntity)).hasSize(2);
+
+        // When
+        elementMatch.setElementGroupByProperties(Collections.singleton(TestPropertyNames.COUNT));
+        List<Element> matchingElements = elementMatch.matching(testEntity);
+
+        // Then
+        assertThat(matchingElements).containsExactly(testEntity);
+    }
 }
@@ -28,7 +28,10 @@ import uk.gov.gchq.gaffer.cache.impl.HashMapCacheService;
 import uk.gov.gchq.gaffer.cache.util.CacheProperties;
 import uk.gov.gchq.gaffer.commonutil.exception.OverwritingException;
 import uk.gov.gchq.gaffer.named.operation.NamedOperationDetail;
+import uk.gov.gchq.gaffer.named.operation.NamedOperationTemplate;
+import uk.gov.gchq.gaffer.named.operation.ParameterDetail;
 import uk.gov.gchq.gaffer.operation.OperationChain;
+import uk.gov.gchq.gaffer.operation.impl.Limit;
 import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
 import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
 import uk.gov.gchq.gaffer.user.User;
@@ -301,4 +304,51 @@ public class NamedOperationCacheTest {
 
         cache.addNamedOperation(alt, true, userWithAdminAuth, ADMIN_AUTH);
     }
+
+    @Test
+    public void shouldReuseCompiledTemplateWhenGettingNamedOperation() throws CacheOperationException {
+        // Given
+        cache.addNamedOperation(getParameterisedNamedOperation("{\"operations\":[{\"class\":\"uk.gov.gchq.gaffer.operation.impl.Limit\",\"resultLimit\":\"${param1}\"}]}"), false, standardUser);
+
+        // When
+        final NamedOperationTemplate template = cache.getNamedOperation(OPERATION_NAME, standardUser).getTemplate();
+        final NamedOperationDetail namedOperation = cache.getNamedOperation(OPERATION_NAME, standardUser);
+
+        // Then
+        assertThat(template).isNotNull();
+        assertThat(namedOperation.getTemplate()).isSameAs(template);
+        assertThat(((Limit<?>) namedOperation.getOperationChain(Collections.singletonMap("param1", 5L)).getOperations().get(0)).getResultLimit())
+                .isEqualTo(5);
+    }
+
+    @Test
+    public void shouldCompileNewTemplateWhenNamedOperationIsOverwritten() throws CacheOperationException {
+        // Given
+        cache.addNamedOperation(getParameterisedNamedOperation("{\"operations\":[{\"class\":\"uk.gov.gchq.gaffer.operation.impl.Limit\",\"resultLimit\":\"${param1}\"}]}"), false, standardUser);
+        final NamedOperationTemplate template = cache.getNamedOperation(OPERATION_NAME, standardUser).getTemplate();
+
+        // When
+        cache.addNamedOperation(getParameterisedNamedOperation("{\"operations\":[{\"class\":\"uk.gov.gchq.gaffer.operation.impl.Limit\",\"resultLimit\":\"${param1}\",\"truncate\":false}]}"), true, standardUser);
+        final NamedOperationDetail namedOperation = cache.getNamedOperation(OPERATION_NAME, standardUser);
+
+        // Then
+        assertThat(namedOperation.getTemplate()).isNotSameAs(template);
+        assertThat(((Limit<?>) namedOperation.getOperationChainWithDefaultParams().getOperations().get(0)).getTruncate())
+                .isFalse();
+    }
+
+    private NamedOperationDetail getParameterisedNamedOperation(final String operations) {
+        return new NamedOperationDetail.Builder()
+                .operationName(OPERATION_NAME)
+                .creatorId(standardUser.getUserId())
+                .readers(readers)
+                .writers(writers)
+                .operationChain(operations)
+                .parameters(Collections.singletonMap("param1", new ParameterDetail.Builder()
+                        .valueClass(Long.class)
+                        .defaultValue(10L)
+                        .required(false)
+                        .build()))
+                .build();
+    }
 }
@@ -120,6 +120,23 @@ public class NamedViewCacheTest {
         cache.deleteNamedView(viewDetailA.getName(), userA);
     }
 
+    @Test
+    public void shouldUpdateVersionSharedWithOtherInstancesWhenNamedViewsChange() throws CacheOperationException {
+        // Given
+        final NamedViewCache otherCache = new NamedViewCache(SUFFIX_CACHE_NAME);
+        final String initialVersion = otherCache.getVersion();
+
+        // When
+        cache.addNamedView(viewDetailA, false);
+        final String addedVersion = otherCache.getVersion();
+        cache.deleteNamedView(viewDetailA.getName(), userA);
+        final String deletedVersion = otherCache.getVersion();
+
+        // Then
+        assertThat(addedVersion).isNotNull().isNotEqualTo(initialVersion);
+        assertThat(deletedVersion).isNotNull().isNotEqualTo(addedVersion);
+    }
+
     @Test
     public void shouldReturnEmptySetIfThereAreNoOperationsInTheCache() throws CacheOperationException {
         final Iterable<NamedViewDetail> views = cache.getAllNamedViews(userA);
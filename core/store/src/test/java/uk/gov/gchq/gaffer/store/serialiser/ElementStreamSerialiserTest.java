@@ -0,0 +1,236 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.serialiser;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.commonutil.TestGroups;
+import uk.gov.gchq.gaffer.commonutil.TestPropertyNames;
+import uk.gov.gchq.gaffer.core.exception.GafferRuntimeException;
+import uk.gov.gchq.gaffer.data.element.Edge;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.Entity;
+import uk.gov.gchq.gaffer.data.element.id.EdgeId.MatchedVertex;
+import uk.gov.gchq.gaffer.data.element.id.EntityId;
+import uk.gov.gchq.gaffer.operation.data.EntitySeed;
+import uk.gov.gchq.gaffer.serialisation.implementation.StringSerialiser;
+import uk.gov.gchq.gaffer.serialisation.implementation.raw.CompactRawIntegerSerialiser;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.schema.SchemaEdgeDefinition;
+import uk.gov.gchq.gaffer.store.schema.SchemaEntityDefinition;
+import uk.gov.gchq.gaffer.store.schema.TypeDefinition;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+public class ElementStreamSerialiserTest {
+
+    private static Schema schema;
+    private static ElementStreamSerialiser serialiser;
+
+    @BeforeAll
+    public static void setUp() {
+        schema = new Schema.Builder()
+                .vertexSerialiser(new StringSerialiser())
+                .type("int", new TypeDefinition.Builder()
+                        .clazz(Integer.class)
+                        .serialiser(new CompactRawIntegerSerialiser())
+                        .build())
+                .entity(TestGroups.ENTITY, new SchemaEntityDefinition.Builder()
+                        .property(TestPropertyNames.COUNT, "int")
+                        .build())
+                .edge(TestGroups.EDGE, new SchemaEdgeDefinition.Builder()
+                        .property(TestPropertyNames.COUNT, "int")
+                        .build())
+                .build();
+        serialiser = new ElementStreamSerialiser(schema);
+    }
+
+    @Test
+    public void shouldSerialiseAndDeserialiseElements() throws IOException {
+        // Given
+        final List<Element> elements = Arrays.asList(
+                new Entity.Builder()
+                        .group(TestGroups.ENTITY)
+                        .vertex("vertex1")
+                        .property(TestPropertyNames.COUNT, 1)
+                        .build(),
+                new Edge.Builder()
+                        .group(TestGroups.EDGE)
+                        .source("vertex1")
+                        .dest("vertex2")
+                        .directed(true)
+                        .matchedVertex(MatchedVertex.DESTINATION)
+                        .property(TestPropertyNames.COUNT, 2)
+                        .build());
+
+        // When
+        final Iterable<Element> results = serialiser.deserialise(serialise(elements), Element.class);
+
+        // Then
+        assertThat(results).containsExactlyElementsOf(elements);
+    }
+
+    @Test
+    public void shouldKeepMatchedVertexOfEdges() throws IOException {
+        // Given
+        final Edge edge = new Edge.Builder()
+                .group(TestGroups.EDGE)
+                .source("vertex1")
+                .dest("vertex2")
+                .directed(true)
+                .matchedVertex(MatchedVertex.DESTINATION)
+                .build();
+
+        // When
+        final Iterator<Element> results = serialiser.deserialise(serialise(Arrays.asList(edge)), Element.class).iterator();
+
+        // Then
+        assertThat(((Edge) results.next()).getMatchedVertex()).isEqualTo(MatchedVertex.DESTINATION);
+        assertThat(results.hasNext()).isFalse();
+    }
+
+    @Test
+    public void shouldSerialiseResultsThatAreNotElementsAsJson() throws IOException {
+        // Given
+        final List<EntityId> seeds = Arrays.asList(new EntitySeed("vertex1"), new EntitySeed("vertex2"));
+
+        // When
+        final Iterable<EntityId> results = serialiser.deserialise(serialise(seeds), EntityId.class);
+
+        // Then
+        assertThat(results).containsExactlyElementsOf(seeds);
+    }
+
+    @Test
+    public void shouldSerialiseElementsWithPropertiesOutsideSchemaAsJson() throws IOException {
+        // Given
+        final List<Element> elements = Arrays.asList(
+                new Entity.Builder()
+                        .group(TestGroups.ENTITY)
+                        .vertex("vertex1")
+                        .property(TestPropertyNames.COUNT, 1)
+                        .property(TestPropertyNames.TRANSIENT_1, "transient")
+                        .build(),
+                new Edge.Builder()
+                        .group(TestGroups.EDGE)
+                        .source("vertex1")
+                        .dest("vertex2")
+                        .directed(true)
+                        .property(TestPropertyNames.COUNT, "transformed")
+                        .build());
+
+        // When
+        final byte[] frame = serialiser.serialiseFrame(elements.get(0));
+        final Iterable<Element> results = serialiser.deserialise(serialise(elements), Element.class);
+
+        // Then
+        assertThat(frame[0]).isEqualTo(ElementStreamSerialiser.OBJECT_FRAME);
+        assertThat(results).containsExactlyElementsOf(elements);
+    }
+
+    @Test
+    public void shouldSerialiseSingleResultAsOneFrame() throws IOException {
+        // Given
+        final Entity entity = new Entity(TestGroups.ENTITY, "vertex1");
+
+        // When
+        final Iterable<Element> results = serialiser.deserialise(serialise(entity), Element.class);
+
+        // Then
+        assertThat(results).containsExactly(entity);
+    }
+
+    @Test
+    public void shouldThrowExceptionIfStreamEndsBeforeEndFrame() throws IOException {
+        // Given
+        final byte[] bytes = serialiser.serialiseFrame(new Entity(TestGroups.ENTITY, "vertex1"));
+        final Iterator<Element> results = serialiser.deserialise(new ByteArrayInputStream(bytes), Element.class).iterator();
+        results.next();
+
+        // When / Then
+        assertThatExceptionOfType(GafferRuntimeException.class)
+                .isThrownBy(results::hasNext)
+                .withMessageContaining("end frame");
+    }
+
+    @Test
+    public void shouldOnlyAllowResultsToBeIteratedOnce() throws IOException {
+        // Given
+        final Iterable<Element> results = serialiser.deserialise(serialise(Arrays.asList()), Element.class);
+        results.iterator();
+
+        // When / Then
+        assertThatIllegalStateException().isThrownBy(results::iterator);
+    }
+
+    @Test
+    public void shouldAddDefaultSerialisersToSchema() throws IOException {
+        // Given
+        final Schema schemaWithoutSerialisers = new Schema.Builder()
+                .type("string", String.class)
+                .type("int", Integer.class)
+                .entity(TestGroups.ENTITY, new SchemaEntityDefinition.Builder()
+                        .vertex("string")
+                        .property(TestPropertyNames.COUNT, "int")
+                        .build())
+                .build();
+        final ElementStreamSerialiser defaultSerialiser = new ElementStreamSerialiser(schemaWithoutSerialisers);
+        final Entity entity = new Entity.Builder()
+                .group(TestGroups.ENTITY)
+                .vertex("vertex1")
+                .property(TestPropertyNames.COUNT, 1)
+                .build();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        defaultSerialiser.serialise(Arrays.asList(entity), out);
+        final Iterable<Element> results = defaultSerialiser.deserialise(new ByteArrayInputStream(out.toByteArray()), Element.class);
+
+        // Then
+        assertThat(results).containsExactly(entity);
+        assertThat(schemaWithoutSerialisers.getVertexSerialiser()).isNull();
+    }
+
+    @Test
+    public void shouldThrowExceptionIfSchemaHasNoVertexSerialiser() {
+        // Given
+        final Schema schemaWithoutVertices = new Schema.Builder()
+                .entity(TestGroups.ENTITY, new SchemaEntityDefinition.Builder()
+                        .build())
+                .build();
+
+        // When / Then
+        assertThatIllegalArgumentException().isThrownBy(() -> new ElementStreamSerialiser(schemaWithoutVertices));
+    }
+
+    private static ByteArrayInputStream serialise(final Object results) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        serialiser.serialise(results, out);
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+}
@@ -16,17 +16,23 @@
 
 package uk.gov.gchq.gaffer.cache.impl;
 
+import com.hazelcast.map.EntryProcessor;
 import com.hazelcast.map.IMap;
 
 import uk.gov.gchq.gaffer.cache.ICache;
 import uk.gov.gchq.gaffer.cache.exception.CacheOperationException;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Implementation of the {@link ICache} interface, using a Hazelcast {@link IMap}
- * as the cache data store.
+ * as the cache data store. Bulk and asynchronous operations use the equivalent
+ * {@link IMap} methods, so each is a single call to the cluster.
  *
  * @param <K> The object type that acts as the key for the IMap
  * @param <V> The value that is stored in the IMap
@@ -52,11 +58,73 @@ public class HazelcastCache <K, V> implements ICache<K, V> {
         }
     }
 
+    @Override
+    public Map<K, V> getAll(final Collection<K> keys) {
+        if (null == keys || keys.isEmpty()) {
+            return new HashMap<>();
+        }
+        return new HashMap<>(distributedMap.getAll(keys instanceof Set ? (Set<K>) keys : new HashSet<>(keys)));
+    }
+
+    @Override
+    public void putAll(final Map<K, V> entries) throws CacheOperationException {
+        if (null == entries || entries.isEmpty()) {
+            return;
+        }
+        try {
+            distributedMap.putAll(entries);
+        } catch (final Exception e) {
+            throw new CacheOperationException(e);
+        }
+    }
+
     @Override
     public void remove(final K key) {
         distributedMap.remove(key);
     }
 
+    @Override
+    public void removeAll(final Collection<K> keys) {
+        if (null != keys && !keys.isEmpty()) {
+            distributedMap.executeOnKeys(keys instanceof Set ? (Set<K>) keys : new HashSet<>(keys), new RemoveEntryProcessor<>());
+        }
+    }
+
+    @Override
+    public CompletableFuture<V> getAsync(final K key) {
+        return distributedMap.getAsync(key).toCompletableFuture();
+    }
+
+    @Override
+    public CompletableFuture<Void> putAsync(final K key, final V value) {
+        try {
+            return distributedMap.setAsync(key, value).toCompletableFuture();
+        } catch (final Exception e) {
+            final CompletableFuture<Void> future = new CompletableFuture<>();
+            future.completeExceptionally(new CacheOperationException(e));
+            return future;
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> putAllAsync(final Map<K, V> entries) {
+        if (null == entries || entries.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        try {
+            return distributedMap.putAllAsync(entries).toCompletableFuture();
+        } catch (final Exception e) {
+            final CompletableFuture<Void> future = new CompletableFuture<>();
+            future.completeExceptionally(new CacheOperationException(e));
+            return future;
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> removeAsync(final K key) {
+        return distributedMap.deleteAsync(key).toCompletableFuture().thenApply(removed -> null);
+    }
+
     @Override
     public Collection<V> getAllValues() {
         return distributedMap.values();
@@ -80,4 +148,18 @@ public class HazelcastCache <K, V> implements ICache<K, V> {
             throw new CacheOperationException(e);
         }
     }
+
+    /**
+     * Removes the entries it is executed on, so that many keys can be removed
+     * from the {@link IMap} in a single call.
+     */
+    private static final class RemoveEntryProcessor<K, V> implements EntryProcessor<K, V, Object> {
+        private static final long serialVersionUID = -2473460373593356375L;
+
+        @Override
+        public Object process(final Map.Entry<K, V> entry) {
+            entry.setValue(null);
+            return null;
+        }
+    }
 }
@@ -26,9 +26,15 @@ import org.junit.jupiter.api.Test;
 import uk.gov.gchq.gaffer.cache.exception.CacheOperationException;
 import uk.gov.gchq.gaffer.commonutil.exception.OverwritingException;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.entry;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class HazelcastCacheTest {
@@ -160,4 +166,41 @@ public class HazelcastCacheTest {
         assertThat(cache.getAllValues()).contains(1, 2, 3);
     }
 
+    @Test
+    public void shouldGetAllValuesForKeys() throws CacheOperationException {
+        cache.put("test1", 1);
+        cache.put("test2", 2);
+        cache.put("test3", 3);
+
+        final Map<String, Integer> values = cache.getAll(Arrays.asList("test1", "test3", "missing"));
+
+        assertThat(values).containsOnly(entry("test1", 1), entry("test3", 3));
+    }
+
+    @Test
+    public void shouldPutAndRemoveAllEntries() throws CacheOperationException {
+        final Map<String, Integer> entries = new HashMap<>();
+        entries.put("test1", 1);
+        entries.put("test2", 2);
+        entries.put("test3", 3);
+
+        cache.putAll(entries);
+        cache.removeAll(Arrays.asList("test1", "test2"));
+
+        assertThat(cache.getAllKeys()).containsExactly("test3");
+    }
+
+    @Test
+    public void shouldPutAndGetAsynchronously() throws Exception {
+        cache.putAsync("test1", 1).get();
+        cache.putAllAsync(Collections.singletonMap("test2", 2)).get();
+
+        assertThat(cache.getAsync("test1").get()).isEqualTo(1);
+        assertThat(cache.getAllAsync(Arrays.asList("test1", "test2")).get())
+                .containsOnly(entry("test1", 1), entry("test2", 2));
+
+        cache.removeAsync("test1").get();
+
+        assertThat(cache.get("test1")).isNull();
+    }
 }
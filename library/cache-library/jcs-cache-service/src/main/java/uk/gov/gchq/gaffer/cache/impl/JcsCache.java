@@ -19,14 +19,20 @@ package uk.gov.gchq.gaffer.cache.impl;
 import org.apache.commons.jcs.JCS;
 import org.apache.commons.jcs.access.GroupCacheAccess;
 import org.apache.commons.jcs.access.exception.CacheException;
+import org.apache.commons.jcs.engine.behavior.ICacheElement;
 import org.apache.commons.jcs.engine.behavior.ICompositeCacheAttributes;
 import org.apache.commons.jcs.engine.control.CompositeCache;
+import org.apache.commons.jcs.engine.control.group.GroupAttrName;
+import org.apache.commons.jcs.engine.control.group.GroupId;
 
 import uk.gov.gchq.gaffer.cache.ICache;
 import uk.gov.gchq.gaffer.cache.exception.CacheOperationException;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -40,6 +46,7 @@ public class JcsCache<K, V> implements ICache<K, V> {
 
     private final GroupCacheAccess<K, V> cache;
     private final String groupName;
+    private final GroupId groupId;
 
     public JcsCache(final CompositeCache cache) throws CacheException {
         this(cache.getCacheName(), cache.getCacheAttributes());
@@ -47,6 +54,7 @@ public class JcsCache<K, V> implements ICache<K, V> {
 
     private JcsCache(final String cacheName, final ICompositeCacheAttributes attr) throws CacheException {
         this.groupName = cacheName;
+        this.groupId = new GroupId(cacheName, cacheName);
         this.cache = JCS.getGroupCacheInstance(cacheName, attr);
     }
 
@@ -67,6 +75,26 @@ public class JcsCache<K, V> implements ICache<K, V> {
         }
     }
 
+    @Override
+    public Map<K, V> getAll(final Collection<K> keys) {
+        final Map<K, V> values = new HashMap<>();
+        if (null == keys || keys.isEmpty()) {
+            return values;
+        }
+
+        final Set<GroupAttrName<K>> groupKeys = new HashSet<>(keys.size());
+        for (final K key : keys) {
+            groupKeys.add(new GroupAttrName<>(groupId, key));
+        }
+        final Map<GroupAttrName<K>, ICacheElement<GroupAttrName<K>, V>> elements = cache.getCacheControl().getMultiple(groupKeys);
+        for (final ICacheElement<GroupAttrName<K>, V> element : elements.values()) {
+            if (null != element && null != element.getVal()) {
+                values.put(element.getKey().attrName, element.getVal());
+            }
+        }
+        return values;
+    }
+
     @Override
     public void remove(final K key) {
         cache.removeFromGroup(key, groupName);
@@ -74,14 +102,7 @@ public class JcsCache<K, V> implements ICache<K, V> {
 
     @Override
     public Collection<V> getAllValues() {
-        ArrayList<V> values = new ArrayList<V>();
-        Set<K> keys = getAllKeys();
-
-        for (final K key : keys) {
-            values.add(get(key));
-        }
-
-        return values;
+        return new ArrayList<>(getAll(getAllKeys()).values());
     }
 
     @Override
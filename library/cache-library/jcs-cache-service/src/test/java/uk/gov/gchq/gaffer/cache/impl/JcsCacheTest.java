@@ -25,8 +25,12 @@ import org.junit.jupiter.api.Test;
 import uk.gov.gchq.gaffer.cache.exception.CacheOperationException;
 import uk.gov.gchq.gaffer.commonutil.exception.OverwritingException;
 
+import java.util.Arrays;
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -157,4 +161,15 @@ public class JcsCacheTest {
 
         assertThat(cache.getAllValues()).contains(1, 2, 3);
     }
+
+    @Test
+    public void shouldGetAllValuesForKeys() throws CacheOperationException {
+        cache.put("test1", 1);
+        cache.put("test2", 2);
+        cache.put("test3", 3);
+
+        final Map<String, Integer> values = cache.getAll(Arrays.asList("test1", "test3", "missing"));
+
+        assertThat(values).containsOnly(entry("test1", 1), entry("test3", 3));
+    }
 }
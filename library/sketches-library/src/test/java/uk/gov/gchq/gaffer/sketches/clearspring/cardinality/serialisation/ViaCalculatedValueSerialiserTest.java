@@ -60,6 +60,11 @@ public abstract class ViaCalculatedValueSerialiserTest<OUTPUT, VALUE> extends To
         assertEquals(firstValue, secondValueDeserialised);
     }
 
+    @Override
+    protected void assertDeserialised(final OUTPUT expected, final OUTPUT actual) {
+        assertEquals(useTestValue(expected), useTestValue(actual));
+    }
+
     protected void testSerialiser(final OUTPUT object) {
         try {
             VALUE originalValue = useTestValue(object);
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.rest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.gov.gchq.gaffer.commonutil.CloseableUtil;
+import uk.gov.gchq.gaffer.core.exception.GafferRuntimeException;
+import uk.gov.gchq.gaffer.core.exception.Status;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A bounded {@link Executor} for writing the results of chunked requests.
+ * <p>
+ * Results are written by a fixed number of threads, with a limited number of
+ * requests queued waiting for a thread. If the queue is full the request is
+ * rejected with a {@link GafferRuntimeException} with a
+ * {@link Status#SERVICE_UNAVAILABLE} status, so the client can retry later.
+ * If a write timeout is set, a request that is still writing its results
+ * after the timeout is interrupted. The threads can optionally be virtual
+ * threads, if the JDK supports them.
+ * <p>
+ * The executor is configured using the chunked {@link SystemProperty}s.
+ */
+public class ChunkedResponseExecutor implements Executor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChunkedResponseExecutor.class);
+    private static final String THREAD_NAME_PREFIX = "gaffer-chunked-";
+
+    private static ChunkedResponseExecutor instance;
+
+    private final ThreadPoolExecutor executor;
+    private final ScheduledThreadPoolExecutor timeoutScheduler;
+    private final long writeTimeout;
+
+    private final AtomicInteger activeStreams = new AtomicInteger();
+    private final AtomicLong completedStreams = new AtomicLong();
+    private final AtomicLong rejectedStreams = new AtomicLong();
+    private final AtomicLong timedOutStreams = new AtomicLong();
+
+    /**
+     * @param threads        the maximum number of results that can be written at once
+     * @param queueSize      the maximum number of requests waiting for a thread
+     * @param writeTimeout   the maximum time in milliseconds for a request to write its results, or 0 for no limit
+     * @param virtualThreads true if virtual threads should be used, if they are supported
+     */
+    public ChunkedResponseExecutor(final int threads, final int queueSize, final long writeTimeout, final boolean virtualThreads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("The number of chunked threads must be at least 1 but was: " + threads);
+        }
+        ThreadFactory threadFactory = virtualThreads ? createVirtualThreadFactory() : null;
+        if (null == threadFactory) {
+            threadFactory = createPlatformThreadFactory();
+        }
+
+        this.executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(Math.max(1, queueSize)), threadFactory);
+        this.executor.allowCoreThreadTimeOut(true);
+        this.writeTimeout = writeTimeout;
+        if (writeTimeout > 0) {
+            this.timeoutScheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+                final Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + "timeout");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.timeoutScheduler.setRemoveOnCancelPolicy(true);
+        } else {
+            this.timeoutScheduler = null;
+        }
+    }
+
+    /**
+     * @return the shared executor, created using the chunked {@link SystemProperty}s
+     */
+    public static synchronized ChunkedResponseExecutor getInstance() {
+        if (null == instance) {
+            instance = new ChunkedResponseExecutor(
+                    Integer.parseInt(System.getProperty(SystemProperty.CHUNKED_THREADS, SystemProperty.CHUNKED_THREADS_DEFAULT)),
+                    Integer.parseInt(System.getProperty(SystemProperty.CHUNKED_QUEUE_SIZE, SystemProperty.CHUNKED_QUEUE_SIZE_DEFAULT)),
+                    Long.parseLong(System.getProperty(SystemProperty.CHUNKED_WRITE_TIMEOUT, SystemProperty.CHUNKED_WRITE_TIMEOUT_DEFAULT)),
+                    Boolean.parseBoolean(System.getProperty(SystemProperty.CHUNKED_VIRTUAL_THREADS, SystemProperty.CHUNKED_VIRTUAL_THREADS_DEFAULT)));
+        }
+        return instance;
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        submit(task, null);
+    }
+
+    /**
+     * Submits a task that writes the results of a chunked request.
+     *
+     * @param task      the task that writes the results
+     * @param onTimeout closed if the task times out, to stop any blocked writes. May be null
+     * @return the future of the task
+     * @throws GafferRuntimeException with a {@link Status#SERVICE_UNAVAILABLE} status if there are too many chunked requests
+     */
+    public Future<?> submit(final Runnable task, final AutoCloseable onTimeout) {
+        final AtomicReference<ScheduledFuture<?>> timeout = new AtomicReference<>();
+        final FutureTask<?> future = new FutureTask<>(() -> {
+            activeStreams.incrementAndGet();
+            try {
+                task.run();
+            } catch (final RuntimeException e) {
+                LOGGER.warn("Error writing chunked results: {}", e.getMessage(), e);
+                throw e;
+            } finally {
+                activeStreams.decrementAndGet();
+                completedStreams.incrementAndGet();
+                final ScheduledFuture<?> scheduledTimeout = timeout.get();
+                if (null != scheduledTimeout) {
+                    scheduledTimeout.cancel(false);
+                }
+            }
+        }, null);
+
+        try {
+            executor.execute(future);
+        } catch (final RejectedExecutionException e) {
+            rejectedStreams.incrementAndGet();
+            LOGGER.warn("Rejected chunked request as there are {} active and {} queued chunked requests",
+                    getActiveStreams(), getQueuedStreams());
+            throw new GafferRuntimeException("Too many chunked requests are being processed, please try again later",
+                    e, Status.SERVICE_UNAVAILABLE);
+        }
+
+        if (null != timeoutScheduler) {
+            timeout.set(timeoutScheduler.schedule(() -> {
+                if (!future.isDone()) {
+                    timedOutStreams.incrementAndGet();
+                    LOGGER.warn("Chunked request did not finish writing its results within {}ms and will be stopped", writeTimeout);
+                    future.cancel(true);
+                    CloseableUtil.close(onTimeout);
+                }
+            }, writeTimeout, TimeUnit.MILLISECONDS));
+            if (future.isDone()) {
+                timeout.get().cancel(false);
+            }
+        }
+        return future;
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+        if (null != timeoutScheduler) {
+            timeoutScheduler.shutdownNow();
+        }
+    }
+
+    public long getWriteTimeout() {
+        return writeTimeout;
+    }
+
+    /**
+     * @return the number of chunked requests currently writing their results
+     */
+    public int getActiveStreams() {
+        return activeStreams.get();
+    }
+
+    /**
+     * @return the number of chunked requests waiting for a thread
+     */
+    public int getQueuedStreams() {
+        return executor.getQueue().size();
+    }
+
+    public long getCompletedStreams() {
+        return completedStreams.get();
+    }
+
+    public long getRejectedStreams() {
+        return rejectedStreams.get();
+    }
+
+    public long getTimedOutStreams() {
+        return timedOutStreams.get();
+    }
+
+    private static ThreadFactory createPlatformThreadFactory() {
+        final ThreadFactory defaultFactory = Executors.defaultThreadFactory();
+        final AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = defaultFactory.newThread(runnable);
+            thread.setName(THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Virtual threads are created using reflection, as they are not available
+     * in the JDK this is compiled against.
+     *
+     * @return the virtual thread factory, or null if virtual threads are not supported
+     */
+    private static ThreadFactory createVirtualThreadFactory() {
+        try {
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, THREAD_NAME_PREFIX, 1L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            LOGGER.warn("Virtual threads are not supported by this JDK, platform threads will be used for chunked requests");
+            return null;
+        }
+    }
+}
@@ -15,6 +15,8 @@
  */
 package uk.gov.gchq.gaffer.rest;
 
+import uk.gov.gchq.gaffer.store.serialiser.ElementStreamSerialiser;
+
 /**
  * Utility class providing constants for the Gaffer REST API.
  */
@@ -23,6 +25,7 @@ public final class ServiceConstants {
     // REST Headers
     public static final String GAFFER_MEDIA_TYPE_HEADER = "X-Gaffer-Media-Type";
     public static final String GAFFER_MEDIA_TYPE;
+    public static final String APPLICATION_GAFFER_ELEMENTS = ElementStreamSerialiser.MEDIA_TYPE;
     public static final String GAFFER_MEDIA_TYPE_HEADER_DESCRIPTION = "The gaffer media type containing the REST API version.";
     public static final String JOB_ID_HEADER = "job-id";
     public static final String JOB_ID_HEADER_DESCRIPTION = "The job execution ID.";
@@ -45,6 +45,18 @@ public final class SystemProperty {
     public static final String JSON_SERIALISER_CLASS = JSONSerialiser.JSON_SERIALISER_CLASS_KEY;
     public static final String JSON_SERIALISER_MODULES = JSONSerialiser.JSON_SERIALISER_MODULES;
     public static final String REST_DEBUG = DebugUtil.DEBUG;
+    public static final String CHUNKED_THREADS = "gaffer.rest-api.chunked.threads";
+    public static final String CHUNKED_QUEUE_SIZE = "gaffer.rest-api.chunked.queueSize";
+    /**
+     * The maximum time in milliseconds a chunked request may spend writing
+     * its results. By default there is no limit.
+     */
+    public static final String CHUNKED_WRITE_TIMEOUT = "gaffer.rest-api.chunked.writeTimeout";
+    /**
+     * Whether chunked results should be written on virtual threads, if the
+     * JDK supports them.
+     */
+    public static final String CHUNKED_VIRTUAL_THREADS = "gaffer.rest-api.chunked.virtualThreads";
 
     // Exposed Property Keys
     /**
@@ -74,6 +86,10 @@ public final class SystemProperty {
     public static final String GRAPH_FACTORY_CLASS_DEFAULT = DefaultGraphFactory.class.getName();
     public static final String USER_FACTORY_CLASS_DEFAULT = UnknownUserFactory.class.getName();
     public static final String REST_DEBUG_DEFAULT = DebugUtil.DEBUG_DEFAULT;
+    public static final String CHUNKED_THREADS_DEFAULT = "20";
+    public static final String CHUNKED_QUEUE_SIZE_DEFAULT = "100";
+    public static final String CHUNKED_WRITE_TIMEOUT_DEFAULT = "0";
+    public static final String CHUNKED_VIRTUAL_THREADS_DEFAULT = "false";
     public static final String APP_TITLE_DEFAULT = "Gaffer REST";
     public static final String APP_DESCRIPTION_DEFAULT = "The Gaffer REST service.";
     public static final String APP_DOCUMENTATION_URL_DEFAULT = "https://gchq.github.io/gaffer-doc/latest/";
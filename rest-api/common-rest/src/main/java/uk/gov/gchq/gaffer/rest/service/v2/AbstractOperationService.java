@@ -16,6 +16,9 @@
 
 package uk.gov.gchq.gaffer.rest.service.v2;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import uk.gov.gchq.gaffer.commonutil.CloseableUtil;
 import uk.gov.gchq.gaffer.commonutil.pair.Pair;
 import uk.gov.gchq.gaffer.core.exception.GafferRuntimeException;
@@ -30,6 +33,8 @@ import uk.gov.gchq.gaffer.rest.factory.GraphFactory;
 import uk.gov.gchq.gaffer.rest.factory.UserFactory;
 import uk.gov.gchq.gaffer.rest.model.OperationDetail;
 import uk.gov.gchq.gaffer.store.Context;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.serialiser.ElementStreamSerialiser;
 import uk.gov.gchq.koryphe.serialisation.json.SimpleClassNameIdResolver;
 import uk.gov.gchq.koryphe.util.ReflectionUtil;
 
@@ -43,6 +48,13 @@ import java.util.Set;
  */
 @SuppressWarnings("PMD.EmptyMethodInAbstractClassShouldBeAbstract") //Class is not particularly abstract
 public abstract class AbstractOperationService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractOperationService.class);
+
+    /**
+     * The element stream serialiser for the most recently used schema, shared
+     * as resources may be created for each request.
+     */
+    private static volatile Pair<Schema, ElementStreamSerialiser> elementStreamSerialiserCache;
 
     protected abstract UserFactory getUserFactory();
 
@@ -112,6 +124,35 @@ public abstract class AbstractOperationService {
         return new Pair<>(result.getResult(), result.getContext().getJobId());
     }
 
+    /**
+     * Gets a serialiser for writing results in the binary element stream
+     * format, if the client accepts it and the graph schema supports it.
+     *
+     * @param acceptHeader the Accept header of the request
+     * @return the serialiser, or null if results should be written as JSON
+     */
+    protected ElementStreamSerialiser getElementStreamSerialiser(final String acceptHeader) {
+        if (null == acceptHeader || !acceptHeader.contains(ElementStreamSerialiser.MEDIA_TYPE)) {
+            return null;
+        }
+
+        return getElementStreamSerialiser(getGraphFactory().getGraph().getSchema());
+    }
+
+    private static ElementStreamSerialiser getElementStreamSerialiser(final Schema schema) {
+        Pair<Schema, ElementStreamSerialiser> serialiser = elementStreamSerialiserCache;
+        if (null == serialiser || schema != serialiser.getFirst()) {
+            try {
+                serialiser = new Pair<>(schema, new ElementStreamSerialiser(schema));
+            } catch (final IllegalArgumentException e) {
+                LOGGER.info("Results will be returned as JSON as the schema does not support element streams: {}", e.getMessage());
+                serialiser = new Pair<>(schema, null);
+            }
+            elementStreamSerialiserCache = serialiser;
+        }
+        return serialiser.getSecond();
+    }
+
     protected Operation generateExampleJson(final Class<? extends Operation> opClass) throws IllegalAccessException, InstantiationException {
         return getExamplesFactory().generateExample(opClass);
     }
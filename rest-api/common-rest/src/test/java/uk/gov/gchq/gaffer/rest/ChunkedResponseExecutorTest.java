@@ -0,0 +1,149 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.rest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.core.exception.GafferRuntimeException;
+import uk.gov.gchq.gaffer.core.exception.Status;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class ChunkedResponseExecutorTest {
+
+    private ChunkedResponseExecutor executor;
+
+    @AfterEach
+    public void shutdownExecutor() {
+        if (null != executor) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldRunSubmittedTasks() throws Exception {
+        // Given
+        executor = new ChunkedResponseExecutor(2, 10, 0, false);
+        final AtomicBoolean ran = new AtomicBoolean();
+
+        // When
+        executor.submit(() -> ran.set(true), null).get(10, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(ran).isTrue();
+        assertThat(executor.getActiveStreams()).isZero();
+        assertThat(executor.getCompletedStreams()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldRejectTasksWithServiceUnavailableWhenQueueIsFull() throws Exception {
+        // Given
+        executor = new ChunkedResponseExecutor(1, 1, 0, false);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> {
+            started.countDown();
+            await(release);
+        }, null);
+        started.await(10, TimeUnit.SECONDS);
+        executor.submit(() -> { }, null);
+
+        // When / Then
+        try {
+            assertThatExceptionOfType(GafferRuntimeException.class)
+                    .isThrownBy(() -> executor.submit(() -> { }, null))
+                    .satisfies(e -> assertThat(e.getStatus()).isEqualTo(Status.SERVICE_UNAVAILABLE));
+            assertThat(executor.getActiveStreams()).isEqualTo(1);
+            assertThat(executor.getQueuedStreams()).isEqualTo(1);
+            assertThat(executor.getRejectedStreams()).isEqualTo(1);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void shouldStopTaskAndCloseResourceWhenWriteTimeoutIsExceeded() throws Exception {
+        // Given
+        executor = new ChunkedResponseExecutor(1, 1, 100, false);
+        final CountDownLatch closed = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+
+        // When
+        final Future<?> future = executor.submit(() -> {
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+            } catch (final InterruptedException e) {
+                interrupted.countDown();
+            }
+        }, closed::countDown);
+
+        // Then
+        assertThat(closed.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(interrupted.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(future.isCancelled()).isTrue();
+        assertThat(executor.getTimedOutStreams()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldNotTimeOutTasksThatFinishInTime() throws Exception {
+        // Given
+        executor = new ChunkedResponseExecutor(1, 1, 10000, false);
+        final AtomicBoolean closed = new AtomicBoolean();
+
+        // When
+        executor.submit(() -> { }, () -> closed.set(true)).get(10, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(closed).isFalse();
+        assertThat(executor.getTimedOutStreams()).isZero();
+    }
+
+    @Test
+    public void shouldRunTasksWhenVirtualThreadsAreRequested() throws Exception {
+        // Given
+        executor = new ChunkedResponseExecutor(1, 1, 0, true);
+        final AtomicBoolean ran = new AtomicBoolean();
+
+        // When
+        executor.submit(() -> ran.set(true), null).get(10, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(ran).isTrue();
+    }
+
+    @Test
+    public void shouldThrowExceptionIfThereAreNoThreads() {
+        // When / Then
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new ChunkedResponseExecutor(0, 1, 0, false));
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -34,6 +34,7 @@ import uk.gov.gchq.gaffer.operation.impl.generate.GenerateObjects;
 import uk.gov.gchq.gaffer.operation.impl.get.GetAdjacentIds;
 import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
 import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
+import uk.gov.gchq.gaffer.rest.ChunkedResponseExecutor;
 import uk.gov.gchq.gaffer.rest.factory.GraphFactory;
 import uk.gov.gchq.gaffer.rest.factory.UserFactory;
 import uk.gov.gchq.gaffer.store.Context;
@@ -78,7 +79,7 @@ public class OperationService implements IOperationService {
         final ChunkedOutput<String> output = new ChunkedOutput<>(String.class, "\r\n");
 
         // write chunks to the chunked output object
-        new Thread(() -> {
+        ChunkedResponseExecutor.getInstance().submit(() -> {
             try {
                 final Object result = _execute(opChain);
                 chunkResult(result, output);
@@ -86,7 +87,7 @@ public class OperationService implements IOperationService {
                 CloseableUtil.close(output);
                 CloseableUtil.close(opChain);
             }
-        }).start();
+        }, output);
 
         return output;
     }
@@ -34,6 +34,7 @@ import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Response;
 
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
@@ -98,7 +99,8 @@ public interface IJobServiceV2 {
 
     @GET
     @ApiOperation(value = "Get the details of all jobs",
-            notes = "While any Jobs are running, you can check the status of them all using this endpoint.",
+            notes = "While any Jobs are running, you can check the status of them all using this endpoint. " +
+                    "If a limit is given, only that page of jobs, ordered by job id, is returned.",
             response = JobDetail.class,
             responseContainer = "List",
             produces = APPLICATION_JSON,
@@ -109,7 +111,8 @@ public interface IJobServiceV2 {
     @ApiResponses(value = {@ApiResponse(code = 200, message = OK),
             @ApiResponse(code = 500, message = INTERNAL_SERVER_ERROR),
             @ApiResponse(code = 503, message = JOB_SERVICE_UNAVAILABLE)})
-    Response details() throws OperationException;
+    Response details(@ApiParam(value = "The number of jobs to skip, when a limit is given") @QueryParam("offset") final Integer offset,
+                     @ApiParam(value = "The maximum number of jobs to return") @QueryParam("limit") final Integer limit) throws OperationException;
 
     @GET
     @Path("{id}")
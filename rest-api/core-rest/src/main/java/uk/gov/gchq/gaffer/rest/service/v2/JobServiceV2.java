@@ -110,10 +110,13 @@ public class JobServiceV2 implements IJobServiceV2 {
     }
 
     @Override
-    public Response details() throws OperationException {
+    public Response details(final Integer offset, final Integer limit) throws OperationException {
         final Context context = userFactory.createContext();
         return Response.ok(graphFactory.getGraph()
-                .execute(new GetAllJobDetails(),
+                .execute(new GetAllJobDetails.Builder()
+                                .offset(offset)
+                                .limit(limit)
+                                .build(),
                         context))
                 .header(GAFFER_MEDIA_TYPE_HEADER, GAFFER_MEDIA_TYPE)
                 .header(JOB_ID_HEADER, context.getJobId())
@@ -29,20 +29,31 @@ import uk.gov.gchq.gaffer.core.exception.Error;
 import uk.gov.gchq.gaffer.core.exception.Status;
 import uk.gov.gchq.gaffer.operation.Operation;
 import uk.gov.gchq.gaffer.operation.OperationChain;
+import uk.gov.gchq.gaffer.rest.ChunkedResponseExecutor;
 import uk.gov.gchq.gaffer.rest.factory.ExamplesFactory;
 import uk.gov.gchq.gaffer.rest.factory.GraphFactory;
 import uk.gov.gchq.gaffer.rest.factory.UserFactory;
 import uk.gov.gchq.gaffer.rest.model.OperationDetail;
 import uk.gov.gchq.gaffer.store.Context;
+import uk.gov.gchq.gaffer.store.serialiser.ElementStreamSerialiser;
 
 import javax.inject.Inject;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import java.io.IOException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static javax.ws.rs.core.Response.Status.INTERNAL_SERVER_ERROR;
 import static javax.ws.rs.core.Response.Status.NOT_FOUND;
 import static uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser.createDefaultMapper;
+import static uk.gov.gchq.gaffer.rest.ServiceConstants.APPLICATION_GAFFER_ELEMENTS;
 import static uk.gov.gchq.gaffer.rest.ServiceConstants.GAFFER_MEDIA_TYPE;
 import static uk.gov.gchq.gaffer.rest.ServiceConstants.GAFFER_MEDIA_TYPE_HEADER;
 import static uk.gov.gchq.gaffer.rest.ServiceConstants.JOB_ID_HEADER;
@@ -67,6 +78,9 @@ public class OperationServiceV2 extends AbstractOperationService implements IOpe
     @Inject
     private ExamplesFactory examplesFactory;
 
+    @javax.ws.rs.core.Context
+    private HttpHeaders httpHeaders;
+
     public final ObjectMapper mapper = createDefaultMapper();
 
     @Override
@@ -86,7 +100,25 @@ public class OperationServiceV2 extends AbstractOperationService implements IOpe
     @Override
     public Response execute(final Operation operation) {
         final Pair<Object, String> resultAndJobId = _execute(operation, userFactory.createContext());
-        return Response.ok(resultAndJobId.getFirst())
+        final Object result = resultAndJobId.getFirst();
+
+        // Only iterable results are written as element streams
+        final ElementStreamSerialiser elementStreamSerialiser = result instanceof Iterable ? getElementStreamSerialiser(getAcceptHeader()) : null;
+        final Object entity;
+        if (null != elementStreamSerialiser) {
+            entity = (StreamingOutput) out -> {
+                try {
+                    elementStreamSerialiser.serialise(result, out);
+                } finally {
+                    CloseableUtil.close(result);
+                }
+            };
+        } else {
+            entity = result;
+        }
+
+        return Response.ok(entity)
+                .type(getResponseType(elementStreamSerialiser))
                 .header(GAFFER_MEDIA_TYPE_HEADER, GAFFER_MEDIA_TYPE)
                 .header(JOB_ID_HEADER, resultAndJobId.getSecond())
                 .build();
@@ -99,34 +131,40 @@ public class OperationServiceV2 extends AbstractOperationService implements IOpe
 
     @SuppressFBWarnings
     @Override
-    @SuppressWarnings("PMD.UseTryWithResources")
+    @SuppressWarnings({"PMD.UseTryWithResources", "unchecked"})
     public Response executeChunkedChain(final OperationChain opChain) {
-        // Create chunked output instance
+        // Create chunked output instance, writing binary element frames if the client accepts them
         final Throwable[] threadException = new Throwable[1];
-        final ChunkedOutput<String> output = new ChunkedOutput<>(String.class, "\r\n");
+        final ElementStreamSerialiser elementStreamSerialiser = getElementStreamSerialiser(getAcceptHeader());
+        final ChunkedOutput<?> output = null != elementStreamSerialiser
+                ? new ChunkedOutput<>(byte[].class)
+                : new ChunkedOutput<>(String.class, "\r\n");
         final Context context = userFactory.createContext();
 
-        // create thread to write chunks to the chunked output object
-        Thread thread = new Thread(() -> {
+        // submit a task to write chunks to the chunked output object
+        final Future<?> future = ChunkedResponseExecutor.getInstance().submit(() -> {
             try {
                 final Object result = _execute(opChain, context).getFirst();
-                chunkResult(result, output);
+                if (null != elementStreamSerialiser) {
+                    chunkResult(result, elementStreamSerialiser, (ChunkedOutput<byte[]>) output);
+                } else {
+                    chunkResult(result, (ChunkedOutput<String>) output);
+                }
             } catch (final Exception e) {
                 throw new RuntimeException(e);
             } finally {
                 CloseableUtil.close(output);
                 CloseableUtil.close(opChain);
             }
-        });
-
-        // By default threads throw nothing, so set the ExceptionHandler
-        thread.setUncaughtExceptionHandler((thread1, exception) -> threadException[0] = exception.getCause());
-
-        thread.start();
+        }, output);
 
-        // Sleep to check exception will be caught
+        // Wait to check exception will be caught
         try {
-            Thread.sleep(1000);
+            future.get(1, TimeUnit.SECONDS);
+        } catch (final TimeoutException | CancellationException e) {
+            // The results are still being written
+        } catch (final ExecutionException e) {
+            threadException[0] = e.getCause().getCause();
         } catch (final InterruptedException e) {
             return Response.status(INTERNAL_SERVER_ERROR)
                     .entity(new Error.ErrorBuilder()
@@ -163,6 +201,7 @@ public class OperationServiceV2 extends AbstractOperationService implements IOpe
 
         // Return ok output
         return Response.ok(output)
+                .type(getResponseType(elementStreamSerialiser))
                 .header(GAFFER_MEDIA_TYPE_HEADER, GAFFER_MEDIA_TYPE)
                 .build();
     }
@@ -258,6 +297,23 @@ public class OperationServiceV2 extends AbstractOperationService implements IOpe
         // no action by default
     }
 
+    protected String getAcceptHeader() {
+        return null != httpHeaders ? httpHeaders.getHeaderString(HttpHeaders.ACCEPT) : null;
+    }
+
+    /**
+     * If the client accepts element streams but the results cannot be
+     * written as one, the response type is set to JSON so the client can
+     * tell which format was used.
+     */
+    private String getResponseType(final ElementStreamSerialiser elementStreamSerialiser) {
+        if (null != elementStreamSerialiser) {
+            return APPLICATION_GAFFER_ELEMENTS;
+        }
+        final String acceptHeader = getAcceptHeader();
+        return null != acceptHeader && acceptHeader.contains(APPLICATION_GAFFER_ELEMENTS) ? MediaType.APPLICATION_JSON : null;
+    }
+
     protected void chunkResult(final Object result, final ChunkedOutput<String> output) {
         if (result instanceof Iterable) {
             final Iterable itr = (Iterable) result;
@@ -278,4 +334,24 @@ public class OperationServiceV2 extends AbstractOperationService implements IOpe
             }
         }
     }
+
+    protected void chunkResult(final Object result, final ElementStreamSerialiser elementStreamSerialiser, final ChunkedOutput<byte[]> output) {
+        try {
+            if (result instanceof Iterable) {
+                final Iterable itr = (Iterable) result;
+                try {
+                    for (final Object item : itr) {
+                        output.write(elementStreamSerialiser.serialiseFrame(item));
+                    }
+                } finally {
+                    CloseableUtil.close(itr);
+                }
+            } else {
+                output.write(elementStreamSerialiser.serialiseFrame(result));
+            }
+            output.write(elementStreamSerialiser.serialiseEnd());
+        } catch (final IOException ioe) {
+            LOGGER.warn("IOException (chunks)", ioe);
+        }
+    }
 }
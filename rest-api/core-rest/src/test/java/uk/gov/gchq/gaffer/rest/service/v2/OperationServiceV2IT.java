@@ -24,10 +24,12 @@ import org.junit.jupiter.api.Test;
 
 import uk.gov.gchq.gaffer.commonutil.StreamUtil;
 import uk.gov.gchq.gaffer.commonutil.ToStringBuilder;
+import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.graph.Graph;
 import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
 import uk.gov.gchq.gaffer.operation.Operation;
 import uk.gov.gchq.gaffer.operation.OperationChain;
+import uk.gov.gchq.gaffer.operation.impl.Count;
 import uk.gov.gchq.gaffer.operation.impl.DiscardOutput;
 import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
 import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
@@ -39,12 +41,16 @@ import uk.gov.gchq.gaffer.rest.factory.UserFactory;
 import uk.gov.gchq.gaffer.rest.service.impl.OperationServiceIT;
 import uk.gov.gchq.gaffer.store.StoreProperties;
 import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.serialiser.ElementStreamSerialiser;
 import uk.gov.gchq.gaffer.user.User;
 
 import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
@@ -68,6 +74,48 @@ public class OperationServiceV2IT extends OperationServiceIT {
         assertNotNull(response.getHeaderString(ServiceConstants.JOB_ID_HEADER));
     }
 
+    @Test
+    public void shouldReturnAllElementsAsElementStream() throws IOException {
+        // Given
+        client.addElements(DEFAULT_ELEMENTS);
+
+        // When
+        final Response response = ((RestApiV2TestClient) client).executeOperationAsElementStream(new GetAllElements(), "/graph/operations/execute");
+
+        // Then
+        assertThat(response.getMediaType().toString()).isEqualTo(ServiceConstants.APPLICATION_GAFFER_ELEMENTS);
+        verifyElements(DEFAULT_ELEMENTS, readElementStream(response));
+    }
+
+    @Test
+    public void shouldReturnChunkedElementsAsElementStream() throws IOException {
+        // Given
+        client.addElements(DEFAULT_ELEMENTS);
+
+        // When
+        final Response response = ((RestApiV2TestClient) client).executeOperationAsElementStream(new GetAllElements(), "/graph/operations/execute/chunked");
+
+        // Then
+        assertThat(response.getMediaType().toString()).isEqualTo(ServiceConstants.APPLICATION_GAFFER_ELEMENTS);
+        verifyElements(DEFAULT_ELEMENTS, readElementStream(response));
+    }
+
+    @Test
+    public void shouldReturnJsonWhenElementStreamIsAcceptedButResultIsNotIterable() throws IOException {
+        // Given
+        client.addElements(DEFAULT_ELEMENTS);
+
+        // When
+        final Response response = ((RestApiV2TestClient) client).executeOperationAsElementStream(new OperationChain.Builder()
+                .first(new GetAllElements())
+                .then(new Count<>())
+                .build(), "/graph/operations/execute");
+
+        // Then
+        assertThat(response.getMediaType().toString()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
     @Test
     public void shouldReturn403WhenUnauthorised() throws IOException {
         // Given
@@ -254,6 +302,15 @@ public class OperationServiceV2IT extends OperationServiceIT {
         return new RestApiV2TestClient();
     }
 
+    private List<Element> readElementStream(final Response response) {
+        final Schema schema = client.getDefaultGraphFactory().getGraph().getSchema();
+        final List<Element> results = new ArrayList<>();
+        new ElementStreamSerialiser(schema)
+                .deserialise(response.readEntity(InputStream.class), Element.class)
+                .forEach(results::add);
+        return results;
+    }
+
     public static class OperationDetailPojo {
         private String name;
         private String summary;
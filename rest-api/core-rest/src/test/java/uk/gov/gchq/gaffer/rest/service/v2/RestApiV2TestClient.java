@@ -29,7 +29,9 @@ import javax.ws.rs.core.Response;
 
 import java.io.IOException;
 
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
+import static uk.gov.gchq.gaffer.rest.ServiceConstants.APPLICATION_GAFFER_ELEMENTS;
 
 public class RestApiV2TestClient extends RestApiTestClient {
 
@@ -46,6 +48,14 @@ public class RestApiV2TestClient extends RestApiTestClient {
                 .post(Entity.entity(JSONSerialiser.serialise(operation), APPLICATION_JSON_TYPE));
     }
 
+    public Response executeOperationAsElementStream(final Operation operation, final String path) throws IOException {
+        startServer();
+        return client.target(uriString)
+                .path(path)
+                .request(APPLICATION_GAFFER_ELEMENTS, APPLICATION_JSON)
+                .post(Entity.entity(JSONSerialiser.serialise(operation), APPLICATION_JSON_TYPE));
+    }
+
     public Response scheduleJob(final Job job) throws IOException {
         startServer();
         return client.target(uriString)
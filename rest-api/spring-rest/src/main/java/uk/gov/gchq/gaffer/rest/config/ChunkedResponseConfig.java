@@ -0,0 +1,54 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.rest.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import uk.gov.gchq.gaffer.rest.ChunkedResponseExecutor;
+import uk.gov.gchq.gaffer.rest.SystemProperty;
+
+/**
+ * Writes streaming responses, such as chunked operation results, using the
+ * shared {@link ChunkedResponseExecutor} rather than a new thread for each request.
+ */
+@Configuration
+public class ChunkedResponseConfig implements WebMvcConfigurer {
+
+    private Environment environment;
+
+    @Autowired
+    public void setEnvironment(final Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public void configureAsyncSupport(final AsyncSupportConfigurer configurer) {
+        // The executor is created on first use, after the gaffer properties have been set as system properties
+        configurer.setTaskExecutor(new TaskExecutorAdapter(task -> ChunkedResponseExecutor.getInstance().execute(task)));
+
+        final long writeTimeout = Long.parseLong(environment.getProperty(SystemProperty.CHUNKED_WRITE_TIMEOUT,
+                SystemProperty.CHUNKED_WRITE_TIMEOUT_DEFAULT));
+        if (writeTimeout > 0) {
+            configurer.setDefaultTimeout(writeTimeout);
+        }
+    }
+}
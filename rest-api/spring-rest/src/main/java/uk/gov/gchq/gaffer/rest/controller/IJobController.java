@@ -65,9 +65,10 @@ public interface IJobController {
             produces = APPLICATION_JSON_VALUE
     )
     @io.swagger.v3.oas.annotations.Operation(
-            summary = "Retrieves the details of all the asynchronous jobs"
+            summary = "Retrieves the details of all the asynchronous jobs",
+            description = "If a limit is given, only that page of jobs, ordered by job id, is returned"
     )
-    Iterable<JobDetail> getAllDetails() throws OperationException;
+    Iterable<JobDetail> getAllDetails(final Integer offset, final Integer limit) throws OperationException;
 
     @GetMapping(
             path = "/{id}/results",
@@ -29,6 +29,7 @@ import java.util.Set;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.web.bind.annotation.RequestMethod.GET;
 import static org.springframework.web.bind.annotation.RequestMethod.POST;
+import static uk.gov.gchq.gaffer.rest.ServiceConstants.APPLICATION_GAFFER_ELEMENTS;
 
 @Tag(name = "operations")
 @RequestMapping("/graph/operations")
@@ -106,11 +107,22 @@ public interface IOperationController {
     )
     ResponseEntity<Object> execute(final Operation operation);
 
+    @RequestMapping(
+            method = POST,
+            path = "/execute",
+            consumes = APPLICATION_JSON_VALUE,
+            produces = APPLICATION_GAFFER_ELEMENTS
+    )
+    @io.swagger.v3.oas.annotations.Operation(
+            summary = "Executes an operation against a Store, streaming Iterable results as elements"
+    )
+    ResponseEntity<StreamingResponseBody> executeElementStream(final Operation operation);
+
     @RequestMapping(
             method = POST,
             path = "/execute/chunked",
             consumes = APPLICATION_JSON_VALUE,
-            produces = APPLICATION_JSON_VALUE
+            produces = {APPLICATION_JSON_VALUE, APPLICATION_GAFFER_ELEMENTS}
     )
     @io.swagger.v3.oas.annotations.Operation(
             summary = "Executes an operation against a Store, returning a chunked output"
@@ -21,6 +21,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
@@ -83,8 +84,15 @@ public class JobController implements IJobController {
     }
 
     @Override
-    public Iterable<JobDetail> getAllDetails() throws OperationException {
-        return graphFactory.getGraph().execute(new GetAllJobDetails(), userFactory.createContext());
+    public Iterable<JobDetail> getAllDetails(
+            @RequestParam(value = "offset", required = false) @Parameter(description = "The number of jobs to skip, when a limit is given") final Integer offset,
+            @RequestParam(value = "limit", required = false) @Parameter(description = "The maximum number of jobs to return") final Integer limit) throws OperationException {
+        return graphFactory.getGraph().execute(new GetAllJobDetails.Builder()
+                        .offset(offset)
+                        .limit(limit)
+                        .build(),
+                userFactory.createContext()
+        );
     }
 
     @Override
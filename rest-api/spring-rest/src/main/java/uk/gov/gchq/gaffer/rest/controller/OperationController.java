@@ -19,11 +19,15 @@ package uk.gov.gchq.gaffer.rest.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Parameter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import uk.gov.gchq.gaffer.commonutil.CloseableUtil;
@@ -36,12 +40,15 @@ import uk.gov.gchq.gaffer.rest.factory.GraphFactory;
 import uk.gov.gchq.gaffer.rest.factory.UserFactory;
 import uk.gov.gchq.gaffer.rest.model.OperationDetail;
 import uk.gov.gchq.gaffer.rest.service.v2.AbstractOperationService;
+import uk.gov.gchq.gaffer.store.serialiser.ElementStreamSerialiser;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Set;
 
 import static uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser.createDefaultMapper;
+import static uk.gov.gchq.gaffer.rest.ServiceConstants.APPLICATION_GAFFER_ELEMENTS;
 import static uk.gov.gchq.gaffer.rest.ServiceConstants.GAFFER_MEDIA_TYPE;
 import static uk.gov.gchq.gaffer.rest.ServiceConstants.GAFFER_MEDIA_TYPE_HEADER;
 import static uk.gov.gchq.gaffer.rest.ServiceConstants.JOB_ID_HEADER;
@@ -136,14 +143,47 @@ public class OperationController extends AbstractOperationService implements IOp
                 .body(resultAndJobId.getFirst());
     }
 
+    @Override
+    public ResponseEntity<StreamingResponseBody> executeElementStream(@RequestBody final Operation operation) {
+        final Pair<Object, String> resultAndJobId = _execute(operation, userFactory.createContext());
+        final Object result = resultAndJobId.getFirst();
+
+        // Only iterable results are written as element streams
+        final ElementStreamSerialiser elementStreamSerialiser = result instanceof Iterable ? getElementStreamSerialiser(getAcceptHeader()) : null;
+        final StreamingResponseBody responseBody;
+        if (null != elementStreamSerialiser) {
+            responseBody = response -> writeElementStream(result, elementStreamSerialiser, response);
+        } else {
+            responseBody = response -> {
+                try {
+                    response.write(mapper.writeValueAsBytes(result));
+                    response.flush();
+                } catch (final IOException ioe) {
+                    throw new GafferRuntimeException("Unable to serialise results: ", ioe, Status.INTERNAL_SERVER_ERROR);
+                } finally {
+                    CloseableUtil.close(result);
+                }
+            };
+        }
+
+        return ResponseEntity.ok()
+                .header(GAFFER_MEDIA_TYPE_HEADER, GAFFER_MEDIA_TYPE)
+                .header(JOB_ID_HEADER, resultAndJobId.getSecond())
+                .contentType(null != elementStreamSerialiser ? MediaType.parseMediaType(APPLICATION_GAFFER_ELEMENTS) : MediaType.APPLICATION_JSON)
+                .body(responseBody);
+    }
+
     @Override
     @SuppressWarnings("PMD.UseTryWithResources")
     public ResponseEntity<StreamingResponseBody> executeChunked(@RequestBody final Operation operation) {
+        final ElementStreamSerialiser elementStreamSerialiser = getElementStreamSerialiser(getAcceptHeader());
         final StreamingResponseBody responseBody = response -> {
             try {
                 final Pair<Object, String> resultAndJobId = _execute(operation, userFactory.createContext());
                 final Object result = resultAndJobId.getFirst();
-                if (result instanceof Iterable) {
+                if (null != elementStreamSerialiser) {
+                    writeElementStream(result, elementStreamSerialiser, response);
+                } else if (result instanceof Iterable) {
                     final Iterable itr = (Iterable) result;
                     try {
                         for (final Object item : itr) {
@@ -173,10 +213,37 @@ public class OperationController extends AbstractOperationService implements IOp
 
         return ResponseEntity.ok()
                 .header(GAFFER_MEDIA_TYPE_HEADER, GAFFER_MEDIA_TYPE)
-                .contentType(MediaType.APPLICATION_JSON)
+                .contentType(null != elementStreamSerialiser ? MediaType.parseMediaType(APPLICATION_GAFFER_ELEMENTS) : MediaType.APPLICATION_JSON)
                 .body(responseBody);
     }
 
+    private void writeElementStream(final Object result, final ElementStreamSerialiser elementStreamSerialiser, final OutputStream response) {
+        try {
+            if (result instanceof Iterable) {
+                final Iterable itr = (Iterable) result;
+                try {
+                    for (final Object item : itr) {
+                        response.write(elementStreamSerialiser.serialiseFrame(item));
+                        response.flush();
+                    }
+                } finally {
+                    CloseableUtil.close(itr);
+                }
+            } else {
+                response.write(elementStreamSerialiser.serialiseFrame(result));
+            }
+            response.write(elementStreamSerialiser.serialiseEnd());
+            response.flush();
+        } catch (final IOException ioe) {
+            throw new GafferRuntimeException("Unable to serialise chunk: ", ioe, Status.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private static String getAcceptHeader() {
+        final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes ? ((ServletRequestAttributes) attributes).getRequest().getHeader(HttpHeaders.ACCEPT) : null;
+    }
+
     @Override
     protected UserFactory getUserFactory() {
         return userFactory;
@@ -20,6 +20,7 @@ import com.google.common.collect.Sets;
 import org.apache.commons.lang3.exception.CloneFailedException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
@@ -280,6 +281,24 @@ public class OperationControllerTest {
 
     }
 
+    @SuppressWarnings({"unchecked"})
+    @Test
+    public void shouldStreamJsonFromElementStreamEndpointWhenElementStreamIsNotAccepted() throws IOException, OperationException {
+        // Given
+        when(userFactory.createContext()).thenReturn(new Context(new User()));
+        when(store.execute(any(Output.class), any(Context.class))).thenReturn(Arrays.asList(1, 2, 3));
+
+        // When
+        final ResponseEntity<StreamingResponseBody> response = operationController.executeElementStream(new GetAllElements());
+        try (final OutputStream output = new ByteArrayOutputStream()) {
+            response.getBody().writeTo(output);
+
+            // Then
+            assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+            assertThat(output.toString()).isEqualTo("[1,2,3]");
+        }
+    }
+
     private static class UninstantiatableOperation implements Operation {
 
         @Override
@@ -43,6 +43,7 @@ public class AccumuloProperties extends StoreProperties {
     public static final String NAMESPACE = "accumulo.namespace";
     public static final String THREADS_FOR_BATCH_SCANNER = "accumulo.batchScannerThreads";
     public static final String MAX_ENTRIES_FOR_BATCH_SCANNER = "accumulo.entriesForBatchScanner";
+    public static final String PREFETCH_DEPTH_FOR_BATCH_SCANNER = "accumulo.prefetchDepthForBatchScanner";
     public static final String CLIENT_SIDE_BLOOM_FILTER_SIZE = "accumulo.clientSideBloomFilterSize";
     public static final String FALSE_POSITIVE_RATE = "accumulo.falsePositiveRate";
     public static final String MAX_BLOOM_FILTER_TO_PASS_TO_AN_ITERATOR = "accumulo.maxBloomFilterToPassToAnIterator";
@@ -56,6 +57,7 @@ public class AccumuloProperties extends StoreProperties {
     // default values
     private static final String NUM_THREADS_FOR_BATCH_WRITER_DEFAULT = "10";
     private static final String MAX_ENTRIES_FOR_BATCH_SCANNER_DEFAULT = "50000";
+    private static final String PREFETCH_DEPTH_FOR_BATCH_SCANNER_DEFAULT = "0";
     private static final String CLIENT_SIDE_BLOOM_FILTER_SIZE_DEFAULT = "838860800";
     private static final String FALSE_POSITIVE_RATE_DEFAULT = "0.0002";
     private static final String MAX_BLOOM_FILTER_TO_PASS_TO_AN_ITERATOR_DEFAULT = "8388608";
@@ -336,6 +338,27 @@ public class AccumuloProperties extends StoreProperties {
         set(MAX_ENTRIES_FOR_BATCH_SCANNER, maxEntriesForBatchScanner);
     }
 
+    /**
+     * Gets the number of batch scanners that should be opened ahead of the one
+     * currently being read when retrieving elements for a large number of seeds.
+     * A depth of 0 disables prefetching.
+     *
+     * @return An integer representing the number of batch scanners to open ahead.
+     */
+    public int getPrefetchDepthForBatchScanner() {
+        return Integer.parseInt(get(PREFETCH_DEPTH_FOR_BATCH_SCANNER, PREFETCH_DEPTH_FOR_BATCH_SCANNER_DEFAULT));
+    }
+
+    /**
+     * Sets the number of batch scanners that should be opened ahead of the one
+     * currently being read. A depth of 0 disables prefetching.
+     *
+     * @param prefetchDepthForBatchScanner the number of batch scanners to open ahead.
+     */
+    public void setPrefetchDepthForBatchScanner(final String prefetchDepthForBatchScanner) {
+        set(PREFETCH_DEPTH_FOR_BATCH_SCANNER, prefetchDepthForBatchScanner);
+    }
+
     /**
      * Gets the size that should be used for the creation of bloom filters on the
      * client side.
@@ -294,6 +294,13 @@ public class AccumuloStore extends Store {
                     LegacySupport.InputConfigurator.addIterator(AccumuloInputFormat.class, conf, elementPostFilter);
                     LOGGER.info("Added post-aggregation filter iterator of {}", elementPostFilter);
                 }
+                final IteratorSetting elementProjection = getKeyPackage()
+                        .getIteratorFactory()
+                        .getElementPropertyProjectionIteratorSetting(view, this);
+                if (nonNull(elementProjection)) {
+                    LegacySupport.InputConfigurator.addIterator(AccumuloInputFormat.class, conf, elementProjection);
+                    LOGGER.info("Added property projection iterator of {}", elementProjection);
+                }
                 final IteratorSetting edgeEntityDirFilter = getKeyPackage()
                         .getIteratorFactory()
                         .getEdgeEntityDirectionFilterIteratorSetting(graphFilters);
@@ -121,11 +121,12 @@ public abstract class AbstractCoreKeyAccumuloElementConverter implements Accumul
     @Override
     public Value getValueFromProperties(final String group, final Properties properties) {
         final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final ByteArrayOutputStream scratch = new ByteArrayOutputStream();
         final SchemaElementDefinition elementDefinition = getSchemaElementDefinition(group);
 
         for (final String propertyName : elementDefinition.getProperties()) {
             if (isStoredInValue(propertyName, elementDefinition)) {
-                serialiseSizeAndPropertyValue(propertyName, elementDefinition, properties, stream);
+                serialiseSizeAndPropertyValue(propertyName, elementDefinition, properties, stream, scratch);
             }
         }
 
@@ -251,10 +252,11 @@ public abstract class AbstractCoreKeyAccumuloElementConverter implements Accumul
     @Override
     public byte[] buildColumnQualifier(final String group, final Properties properties) {
         final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final ByteArrayOutputStream scratch = new ByteArrayOutputStream();
         final SchemaElementDefinition elementDefinition = getSchemaElementDefinition(group);
 
         for (final String groupByPropertyName : elementDefinition.getGroupBy()) {
-            serialiseSizeAndPropertyValue(groupByPropertyName, elementDefinition, properties, stream);
+            serialiseSizeAndPropertyValue(groupByPropertyName, elementDefinition, properties, stream, scratch);
         }
 
         return stream.toByteArray();
@@ -269,18 +271,37 @@ public abstract class AbstractCoreKeyAccumuloElementConverter implements Accumul
     }
 
     protected void serialiseSizeAndPropertyValue(final String propertyName, final SchemaElementDefinition elementDefinition, final Properties properties, final ByteArrayOutputStream stream) {
+        serialiseSizeAndPropertyValue(propertyName, elementDefinition, properties, stream, new ByteArrayOutputStream());
+    }
+
+    /**
+     * Writes the size of the serialised property followed by the serialised
+     * property to the stream. The property is serialised directly into the
+     * scratch stream, which is reset first, so a single scratch stream can be
+     * reused for all of the properties of an element.
+     *
+     * @param propertyName      the name of the property to serialise
+     * @param elementDefinition the schema definition of the element
+     * @param properties        the properties of the element
+     * @param stream            the stream to write the size and serialised property to
+     * @param scratch           a reusable stream to serialise the property into
+     */
+    protected void serialiseSizeAndPropertyValue(final String propertyName, final SchemaElementDefinition elementDefinition, final Properties properties, final ByteArrayOutputStream stream, final ByteArrayOutputStream scratch) {
         try {
             final TypeDefinition typeDefinition = elementDefinition.getPropertyTypeDef(propertyName);
             final ToBytesSerialiser serialiser = (null == typeDefinition) ? null : (ToBytesSerialiser) typeDefinition.getSerialiser();
-            byte[] bytes;
-            if (null == serialiser) {
-                bytes = AccumuloStoreConstants.EMPTY_BYTES;
-            } else {
-                Object value = properties.get(propertyName);
-                //serialiseNull could be different to AccumuloStoreConstants.EMPTY_BYTES
-                bytes = (null == value) ? serialiser.serialiseNull() : serialiser.serialise(value);
+            scratch.reset();
+            if (null != serialiser) {
+                final Object value = properties.get(propertyName);
+                if (null == value) {
+                    //serialiseNull could be different to AccumuloStoreConstants.EMPTY_BYTES
+                    scratch.write(serialiser.serialiseNull());
+                } else {
+                    serialiser.serialiseTo(value, scratch);
+                }
             }
-            writeBytes(bytes, stream);
+            CompactRawSerialisationUtils.write(scratch.size(), stream);
+            scratch.writeTo(stream);
         } catch (final IOException e) {
             throw new AccumuloElementConversionException("Failed to write serialised property to ByteArrayOutputStream" + propertyName, e);
         }
@@ -493,12 +514,6 @@ public abstract class AbstractCoreKeyAccumuloElementConverter implements Accumul
                 && !propertyName.equals(timestampProperty);
     }
 
-    private void writeBytes(final byte[] bytes, final ByteArrayOutputStream out)
-            throws IOException {
-        CompactRawSerialisationUtils.write(bytes.length, out);
-        out.write(bytes);
-    }
-
     private Object getDeserialisedObject(final ToBytesSerialiser serialiser, final byte[] bytes, final int from, final int length) throws SerialisationException {
         //Don't initialise with  #deserialiseEmpty() as this might initialise an complex empty structure to be immediately overwritten e.g. TreeSet<String>
         Object deserialisedObject;
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.accumulostore.key.impl;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Value;
+import org.apache.accumulo.core.iterators.IteratorEnvironment;
+import org.apache.accumulo.core.iterators.OptionDescriber;
+import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
+import org.apache.accumulo.core.iterators.WrappingIterator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.gov.gchq.gaffer.accumulostore.key.AccumuloElementConverter;
+import uk.gov.gchq.gaffer.accumulostore.key.IteratorException;
+import uk.gov.gchq.gaffer.accumulostore.utils.AccumuloStoreConstants;
+import uk.gov.gchq.gaffer.accumulostore.utils.IteratorOptionsBuilder;
+import uk.gov.gchq.gaffer.commonutil.StringUtil;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.serialisation.implementation.raw.CompactRawSerialisationUtils;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.schema.SchemaElementDefinition;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.util.Objects.isNull;
+
+/**
+ * The ElementPropertyProjectionIterator removes properties that are not
+ * required by the {@link View} from the {@link Value} on the tablet server,
+ * so they are not sent to the client.
+ * <p>
+ * The properties to keep are taken from the {@code properties} and
+ * {@code excludeProperties} of each group in the {@link View}. Properties that
+ * are not required are rewritten as empty, without being deserialised.
+ * The Key is never changed as the groupBy, visibility and timestamp properties
+ * are needed to keep the keys sorted and distinct. Groups with a transformer or
+ * post transform filter are not projected, as these are applied on the client
+ * and may use any property.
+ */
+public class ElementPropertyProjectionIterator extends WrappingIterator implements OptionDescriber {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ElementPropertyProjectionIterator.class);
+
+    @SuppressFBWarnings(value = "UWF_FIELD_NOT_INITIALIZED_IN_CONSTRUCTOR", justification = "elementConverter is initialised in init method, which is always called first")
+    private AccumuloElementConverter elementConverter;
+
+    private Map<String, boolean[]> keptValuePropertiesByGroup = Collections.emptyMap();
+
+    @Override
+    public void init(final SortedKeyValueIterator<Key, Value> source,
+                     final Map<String, String> options,
+                     final IteratorEnvironment env) throws IOException {
+        super.init(source, options, env);
+        validateOptions(options);
+
+        final Schema schema = Schema.fromJson(StringUtil.toBytes(options.get(AccumuloStoreConstants.SCHEMA)));
+        final View view = View.fromJson(StringUtil.toBytes(options.get(AccumuloStoreConstants.VIEW)));
+        LOGGER.debug("Initialising ElementPropertyProjectionIterator with View {}", view);
+
+        final String elementConverterClass = options.get(AccumuloStoreConstants.ACCUMULO_ELEMENT_CONVERTER_CLASS);
+        try {
+            elementConverter = Class
+                    .forName(elementConverterClass)
+                    .asSubclass(AccumuloElementConverter.class)
+                    .getConstructor(Schema.class)
+                    .newInstance(schema);
+            LOGGER.debug("Creating AccumuloElementConverter of class {}", elementConverterClass);
+        } catch (final ClassNotFoundException | InstantiationException | IllegalAccessException | IllegalArgumentException
+                | InvocationTargetException | NoSuchMethodException | SecurityException e) {
+            throw new IteratorException("Failed to create element converter of the class name provided ("
+                    + elementConverterClass + ")", e);
+        }
+
+        keptValuePropertiesByGroup = getKeptValueProperties(schema, view);
+        LOGGER.debug("Projecting the properties of groups {}", keptValuePropertiesByGroup.keySet());
+    }
+
+    @Override
+    public Value getTopValue() {
+        final Value value = super.getTopValue();
+        if (keptValuePropertiesByGroup.isEmpty()) {
+            return value;
+        }
+
+        final String group = elementConverter.getGroupFromColumnFamily(getTopKey().getColumnFamilyData().getBackingArray());
+        final boolean[] keptProperties = keptValuePropertiesByGroup.get(group);
+        if (isNull(keptProperties)) {
+            return value;
+        }
+
+        return project(value, keptProperties);
+    }
+
+    @Override
+    public SortedKeyValueIterator<Key, Value> deepCopy(final IteratorEnvironment env) {
+        final ElementPropertyProjectionIterator newInstance = new ElementPropertyProjectionIterator();
+        newInstance.setSource(getSource().deepCopy(env));
+        newInstance.elementConverter = elementConverter;
+        newInstance.keptValuePropertiesByGroup = keptValuePropertiesByGroup;
+        return newInstance;
+    }
+
+    @Override
+    public IteratorOptions describeOptions() {
+        return new IteratorOptionsBuilder(AccumuloStoreConstants.ELEMENT_PROPERTY_PROJECTION_ITERATOR_NAME,
+                "Only returns the properties of elements that are required by the given view")
+                .addViewNamedOption().addSchemaNamedOption().addElementConverterClassNamedOption().build();
+    }
+
+    @Override
+    public boolean validateOptions(final Map<String, String> options) {
+        if (!options.containsKey(AccumuloStoreConstants.ACCUMULO_ELEMENT_CONVERTER_CLASS)) {
+            throw new IllegalArgumentException("Must specify the " + AccumuloStoreConstants.ACCUMULO_ELEMENT_CONVERTER_CLASS);
+        }
+        if (!options.containsKey(AccumuloStoreConstants.SCHEMA)) {
+            throw new IllegalArgumentException("Must specify the " + AccumuloStoreConstants.SCHEMA);
+        }
+        if (!options.containsKey(AccumuloStoreConstants.VIEW)) {
+            throw new IllegalArgumentException("Must specify the " + AccumuloStoreConstants.VIEW);
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the {@link View} removes any properties from a group that
+     * can be projected on the tablet server.
+     *
+     * @param view the view
+     * @return true if any group in the view can be projected
+     */
+    public static boolean isProjectionRequired(final View view) {
+        for (final String group : view.getGroups()) {
+            if (isProjectable(view.getElement(group))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isProjectable(final ViewElementDefinition viewDef) {
+        return null != viewDef
+                && !viewDef.isAllProperties()
+                && !viewDef.hasTransform()
+                && !viewDef.hasPostTransformFilters();
+    }
+
+    private static Map<String, boolean[]> getKeptValueProperties(final Schema schema, final View view) {
+        final String timestampProperty = schema.getConfig(AccumuloStoreConstants.TIMESTAMP_PROPERTY);
+        final Map<String, boolean[]> keptValuePropertiesByGroup = new HashMap<>();
+        for (final String group : view.getGroups()) {
+            final ViewElementDefinition viewDef = view.getElement(group);
+            final SchemaElementDefinition schemaDef = schema.getElement(group);
+            if (null == schemaDef || !isProjectable(viewDef)) {
+                continue;
+            }
+
+            // The properties stored in the Value, in the order they are serialised
+            final List<Boolean> kept = new ArrayList<>();
+            boolean anyRemoved = false;
+            for (final String propertyName : schemaDef.getProperties()) {
+                if (!schemaDef.getGroupBy().contains(propertyName)
+                        && !propertyName.equals(schema.getVisibilityProperty())
+                        && !Objects.equals(propertyName, timestampProperty)) {
+                    final boolean keep = null != viewDef.getProperties()
+                            ? viewDef.getProperties().contains(propertyName)
+                            : !viewDef.getExcludeProperties().contains(propertyName);
+                    kept.add(keep);
+                    anyRemoved |= !keep;
+                }
+            }
+
+            if (anyRemoved) {
+                final boolean[] keptArray = new boolean[kept.size()];
+                for (int i = 0; i < keptArray.length; i++) {
+                    keptArray[i] = kept.get(i);
+                }
+                keptValuePropertiesByGroup.put(group, keptArray);
+            }
+        }
+        return keptValuePropertiesByGroup;
+    }
+
+    private static Value project(final Value value, final boolean[] keptProperties) {
+        final byte[] bytes = value.get();
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream(bytes.length);
+        // Trailing properties that are not kept can be dropped altogether
+        int projectedLength = 0;
+        int position = 0;
+        try {
+            for (final boolean keep : keptProperties) {
+                if (position >= bytes.length) {
+                    break;
+                }
+                final int lengthSize = CompactRawSerialisationUtils.decodeVIntSize(bytes[position]);
+                final int propertyLength = (int) CompactRawSerialisationUtils.readLong(bytes, position);
+                final int end = position + lengthSize + propertyLength;
+                if (keep) {
+                    stream.write(bytes, position, end - position);
+                    projectedLength = stream.size();
+                } else {
+                    stream.write(0);
+                }
+                position = end;
+            }
+        } catch (final SerialisationException | IndexOutOfBoundsException e) {
+            LOGGER.warn("Unable to project properties of value, returning all properties", e);
+            return value;
+        }
+
+        if (position < bytes.length) {
+            stream.write(bytes, position, bytes.length - position);
+            projectedLength = stream.size();
+        }
+
+        final byte[] projected = stream.toByteArray();
+        return new Value(projected, 0, projectedLength);
+    }
+}
@@ -47,6 +47,7 @@ public class GetElementsBetweenSetsHandler implements OutputOperationHandler<Get
             return new AccumuloIDBetweenSetsRetriever(store, operation, user,
                     iteratorFactory.getElementPreAggregationFilterIteratorSetting(operation.getView(), store),
                     iteratorFactory.getElementPostAggregationFilterIteratorSetting(operation.getView(), store),
+                    iteratorFactory.getElementPropertyProjectionIteratorSetting(operation.getView(), store),
                     iteratorFactory.getEdgeEntityDirectionFilterIteratorSetting(operation),
                     iteratorFactory.getQueryTimeAggregatorIteratorSetting(operation.getView(), store));
         } catch (final IteratorSettingException | StoreException e) {
@@ -46,6 +46,7 @@ public class GetElementsBetweenSetsPairsHandler implements OutputOperationHandle
             return new AccumuloIDBetweenSetsRetriever(store, operation.getBackwardsCompatibleOperation(), user,
                     iteratorFactory.getElementPreAggregationFilterIteratorSetting(operation.getView(), store),
                     iteratorFactory.getElementPostAggregationFilterIteratorSetting(operation.getView(), store),
+                    iteratorFactory.getElementPropertyProjectionIteratorSetting(operation.getView(), store),
                     iteratorFactory.getEdgeEntityDirectionFilterIteratorSetting(operation),
                     iteratorFactory.getQueryTimeAggregatorIteratorSetting(operation.getView(), store));
         } catch (final IteratorSettingException | StoreException e) {
@@ -46,6 +46,7 @@ public class GetElementsInRangesHandler implements OutputOperationHandler<GetEle
             return new AccumuloRangeIDRetriever<>(store, operation, user,
                     itrFactory.getElementPreAggregationFilterIteratorSetting(operation.getView(), store),
                     itrFactory.getElementPostAggregationFilterIteratorSetting(operation.getView(), store),
+                    itrFactory.getElementPropertyProjectionIteratorSetting(operation.getView(), store),
                     itrFactory.getEdgeEntityDirectionFilterIteratorSetting(operation),
                     itrFactory.getElementPropertyRangeQueryFilter(operation),
                     itrFactory.getQueryTimeAggregatorIteratorSetting(operation.getView(), store));
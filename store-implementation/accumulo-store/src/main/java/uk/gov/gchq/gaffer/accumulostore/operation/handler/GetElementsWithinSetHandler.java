@@ -46,6 +46,7 @@ public class GetElementsWithinSetHandler implements OutputOperationHandler<GetEl
             return new AccumuloIDWithinSetRetriever(store, operation, user,
                     iteratorFactory.getElementPreAggregationFilterIteratorSetting(operation.getView(), store),
                     iteratorFactory.getElementPostAggregationFilterIteratorSetting(operation.getView(), store),
+                    iteratorFactory.getElementPropertyProjectionIteratorSetting(operation.getView(), store),
                     iteratorFactory.getEdgeEntityDirectionFilterIteratorSetting(operation),
                     iteratorFactory.getQueryTimeAggregatorIteratorSetting(operation.getView(), store));
         } catch (final IteratorSettingException | StoreException e) {
@@ -60,6 +60,7 @@ public class SummariseGroupOverRangesHandler implements OutputOperationHandler<S
             return new AccumuloRangeIDRetriever<>(store, operation, user,
                     itrFactory.getElementPreAggregationFilterIteratorSetting(operation.getView(), store),
                     itrFactory.getElementPostAggregationFilterIteratorSetting(operation.getView(), store),
+                    itrFactory.getElementPropertyProjectionIteratorSetting(operation.getView(), store),
                     itrFactory.getEdgeEntityDirectionFilterIteratorSetting(operation),
                     itrFactory.getElementPropertyRangeQueryFilter(operation),
                     itrFactory.getRowIDAggregatorIteratorSetting(store, columnFamily));
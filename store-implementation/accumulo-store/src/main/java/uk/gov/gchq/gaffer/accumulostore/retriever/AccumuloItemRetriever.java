@@ -39,7 +39,9 @@ import uk.gov.gchq.gaffer.store.StoreException;
 import uk.gov.gchq.gaffer.user.User;
 
 import java.io.Closeable;
+import java.util.ArrayDeque;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map.Entry;
@@ -81,7 +83,11 @@ public abstract class AccumuloItemRetriever<OP extends Output<Iterable<? extends
         }
 
         try {
-            iterator = new ElementIterator(idIterator);
+            if (store.getProperties().getPrefetchDepthForBatchScanner() > 0) {
+                iterator = new PipelinedElementIterator(idIterator);
+            } else {
+                iterator = new ElementIterator(idIterator);
+            }
         } catch (final RetrieverException e) {
             LOGGER.error("{} returning empty iterator", e.getMessage(), e);
             return new EmptyIterator<>();
@@ -92,25 +98,29 @@ public abstract class AccumuloItemRetriever<OP extends Output<Iterable<? extends
 
     protected abstract void addToRanges(final I_ITEM seed, final Set<Range> ranges) throws RangeFactoryException;
 
+    private Set<Range> getNextRanges(final Iterator<? extends I_ITEM> idsIterator) {
+        int count = 0;
+        final Set<Range> ranges = new HashSet<>();
+        while (idsIterator.hasNext() && count < store.getProperties().getMaxEntriesForBatchScanner()) {
+            count++;
+            try {
+                addToRanges(idsIterator.next(), ranges);
+            } catch (final RangeFactoryException e) {
+                LOGGER.error("Failed to create a range from given seed", e);
+            }
+        }
+        return ranges;
+    }
+
     protected class ElementIterator implements Iterator<Element>, Closeable {
         private final Iterator<? extends I_ITEM> idsIterator;
-        private int count;
         private BatchScanner scanner;
         private Iterator<Entry<Key, Value>> scannerIterator;
         private Element nextElm;
 
         public ElementIterator(final Iterator<? extends I_ITEM> idIterator) throws RetrieverException {
             idsIterator = idIterator;
-            count = 0;
-            final Set<Range> ranges = new HashSet<>();
-            while (idsIterator.hasNext() && count < store.getProperties().getMaxEntriesForBatchScanner()) {
-                count++;
-                try {
-                    addToRanges(idsIterator.next(), ranges);
-                } catch (final RangeFactoryException e) {
-                    LOGGER.error("Failed to create a range from given seed pair", e);
-                }
-            }
+            final Set<Range> ranges = getNextRanges(idsIterator);
 
             // Create BatchScanner, appropriately configured (i.e. ranges,
             // iterators, etc).
@@ -153,16 +163,7 @@ public abstract class AccumuloItemRetriever<OP extends Output<Iterable<? extends
             // If so create the next scanner, if there are no more entities
             // then return false.
             while (idsIterator.hasNext() && !scannerIterator.hasNext()) {
-                count = 0;
-                final Set<Range> ranges = new HashSet<>();
-                while (idsIterator.hasNext() && count < store.getProperties().getMaxEntriesForBatchScanner()) {
-                    count++;
-                    try {
-                        addToRanges(idsIterator.next(), ranges);
-                    } catch (final RangeFactoryException e) {
-                        LOGGER.error("Failed to create a range from given seed", e);
-                    }
-                }
+                final Set<Range> ranges = getNextRanges(idsIterator);
                 scanner.close();
                 try {
                     scanner = getScanner(ranges);
@@ -200,4 +201,122 @@ public abstract class AccumuloItemRetriever<OP extends Output<Iterable<? extends
             CloseableUtil.close(scanner);
         }
     }
+
+    /**
+     * An iterator that pipelines the batches of seeds. Up to
+     * {@link uk.gov.gchq.gaffer.accumulostore.AccumuloProperties#getPrefetchDepthForBatchScanner()}
+     * batch scanners are kept open ahead of the one being read, so the tablet
+     * servers are already scanning the next batches while the current one is
+     * consumed. Results are decoded on the consuming thread, so no additional
+     * threads are held if the iterator is abandoned without being closed.
+     */
+    protected class PipelinedElementIterator implements Iterator<Element>, Closeable {
+        private final Iterator<? extends I_ITEM> idsIterator;
+        private final int prefetchDepth;
+        private final Deque<BatchScanner> scanners = new ArrayDeque<>();
+        private final Deque<Iterator<Entry<Key, Value>>> scannerIterators = new ArrayDeque<>();
+        private boolean closed;
+        private Element nextElm;
+
+        public PipelinedElementIterator(final Iterator<? extends I_ITEM> idIterator) throws RetrieverException {
+            idsIterator = idIterator;
+            prefetchDepth = store.getProperties().getPrefetchDepthForBatchScanner();
+            try {
+                openScanners();
+            } catch (final TableNotFoundException | StoreException e) {
+                closeScanners();
+                throw new RetrieverException(e);
+            }
+        }
+
+        /**
+         * Opens scanners until there are enough ahead of the current one.
+         * Calling iterator() on a scanner starts the lookups on the tablet servers.
+         */
+        private void openScanners() throws TableNotFoundException, StoreException {
+            while (scanners.size() <= prefetchDepth && idsIterator.hasNext()) {
+                final BatchScanner scanner = getScanner(getNextRanges(idsIterator));
+                scanners.addLast(scanner);
+                scannerIterators.addLast(scanner.iterator());
+            }
+        }
+
+        private Element toElement(final Entry<Key, Value> entry) {
+            final Element element;
+            try {
+                element = elementConverter.getFullElement(entry.getKey(), entry.getValue(), includeMatchedVertex);
+            } catch (final AccumuloElementConversionException e) {
+                LOGGER.error("Failed to re-create an element from a key value entry set returning next element as null", e);
+                return null;
+            }
+            doTransformation(element);
+            if (doPostFilter(element)) {
+                ViewUtil.removeProperties(operation.getView(), element);
+                return element;
+            }
+            return null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (nonNull(nextElm)) {
+                return true;
+            }
+
+            while (!closed && !scannerIterators.isEmpty()) {
+                final Iterator<Entry<Key, Value>> scannerIterator = scannerIterators.peekFirst();
+                while (scannerIterator.hasNext()) {
+                    nextElm = toElement(scannerIterator.next());
+                    if (nonNull(nextElm)) {
+                        return true;
+                    }
+                }
+
+                // The current scanner is spent, so close it and open the next one ahead.
+                scannerIterators.removeFirst();
+                CloseableUtil.close(scanners.removeFirst());
+                try {
+                    openScanners();
+                } catch (final TableNotFoundException | StoreException e) {
+                    LOGGER.error("{} returning iterator doesn't have any more elements", e.getMessage(), e);
+                    close();
+                }
+            }
+
+            close();
+            return false;
+        }
+
+        @Override
+        public Element next() {
+            if (nextElm == null && !hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Element nextReturn = nextElm;
+            nextElm = null;
+            return nextReturn;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("Unable to remove elements from this iterator");
+        }
+
+        @Override
+        public void close() {
+            closeScanners();
+        }
+
+        private void closeScanners() {
+            if (!closed) {
+                closed = true;
+                for (final BatchScanner scanner : scanners) {
+                    CloseableUtil.close(scanner);
+                }
+                scanners.clear();
+                scannerIterators.clear();
+                CloseableUtil.close(idsIterator, ids);
+            }
+        }
+    }
 }
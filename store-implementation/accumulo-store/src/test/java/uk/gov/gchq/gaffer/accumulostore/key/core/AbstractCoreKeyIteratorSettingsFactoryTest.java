@@ -23,18 +23,21 @@ import uk.gov.gchq.gaffer.accumulostore.key.AccumuloElementConverter;
 import uk.gov.gchq.gaffer.accumulostore.key.AccumuloKeyPackage;
 import uk.gov.gchq.gaffer.accumulostore.key.impl.ElementPostAggregationFilter;
 import uk.gov.gchq.gaffer.accumulostore.key.impl.ElementPreAggregationFilter;
+import uk.gov.gchq.gaffer.accumulostore.key.impl.ElementPropertyProjectionIterator;
 import uk.gov.gchq.gaffer.accumulostore.key.impl.ValidatorFilter;
 import uk.gov.gchq.gaffer.accumulostore.utils.AccumuloStoreConstants;
 import uk.gov.gchq.gaffer.commonutil.JsonAssert;
 import uk.gov.gchq.gaffer.commonutil.TestGroups;
 import uk.gov.gchq.gaffer.commonutil.TestPropertyNames;
 import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
+import uk.gov.gchq.gaffer.data.element.function.ElementTransformer;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
 import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.gaffer.store.schema.SchemaEdgeDefinition;
 import uk.gov.gchq.gaffer.store.schema.TypeDefinition;
 import uk.gov.gchq.koryphe.impl.binaryoperator.StringConcat;
+import uk.gov.gchq.koryphe.impl.function.Identity;
 import uk.gov.gchq.koryphe.impl.predicate.Exists;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -199,10 +202,81 @@ public abstract class AbstractCoreKeyIteratorSettingsFactoryTest {
         assertEquals(converter.getClass().getName(), iterator.getOptions().get(AccumuloStoreConstants.ACCUMULO_ELEMENT_CONVERTER_CLASS));
     }
 
+    @Test
+    public void shouldReturnNullPropertyProjectionIfAllProperties() throws Exception {
+        // Given
+        final AccumuloStore store = mock(AccumuloStore.class);
+        final Schema schema = createSchema();
+        final View view = new View.Builder()
+                .edge(TestGroups.EDGE)
+                .build();
+        given(store.getSchema()).willReturn(schema);
+
+        // When
+        final IteratorSetting iterator = factory.getElementPropertyProjectionIteratorSetting(view, store);
+
+        // Then
+        assertNull(iterator);
+    }
+
+    @Test
+    public void shouldReturnNullPropertyProjectionIfGroupHasTransform() throws Exception {
+        // Given
+        final AccumuloStore store = mock(AccumuloStore.class);
+        final Schema schema = createSchema();
+        final View view = new View.Builder()
+                .edge(TestGroups.EDGE, new ViewElementDefinition.Builder()
+                        .properties(TestPropertyNames.PROP_2)
+                        .transformer(new ElementTransformer.Builder()
+                                .select(TestPropertyNames.PROP_1)
+                                .execute(new Identity())
+                                .project(TestPropertyNames.PROP_2)
+                                .build())
+                        .build())
+                .build();
+        given(store.getSchema()).willReturn(schema);
+
+        // When
+        final IteratorSetting iterator = factory.getElementPropertyProjectionIteratorSetting(view, store);
+
+        // Then
+        assertNull(iterator);
+    }
+
+    @Test
+    public void shouldReturnPropertyProjectionIterator() throws Exception {
+        // Given
+        final AccumuloStore store = mock(AccumuloStore.class);
+        final Schema schema = createSchema();
+        final View view = new View.Builder()
+                .edge(TestGroups.EDGE, new ViewElementDefinition.Builder()
+                        .excludeProperties(TestPropertyNames.PROP_1)
+                        .build())
+                .build();
+        final AccumuloKeyPackage keyPackage = mock(AccumuloKeyPackage.class);
+        final AccumuloElementConverter converter = mock(AccumuloElementConverter.class);
+
+        given(store.getSchema()).willReturn(schema);
+        given(store.getKeyPackage()).willReturn(keyPackage);
+        given(keyPackage.getKeyConverter()).willReturn(converter);
+
+        // When
+        final IteratorSetting iterator = factory.getElementPropertyProjectionIteratorSetting(view, store);
+
+        // Then
+        assertEquals(AccumuloStoreConstants.ELEMENT_PROPERTY_PROJECTION_ITERATOR_NAME, iterator.getName());
+        assertEquals(AccumuloStoreConstants.ELEMENT_PROPERTY_PROJECTION_ITERATOR_PRIORITY, iterator.getPriority());
+        assertEquals(ElementPropertyProjectionIterator.class.getName(), iterator.getIteratorClass());
+        JsonAssert.assertEquals(schema.toCompactJson(), iterator.getOptions().get(AccumuloStoreConstants.SCHEMA).getBytes());
+        JsonAssert.assertEquals(view.toCompactJson(), iterator.getOptions().get(AccumuloStoreConstants.VIEW).getBytes());
+        assertEquals(converter.getClass().getName(), iterator.getOptions().get(AccumuloStoreConstants.ACCUMULO_ELEMENT_CONVERTER_CLASS));
+    }
+
     private Schema createSchema() {
         return new Schema.Builder()
                 .edge(TestGroups.EDGE, new SchemaEdgeDefinition.Builder()
                         .property(TestPropertyNames.PROP_1, "str")
+                        .property(TestPropertyNames.PROP_2, "str")
                         .build())
                 .type("str", new TypeDefinition.Builder()
                         .clazz(String.class)
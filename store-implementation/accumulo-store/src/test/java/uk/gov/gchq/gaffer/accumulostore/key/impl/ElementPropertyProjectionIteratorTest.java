@@ -0,0 +1,183 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.accumulostore.key.impl;
+
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Range;
+import org.apache.accumulo.core.data.Value;
+import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.accumulostore.key.core.impl.byteEntity.ByteEntityAccumuloElementConverter;
+import uk.gov.gchq.gaffer.accumulostore.utils.AccumuloStoreConstants;
+import uk.gov.gchq.gaffer.commonutil.TestGroups;
+import uk.gov.gchq.gaffer.commonutil.TestPropertyNames;
+import uk.gov.gchq.gaffer.data.element.Edge;
+import uk.gov.gchq.gaffer.data.element.Properties;
+import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
+import uk.gov.gchq.gaffer.serialisation.implementation.StringSerialiser;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.schema.SchemaEdgeDefinition;
+import uk.gov.gchq.gaffer.store.schema.TypeDefinition;
+import uk.gov.gchq.koryphe.impl.predicate.Exists;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class ElementPropertyProjectionIteratorTest {
+    private static final String LARGE_VALUE = String.join("", Collections.nCopies(1000, "x"));
+
+    private final ByteEntityAccumuloElementConverter converter = new ByteEntityAccumuloElementConverter(getSchema());
+
+    @Test
+    public void shouldThrowIllegalArgumentExceptionWhenValidateOptionsWithNoView() {
+        // Given
+        final ElementPropertyProjectionIterator iterator = new ElementPropertyProjectionIterator();
+        final Map<String, String> options = getOptions(new View.Builder().edge(TestGroups.EDGE).build());
+        options.remove(AccumuloStoreConstants.VIEW);
+
+        // When / Then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> iterator.validateOptions(options))
+                .withMessageContaining(AccumuloStoreConstants.VIEW);
+    }
+
+    @Test
+    public void shouldOnlyReturnRequiredProperties() throws Exception {
+        // Given
+        final View view = new View.Builder()
+                .edge(TestGroups.EDGE, new ViewElementDefinition.Builder()
+                        .properties(TestPropertyNames.PROP_3)
+                        .build())
+                .build();
+        final Edge edge = getEdge();
+        final Value originalValue = converter.getValueFromElement(edge);
+
+        // When
+        final Value projectedValue = getProjectedValue(view, edge);
+
+        // Then
+        assertThat(projectedValue.getSize()).isLessThan(originalValue.getSize());
+        final Properties properties = converter.getPropertiesFromValue(TestGroups.EDGE, projectedValue);
+        assertThat(properties.get(TestPropertyNames.PROP_3)).isEqualTo("value3");
+        assertThat(properties.get(TestPropertyNames.PROP_1)).isNotEqualTo(LARGE_VALUE);
+        assertThat(properties.get(TestPropertyNames.PROP_2)).isNotEqualTo(LARGE_VALUE);
+    }
+
+    @Test
+    public void shouldDropTrailingExcludedProperties() throws Exception {
+        // Given
+        final View view = new View.Builder()
+                .edge(TestGroups.EDGE, new ViewElementDefinition.Builder()
+                        .excludeProperties(TestPropertyNames.PROP_2, TestPropertyNames.PROP_3)
+                        .build())
+                .build();
+
+        // When
+        final Value projectedValue = getProjectedValue(view, getEdge());
+
+        // Then
+        final Properties properties = converter.getPropertiesFromValue(TestGroups.EDGE, projectedValue);
+        assertThat(properties)
+                .containsEntry(TestPropertyNames.PROP_1, LARGE_VALUE)
+                .doesNotContainKeys(TestPropertyNames.PROP_2, TestPropertyNames.PROP_3);
+    }
+
+    @Test
+    public void shouldNotProjectGroupWithPostTransformFilter() throws Exception {
+        // Given
+        final View view = new View.Builder()
+                .edge(TestGroups.EDGE, new ViewElementDefinition.Builder()
+                        .properties(TestPropertyNames.PROP_3)
+                        .postTransformFilter(new ElementFilter.Builder()
+                                .select(TestPropertyNames.PROP_1)
+                                .execute(new Exists())
+                                .build())
+                        .build())
+                .build();
+        final Edge edge = getEdge();
+
+        // When
+        final Value projectedValue = getProjectedValue(view, edge);
+
+        // Then
+        assertThat(projectedValue).isEqualTo(converter.getValueFromElement(edge));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Value getProjectedValue(final View view, final Edge edge) throws Exception {
+        final Key key = converter.getKeysFromElement(edge).getFirst();
+        final SortedKeyValueIterator<Key, Value> source = mock(SortedKeyValueIterator.class);
+        given(source.hasTop()).willReturn(true);
+        given(source.getTopKey()).willReturn(key);
+        given(source.getTopValue()).willReturn(converter.getValueFromElement(edge));
+
+        final ElementPropertyProjectionIterator iterator = new ElementPropertyProjectionIterator();
+        iterator.init(source, getOptions(view), null);
+        iterator.seek(new Range(), Collections.emptyList(), false);
+
+        assertThat(iterator.hasTop()).isTrue();
+        return iterator.getTopValue();
+    }
+
+    private Edge getEdge() {
+        return new Edge.Builder()
+                .group(TestGroups.EDGE)
+                .source("source")
+                .dest("dest")
+                .directed(true)
+                .property(TestPropertyNames.PROP_1, LARGE_VALUE)
+                .property(TestPropertyNames.PROP_2, LARGE_VALUE)
+                .property(TestPropertyNames.PROP_3, "value3")
+                .build();
+    }
+
+    private Map<String, String> getOptions(final View view) {
+        final Map<String, String> options = new HashMap<>();
+        options.put(AccumuloStoreConstants.SCHEMA, new String(getSchema().toCompactJson(), StandardCharsets.UTF_8));
+        options.put(AccumuloStoreConstants.VIEW, new String(view.toCompactJson(), StandardCharsets.UTF_8));
+        options.put(AccumuloStoreConstants.ACCUMULO_ELEMENT_CONVERTER_CLASS,
+                ByteEntityAccumuloElementConverter.class.getName());
+        return options;
+    }
+
+    private Schema getSchema() {
+        return new Schema.Builder()
+                .type("string", new TypeDefinition.Builder()
+                        .clazz(String.class)
+                        .serialiser(new StringSerialiser())
+                        .build())
+                .edge(TestGroups.EDGE, new SchemaEdgeDefinition.Builder()
+                        .source("string")
+                        .destination("string")
+                        .property(TestPropertyNames.PROP_1, "string")
+                        .property(TestPropertyNames.PROP_2, "string")
+                        .property(TestPropertyNames.PROP_3, "string")
+                        .build())
+                .vertexSerialiser(new StringSerialiser())
+                .build();
+    }
+}
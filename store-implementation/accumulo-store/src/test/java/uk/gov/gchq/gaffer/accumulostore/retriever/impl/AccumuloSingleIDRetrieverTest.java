@@ -46,10 +46,13 @@ import uk.gov.gchq.gaffer.user.User;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class AccumuloSingleIDRetrieverTest {
@@ -57,16 +60,25 @@ public class AccumuloSingleIDRetrieverTest {
     private static final int NUM_ENTRIES = 1000;
     private static final AccumuloStore BYTE_ENTITY_STORE = new SingleUseMiniAccumuloStore();
     private static final AccumuloStore GAFFER_1_KEY_STORE = new SingleUseMiniAccumuloStore();
+    private static final AccumuloStore PREFETCHING_STORE = new SingleUseMiniAccumuloStore();
     private static final Schema SCHEMA = Schema.fromJson(StreamUtil.schemas(AccumuloSingleIDRetrieverTest.class));
     private static final AccumuloProperties PROPERTIES = AccumuloProperties.loadStoreProperties(StreamUtil.storeProps(AccumuloSingleIDRetrieverTest.class));
     private static final AccumuloProperties CLASSIC_PROPERTIES = AccumuloProperties.loadStoreProperties(StreamUtil.openStream(AccumuloSingleIDRetrieverTest.class, "/accumuloStoreClassicKeys.properties"));
+    private static final AccumuloProperties PREFETCHING_PROPERTIES = AccumuloProperties.loadStoreProperties(StreamUtil.storeProps(AccumuloSingleIDRetrieverTest.class));
+
+    static {
+        PREFETCHING_PROPERTIES.setMaxEntriesForBatchScanner("10");
+        PREFETCHING_PROPERTIES.setPrefetchDepthForBatchScanner("2");
+    }
 
     @BeforeEach
     public void reInitialise() throws StoreException {
         BYTE_ENTITY_STORE.initialise("byteEntityGraph", SCHEMA, PROPERTIES);
         GAFFER_1_KEY_STORE.initialise("gaffer1Graph", SCHEMA, CLASSIC_PROPERTIES);
+        PREFETCHING_STORE.initialise("prefetchingGraph", SCHEMA, PREFETCHING_PROPERTIES);
         setupGraph(BYTE_ENTITY_STORE, NUM_ENTRIES);
         setupGraph(GAFFER_1_KEY_STORE, NUM_ENTRIES);
+        setupGraph(PREFETCHING_STORE, NUM_ENTRIES);
     }
 
     @Test
@@ -79,6 +91,61 @@ public class AccumuloSingleIDRetrieverTest {
         testEntityIdQueryEdgesAndEntities(GAFFER_1_KEY_STORE);
     }
 
+    @Test
+    public void testEntityIdQueryEdgesAndEntitiesPrefetchingStore() throws AccumuloException, StoreException {
+        testEntityIdQueryEdgesAndEntities(PREFETCHING_STORE);
+    }
+
+    @Test
+    public void shouldStopPrefetchingWhenIteratorClosedEarly() throws StoreException {
+        // Given
+        final Set<ElementId> ids = new HashSet<>();
+        for (int i = 0; i < NUM_ENTRIES; i++) {
+            ids.add(new EntitySeed("" + i));
+        }
+        final View view = new View.Builder().edge(TestGroups.EDGE).entity(TestGroups.ENTITY).build();
+        final GetElements operation = new GetElements.Builder().view(view).input(ids).build();
+
+        try (AccumuloSingleIDRetriever retriever = new AccumuloSingleIDRetriever(PREFETCHING_STORE, operation, new User())) {
+            final Iterator<Element> iterator = retriever.iterator();
+            assertTrue(iterator.hasNext());
+            iterator.next();
+
+            // When
+            retriever.close();
+
+            // Then
+            assertFalse(iterator.hasNext());
+        } catch (final IteratorSettingException e) {
+            fail("Unable to construct SingleID Retriever");
+        }
+    }
+
+    @Test
+    public void shouldReturnAllElementsAfterAnEarlierIteratorIsAbandoned() throws StoreException {
+        // Given
+        final Set<ElementId> ids = new HashSet<>();
+        for (int i = 0; i < NUM_ENTRIES; i++) {
+            ids.add(new EntitySeed("" + i));
+        }
+        final View view = new View.Builder().edge(TestGroups.EDGE).entity(TestGroups.ENTITY).build();
+        final GetElements operation = new GetElements.Builder().view(view).input(ids).build();
+
+        try (AccumuloSingleIDRetriever retriever = new AccumuloSingleIDRetriever(PREFETCHING_STORE, operation, new User())) {
+            // When - read part of the results and drop the iterators without closing them
+            for (int i = 0; i < 5; i++) {
+                final Iterator<Element> abandoned = new AccumuloSingleIDRetriever(PREFETCHING_STORE, operation, new User()).iterator();
+                assertTrue(abandoned.hasNext());
+                abandoned.next();
+            }
+
+            // Then
+            assertEquals(NUM_ENTRIES * 3, Iterables.size(retriever));
+        } catch (final IteratorSettingException e) {
+            fail("Unable to construct SingleID Retriever");
+        }
+    }
+
     private void testEntityIdQueryEdgesAndEntities(final AccumuloStore store) throws AccumuloException, StoreException {
         setupGraph(store, NUM_ENTRIES);
         final User user = new User();
@@ -45,6 +45,8 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -61,6 +63,12 @@ public class FederatedGraphStorage {
     public static final String GRAPH_IDS_NOT_VISIBLE = "The following graphIds are not visible or do not exist: %s";
     private static final Logger LOGGER = LoggerFactory.getLogger(FederatedGraphStorage.class);
     private final FederatedStoreCache federatedStoreCache;
+    /**
+     * Local copy of the graphs and access objects resolved from the cache, along with the version
+     * of the cache they were resolved from. The copy is discarded when the version changes, which
+     * happens whenever any instance sharing the cache adds, removes or changes a graph.
+     */
+    private volatile ResolvedGraphs resolvedGraphs = new ResolvedGraphs(null);
     private GraphLibrary graphLibrary;
 
     public FederatedGraphStorage(final String cacheNameSuffix) {
@@ -182,7 +190,8 @@ public class FederatedGraphStorage {
     }
 
     private boolean remove(final String graphId, final Predicate<FederatedAccess> accessPredicate, final boolean removeCache) {
-        FederatedAccess accessFromCache = federatedStoreCache.getAccessFromCache(graphId);
+        final Pair<GraphSerialisable, FederatedAccess> fromCache = getResolvedFromCache(graphId);
+        final FederatedAccess accessFromCache = isNull(fromCache) ? null : fromCache.getSecond();
         boolean rtn;
         if (nonNull(accessFromCache) && accessPredicate.test(accessFromCache)) {
 
@@ -295,13 +304,11 @@ public class FederatedGraphStorage {
     private Stream<GraphSerialisable> getStream(final User user, final Collection<String> graphIds) {
         Stream<GraphSerialisable> rtn;
         if (isNull(graphIds)) {
-            rtn = federatedStoreCache.getAllGraphIds().stream()
-                    .map(g -> federatedStoreCache.getFromCache(g))
+            rtn = getResolvedStream()
                     .filter(pair -> isValidToView(user, pair.getSecond()))
                     .map(pair -> pair.getFirst());
         } else {
-            rtn = federatedStoreCache.getAllGraphIds().stream()
-                    .map(g -> federatedStoreCache.getFromCache(g))
+            rtn = getResolvedStream()
                     .filter(pair -> isValidToView(user, pair.getSecond()))
                     .filter(pair -> graphIds.contains(pair.getFirst().getGraphId()))
                     .map(pair -> pair.getFirst());
@@ -314,12 +321,63 @@ public class FederatedGraphStorage {
      * @return a stream of graphs the user has visibility for.
      */
     private Stream<GraphSerialisable> getUserGraphStream(final Predicate<FederatedAccess> readAccessPredicate) {
-        return federatedStoreCache.getAllGraphIds().stream()
-                .map(graphId -> federatedStoreCache.getFromCache(graphId))
+        return getResolvedStream()
                 .filter(pair -> readAccessPredicate.test(pair.getSecond()))
                 .map(Pair::getFirst);
     }
 
+    /**
+     * @return a stream of every graph in the cache paired with its access, resolved from the local copy where possible.
+     */
+    private Stream<Pair<GraphSerialisable, FederatedAccess>> getResolvedStream() {
+        final ResolvedGraphs resolved = getResolvedGraphs();
+        return federatedStoreCache.getAllGraphIds().stream()
+                .map(graphId -> getResolvedFromCache(resolved, graphId))
+                .filter(Objects::nonNull);
+    }
+
+    private Pair<GraphSerialisable, FederatedAccess> getResolvedFromCache(final String graphId) {
+        return getResolvedFromCache(getResolvedGraphs(), graphId);
+    }
+
+    /**
+     * Gets the graph and access for the given graphId. These are resolved from the cache the first
+     * time the graph is requested and then reused until the version of the cache changes, which
+     * avoids deserialising the access and rebuilding the graph on every request.
+     *
+     * @param resolved the graphs resolved from the current version of the cache.
+     * @param graphId  the graphId to get.
+     * @return the graph and access, or null if the graph is not in the cache.
+     */
+    private Pair<GraphSerialisable, FederatedAccess> getResolvedFromCache(final ResolvedGraphs resolved, final String graphId) {
+        final Pair<GraphSerialisable, FederatedAccess> graphAndAccess = resolved.graphs.get(graphId);
+        if (nonNull(graphAndAccess)) {
+            return graphAndAccess;
+        }
+
+        final Pair<GraphSerialisable, FederatedAccess> fromCache = federatedStoreCache.getFromCache(graphId);
+        if (nonNull(fromCache)) {
+            resolved.graphs.put(graphId, fromCache);
+        }
+        return fromCache;
+    }
+
+    /**
+     * Reads the version of the cache before any graphs are, so graphs resolved after a change are
+     * never kept under the version from before it.
+     *
+     * @return the graphs resolved from the current version of the cache.
+     */
+    private ResolvedGraphs getResolvedGraphs() {
+        final String version = federatedStoreCache.getVersion();
+        ResolvedGraphs resolved = resolvedGraphs;
+        if (!Objects.equals(version, resolved.version)) {
+            resolved = new ResolvedGraphs(version);
+            resolvedGraphs = resolved;
+        }
+        return resolved;
+    }
+
     @SuppressWarnings("PMD.PreserveStackTrace") //Not Required
     private void addToCache(final GraphSerialisable newGraph, final FederatedAccess access) {
         if (federatedStoreCache.contains(newGraph.getGraphId())) {
@@ -364,8 +422,7 @@ public class FederatedGraphStorage {
     }
 
     private Map<String, Object> getAllGraphsAndAccess(final List<String> graphIds, final Predicate<FederatedAccess> accessPredicate) {
-        return federatedStoreCache.getAllGraphIds().stream()
-                .map(graphId -> federatedStoreCache.getFromCache(graphId))
+        return getResolvedStream()
                 //filter on FederatedAccess
                 .filter(pair -> accessPredicate.test(pair.getSecond()))
                 //filter on if graph required?
@@ -495,4 +552,16 @@ public class FederatedGraphStorage {
                 ? fromCache.getFirst()
                 : null;
     }
+
+    /**
+     * The graphs and access resolved from one version of the cache, keyed by graphId.
+     */
+    private static final class ResolvedGraphs {
+        private final String version;
+        private final Map<String, Pair<GraphSerialisable, FederatedAccess>> graphs = new ConcurrentHashMap<>();
+
+        private ResolvedGraphs(final String version) {
+            this.version = version;
+        }
+    }
 }
@@ -88,6 +88,7 @@ import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.gaffer.user.User;
 import uk.gov.gchq.koryphe.impl.binaryoperator.CollectionIntersect;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -98,6 +99,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
@@ -125,11 +131,12 @@ import static uk.gov.gchq.gaffer.federatedstore.util.FederatedStoreUtil.loadStor
  * @see Store
  * @see uk.gov.gchq.gaffer.graph.Graph
  */
-public class FederatedStore extends Store {
+public class FederatedStore extends Store implements Closeable {
     public static final String FEDERATED_STORE_PROCESSED = "FederatedStore.processed.";
     public static final String FED_STORE_GRAPH_ID_VALUE_NULL_OR_EMPTY = "FedStoreGraphId_value_null_or_empty";
     private static final Logger LOGGER = LoggerFactory.getLogger(Store.class);
     private static final List<Integer> ALL_IDS = new ArrayList<>();
+    private static final long GRAPH_EXECUTOR_KEEP_ALIVE_SECONDS = 60L;
     private FederatedGraphStorage graphStorage;
     private final int id;
     private Set<String> customPropertiesAuths;
@@ -138,6 +145,7 @@ public class FederatedStore extends Store {
     @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, property = "class")
     private Map<String, BiFunction> storeConfiguredMergeFunctions;
     private final Set<Class<? extends Operation>> externallySupportedOperations = new HashSet<>();
+    private ExecutorService graphExecutorService;
 
     @JsonCreator
     @SuppressFBWarnings(value = "DMI_RANDOM_USED_ONLY_ONCE", justification = "Random used once only and this class will not usually be created more than once")
@@ -186,6 +194,57 @@ public class FederatedStore extends Store {
         loadStoreConfiguredMergeFunctions(properties);
 
         loadStoreConfiguredGraphIds(properties);
+
+        createGraphExecutorService(graphId);
+    }
+
+    private void createGraphExecutorService(final String graphId) {
+        shutdownGraphExecutorService();
+
+        final int threadCount = getProperties().getExecutorThreadCount();
+        if (threadCount > 1) {
+            LOGGER.debug("Initialising federated executor for {} with {} threads", graphId, threadCount);
+            final AtomicInteger threadNumber = new AtomicInteger();
+            final ThreadPoolExecutor executor = new ThreadPoolExecutor(threadCount, threadCount,
+                    GRAPH_EXECUTOR_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(getProperties().getExecutorQueueSize()),
+                    runnable -> {
+                        final Thread thread = new Thread(runnable, "federated-" + graphId + "-" + threadNumber.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            // Idle threads are released even if the store is never closed
+            executor.allowCoreThreadTimeOut(true);
+            graphExecutorService = executor;
+        }
+    }
+
+    private void shutdownGraphExecutorService() {
+        if (nonNull(graphExecutorService)) {
+            graphExecutorService.shutdown();
+            graphExecutorService = null;
+        }
+    }
+
+    /**
+     * Shuts down the executor used to run operations against sub-graphs
+     * concurrently. Executions already submitted are allowed to complete, and
+     * later operations are run against the sub-graphs sequentially.
+     */
+    @Override
+    public void close() {
+        shutdownGraphExecutorService();
+    }
+
+    /**
+     * Get the executor used to run a federated operation against its
+     * sub-graphs concurrently.
+     *
+     * @return the executor, or null if sub-graphs should be executed sequentially.
+     * @see FederatedStoreProperties#EXECUTOR_THREAD_COUNT
+     */
+    public ExecutorService getGraphExecutorService() {
+        return graphExecutorService;
     }
 
     private void loadStoreConfiguredGraphIds(final StoreProperties properties) throws StoreException {
@@ -130,6 +130,9 @@ public class FederatedStoreCache extends Cache<String, Pair<GraphSerialisable, F
     public Pair<GraphSerialisable, FederatedAccess> getFromCache(final String key) {
         try {
             final Pair<GraphSerialisable, byte[]> fromCache = cacheTransient.getFromCache(key);
+            if (isNull(fromCache)) {
+                return null;
+            }
             return new Pair<>(fromCache.getFirst(), JSONSerialiser.deserialise(fromCache.getSecond(), FederatedAccess.class));
         } catch (final Exception e) {
             throw new RuntimeException("Error deserialising FederatedAccess object from cache", e);
@@ -141,6 +144,11 @@ public class FederatedStoreCache extends Cache<String, Pair<GraphSerialisable, F
         return cacheTransient.getCacheName();
     }
 
+    @Override
+    public String getVersion() {
+        return cacheTransient.getVersion();
+    }
+
     @Override
     public Set<String> getAllKeys() {
         return cacheTransient.getAllKeys();
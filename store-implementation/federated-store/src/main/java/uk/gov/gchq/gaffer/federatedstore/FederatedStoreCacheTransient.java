@@ -19,6 +19,7 @@ package uk.gov.gchq.gaffer.federatedstore;
 import uk.gov.gchq.gaffer.cache.Cache;
 import uk.gov.gchq.gaffer.cache.exception.CacheOperationException;
 import uk.gov.gchq.gaffer.commonutil.pair.Pair;
+import uk.gov.gchq.gaffer.core.exception.GafferRuntimeException;
 import uk.gov.gchq.gaffer.graph.Graph;
 import uk.gov.gchq.gaffer.graph.GraphSerialisable;
 
@@ -82,7 +83,33 @@ public class FederatedStoreCacheTransient extends Cache<String, Pair<GraphSerial
     }
 
     public void deleteGraphFromCache(final String graphId) {
-        super.deleteFromCache(graphId);
+        deleteFromCache(graphId);
+    }
+
+    /**
+     * Adds the value to the cache and updates the version of the cache, so
+     * other instances sharing the cache see that the graphs have changed.
+     */
+    @Override
+    protected void addToCache(final String key, final Pair<GraphSerialisable, byte[]> value, final boolean overwrite) throws CacheOperationException {
+        super.addToCache(key, value, overwrite);
+        updateVersion();
+    }
+
+    @Override
+    public void deleteFromCache(final String key) {
+        super.deleteFromCache(key);
+        try {
+            updateVersion();
+        } catch (final CacheOperationException e) {
+            throw new GafferRuntimeException(String.format("Error updating the version of the cache after deleting graphId: %s", key), e);
+        }
+    }
+
+    @Override
+    public void clearCache() throws CacheOperationException {
+        super.clearCache();
+        updateVersion();
     }
 
     /**
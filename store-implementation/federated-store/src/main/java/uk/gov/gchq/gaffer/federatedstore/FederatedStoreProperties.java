@@ -42,6 +42,28 @@ public class FederatedStoreProperties extends StoreProperties {
     public static final String CACHE_SERVICE_CLASS_DEFAULT = HashMapCacheService.class.getCanonicalName();
     public static final String STORE_CONFIGURED_MERGE_FUNCTIONS = "gaffer.federatedstore.storeConfiguredMergeFunctions";
     public static final String STORE_CONFIGURED_GRAPHIDS = "gaffer.federatedstore.storeConfiguredGraphIds";
+    /**
+     * The number of threads used to run a federated operation against its
+     * sub-graphs concurrently. A value of 1 or less runs the sub-graphs
+     * sequentially.
+     * e.g gaffer.federatedstore.executor.threadCount=8
+     */
+    public static final String EXECUTOR_THREAD_COUNT = "gaffer.federatedstore.executor.threadCount";
+    public static final String EXECUTOR_THREAD_COUNT_DEFAULT = String.valueOf(1);
+    /**
+     * The maximum number of sub-graph executions that may be waiting for a
+     * free thread before further submissions are rejected.
+     * e.g gaffer.federatedstore.executor.queueSize=1000
+     */
+    public static final String EXECUTOR_QUEUE_SIZE = "gaffer.federatedstore.executor.queueSize";
+    public static final String EXECUTOR_QUEUE_SIZE_DEFAULT = String.valueOf(1000);
+    /**
+     * The maximum time in milliseconds a single sub-graph execution may run
+     * for when executing concurrently. A value of 0 or less means no timeout.
+     * e.g gaffer.federatedstore.executor.graphTimeoutMillis=30000
+     */
+    public static final String EXECUTOR_GRAPH_TIMEOUT_MILLIS = "gaffer.federatedstore.executor.graphTimeoutMillis";
+    public static final String EXECUTOR_GRAPH_TIMEOUT_MILLIS_DEFAULT = String.valueOf(0);
 
     public FederatedStoreProperties() {
         super(FederatedStore.class);
@@ -99,4 +121,27 @@ public class FederatedStoreProperties extends StoreProperties {
         set(STORE_CONFIGURED_GRAPHIDS, mergeFunctionFile);
     }
 
+    public int getExecutorThreadCount() {
+        return Integer.parseInt(get(EXECUTOR_THREAD_COUNT, EXECUTOR_THREAD_COUNT_DEFAULT));
+    }
+
+    public void setExecutorThreadCount(final int threadCount) {
+        set(EXECUTOR_THREAD_COUNT, String.valueOf(threadCount));
+    }
+
+    public int getExecutorQueueSize() {
+        return Integer.parseInt(get(EXECUTOR_QUEUE_SIZE, EXECUTOR_QUEUE_SIZE_DEFAULT));
+    }
+
+    public void setExecutorQueueSize(final int queueSize) {
+        set(EXECUTOR_QUEUE_SIZE, String.valueOf(queueSize));
+    }
+
+    public long getExecutorGraphTimeoutMillis() {
+        return Long.parseLong(get(EXECUTOR_GRAPH_TIMEOUT_MILLIS, EXECUTOR_GRAPH_TIMEOUT_MILLIS_DEFAULT));
+    }
+
+    public void setExecutorGraphTimeoutMillis(final long timeoutMillis) {
+        set(EXECUTOR_GRAPH_TIMEOUT_MILLIS, String.valueOf(timeoutMillis));
+    }
 }
@@ -16,6 +16,9 @@
 
 package uk.gov.gchq.gaffer.federatedstore.operation.handler.impl;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import uk.gov.gchq.gaffer.core.exception.GafferCheckedException;
 import uk.gov.gchq.gaffer.federatedstore.FederatedStore;
 import uk.gov.gchq.gaffer.federatedstore.operation.FederatedOperation;
@@ -33,8 +36,20 @@ import uk.gov.gchq.koryphe.Since;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.BiFunction;
 
 import static com.google.common.collect.Iterables.isEmpty;
@@ -49,6 +64,10 @@ import static uk.gov.gchq.gaffer.federatedstore.util.FederatedStoreUtil.processI
 public class FederatedOperationHandler<INPUT, OUTPUT> implements OperationHandler<FederatedOperation<INPUT, OUTPUT>> {
 
     public static final String ERROR_WHILE_RUNNING_OPERATION_ON_GRAPHS_FORMAT = "Error while running operation on graphs, due to: %s";
+    public static final String GRAPH_TIMED_OUT_FORMAT = "Execution on graph %s did not complete within %s ms";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FederatedOperationHandler.class);
+    private static final Object NO_RESULT = new Object();
 
     @Override
     public Object doOperation(final FederatedOperation<INPUT, OUTPUT> operation, final Context context, final Store store) throws OperationException {
@@ -59,37 +78,134 @@ public class FederatedOperationHandler<INPUT, OUTPUT> implements OperationHandle
 
     private Iterable getAllGraphResults(final FederatedOperation<INPUT, OUTPUT> operation, final Context context, final FederatedStore store) throws OperationException {
         try {
-            List<Object> results;
             final Collection<GraphSerialisable> graphs = getGraphs(operation, context, store);
-            results = new ArrayList<>(graphs.size());
+            final ExecutorService executorService = store.getGraphExecutorService();
+
+            return nonNull(executorService) && graphs.size() > 1
+                    ? getAllGraphResultsConcurrently(operation, context, store, graphs, executorService)
+                    : getAllGraphResultsSequentially(operation, context, graphs);
+        } catch (final Exception e) {
+            throw new OperationException(String.format(ERROR_WHILE_RUNNING_OPERATION_ON_GRAPHS_FORMAT, e), e);
+        }
+    }
+
+    private List<Object> getAllGraphResultsSequentially(final FederatedOperation<INPUT, OUTPUT> operation, final Context context, final Collection<GraphSerialisable> graphs) throws OperationException {
+        final List<Object> results = new ArrayList<>(graphs.size());
+        for (final GraphSerialisable graphSerialisable : graphs) {
+            try {
+                final Object result = executeOnGraph(operation, graphSerialisable, context);
+                if (NO_RESULT != result) {
+                    results.add(result);
+                }
+            } catch (final Exception e) {
+                if (!operation.isSkipFailedFederatedExecution()) {
+                    throw new OperationException(FederatedStoreUtil.createOperationErrorMsg(operation, graphSerialisable.getGraphId(), e), e);
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Submits the payload for each graph to the store's executor and collects
+     * the results in the order the graphs complete. If a graph fails or
+     * exceeds the configured timeout and failures are not being skipped, the
+     * remaining executions are cancelled. Each execution is given a
+     * concurrent copy of the context, so it runs as part of the same job.
+     */
+    private List<Object> getAllGraphResultsConcurrently(final FederatedOperation<INPUT, OUTPUT> operation, final Context context, final FederatedStore store, final Collection<GraphSerialisable> graphs, final ExecutorService executorService) throws OperationException, InterruptedException {
+        final long timeoutMillis = store.getProperties().getExecutorGraphTimeoutMillis();
+        final CompletionService<Object> completionService = new ExecutorCompletionService<>(executorService);
+        final Map<Future<Object>, GraphTask> running = new HashMap<>(graphs.size());
+        final List<Object> results = new ArrayList<>(graphs.size());
+
+        try {
             for (final GraphSerialisable graphSerialisable : graphs) {
-                final Graph graph = graphSerialisable.getGraph();
+                final GraphTask task = new GraphTask(operation, graphSerialisable, context.concurrentCopy());
+                running.put(completionService.submit(task), task);
+            }
+
+            while (!running.isEmpty()) {
+                final Future<Object> future = timeoutMillis > 0
+                        ? completionService.poll(getMillisUntilNextTimeout(running.values(), timeoutMillis), TimeUnit.MILLISECONDS)
+                        : completionService.take();
 
-                final Operation updatedOp = FederatedStoreUtil.updateOperationForGraph(operation.getUnClonedPayload(), graph, context);
-                if (updatedOp != null) {
+                if (null == future) {
+                    cancelTimedOutTasks(operation, running, timeoutMillis);
+                } else {
+                    final GraphTask task = running.remove(future);
                     try {
-                        if (updatedOp instanceof Output) {
-                            results.add(graph.execute((Output) updatedOp, context));
-                        } else {
-                            graph.execute(updatedOp, context);
-                            if (nonNull(operation.getMergeFunction())) {
-                                //If the user has specified a mergeFunction, they may wish to process the number null responses from graphs.
-                                results.add(null);
-                            }
-                        }
-                    } catch (final Exception e) {
-                        if (!operation.isSkipFailedFederatedExecution()) {
-                            throw new OperationException(FederatedStoreUtil.createOperationErrorMsg(operation, graphSerialisable.getGraphId(), e), e);
+                        final Object result = future.get();
+                        if (NO_RESULT != result) {
+                            results.add(result);
                         }
+                    } catch (final ExecutionException e) {
+                        final Throwable cause = e.getCause();
+                        handleGraphFailure(operation, task.getGraphId(), cause instanceof Exception ? (Exception) cause : e);
+                    } catch (final CancellationException e) {
+                        // The task has already been accounted for as timed out.
+                        LOGGER.debug("Execution on graph {} was cancelled", task.getGraphId());
                     }
                 }
             }
+        } finally {
+            for (final Future<Object> future : running.keySet()) {
+                future.cancel(true);
+            }
+        }
 
-            return results;
-        } catch (final Exception e) {
-            throw new OperationException(String.format(ERROR_WHILE_RUNNING_OPERATION_ON_GRAPHS_FORMAT, e), e);
+        return results;
+    }
+
+    private static long getMillisUntilNextTimeout(final Collection<GraphTask> tasks, final long timeoutMillis) {
+        final long now = System.currentTimeMillis();
+        long wait = timeoutMillis;
+        for (final GraphTask task : tasks) {
+            final long startTime = task.getStartTime();
+            if (startTime > 0) {
+                wait = Math.min(wait, startTime + timeoutMillis - now);
+            }
+        }
+        return Math.max(wait, 1L);
+    }
+
+    private void cancelTimedOutTasks(final FederatedOperation<INPUT, OUTPUT> operation, final Map<Future<Object>, GraphTask> running, final long timeoutMillis) throws OperationException {
+        final long now = System.currentTimeMillis();
+        final Iterator<Map.Entry<Future<Object>, GraphTask>> iterator = running.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<Future<Object>, GraphTask> entry = iterator.next();
+            final long startTime = entry.getValue().getStartTime();
+            if (startTime > 0 && now - startTime >= timeoutMillis) {
+                entry.getKey().cancel(true);
+                iterator.remove();
+                handleGraphFailure(operation, entry.getValue().getGraphId(),
+                        new TimeoutException(String.format(GRAPH_TIMED_OUT_FORMAT, entry.getValue().getGraphId(), timeoutMillis)));
+            }
+        }
+    }
+
+    private void handleGraphFailure(final FederatedOperation<INPUT, OUTPUT> operation, final String graphId, final Exception cause) throws OperationException {
+        if (!operation.isSkipFailedFederatedExecution()) {
+            throw new OperationException(FederatedStoreUtil.createOperationErrorMsg(operation, graphId, cause), cause);
+        }
+        LOGGER.debug("Skipping failed execution on graph {}", graphId, cause);
+    }
+
+    private static Object executeOnGraph(final FederatedOperation<?, ?> operation, final GraphSerialisable graphSerialisable, final Context context) throws OperationException {
+        final Graph graph = graphSerialisable.getGraph();
+
+        final Operation updatedOp = FederatedStoreUtil.updateOperationForGraph(operation.getUnClonedPayload(), graph, context);
+        if (updatedOp == null) {
+            return NO_RESULT;
         }
 
+        if (updatedOp instanceof Output) {
+            return graph.execute((Output) updatedOp, context);
+        }
+
+        graph.execute(updatedOp, context);
+        //If the user has specified a mergeFunction, they may wish to process the number null responses from graphs.
+        return nonNull(operation.getMergeFunction()) ? null : NO_RESULT;
     }
 
     private Object mergeResults(final Iterable resultsFromAllGraphs, final FederatedOperation operation, final FederatedStore store, final Context context) throws OperationException {
@@ -127,6 +243,33 @@ public class FederatedOperationHandler<INPUT, OUTPUT> implements OperationHandle
         return mergeFunction;
     }
 
+    private static final class GraphTask implements Callable<Object> {
+        private final FederatedOperation<?, ?> operation;
+        private final GraphSerialisable graphSerialisable;
+        private final Context context;
+        private volatile long startTime;
+
+        GraphTask(final FederatedOperation<?, ?> operation, final GraphSerialisable graphSerialisable, final Context context) {
+            this.operation = operation;
+            this.graphSerialisable = graphSerialisable;
+            this.context = context;
+        }
+
+        @Override
+        public Object call() throws Exception {
+            startTime = System.currentTimeMillis();
+            return executeOnGraph(operation, graphSerialisable, context);
+        }
+
+        long getStartTime() {
+            return startTime;
+        }
+
+        String getGraphId() {
+            return graphSerialisable.getGraphId();
+        }
+    }
+
     private List<GraphSerialisable> getGraphs(final FederatedOperation<INPUT, OUTPUT> operation, final Context context, final FederatedStore store) {
         List<GraphSerialisable> graphs = store.getGraphs(context.getUser(), operation.getGraphIds(), operation);
 
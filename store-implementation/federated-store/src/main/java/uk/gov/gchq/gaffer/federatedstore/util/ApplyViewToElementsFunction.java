@@ -21,72 +21,99 @@ import com.google.common.collect.ImmutableSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import uk.gov.gchq.gaffer.commonutil.stream.Streams;
 import uk.gov.gchq.gaffer.core.exception.GafferCheckedException;
 import uk.gov.gchq.gaffer.core.exception.GafferRuntimeException;
 import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.function.ElementTransformer;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewUtil;
 import uk.gov.gchq.gaffer.graph.Graph;
-import uk.gov.gchq.gaffer.graph.GraphConfig;
-import uk.gov.gchq.gaffer.mapstore.MapStoreProperties;
+import uk.gov.gchq.gaffer.mapstore.impl.GetElementsUtil;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
 import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
 import uk.gov.gchq.gaffer.store.Context;
 import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.util.AggregatorUtil;
 import uk.gov.gchq.gaffer.user.User;
 
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
-import java.util.Random;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * A merge function that re-applies a {@link View} to the elements returned from multiple graphs.
+ * <p>
+ * Results are ingest aggregated as they are streamed in from each graph, so memory use tracks the
+ * number of distinct elements rather than the total number of results. When the number of distinct
+ * elements buffered exceeds {@link #getMaxBufferedElements()} they are spilled to disk and merged back
+ * together when the results are read. This is a count of elements, not a memory limit, so it should be
+ * lowered for elements with large properties. When the results are read the View's filters, query
+ * time aggregation and transforms are applied. Spilled results are deleted once they have been read,
+ * so they can only be read once.
+ * <p>
+ * If a {@link Graph} is supplied in the context with the key {@link #TEMP_RESULTS_GRAPH} the results
+ * are instead added to that graph and the View is applied by querying it. Views with transforms
+ * cannot be used with a temporary results graph.
+ */
 public class ApplyViewToElementsFunction implements BiFunction<Object, Iterable<Object>, Iterable<Object>>, ContextSpecificMergeFunction<Object, Iterable<Object>, Iterable<Object>> {
     private static final Logger LOGGER = LoggerFactory.getLogger(ApplyViewToElementsFunction.class);
     public static final String VIEW = "view";
     public static final String SCHEMA = "schema";
     public static final String USER = "user";
     public static final String TEMP_RESULTS_GRAPH = "temporaryResultsGraph";
-    private static final Random RANDOM = new Random();
+    public static final int DEFAULT_MAX_BUFFERED_ELEMENTS = 1000000;
     private ImmutableMap<String, Object> context;
+    private int maxBufferedElements = DEFAULT_MAX_BUFFERED_ELEMENTS;
 
     public ApplyViewToElementsFunction() {
     }
 
     public ApplyViewToElementsFunction(final HashMap<String, Object> context) throws GafferCheckedException {
+        this(context, DEFAULT_MAX_BUFFERED_ELEMENTS);
+    }
+
+    public ApplyViewToElementsFunction(final HashMap<String, Object> context, final int maxBufferedElements) throws GafferCheckedException {
         this();
+        this.maxBufferedElements = maxBufferedElements;
         try {
-            //Check if results graph, hasn't already be supplied, otherwise make a default results graph.
-            if (!context.containsKey(TEMP_RESULTS_GRAPH)) {
-                final Graph resultsGraph = new Graph.Builder()
-                        .config(new GraphConfig(String.format("%s%s%d", TEMP_RESULTS_GRAPH, ApplyViewToElementsFunction.class.getSimpleName(), RANDOM.nextInt(Integer.MAX_VALUE))))
-                        .addSchema((Schema) context.get(SCHEMA))
-                        //MapStore easy in memory Store. Large results size may not be suitable, a graph could be provided via Context.
-                        .addStoreProperties(new MapStoreProperties())
-                        .build();
-
-                LOGGER.debug("A Temporary results graph named:{} is being made with schema:{}", resultsGraph.getGraphId(), resultsGraph.getSchema());
-
-                context.put(TEMP_RESULTS_GRAPH, resultsGraph);
-            }
             this.context = ImmutableMap.copyOf(validate(context));
         } catch (final Exception e) {
-            throw new GafferCheckedException("Unable to create TemporaryResultsGraph", e);
+            throw new GafferCheckedException("Unable to create " + ApplyViewToElementsFunction.class.getSimpleName() + " with context", e);
         }
-
     }
 
     @Override
     public ApplyViewToElementsFunction createFunctionWithContext(final HashMap<String, Object> context) throws GafferCheckedException {
-        return new ApplyViewToElementsFunction(context);
+        return new ApplyViewToElementsFunction(context, maxBufferedElements);
+    }
+
+    /**
+     * @return the number of distinct elements buffered while merging before they are spilled to disk.
+     * This is a count of elements, not a memory limit.
+     */
+    public int getMaxBufferedElements() {
+        return maxBufferedElements;
+    }
+
+    public void setMaxBufferedElements(final int maxBufferedElements) {
+        this.maxBufferedElements = maxBufferedElements;
     }
 
     private static Map<String, Object> validate(final HashMap<String, Object> context) {
         View view = (View) context.get(VIEW);
-        if (view != null && view.hasTransform()) {
+        if (view != null && view.hasTransform() && context.containsKey(TEMP_RESULTS_GRAPH)) {
             throw new UnsupportedOperationException("Error: context invalid: can not use this function with a POST AGGREGATION TRANSFORM VIEW, " +
                     "because transformation may have created items that does not exist in the schema. " +
                     "The re-applying of the View to the collected federated results would not be be possible. " +
@@ -99,9 +126,7 @@ public class ApplyViewToElementsFunction implements BiFunction<Object, Iterable<
             throw new IllegalArgumentException("Error: context invalid, requires a populated schema.");
         }
 
-        if (!context.containsKey(TEMP_RESULTS_GRAPH)) {
-            throw new IllegalStateException("Error: context invalid, did not contain a Temporary Results Graph.");
-        } else if (!(context.get(TEMP_RESULTS_GRAPH) instanceof Graph)) {
+        if (context.containsKey(TEMP_RESULTS_GRAPH) && !(context.get(TEMP_RESULTS_GRAPH) instanceof Graph)) {
             throw new IllegalArgumentException(String.format("Error: context invalid, value for %s was not a Graph, found: %s", TEMP_RESULTS_GRAPH, context.get(TEMP_RESULTS_GRAPH)));
         }
 
@@ -120,6 +145,24 @@ public class ApplyViewToElementsFunction implements BiFunction<Object, Iterable<
 
     @Override
     public Iterable<Object> apply(final Object update, final Iterable<Object> state) {
+        if (context.containsKey(TEMP_RESULTS_GRAPH)) {
+            return applyUsingResultsGraph(update, state);
+        }
+
+        final MergedElements mergedElements;
+        if (state instanceof MergedElements) {
+            mergedElements = (MergedElements) state;
+        } else {
+            mergedElements = new MergedElements((Schema) context.get(SCHEMA), (View) context.get(VIEW), (User) context.get(USER), maxBufferedElements);
+            mergedElements.addAll((Iterable) state);
+        }
+
+        //the update object might be a lazy AccumuloElementRetriever and might be MASSIVE, so it is streamed into the merge.
+        mergedElements.addAll((Iterable<Element>) update);
+        return mergedElements;
+    }
+
+    private Iterable<Object> applyUsingResultsGraph(final Object update, final Iterable<Object> state) {
         if (state instanceof Closeable) {
             Closeable closeable = (Closeable) state;
             try {
@@ -144,4 +187,132 @@ public class ApplyViewToElementsFunction implements BiFunction<Object, Iterable<
             throw new GafferRuntimeException("Error getting all elements from temporary graph, due to:" + e.getMessage(), e);
         }
     }
+
+    /**
+     * The merged results from each graph. Elements are ingest aggregated as they are added.
+     * The first time the results are read the View's group and pre aggregation filters
+     * and query time aggregation are applied, after which no more elements can be added.
+     * The post aggregation filters, transforms and post transform filters are applied as
+     * the results are read. If the results were spilled to disk, the spill files are
+     * deleted once the results have all been read.
+     */
+    private static final class MergedElements implements Iterable<Object>, Closeable {
+        private final Schema schema;
+        private final View view;
+        private final User user;
+        private final int maxBufferedElements;
+        private final ElementAggregationBuffer ingestAggregated;
+        private ElementAggregationBuffer queryAggregated;
+        private boolean spillDeleted;
+
+        MergedElements(final Schema schema, final View view, final User user, final int maxBufferedElements) {
+            this.schema = schema;
+            this.view = nonNull(view) ? view : new View.Builder()
+                    .entities(schema.getEntityGroups())
+                    .edges(schema.getEdgeGroups())
+                    .build();
+            this.user = user;
+            this.maxBufferedElements = maxBufferedElements;
+            this.ingestAggregated = new ElementAggregationBuffer(
+                    new AggregatorUtil.ToIngestElementKey(schema),
+                    new AggregatorUtil.IngestElementBinaryOperator(schema),
+                    new AggregatorUtil.IsElementAggregated(schema),
+                    maxBufferedElements);
+        }
+
+        void addAll(final Iterable<? extends Element> elements) {
+            if (nonNull(queryAggregated)) {
+                throw new IllegalStateException("Unable to merge more elements once the merged results have been read");
+            }
+            ingestAggregated.addAll(elements);
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            if (spillDeleted) {
+                throw new IllegalStateException("Unable to read the merged results again, as they were spilled to disk and have been deleted");
+            }
+            if (isNull(queryAggregated)) {
+                queryAggregated = applyQueryAggregation();
+            }
+
+            final Iterator<Object> results = Streams.toStream(queryAggregated)
+                    .filter(e -> {
+                        final ViewElementDefinition ved = view.getElement(e.getGroup());
+                        return ved.getPostAggregationFilter() == null || ved.getPostAggregationFilter().test(e);
+                    })
+                    .map(e -> {
+                        // Transform and strip a clone, so the buffered elements are unchanged if the results are read again
+                        final Element clone = e.shallowClone();
+                        final ElementTransformer transformer = view.getElement(clone.getGroup()).getTransformer();
+                        if (nonNull(transformer)) {
+                            transformer.apply(clone);
+                        }
+                        return clone;
+                    })
+                    .filter(e -> {
+                        final ViewElementDefinition ved = view.getElement(e.getGroup());
+                        return ved.getPostTransformFilter() == null || ved.getPostTransformFilter().test(e);
+                    })
+                    .map(e -> {
+                        ViewUtil.removeProperties(view, e);
+                        return (Object) e;
+                    })
+                    .iterator();
+
+            return new Iterator<Object>() {
+                @Override
+                public boolean hasNext() {
+                    final boolean hasNext = results.hasNext();
+                    if (!hasNext) {
+                        deleteSpilledResults();
+                    }
+                    return hasNext;
+                }
+
+                @Override
+                public Object next() {
+                    return results.next();
+                }
+            };
+        }
+
+        private void deleteSpilledResults() {
+            if (nonNull(queryAggregated) && queryAggregated.hasSpilled()) {
+                queryAggregated.close();
+                spillDeleted = true;
+            }
+        }
+
+        private ElementAggregationBuffer applyQueryAggregation() {
+            final ElementAggregationBuffer buffer = new ElementAggregationBuffer(
+                    new AggregatorUtil.ToQueryElementKey(schema, view),
+                    new AggregatorUtil.QueryElementBinaryOperator(schema, view),
+                    new AggregatorUtil.IsElementAggregated(schema),
+                    maxBufferedElements);
+
+            final Set<String> viewGroups = view.getGroups();
+            Stream<Element> stream = Streams.toStream(ingestAggregated);
+            if (nonNull(schema.getVisibilityProperty())) {
+                stream = GetElementsUtil.applyVisibilityFilter(stream, schema, user);
+            }
+            stream.filter(e -> viewGroups.contains(e.getGroup()))
+                    .filter(e -> {
+                        final ViewElementDefinition ved = view.getElement(e.getGroup());
+                        return ved.getPreAggregationFilter() == null || ved.getPreAggregationFilter().test(e);
+                    })
+                    .forEach(buffer::add);
+
+            ingestAggregated.close();
+            return buffer;
+        }
+
+        @Override
+        public void close() {
+            ingestAggregated.close();
+            if (nonNull(queryAggregated)) {
+                queryAggregated.close();
+            }
+        }
+    }
 }
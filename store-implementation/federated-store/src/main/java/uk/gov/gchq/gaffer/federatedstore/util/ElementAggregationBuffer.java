@@ -0,0 +1,357 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.federatedstore.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.gov.gchq.gaffer.commonutil.CloseableUtil;
+import uk.gov.gchq.gaffer.core.exception.GafferRuntimeException;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
+import uk.gov.gchq.koryphe.iterable.ChainedIterable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * A buffer that groups {@link Element}s by a key and aggregates elements that share a key,
+ * as they are added. Elements that should not be aggregated are kept as they are.
+ * <p>
+ * Memory use is proportional to the number of distinct keys rather than the number of
+ * elements added. When the number of distinct elements buffered reaches the configured
+ * count, the buffer is sorted by key hash and spilled to a temporary file. Iterating
+ * the buffer then does a k-way merge of the spilled runs and the in-memory run,
+ * aggregating elements with equal keys.
+ * <p>
+ * The buffer must be closed to remove any temporary files.
+ */
+public class ElementAggregationBuffer implements Iterable<Element>, Closeable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ElementAggregationBuffer.class);
+    private static final String SPILL_FILE_PREFIX = "gaffer-element-aggregation-";
+
+    private final Function<Element, Element> toKey;
+    private final BinaryOperator<Element> aggregator;
+    private final Predicate<Element> isAggregated;
+    private final int maxBufferedElements;
+
+    private final Map<Element, Element> aggregatedElements = new HashMap<>();
+    private final List<Element> nonAggregatedElements = new ArrayList<>();
+    private final List<File> aggregatedRuns = new ArrayList<>();
+    private final List<File> nonAggregatedRuns = new ArrayList<>();
+    private final List<Closeable> openReaders = new ArrayList<>();
+
+    /**
+     * @param toKey               function to extract the key elements are grouped by
+     * @param aggregator          operator to aggregate two elements with the same key
+     * @param isAggregated        predicate to test if an element should be aggregated
+     * @param maxBufferedElements the number of distinct elements to buffer before spilling to disk,
+     *                            0 or less to never spill
+     */
+    public ElementAggregationBuffer(final Function<Element, Element> toKey,
+                                    final BinaryOperator<Element> aggregator,
+                                    final Predicate<Element> isAggregated,
+                                    final int maxBufferedElements) {
+        if (isNull(toKey)) {
+            throw new IllegalArgumentException("A key function is required");
+        }
+        if (isNull(aggregator)) {
+            throw new IllegalArgumentException("An aggregator is required");
+        }
+        this.toKey = toKey;
+        this.aggregator = aggregator;
+        this.isAggregated = isNull(isAggregated) ? e -> true : isAggregated;
+        this.maxBufferedElements = maxBufferedElements;
+    }
+
+    public void add(final Element element) {
+        if (isNull(element)) {
+            return;
+        }
+
+        if (isAggregated.test(element)) {
+            aggregatedElements.merge(toKey.apply(element), element, aggregator);
+        } else {
+            nonAggregatedElements.add(element);
+        }
+
+        if (maxBufferedElements > 0 && aggregatedElements.size() + nonAggregatedElements.size() >= maxBufferedElements) {
+            spill();
+        }
+    }
+
+    public void addAll(final Iterable<? extends Element> elements) {
+        if (nonNull(elements)) {
+            try {
+                for (final Element element : elements) {
+                    add(element);
+                }
+            } finally {
+                CloseableUtil.close(elements);
+            }
+        }
+    }
+
+    public boolean hasSpilled() {
+        return !aggregatedRuns.isEmpty() || !nonAggregatedRuns.isEmpty();
+    }
+
+    @Override
+    public Iterator<Element> iterator() {
+        final Iterable<Element> nonAggregated;
+        if (nonAggregatedRuns.isEmpty()) {
+            nonAggregated = nonAggregatedElements;
+        } else {
+            final List<Iterable<Element>> parts = new ArrayList<>();
+            for (final File run : nonAggregatedRuns) {
+                parts.add(() -> new RunReader(run));
+            }
+            parts.add(nonAggregatedElements);
+            nonAggregated = new ChainedIterable<>(parts);
+        }
+
+        final Iterable<Element> aggregated = aggregatedRuns.isEmpty()
+                ? aggregatedElements.values()
+                : MergeIterator::new;
+
+        return new ChainedIterable<Element>(aggregated, nonAggregated).iterator();
+    }
+
+    @Override
+    public void close() {
+        for (final Closeable reader : new ArrayList<>(openReaders)) {
+            CloseableUtil.close(reader);
+        }
+        openReaders.clear();
+        deleteAll(aggregatedRuns);
+        deleteAll(nonAggregatedRuns);
+        aggregatedElements.clear();
+        nonAggregatedElements.clear();
+    }
+
+    private void spill() {
+        if (!aggregatedElements.isEmpty()) {
+            final List<Map.Entry<Element, Element>> entries = new ArrayList<>(aggregatedElements.entrySet());
+            entries.sort(Comparator.comparingInt(e -> e.getKey().hashCode()));
+            final List<Element> sorted = new ArrayList<>(entries.size());
+            for (final Map.Entry<Element, Element> entry : entries) {
+                sorted.add(entry.getValue());
+            }
+            aggregatedRuns.add(writeRun(sorted));
+            aggregatedElements.clear();
+        }
+
+        if (!nonAggregatedElements.isEmpty()) {
+            nonAggregatedRuns.add(writeRun(nonAggregatedElements));
+            nonAggregatedElements.clear();
+        }
+    }
+
+    private File writeRun(final List<Element> elements) {
+        try {
+            final File file = Files.createTempFile(SPILL_FILE_PREFIX, ".run").toFile();
+            LOGGER.debug("Spilling {} elements to {}", elements.size(), file);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file.toPath())))) {
+                for (final Element element : elements) {
+                    final byte[] bytes = JSONSerialiser.serialise(element);
+                    out.writeInt(bytes.length);
+                    out.write(bytes);
+                }
+            }
+            return file;
+        } catch (final IOException e) {
+            throw new GafferRuntimeException("Unable to spill elements to disk, due to: " + e.getMessage(), e);
+        }
+    }
+
+    private static void deleteAll(final List<File> files) {
+        for (final File file : files) {
+            if (!file.delete()) {
+                LOGGER.warn("Unable to delete temporary file {}", file);
+            }
+        }
+        files.clear();
+    }
+
+    /**
+     * Reads the elements of a spilled run back in the order they were written.
+     */
+    private final class RunReader implements Iterator<Element>, Closeable {
+        private final DataInputStream in;
+        private Element next;
+        private boolean closed;
+
+        RunReader(final File run) {
+            try {
+                in = new DataInputStream(new BufferedInputStream(Files.newInputStream(run.toPath())));
+            } catch (final IOException e) {
+                throw new GafferRuntimeException("Unable to read spilled elements, due to: " + e.getMessage(), e);
+            }
+            openReaders.add(this);
+            next = readNext();
+        }
+
+        private Element readNext() {
+            if (closed) {
+                return null;
+            }
+            try {
+                final byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                return JSONSerialiser.deserialise(bytes, Element.class);
+            } catch (final EOFException e) {
+                close();
+                return null;
+            } catch (final SerialisationException e) {
+                close();
+                throw new GafferRuntimeException("Unable to deserialise spilled element, due to: " + e.getMessage(), e);
+            } catch (final IOException e) {
+                close();
+                throw new GafferRuntimeException("Unable to read spilled elements, due to: " + e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nonNull(next);
+        }
+
+        @Override
+        public Element next() {
+            if (isNull(next)) {
+                throw new NoSuchElementException();
+            }
+            final Element current = next;
+            next = readNext();
+            return current;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                openReaders.remove(this);
+                CloseableUtil.close(in);
+            }
+        }
+    }
+
+    /**
+     * A cursor over one sorted run, exposing the key hash of the current element.
+     */
+    private final class RunCursor {
+        private final Iterator<Element> source;
+        private Element current;
+        private Element currentKey;
+
+        RunCursor(final Iterator<Element> source) {
+            this.source = source;
+        }
+
+        boolean advance() {
+            if (source.hasNext()) {
+                current = source.next();
+                currentKey = toKey.apply(current);
+                return true;
+            }
+            current = null;
+            currentKey = null;
+            return false;
+        }
+
+        int getHash() {
+            return currentKey.hashCode();
+        }
+    }
+
+    /**
+     * Merges the sorted spilled runs and the in-memory run, aggregating
+     * elements that share a key.
+     */
+    private final class MergeIterator implements Iterator<Element> {
+        private final PriorityQueue<RunCursor> cursors = new PriorityQueue<>(Comparator.comparingInt(RunCursor::getHash));
+        private Iterator<Element> pending = Collections.emptyIterator();
+
+        MergeIterator() {
+            for (final File run : aggregatedRuns) {
+                addCursor(new RunCursor(new RunReader(run)));
+            }
+            final List<Map.Entry<Element, Element>> inMemory = new ArrayList<>(aggregatedElements.entrySet());
+            inMemory.sort(Comparator.comparingInt(e -> e.getKey().hashCode()));
+            final List<Element> inMemoryValues = new ArrayList<>(inMemory.size());
+            for (final Map.Entry<Element, Element> entry : inMemory) {
+                inMemoryValues.add(entry.getValue().shallowClone());
+            }
+            addCursor(new RunCursor(inMemoryValues.iterator()));
+        }
+
+        private void addCursor(final RunCursor cursor) {
+            if (cursor.advance()) {
+                cursors.add(cursor);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!pending.hasNext() && !cursors.isEmpty()) {
+                final int hash = cursors.peek().getHash();
+                // Elements with equal keys have equal hashes, so only the elements
+                // sharing this hash need to be grouped together.
+                final Map<Element, Element> group = new LinkedHashMap<>();
+                while (!cursors.isEmpty() && cursors.peek().getHash() == hash) {
+                    final RunCursor cursor = cursors.poll();
+                    group.merge(cursor.currentKey, cursor.current, aggregator);
+                    addCursor(cursor);
+                }
+                pending = group.values().iterator();
+            }
+            return pending.hasNext();
+        }
+
+        @Override
+        public Element next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return pending.next();
+        }
+    }
+}
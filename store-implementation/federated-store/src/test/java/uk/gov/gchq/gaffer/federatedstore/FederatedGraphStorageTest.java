@@ -578,4 +578,71 @@ public class FederatedGraphStorageTest {
 
     }
 
+    @Test
+    public void shouldReuseResolvedGraphBetweenRequests() throws Exception {
+        //given
+        graphStorage.put(graphSerialisableA, auth1Access);
+
+        //when
+        final GraphSerialisable first = graphStorage.get(testUser(), singletonList(GRAPH_ID_A)).iterator().next();
+        final GraphSerialisable second = graphStorage.get(testUser(), singletonList(GRAPH_ID_A)).iterator().next();
+
+        //then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void shouldSeeAccessChangedAfterGraphWasResolved() throws Exception {
+        //given
+        graphStorage.put(graphSerialisableA, auth1Access);
+        assertThat(graphStorage.getAllIds(authUser())).containsExactly(GRAPH_ID_A);
+
+        //when
+        graphStorage.changeGraphAccess(GRAPH_ID_A, blockingReadAccess, testUser());
+
+        //then
+        assertThat(graphStorage.getAllIds(authUser())).isEmpty();
+    }
+
+    @Test
+    public void shouldSeeAccessChangedByAnotherInstanceSharingTheCache() throws Exception {
+        //given
+        final FederatedGraphStorage otherGraphStorage = new FederatedGraphStorage(CACHE_NAME_SUFFIX);
+        graphStorage.put(graphSerialisableA, auth1Access);
+        assertThat(graphStorage.getAllIds(authUser())).containsExactly(GRAPH_ID_A);
+
+        //when
+        otherGraphStorage.changeGraphAccess(GRAPH_ID_A, blockingReadAccess, testUser());
+
+        //then
+        assertThat(graphStorage.getAllIds(authUser())).isEmpty();
+    }
+
+    @Test
+    public void shouldSeeGraphIdChangedAfterGraphWasResolved() throws Exception {
+        //given
+        graphStorage.put(graphSerialisableA, auth1Access);
+        assertThat(graphStorage.getAllIds(authUser())).containsExactly(GRAPH_ID_A);
+
+        //when
+        graphStorage.changeGraphId(GRAPH_ID_A, GRAPH_ID_B, testUser());
+
+        //then
+        assertThat(graphStorage.getAllIds(authUser())).containsExactly(GRAPH_ID_B);
+        assertThat(graphStorage.get(authUser(), singletonList(GRAPH_ID_B)).iterator().next().getGraphId()).isEqualTo(GRAPH_ID_B);
+    }
+
+    @Test
+    public void shouldNotGetGraphRemovedByAnotherInstanceSharingTheCache() throws Exception {
+        //given
+        final FederatedGraphStorage otherGraphStorage = new FederatedGraphStorage(CACHE_NAME_SUFFIX);
+        graphStorage.put(graphSerialisableA, auth1Access);
+        assertThat(graphStorage.getAllIds(authUser())).containsExactly(GRAPH_ID_A);
+
+        //when
+        otherGraphStorage.remove(GRAPH_ID_A, testUser(), false);
+
+        //then
+        assertThat(graphStorage.getAllIds(authUser())).isEmpty();
+    }
 }
@@ -71,6 +71,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 
 import static java.util.Arrays.asList;
@@ -1393,6 +1394,21 @@ public class FederatedStoreTest {
                 .isEqualTo(withGraph);
     }
 
+    @Test
+    public void shouldShutDownGraphExecutorWhenClosed() throws Exception {
+        //given
+        federatedProperties.setExecutorThreadCount(2);
+        store.initialise(GRAPH_ID_TEST_FEDERATED_STORE, null, federatedProperties);
+        final ExecutorService executorService = store.getGraphExecutorService();
+
+        //when
+        store.close();
+
+        //then
+        assertThat(executorService.isShutdown()).isTrue();
+        assertThat(store.getGraphExecutorService()).isNull();
+    }
+
     protected void addElementsToNewGraph(final Entity input, final String graphName, final String pathSchemaJson)
             throws OperationException {
         addGraphWithPaths(graphName, properties1, blankUserContext, pathSchemaJson);
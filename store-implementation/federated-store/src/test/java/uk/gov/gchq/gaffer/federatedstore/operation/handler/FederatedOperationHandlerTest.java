@@ -65,6 +65,8 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.BiFunction;
 
 import static java.util.Arrays.asList;
@@ -228,6 +230,94 @@ public class FederatedOperationHandlerTest {
         validateMergeResultsFromFieldObjects(results, output1, output3);
     }
 
+    @Test
+    public final void shouldGetAllResultsFromStoresConcurrently() throws Exception {
+        // Given
+        final FederatedOperation federatedOperation = getFederatedOperation(getPayload());
+        final FederatedStore federatedStore = getConcurrentFederatedStore(0L);
+        final ExecutorService executorService = federatedStore.getGraphExecutorService();
+        when(federatedStore.getGraphs(testUser, null, federatedOperation)).thenReturn(asList(graph1, graph2, graph3, graph4));
+
+        try {
+            // When
+            final Object results = new FederatedOperationHandler<Void, Iterable<? extends Element>>().doOperation(federatedOperation, context, federatedStore);
+
+            // Then
+            assertNotNull(results);
+            validateMergeResultsFromFieldObjects(results, output1, output2, output3, output4);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldThrowWhenGraphTimesOutConcurrently() throws Exception {
+        // Given
+        graph3 = getGraphWithMockStore(getMockStoreThatSleeps(5000L));
+        final FederatedOperation federatedOperation = getFederatedOperation(getPayload());
+        final FederatedStore federatedStore = getConcurrentFederatedStore(100L);
+        final ExecutorService executorService = federatedStore.getGraphExecutorService();
+        when(federatedStore.getGraphs(testUser, null, federatedOperation)).thenReturn(asList(graph1, graph2, graph3));
+
+        try {
+            // When / Then
+            assertThatExceptionOfType(OperationException.class)
+                    .isThrownBy(() -> new FederatedOperationHandler<Void, Iterable<? extends Element>>().doOperation(federatedOperation, context, federatedStore))
+                    .withMessageContaining(String.format(FederatedOperationHandler.ERROR_WHILE_RUNNING_OPERATION_ON_GRAPHS_FORMAT, ""))
+                    .withStackTraceContaining(String.format(FederatedOperationHandler.GRAPH_TIMED_OUT_FORMAT, TEST_GRAPH_ID, 100L));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldSkipTimedOutGraphConcurrentlyWhenSkipFlagSetTrue() throws Exception {
+        // Given
+        graph3 = getGraphWithMockStore(getMockStoreThatSleeps(5000L));
+        final FederatedOperation federatedOperation = getFederatedOperation(getPayload());
+        federatedOperation.skipFailedFederatedExecution(true);
+        final FederatedStore federatedStore = getConcurrentFederatedStore(100L);
+        final ExecutorService executorService = federatedStore.getGraphExecutorService();
+        when(federatedStore.getGraphs(testUser, null, federatedOperation)).thenReturn(asList(graph1, graph2, graph3));
+
+        try {
+            // When
+            final Object results = new FederatedOperationHandler<Void, Iterable<? extends Element>>().doOperation(federatedOperation, context, federatedStore);
+
+            // Then
+            assertNotNull(results);
+            validateMergeResultsFromFieldObjects(results, output1, output2);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private FederatedStore getConcurrentFederatedStore(final long graphTimeoutMillis) {
+        final FederatedStoreProperties properties = new FederatedStoreProperties();
+        properties.setExecutorThreadCount(4);
+        properties.setExecutorGraphTimeoutMillis(graphTimeoutMillis);
+
+        final FederatedStore federatedStore = mock(FederatedStore.class);
+        final HashMap mockMap = mock(HashMap.class);
+        given(mockMap.get(any())).willReturn(getDefaultMergeFunction());
+        given(mockMap.getOrDefault(any(), any())).willReturn(getDefaultMergeFunction());
+        given(federatedStore.getStoreConfiguredMergeFunctions()).willReturn(mockMap);
+        given(federatedStore.getProperties()).willReturn(properties);
+        given(federatedStore.getGraphExecutorService()).willReturn(Executors.newFixedThreadPool(properties.getExecutorThreadCount()));
+        return federatedStore;
+    }
+
+    private Store getMockStoreThatSleeps(final long sleepMillis) throws OperationException {
+        final Store mockStore = Mockito.mock(Store.class);
+        given(mockStore.getSchema()).willReturn(new Schema());
+        given(mockStore.getProperties()).willReturn(new StoreProperties());
+        given(mockStore.execute(any(Output.class), any(Context.class))).willAnswer(invocation -> {
+            Thread.sleep(sleepMillis);
+            return output3;
+        });
+        return mockStore;
+    }
+
     private GraphSerialisable getGraphWithMockStore(final Store mockStore) {
 
         final Graph graph = new Graph.Builder()
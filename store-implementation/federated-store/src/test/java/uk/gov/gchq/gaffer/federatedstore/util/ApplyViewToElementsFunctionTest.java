@@ -27,6 +27,7 @@ import uk.gov.gchq.gaffer.accumulostore.retriever.impl.AccumuloAllElementsRetrie
 import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
+import uk.gov.gchq.gaffer.data.element.function.ElementTransformer;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
 import uk.gov.gchq.gaffer.federatedstore.FederatedStore;
@@ -37,11 +38,16 @@ import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
 import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
 import uk.gov.gchq.gaffer.store.StoreException;
 import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.koryphe.impl.function.ToString;
+import uk.gov.gchq.koryphe.impl.predicate.IsEqual;
 import uk.gov.gchq.koryphe.impl.predicate.IsLessThan;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static uk.gov.gchq.gaffer.federatedstore.FederatedStoreTestUtil.ACCUMULO_STORE_SINGLE_USE_PROPERTIES;
 import static uk.gov.gchq.gaffer.federatedstore.FederatedStoreTestUtil.GRAPH_ID_ACCUMULO;
 import static uk.gov.gchq.gaffer.federatedstore.FederatedStoreTestUtil.GROUP_BASIC_EDGE;
@@ -146,6 +152,124 @@ class ApplyViewToElementsFunctionTest {
                 .isEmpty();
     }
 
+    @Test
+    public void shouldAggregateEdgesAfterSpillingToDisk() throws Exception {
+        //given
+        final ApplyViewToElementsFunction template = new ApplyViewToElementsFunction();
+        template.setMaxBufferedElements(1);
+        final ApplyViewToElementsFunction function = template.createFunctionWithContext(
+                makeContext(
+                        new View.Builder().edge(GROUP_BASIC_EDGE).build(),
+                        SCHEMA.clone()));
+
+        //when
+        Iterable<Object> iterable = null;
+        for (int i = 0; i < 5; i++) {
+            iterable = function.apply(Collections.singletonList(edgeBasic()), iterable);
+        }
+
+        //then
+        final Edge edge5 = edgeBasic();
+        //With aggregated property value of 5
+        edge5.putProperty(PROPERTY_1, 5);
+
+        assertThat(function.getMaxBufferedElements()).isEqualTo(1);
+        assertThat(iterable)
+                .asInstanceOf(InstanceOfAssertFactories.iterable(Element.class))
+                .containsExactly(edge5);
+    }
+
+    @Test
+    public void shouldNotStripPropertiesFromMergedElementsWhenReadingResults() throws Exception {
+        //given
+        final ApplyViewToElementsFunction function = new ApplyViewToElementsFunction().createFunctionWithContext(
+                makeContext(
+                        new View.Builder().edge(GROUP_BASIC_EDGE,
+                                new ViewElementDefinition.Builder()
+                                        .postAggregationFilter(new ElementFilter.Builder()
+                                                .select(PROPERTY_1)
+                                                .execute(new IsLessThan(10))
+                                                .build())
+                                        .excludeProperties(PROPERTY_1)
+                                        .build()).build(),
+                        SCHEMA.clone()));
+
+        //when
+        final Iterable<Object> iterable = function.apply(Collections.singletonList(edgeBasic()), null);
+
+        //then
+        final Edge expected = edgeBasic();
+        expected.getProperties().remove(PROPERTY_1);
+
+        assertThat(iterable)
+                .asInstanceOf(InstanceOfAssertFactories.iterable(Element.class))
+                .containsExactly(expected);
+        assertThat(iterable)
+                .asInstanceOf(InstanceOfAssertFactories.iterable(Element.class))
+                .containsExactly(expected);
+    }
+
+    @Test
+    public void shouldApplyViewTransformerBeforePostTransformFilter() throws Exception {
+        //given
+        final String transientProperty = "transientProperty";
+        final ApplyViewToElementsFunction function = new ApplyViewToElementsFunction().createFunctionWithContext(
+                makeContext(
+                        new View.Builder().edge(GROUP_BASIC_EDGE,
+                                new ViewElementDefinition.Builder()
+                                        .transientProperty(transientProperty, String.class)
+                                        .transformer(new ElementTransformer.Builder()
+                                                .select(PROPERTY_1)
+                                                .execute(new ToString())
+                                                .project(transientProperty)
+                                                .build())
+                                        .postTransformFilter(new ElementFilter.Builder()
+                                                .select(transientProperty)
+                                                .execute(new IsEqual("2"))
+                                                .build())
+                                        .build()).build(),
+                        SCHEMA.clone()));
+
+        //when
+        Iterable<Object> iterable = null;
+        for (int i = 0; i < 2; i++) {
+            iterable = function.apply(Collections.singletonList(edgeBasic()), iterable);
+        }
+
+        //then
+        final Edge expected = edgeBasic();
+        expected.putProperty(PROPERTY_1, 2);
+        expected.putProperty(transientProperty, "2");
+
+        assertThat(iterable)
+                .asInstanceOf(InstanceOfAssertFactories.iterable(Element.class))
+                .containsExactly(expected);
+    }
+
+    @Test
+    public void shouldDeleteSpilledResultsOnceTheyHaveBeenRead() throws Exception {
+        //given
+        final ApplyViewToElementsFunction template = new ApplyViewToElementsFunction();
+        template.setMaxBufferedElements(1);
+        final ApplyViewToElementsFunction function = template.createFunctionWithContext(
+                makeContext(
+                        new View.Builder().edge(GROUP_BASIC_EDGE).build(),
+                        SCHEMA.clone()));
+        Iterable<Object> iterable = null;
+        for (int i = 0; i < 2; i++) {
+            iterable = function.apply(Collections.singletonList(edgeBasic()), iterable);
+        }
+
+        //when
+        final Iterator<Object> results = iterable.iterator();
+        while (results.hasNext()) {
+            results.next();
+        }
+
+        //then
+        assertThatIllegalStateException().isThrownBy(iterable::iterator);
+    }
+
     private static AccumuloAllElementsRetriever[] getRetrievers(final AccumuloStore accumuloStore) throws IteratorSettingException, StoreException {
         return new AccumuloAllElementsRetriever[]{
                 new AccumuloAllElementsRetriever(accumuloStore, new GetAllElements.Builder().view(getViewForEdgeBasic()).build(), blankUser()),
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.federatedstore.util;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.commonutil.TestGroups;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.Entity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ElementAggregationBufferTest {
+
+    private static final String COUNT = "count";
+
+    private static final Function<Element, Element> TO_KEY = Element::emptyClone;
+
+    private static final BinaryOperator<Element> SUM_COUNT = (a, b) -> {
+        a.putProperty(COUNT, (Integer) a.getProperty(COUNT) + (Integer) b.getProperty(COUNT));
+        return a;
+    };
+
+    @Test
+    void shouldAggregateElementsWithTheSameKeyInMemory() {
+        // Given
+        try (ElementAggregationBuffer buffer = new ElementAggregationBuffer(TO_KEY, SUM_COUNT, null, 0)) {
+
+            // When
+            buffer.addAll(getElements(3, 4));
+
+            // Then
+            assertThat(buffer.hasSpilled()).isFalse();
+            assertThat(buffer).containsExactlyInAnyOrder(
+                    getEntity(TestGroups.ENTITY, "vertex0", 4),
+                    getEntity(TestGroups.ENTITY, "vertex1", 4),
+                    getEntity(TestGroups.ENTITY, "vertex2", 4));
+        }
+    }
+
+    @Test
+    void shouldAggregateElementsWithTheSameKeyAfterSpilling() {
+        // Given
+        try (ElementAggregationBuffer buffer = new ElementAggregationBuffer(TO_KEY, SUM_COUNT, null, 2)) {
+
+            // When
+            buffer.addAll(getElements(5, 3));
+
+            // Then
+            assertThat(buffer.hasSpilled()).isTrue();
+            assertThat(buffer).containsExactlyInAnyOrder(
+                    getEntity(TestGroups.ENTITY, "vertex0", 3),
+                    getEntity(TestGroups.ENTITY, "vertex1", 3),
+                    getEntity(TestGroups.ENTITY, "vertex2", 3),
+                    getEntity(TestGroups.ENTITY, "vertex3", 3),
+                    getEntity(TestGroups.ENTITY, "vertex4", 3));
+            // The buffer can be read more than once
+            assertThat(buffer).hasSize(5);
+        }
+    }
+
+    @Test
+    void shouldNotAggregateElementsThatAreNotAggregated() {
+        // Given
+        try (ElementAggregationBuffer buffer = new ElementAggregationBuffer(TO_KEY, SUM_COUNT,
+                e -> !TestGroups.ENTITY_2.equals(e.getGroup()), 2)) {
+
+            // When
+            buffer.add(getEntity(TestGroups.ENTITY, "vertex0", 1));
+            buffer.add(getEntity(TestGroups.ENTITY_2, "vertex0", 1));
+            buffer.add(getEntity(TestGroups.ENTITY_2, "vertex0", 1));
+            buffer.add(getEntity(TestGroups.ENTITY, "vertex0", 1));
+
+            // Then
+            assertThat(buffer).containsExactlyInAnyOrder(
+                    getEntity(TestGroups.ENTITY, "vertex0", 2),
+                    getEntity(TestGroups.ENTITY_2, "vertex0", 1),
+                    getEntity(TestGroups.ENTITY_2, "vertex0", 1));
+        }
+    }
+
+    @Test
+    void shouldBeEmptyAfterClose() {
+        // Given
+        final ElementAggregationBuffer buffer = new ElementAggregationBuffer(TO_KEY, SUM_COUNT, null, 2);
+        buffer.addAll(getElements(5, 1));
+
+        // When
+        buffer.close();
+
+        // Then
+        assertThat(buffer.hasSpilled()).isFalse();
+        assertThat(buffer).isEmpty();
+    }
+
+    private static List<Element> getElements(final int numVertices, final int repeats) {
+        final List<Element> elements = new ArrayList<>();
+        for (int i = 0; i < repeats; i++) {
+            for (int v = 0; v < numVertices; v++) {
+                elements.add(getEntity(TestGroups.ENTITY, "vertex" + v, 1));
+            }
+        }
+        return elements;
+    }
+
+    private static Entity getEntity(final String group, final String vertex, final int count) {
+        return new Entity.Builder()
+                .group(group)
+                .vertex(vertex)
+                .property(COUNT, count)
+                .build();
+    }
+}
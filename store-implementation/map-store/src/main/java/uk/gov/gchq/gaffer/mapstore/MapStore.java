@@ -55,10 +55,14 @@ import uk.gov.gchq.gaffer.store.schema.SchemaOptimiser;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 
 import static java.util.Arrays.asList;
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 /**
  * An implementation of {@link Store} that uses any class that implements Java's {@link java.util.Map} interface to
@@ -85,10 +89,14 @@ public class MapStore extends Store {
             StoreTrait.POST_TRANSFORMATION_FILTERING,
             StoreTrait.MATCHED_VERTEX)));
     private static final Logger LOGGER = LoggerFactory.getLogger(MapStore.class);
+    private static final Map<Integer, ForkJoinPool> QUERY_POOLS = new ConcurrentHashMap<>();
     private static MapImpl staticMapImpl;
     private MapImpl mapImpl;
 
     public static void resetStaticMap() {
+        if (nonNull(staticMapImpl)) {
+            staticMapImpl.close();
+        }
         staticMapImpl = null;
     }
 
@@ -101,7 +109,10 @@ public class MapStore extends Store {
         // Add OperationChainOptimisers
         super.addOperationChainOptimisers(asList(new CountAllElementsOperationChainOptimiser()));
 
-        // Initialise maps
+        // Initialise maps, closing any maps from a previous initialisation
+        if (nonNull(mapImpl) && mapImpl != staticMapImpl) {
+            mapImpl.close();
+        }
         mapImpl = createMapImpl();
     }
 
@@ -109,6 +120,20 @@ public class MapStore extends Store {
         return mapImpl;
     }
 
+    /**
+     * Gets the fork/join pool used to execute parallel get operations. The
+     * pools are shared by all map stores with the same parallelism, so
+     * creating stores does not create more threads. Idle pool threads are
+     * released by the pool.
+     *
+     * @return the query pool
+     */
+    public ForkJoinPool getQueryPool() {
+        final int threads = getProperties().getParallelQueriesThreads();
+        final int parallelism = threads < 1 ? Runtime.getRuntime().availableProcessors() : threads;
+        return QUERY_POOLS.computeIfAbsent(parallelism, ForkJoinPool::new);
+    }
+
     /**
      * Get the traits supported by this Map Store.
      * This method is for internal Map Store use
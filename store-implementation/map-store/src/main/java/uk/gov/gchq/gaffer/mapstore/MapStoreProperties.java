@@ -49,6 +49,46 @@ public class MapStoreProperties extends StoreProperties {
     public static final String INGEST_BUFFER_SIZE = "gaffer.store.mapstore.map.ingest.buffer.size";
     public static final int INGEST_BUFFER_SIZE_DEFAULT = 0;
 
+    /**
+     * Property name for the directory used to persist the elements. If set,
+     * each batch of added elements is appended to a log in this directory and
+     * the elements are restored from it when the store is next initialised.
+     */
+    public static final String PERSISTENCE_DIRECTORY = "gaffer.store.mapstore.persistence.directory";
+    public static final String PERSISTENCE_DIRECTORY_DEFAULT = null;
+
+    /**
+     * Property name for the number of logged batches of elements after which
+     * a snapshot of all the elements is written and the log is discarded.
+     * If the value is less than 1 then snapshots are never written.
+     */
+    public static final String PERSISTENCE_SNAPSHOT_INTERVAL = "gaffer.store.mapstore.persistence.snapshot.interval";
+    public static final int PERSISTENCE_SNAPSHOT_INTERVAL_DEFAULT = 100;
+
+    /**
+     * Property name for whether get operations are executed in parallel using
+     * a fork/join pool. This can also be set per operation using an operation
+     * option with the same name.
+     */
+    public static final String PARALLEL_QUERIES = "gaffer.store.mapstore.query.parallel";
+    public static final String PARALLEL_QUERIES_DEFAULT = "false";
+
+    /**
+     * Property name for the parallelism of the fork/join pool used to execute
+     * parallel get operations. If the value is less than 1 then the number of
+     * available processors is used.
+     */
+    public static final String PARALLEL_QUERIES_THREADS = "gaffer.store.mapstore.query.parallel.threads";
+    public static final int PARALLEL_QUERIES_THREADS_DEFAULT = 0;
+
+    /**
+     * Property name for whether parallel get operations return their results
+     * in the same order as the equivalent sequential operation. This can also
+     * be set per operation using an operation option with the same name.
+     */
+    public static final String PARALLEL_QUERIES_PRESERVE_ORDER = "gaffer.store.mapstore.query.parallel.preserveOrder";
+    public static final String PARALLEL_QUERIES_PRESERVE_ORDER_DEFAULT = "false";
+
     public MapStoreProperties() {
         super(MapStore.class);
     }
@@ -123,6 +163,56 @@ public class MapStoreProperties extends StoreProperties {
         set(STATIC_MAP, Boolean.toString(staticMap));
     }
 
+    public String getPersistenceDirectory() {
+        return get(PERSISTENCE_DIRECTORY, PERSISTENCE_DIRECTORY_DEFAULT);
+    }
+
+    public void setPersistenceDirectory(final String persistenceDirectory) {
+        set(PERSISTENCE_DIRECTORY, persistenceDirectory);
+    }
+
+    public int getPersistenceSnapshotInterval() {
+        final String interval = get(PERSISTENCE_SNAPSHOT_INTERVAL, null);
+        if (null == interval) {
+            return PERSISTENCE_SNAPSHOT_INTERVAL_DEFAULT;
+        }
+
+        return Integer.parseInt(interval);
+    }
+
+    public void setPersistenceSnapshotInterval(final int persistenceSnapshotInterval) {
+        set(PERSISTENCE_SNAPSHOT_INTERVAL, String.valueOf(persistenceSnapshotInterval));
+    }
+
+    public boolean isParallelQueries() {
+        return Boolean.parseBoolean(get(PARALLEL_QUERIES, PARALLEL_QUERIES_DEFAULT));
+    }
+
+    public void setParallelQueries(final boolean parallelQueries) {
+        set(PARALLEL_QUERIES, Boolean.toString(parallelQueries));
+    }
+
+    public int getParallelQueriesThreads() {
+        final String threads = get(PARALLEL_QUERIES_THREADS, null);
+        if (null == threads) {
+            return PARALLEL_QUERIES_THREADS_DEFAULT;
+        }
+
+        return Integer.parseInt(threads);
+    }
+
+    public void setParallelQueriesThreads(final int parallelQueriesThreads) {
+        set(PARALLEL_QUERIES_THREADS, String.valueOf(parallelQueriesThreads));
+    }
+
+    public boolean isParallelQueriesPreserveOrder() {
+        return Boolean.parseBoolean(get(PARALLEL_QUERIES_PRESERVE_ORDER, PARALLEL_QUERIES_PRESERVE_ORDER_DEFAULT));
+    }
+
+    public void setParallelQueriesPreserveOrder(final boolean preserveOrder) {
+        set(PARALLEL_QUERIES_PRESERVE_ORDER, Boolean.toString(preserveOrder));
+    }
+
     @Override
     public String getJsonSerialiserModules() {
         return new StringDeduplicateConcat().apply(
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.mapstore.factory;
+
+import uk.gov.gchq.gaffer.mapstore.MapStoreProperties;
+import uk.gov.gchq.gaffer.mapstore.multimap.ConcurrentMapOfSets;
+import uk.gov.gchq.gaffer.mapstore.multimap.MultiMap;
+import uk.gov.gchq.gaffer.mapstore.utils.ElementCloner;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A {@link MapFactory} that creates maps which can be safely read and updated
+ * by multiple threads, allowing elements to be added to and queried from a
+ * {@link uk.gov.gchq.gaffer.mapstore.MapStore} concurrently.
+ * <p>
+ * By default a {@link ConcurrentHashMap} is used. A different map class can be
+ * configured using the {@link SimpleMapFactory#MAP_CLASS} store property, but
+ * it must implement {@link ConcurrentMap}.
+ */
+public class ConcurrentMapFactory extends SimpleMapFactory {
+    public static final String MAP_CLASS_DEFAULT = ConcurrentHashMap.class.getName();
+
+    public ConcurrentMapFactory() {
+        super();
+    }
+
+    protected ConcurrentMapFactory(final ElementCloner cloner) {
+        super(cloner);
+    }
+
+    @Override
+    public void initialise(final Schema schema, final MapStoreProperties properties) {
+        super.initialise(schema, properties);
+        if (!ConcurrentMap.class.isAssignableFrom(getMapClass())) {
+            throw new IllegalArgumentException("Map Class must implement " + ConcurrentMap.class.getName() + ": " + getMapClass().getName());
+        }
+    }
+
+    @Override
+    public boolean isConcurrent() {
+        return true;
+    }
+
+    @Override
+    protected MultiMap createMultiMap(final Map map) {
+        return new ConcurrentMapOfSets((ConcurrentMap) map);
+    }
+
+    @Override
+    protected String getDefaultMapClassName() {
+        return MAP_CLASS_DEFAULT;
+    }
+}
@@ -77,6 +77,16 @@ public interface MapFactory {
         // no action required.
     }
 
+    /**
+     * Whether the maps created by this factory can be safely read and updated
+     * by multiple threads at the same time.
+     *
+     * @return true if the maps support concurrent access
+     */
+    default boolean isConcurrent() {
+        return false;
+    }
+
     /**
      * Clear any currently configured Maps.
      */
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.mapstore.factory;
+
+import uk.gov.gchq.gaffer.data.element.Edge;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.GroupedProperties;
+import uk.gov.gchq.gaffer.data.element.id.EdgeId;
+import uk.gov.gchq.gaffer.data.element.id.EdgeId.MatchedVertex;
+import uk.gov.gchq.gaffer.data.element.id.EntityId;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.mapstore.MapStoreProperties;
+import uk.gov.gchq.gaffer.mapstore.multimap.MultiMap;
+import uk.gov.gchq.gaffer.mapstore.multimap.OffHeapMultiMap;
+import uk.gov.gchq.gaffer.mapstore.utils.ElementCloner;
+import uk.gov.gchq.gaffer.mapstore.utils.OffHeapHashTable;
+import uk.gov.gchq.gaffer.mapstore.utils.OffHeapMap;
+import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
+import uk.gov.gchq.gaffer.serialisation.implementation.JavaSerialiser;
+import uk.gov.gchq.gaffer.serialisation.implementation.raw.CompactRawLongSerialiser;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.serialiser.EdgeIdSerialiser;
+import uk.gov.gchq.gaffer.store.serialiser.ElementSerialiser;
+import uk.gov.gchq.gaffer.store.serialiser.EntityIdSerialiser;
+import uk.gov.gchq.gaffer.store.serialiser.GroupedPropertiesSerialiser;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link MapFactory} that stores elements, properties and indices as
+ * serialised bytes in off-heap memory, using the serialisers defined in the
+ * {@link Schema}. This greatly reduces the heap used by large graphs and the
+ * time spent in garbage collection, at the cost of serialising elements when
+ * they are added and deserialising them each time they are read.
+ * <p>
+ * The off-heap memory is allocated in segments of
+ * {@link #SEGMENT_SIZE} bytes, so the JVM's maximum direct memory must be large
+ * enough to hold the whole graph. The schema serialisers for the vertices and
+ * group-by properties must always produce the same bytes for equal values.
+ */
+public class OffHeapMapFactory implements MapFactory {
+    public static final String SEGMENT_SIZE = "gaffer.store.mapstore.map.offheap.segment.size";
+    public static final String SEGMENT_SIZE_DEFAULT = String.valueOf(OffHeapHashTable.DEFAULT_SEGMENT_SIZE);
+
+    private final ElementCloner cloner;
+    private final Map<String, Map> maps = new HashMap<>();
+    private final Map<String, MultiMap> multiMaps = new HashMap<>();
+    private Schema schema;
+    private int segmentSize = OffHeapHashTable.DEFAULT_SEGMENT_SIZE;
+
+    public OffHeapMapFactory() {
+        this(new ElementCloner());
+    }
+
+    protected OffHeapMapFactory(final ElementCloner cloner) {
+        this.cloner = cloner;
+    }
+
+    @Override
+    public void initialise(final Schema schema, final MapStoreProperties properties) {
+        this.schema = schema;
+        final String segmentSizeStr = properties.get(SEGMENT_SIZE, SEGMENT_SIZE_DEFAULT);
+        try {
+            segmentSize = Integer.parseInt(segmentSizeStr);
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException("Off heap segment size is invalid: " + segmentSizeStr, e);
+        }
+    }
+
+    @Override
+    public <K, V> Map<K, V> getMap(final String mapName, final Class<K> keyClass, final Class<V> valueClass) {
+        return maps.computeIfAbsent(mapName, n -> new OffHeapMap<>(keyClass, getSerialiser(keyClass, false), getSerialiser(valueClass, true), segmentSize));
+    }
+
+    @Override
+    public <K, V> MultiMap<K, V> getMultiMap(final String mapName, final Class<K> keyClass, final Class<V> valueClass) {
+        return multiMaps.computeIfAbsent(mapName, n -> new OffHeapMultiMap<>(getSerialiser(keyClass, false), getSerialiser(valueClass, true), segmentSize));
+    }
+
+    @Override
+    public void clear() {
+        maps.values().forEach(Map::clear);
+        multiMaps.values().forEach(MultiMap::clear);
+        maps.clear();
+        multiMaps.clear();
+    }
+
+    @Override
+    public Element cloneElement(final Element element, final Schema schema) {
+        return cloner.cloneElement(element, schema);
+    }
+
+    protected int getSegmentSize() {
+        return segmentSize;
+    }
+
+    /**
+     * Gets the serialiser for the keys or values of a map.
+     * The matched vertex of an edge is only serialised for values, as it is
+     * not part of the identity of a stored edge.
+     *
+     * @param clazz   the class of the keys or values
+     * @param isValue true if the serialiser is for map values
+     * @param <T>     the type of the keys or values
+     * @return the serialiser
+     */
+    @SuppressWarnings("unchecked")
+    protected <T> ToBytesSerialiser<T> getSerialiser(final Class<T> clazz, final boolean isValue) {
+        final ToBytesSerialiser serialiser;
+        if (Element.class.isAssignableFrom(clazz)) {
+            serialiser = isValue ? new MatchedVertexElementSerialiser(schema) : new ElementSerialiser(schema);
+        } else if (GroupedProperties.class.isAssignableFrom(clazz)) {
+            serialiser = new GroupedPropertiesSerialiser(schema);
+        } else if (EntityId.class.isAssignableFrom(clazz)) {
+            serialiser = new EntityIdSerialiser(schema);
+        } else if (EdgeId.class.isAssignableFrom(clazz)) {
+            serialiser = new EdgeIdSerialiser(schema);
+        } else if (Long.class.equals(clazz)) {
+            serialiser = new CompactRawLongSerialiser();
+        } else {
+            serialiser = new JavaSerialiser();
+        }
+        return serialiser;
+    }
+
+    /**
+     * Serialises an {@link Element} using the {@link ElementSerialiser},
+     * prefixed by a byte recording the matched vertex if the element is an
+     * {@link Edge}.
+     */
+    private static class MatchedVertexElementSerialiser implements ToBytesSerialiser<Element> {
+        private static final long serialVersionUID = -2469245937393553862L;
+        private static final byte NO_MATCHED_VERTEX = 0;
+
+        private final ElementSerialiser elementSerialiser;
+
+        MatchedVertexElementSerialiser(final Schema schema) {
+            this.elementSerialiser = new ElementSerialiser(schema);
+        }
+
+        @Override
+        public boolean canHandle(final Class clazz) {
+            return elementSerialiser.canHandle(clazz);
+        }
+
+        @Override
+        public byte[] serialise(final Element element) throws SerialisationException {
+            final byte[] elementBytes = elementSerialiser.serialise(element);
+            final byte[] bytes = new byte[elementBytes.length + 1];
+            bytes[0] = element instanceof Edge && null != ((Edge) element).getMatchedVertex()
+                    ? (byte) (((Edge) element).getMatchedVertex().ordinal() + 1)
+                    : NO_MATCHED_VERTEX;
+            System.arraycopy(elementBytes, 0, bytes, 1, elementBytes.length);
+            return bytes;
+        }
+
+        @Override
+        public Element deserialise(final byte[] bytes) throws SerialisationException {
+            final Element element = elementSerialiser.deserialise(Arrays.copyOfRange(bytes, 1, bytes.length));
+            if (NO_MATCHED_VERTEX != bytes[0] && element instanceof Edge) {
+                final Edge edge = (Edge) element;
+                edge.setIdentifiers(edge.getSource(), edge.getDestination(), edge.isDirected(), MatchedVertex.values()[bytes[0] - 1]);
+            }
+            return element;
+        }
+
+        @Override
+        public Element deserialiseEmpty() throws SerialisationException {
+            return null;
+        }
+
+        @Override
+        public boolean preservesObjectOrdering() {
+            return false;
+        }
+
+        @Override
+        public boolean isConsistent() {
+            return elementSerialiser.isConsistent();
+        }
+    }
+}
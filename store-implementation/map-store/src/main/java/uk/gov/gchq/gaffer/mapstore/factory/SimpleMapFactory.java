@@ -17,10 +17,17 @@
 package uk.gov.gchq.gaffer.mapstore.factory;
 
 import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.id.EntityId;
 import uk.gov.gchq.gaffer.mapstore.MapStoreProperties;
+import uk.gov.gchq.gaffer.mapstore.multimap.LongVertexMultiMap;
 import uk.gov.gchq.gaffer.mapstore.multimap.MapOfSets;
 import uk.gov.gchq.gaffer.mapstore.multimap.MultiMap;
 import uk.gov.gchq.gaffer.mapstore.utils.ElementCloner;
+import uk.gov.gchq.gaffer.serialisation.Serialiser;
+import uk.gov.gchq.gaffer.serialisation.implementation.ordered.OrderedIntegerSerialiser;
+import uk.gov.gchq.gaffer.serialisation.implementation.ordered.OrderedLongSerialiser;
+import uk.gov.gchq.gaffer.serialisation.implementation.raw.CompactRawIntegerSerialiser;
+import uk.gov.gchq.gaffer.serialisation.implementation.raw.CompactRawLongSerialiser;
 import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.koryphe.serialisation.json.SimpleClassNameIdResolver;
 
@@ -30,6 +37,10 @@ import java.util.Map;
 /**
  * Default implementation of the {@link MapFactory} interface, used to create map
  * instances for the {@link uk.gov.gchq.gaffer.mapstore.MapStore}.
+ * <p>
+ * If the schema vertex serialiser shows that all vertices are {@link Long}s or
+ * {@link Integer}s and the default map class is used, then the {@link EntityId}
+ * index is created as a {@link LongVertexMultiMap}, keyed on the primitive vertex.
  */
 public class SimpleMapFactory implements MapFactory {
     public static final String MAP_CLASS = "gaffer.store.mapstore.map.class";
@@ -37,6 +48,7 @@ public class SimpleMapFactory implements MapFactory {
 
     private final ElementCloner cloner;
     private Class<? extends Map> mapClass = HashMap.class;
+    private Class<? extends Number> primitiveVertexClass;
 
     private final Map<String, Map> maps = new HashMap<>();
     private final Map<String, MultiMap> multiMaps = new HashMap<>();
@@ -51,12 +63,13 @@ public class SimpleMapFactory implements MapFactory {
 
     @Override
     public void initialise(final Schema schema, final MapStoreProperties properties) {
-        final String mapClassName = properties.get(MAP_CLASS, MAP_CLASS_DEFAULT);
+        final String mapClassName = properties.get(MAP_CLASS, getDefaultMapClassName());
         try {
             mapClass = Class.forName(SimpleClassNameIdResolver.getClassName(mapClassName)).asSubclass(Map.class);
         } catch (final ClassNotFoundException | ClassCastException e) {
             throw new IllegalArgumentException("Map Class is invalid: " + mapClassName, e);
         }
+        primitiveVertexClass = getPrimitiveVertexClass(schema.getVertexSerialiser());
     }
 
     @Override
@@ -76,7 +89,21 @@ public class SimpleMapFactory implements MapFactory {
 
     @Override
     public <K, V> MultiMap<K, V> getMultiMap(final String mapName, final Class<K> keyClass, final Class<V> valueClass) {
-        return multiMaps.computeIfAbsent(mapName, n -> new MapOfSets(getMap(n, keyClass, valueClass)));
+        if (EntityId.class.equals(keyClass) && null != primitiveVertexClass
+                && !isConcurrent() && HashMap.class.equals(mapClass)) {
+            return multiMaps.computeIfAbsent(mapName, n -> new LongVertexMultiMap<>(primitiveVertexClass));
+        }
+        return multiMaps.computeIfAbsent(mapName, n -> createMultiMap(getMap(n, keyClass, valueClass)));
+    }
+
+    /**
+     * Create a new {@link MultiMap} backed by the provided map.
+     *
+     * @param map the map to store the multi map values in
+     * @return the new multi map
+     */
+    protected MultiMap createMultiMap(final Map map) {
+        return new MapOfSets(map);
     }
 
     @Override
@@ -90,6 +117,20 @@ public class SimpleMapFactory implements MapFactory {
         return cloner.cloneElement(element, schema);
     }
 
+    private static Class<? extends Number> getPrimitiveVertexClass(final Serialiser vertexSerialiser) {
+        if (vertexSerialiser instanceof CompactRawLongSerialiser || vertexSerialiser instanceof OrderedLongSerialiser) {
+            return Long.class;
+        }
+        if (vertexSerialiser instanceof CompactRawIntegerSerialiser || vertexSerialiser instanceof OrderedIntegerSerialiser) {
+            return Integer.class;
+        }
+        return null;
+    }
+
+    protected String getDefaultMapClassName() {
+        return MAP_CLASS_DEFAULT;
+    }
+
     protected Class<? extends Map> getMapClass() {
         return mapClass;
     }
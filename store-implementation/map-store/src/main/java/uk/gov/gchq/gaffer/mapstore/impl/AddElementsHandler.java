@@ -26,7 +26,6 @@ import uk.gov.gchq.gaffer.data.element.GroupedProperties;
 import uk.gov.gchq.gaffer.mapstore.MapStore;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.data.EdgeSeed;
-import uk.gov.gchq.gaffer.operation.data.EntitySeed;
 import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
 import uk.gov.gchq.gaffer.store.Context;
 import uk.gov.gchq.gaffer.store.Store;
@@ -57,6 +56,19 @@ public class AddElementsHandler implements OperationHandler<AddElements> {
     }
 
     private void addElements(final Iterable<? extends Element> elements, final MapStore mapStore) {
+        final MapPersistence persistence = mapStore.getMapImpl().getPersistence();
+        if (null == persistence) {
+            bufferAndAddElements(elements, mapStore);
+        } else {
+            synchronized (persistence) {
+                persistence.beginBatch();
+                bufferAndAddElements(persistence.log(elements), mapStore);
+                persistence.commitBatch(mapStore.getMapImpl());
+            }
+        }
+    }
+
+    private void bufferAndAddElements(final Iterable<? extends Element> elements, final MapStore mapStore) {
         final MapImpl mapImpl = mapStore.getMapImpl();
         final Schema schema = mapStore.getSchema();
 
@@ -87,7 +99,7 @@ public class AddElementsHandler implements OperationHandler<AddElements> {
         }
     }
 
-    private void addBatch(final MapImpl mapImpl, final Schema schema, final Iterable<? extends Element> elements) {
+    static void addBatch(final MapImpl mapImpl, final Schema schema, final Iterable<? extends Element> elements) {
         for (final Element element : elements) {
             if (null != element) {
                 final Element elementForIndexing = addElement(element, schema, mapImpl);
@@ -100,7 +112,7 @@ public class AddElementsHandler implements OperationHandler<AddElements> {
         }
     }
 
-    private Element addElement(final Element element, final Schema schema, final MapImpl mapImpl) {
+    private static Element addElement(final Element element, final Schema schema, final MapImpl mapImpl) {
         final Element elementForIndexing;
         if (!mapImpl.isAggregationEnabled(element)) {
             elementForIndexing = addNonAggElement(element, schema, mapImpl);
@@ -110,7 +122,7 @@ public class AddElementsHandler implements OperationHandler<AddElements> {
         return elementForIndexing;
     }
 
-    private Element addAggElement(final Element element, final MapImpl mapImpl) {
+    private static Element addAggElement(final Element element, final MapImpl mapImpl) {
         final String group = element.getGroup();
         final Element elementWithGroupByProperties = element.emptyClone();
         final GroupedProperties properties = new GroupedProperties(element.getGroup());
@@ -129,7 +141,7 @@ public class AddElementsHandler implements OperationHandler<AddElements> {
         return elementWithGroupByProperties;
     }
 
-    private Element addNonAggElement(final Element element, final Schema schema, final MapImpl mapImpl) {
+    private static Element addNonAggElement(final Element element, final Schema schema, final MapImpl mapImpl) {
         final Element elementClone = element.emptyClone();
 
         // Copy properties that exist in the schema
@@ -142,20 +154,17 @@ public class AddElementsHandler implements OperationHandler<AddElements> {
         return elementClone;
     }
 
-    private void updateElementIndex(final Element element, final MapImpl mapImpl) {
+    private static void updateElementIndex(final Element element, final MapImpl mapImpl) {
         if (element instanceof Entity) {
             final Entity entity = (Entity) element;
-            final EntitySeed entitySeed = new EntitySeed(entity.getVertex());
-            mapImpl.addIndex(entitySeed, element);
+            mapImpl.addVertexIndex(entity.getVertex(), element);
         } else {
             final Edge edge = (Edge) element;
             edge.setIdentifiers(edge.getSource(), edge.getDestination(), edge.isDirected(), EdgeSeed.MatchedVertex.SOURCE);
-            final EntitySeed sourceEntitySeed = new EntitySeed(edge.getSource());
-            mapImpl.addIndex(sourceEntitySeed, edge);
+            mapImpl.addVertexIndex(edge.getSource(), edge);
 
             final Edge destMatchedEdge = new Edge(edge.getGroup(), edge.getSource(), edge.getDestination(), edge.isDirected(), EdgeSeed.MatchedVertex.DESTINATION, edge.getProperties());
-            final EntitySeed destinationEntitySeed = new EntitySeed(edge.getDestination());
-            mapImpl.addIndex(destinationEntitySeed, destMatchedEdge);
+            mapImpl.addVertexIndex(edge.getDestination(), destMatchedEdge);
 
             final EdgeSeed edgeSeed = new EdgeSeed(edge.getSource(), edge.getDestination(), edge.isDirected());
             mapImpl.addIndex(edgeSeed, edge);
@@ -33,6 +33,7 @@ import uk.gov.gchq.gaffer.user.User;
 
 import java.util.Iterator;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 
 import static java.util.Objects.isNull;
@@ -66,6 +67,9 @@ public class GetAdjacentIdsHandler implements OutputOperationHandler<GetAdjacent
         private final Schema schema;
         private final User user;
         private final boolean supportsVisibility;
+        private final boolean parallel;
+        private final boolean preserveOrder;
+        private final ForkJoinPool queryPool;
 
         EntityIdIterable(final MapImpl mapImpl, final GetAdjacentIds getAdjacentIds, final MapStore mapStore, final User user) {
             this.mapImpl = mapImpl;
@@ -73,15 +77,26 @@ public class GetAdjacentIdsHandler implements OutputOperationHandler<GetAdjacent
             this.schema = mapStore.getSchema();
             this.user = user;
             this.supportsVisibility = mapStore.getTraits().contains(StoreTrait.VISIBILITY);
+            this.parallel = ParallelQueryUtil.isParallel(getAdjacentIds, mapStore.getProperties());
+            this.preserveOrder = ParallelQueryUtil.isOrderPreserved(getAdjacentIds, mapStore.getProperties());
+            this.queryPool = parallel ? mapStore.getQueryPool() : null;
         }
 
         @Override
         public Iterator<EntityId> iterator() {
+            if (parallel) {
+                return ParallelQueryUtil.collect(queryPool, () -> getAdjacentIds(
+                        ParallelQueryUtil.parallel(Streams.toStream(getAdjacentIds.getInput()), preserveOrder)));
+            }
+            return getAdjacentIds(Streams.toStream(getAdjacentIds.getInput())).iterator();
+        }
+
+        private Stream<EntityId> getAdjacentIds(final Stream<? extends EntityId> seeds) {
             // For each EntityId, get relevant edges with group-by properties
             // Create full Element
             // Apply view
             // Extract adjacent vertices
-            Stream<Element> elementStream = Streams.toStream(getAdjacentIds.getInput())
+            Stream<Element> elementStream = seeds
                     .flatMap(entityId -> GetElementsUtil.getRelevantElements(mapImpl, entityId, getAdjacentIds.getView(), getAdjacentIds.getDirectedType(), getAdjacentIds.getIncludeIncomingOutGoing())
                             .stream()
                             .map(mapImpl::getAggElement));
@@ -91,7 +106,10 @@ public class GetAdjacentIdsHandler implements OutputOperationHandler<GetAdjacent
                 elementStream = GetElementsUtil.applyVisibilityFilter(elementStream, schema, user);
             }
 
-            elementStream = elementStream.map(element -> mapImpl.cloneElement(element, schema));
+            // The elements are not returned, so only need cloning if the view could modify their properties
+            if (GetElementsUtil.isViewModifyingProperties(getAdjacentIds.getView(), schema)) {
+                elementStream = elementStream.map(element -> mapImpl.cloneElement(element, schema));
+            }
 
             // Apply the view
             elementStream = GetElementsUtil.applyView(elementStream, schema, getAdjacentIds.getView(), true);
@@ -109,7 +127,7 @@ public class GetAdjacentIdsHandler implements OutputOperationHandler<GetAdjacent
                         return new EntitySeed(nextVertex);
                     });
 
-            return adjacentIdsStream.iterator();
+            return adjacentIdsStream;
         }
     }
 }
@@ -28,6 +28,8 @@ import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.gaffer.user.User;
 
 import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 
 /**
@@ -55,6 +57,9 @@ public class GetAllElementsHandler implements OutputOperationHandler<GetAllEleme
         private final Schema schema;
         private final User user;
         private final boolean supportsVisibility;
+        private final boolean parallel;
+        private final boolean preserveOrder;
+        private final ForkJoinPool queryPool;
 
         AllElementsIterable(final MapImpl mapImpl,
                             final GetAllElements getAllElements,
@@ -65,22 +70,34 @@ public class GetAllElementsHandler implements OutputOperationHandler<GetAllEleme
             this.schema = mapStore.getSchema();
             this.user = user;
             this.supportsVisibility = mapStore.getTraits().contains(StoreTrait.VISIBILITY);
+            this.parallel = ParallelQueryUtil.isParallel(getAllElements, mapStore.getProperties());
+            this.preserveOrder = ParallelQueryUtil.isOrderPreserved(getAllElements, mapStore.getProperties());
+            this.queryPool = parallel ? mapStore.getQueryPool() : null;
         }
 
         @Override
         public Iterator<Element> iterator() {
-            Stream<Element> elements = mapImpl.getAllElements(getAllElements.getView().getGroups());
+            final Set<String> groups = getAllElements.getView().getGroups();
+            if (parallel) {
+                return ParallelQueryUtil.collect(queryPool, () -> getElements(
+                        ParallelQueryUtil.parallel(mapImpl.getAllElementsInParallel(groups), preserveOrder)));
+            }
+            return getElements(mapImpl.getAllElements(groups)).iterator();
+        }
+
+        private Stream<Element> getElements(final Stream<Element> allElements) {
+            // The elements returned by the MapImpl are already clones, so are not cloned again here
+            Stream<Element> elements = allElements;
             if (this.supportsVisibility) {
                 elements = GetElementsUtil.applyVisibilityFilter(elements, schema, user);
             }
             elements = GetElementsUtil.applyDirectedTypeFilter(elements, getAllElements.getView().hasEdges(), getAllElements.getDirectedType());
-            elements = elements.map(element -> mapImpl.cloneElement(element, schema));
-            elements = GetElementsUtil.applyView(elements, schema, getAllElements.getView());
+            elements = GetElementsUtil.applyView(elements, schema, getAllElements.getView(), false, true);
             elements = elements.map(element -> {
                 ViewUtil.removeProperties(getAllElements.getView(), element);
                 return element;
             });
-            return elements.iterator();
+            return elements;
         }
     }
 }
@@ -31,6 +31,7 @@ import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.gaffer.user.User;
 
 import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 
 import static java.util.Objects.isNull;
@@ -69,6 +70,9 @@ public class GetElementsHandler implements OutputOperationHandler<GetElements, I
         private final Schema schema;
         private final User user;
         private final boolean supportsVisibility;
+        private final boolean parallel;
+        private final boolean preserveOrder;
+        private final ForkJoinPool queryPool;
 
         ElementsIterable(final MapImpl mapImpl, final GetElements getElements, final MapStore mapStore, final User user) {
             this.mapImpl = mapImpl;
@@ -76,11 +80,22 @@ public class GetElementsHandler implements OutputOperationHandler<GetElements, I
             this.schema = mapStore.getSchema();
             this.user = user;
             this.supportsVisibility = mapStore.getTraits().contains(StoreTrait.VISIBILITY);
+            this.parallel = ParallelQueryUtil.isParallel(getElements, mapStore.getProperties());
+            this.preserveOrder = ParallelQueryUtil.isOrderPreserved(getElements, mapStore.getProperties());
+            this.queryPool = parallel ? mapStore.getQueryPool() : null;
         }
 
         @Override
         public Iterator<Element> iterator() {
-            Stream<Element> elements = Streams.toStream(getElements.getInput())
+            if (parallel) {
+                return ParallelQueryUtil.collect(queryPool, () -> getElements(
+                        ParallelQueryUtil.parallel(Streams.toStream(getElements.getInput()), preserveOrder)));
+            }
+            return getElements(Streams.toStream(getElements.getInput())).iterator();
+        }
+
+        private Stream<Element> getElements(final Stream<? extends ElementId> seeds) {
+            Stream<Element> elements = seeds
                     .flatMap(elementId -> GetElementsUtil.getRelevantElements(mapImpl, elementId, getElements.getView(), getElements.getDirectedType(), getElements.getIncludeIncomingOutGoing()).stream())
                     .distinct();
             elements = elements.flatMap(e -> Streams.toStream(mapImpl.getElements(e)));
@@ -88,12 +103,12 @@ public class GetElementsHandler implements OutputOperationHandler<GetElements, I
                 elements = GetElementsUtil.applyVisibilityFilter(elements, schema, user);
             }
             elements = elements.map(element -> mapImpl.cloneElement(element, schema));
-            elements = GetElementsUtil.applyView(elements, schema, getElements.getView());
+            elements = GetElementsUtil.applyView(elements, schema, getElements.getView(), false, true);
             elements = elements.map(element -> {
                 ViewUtil.removeProperties(getElements.getView(), element);
                 return element;
             });
-            return elements.iterator();
+            return elements;
         }
     }
 }
@@ -16,13 +16,7 @@
 
 package uk.gov.gchq.gaffer.mapstore.impl;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 import uk.gov.gchq.gaffer.commonutil.elementvisibilityutil.Authorisations;
-import uk.gov.gchq.gaffer.commonutil.elementvisibilityutil.ElementVisibility;
-import uk.gov.gchq.gaffer.commonutil.elementvisibilityutil.VisibilityEvaluator;
-import uk.gov.gchq.gaffer.commonutil.elementvisibilityutil.exception.VisibilityParseException;
 import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.Entity;
@@ -33,18 +27,30 @@ import uk.gov.gchq.gaffer.data.element.id.ElementId;
 import uk.gov.gchq.gaffer.data.element.id.EntityId;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
+import uk.gov.gchq.gaffer.mapstore.utils.CachingVisibilityEvaluator;
 import uk.gov.gchq.gaffer.operation.data.EdgeSeed;
-import uk.gov.gchq.gaffer.operation.data.EntitySeed;
 import uk.gov.gchq.gaffer.operation.graph.SeededGraphFilters.IncludeIncomingOutgoingType;
 import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.schema.SchemaElementDefinition;
 import uk.gov.gchq.gaffer.store.util.AggregatorUtil;
 import uk.gov.gchq.gaffer.user.User;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -55,8 +61,6 @@ import java.util.stream.StreamSupport;
  */
 public final class GetElementsUtil {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(GetElementsUtil.class);
-
     private GetElementsUtil() {
         // Private constructor to prevent instantiation.
     }
@@ -72,7 +76,7 @@ public final class GetElementsUtil {
         Predicate<Element> isFiltered = e -> !groups.contains(e.getGroup());
 
         if (elementId instanceof EntityId) {
-            final Collection<Element> elements = mapImpl.lookup(new EntitySeed(((EntityId) elementId).getVertex()));
+            final Collection<Element> elements = mapImpl.lookupVertex(((EntityId) elementId).getVertex());
             if (elements.isEmpty()) {
                 return Collections.emptySet();
             }
@@ -105,11 +109,11 @@ public final class GetElementsUtil {
                 relevantElements.addAll(mapImpl.lookup(new EdgeSeed(edgeId.getSource(), edgeId.getDestination(), edgeId.getDirectedType())));
             }
 
-            mapImpl.lookup(new EntitySeed(edgeId.getSource()))
+            mapImpl.lookupVertex(edgeId.getSource())
                     .stream()
                     .filter(e -> e instanceof Entity)
                     .forEach(relevantElements::add);
-            mapImpl.lookup(new EntitySeed(edgeId.getDestination()))
+            mapImpl.lookupVertex(edgeId.getDestination())
                     .stream()
                     .filter(e -> e instanceof Entity)
                     .forEach(relevantElements::add);
@@ -135,22 +139,14 @@ public final class GetElementsUtil {
                                                         final User user) {
         final Set<String> dataAuths = user.getDataAuths();
         final Authorisations authorisations = new Authorisations(dataAuths.toArray(new String[dataAuths.size()]));
-        return elements.filter(e -> isVisible(e, schema.getVisibilityProperty(), authorisations));
+        final CachingVisibilityEvaluator visibilityEvaluator = CachingVisibilityEvaluator.forAuthorisations(authorisations);
+        return elements.filter(e -> isVisible(e, schema.getVisibilityProperty(), visibilityEvaluator));
     }
 
     private static boolean isVisible(final Element e, final String visibilityProperty,
-                                     final Authorisations authorisations) {
+                                     final CachingVisibilityEvaluator visibilityEvaluator) {
         if (e.getProperty(visibilityProperty) != null) {
-            final VisibilityEvaluator visibilityEvaluator = new VisibilityEvaluator(authorisations);
-            final ElementVisibility elementVisibility = new ElementVisibility((String) e.getProperty(visibilityProperty));
-            try {
-                return visibilityEvaluator.evaluate(elementVisibility);
-            } catch (final VisibilityParseException visibilityParseException) {
-                LOGGER.warn("Unable to parse element visibility: {}. Received exception: {}",
-                        elementVisibility,
-                        visibilityParseException.getMessage());
-                return false;
-            }
+            return visibilityEvaluator.isVisible((String) e.getProperty(visibilityProperty));
         } else {
             e.putProperty(visibilityProperty, "");
             return true;
@@ -171,6 +167,27 @@ public final class GetElementsUtil {
         return filteredElements;
     }
 
+    /**
+     * Checks whether applying the {@link View} could modify the properties of
+     * the elements, either by transforming them or by aggregating them at
+     * query time, so stored property values must be copied before the view is
+     * applied.
+     *
+     * @param view   the view to be applied
+     * @param schema the schema
+     * @return true if the view could modify element properties
+     */
+    public static boolean isViewModifyingProperties(final View view, final Schema schema) {
+        final List<String> aggregatedGroups = schema.getAggregatedGroups();
+        for (final String group : view.getGroups()) {
+            final ViewElementDefinition ved = view.getElement(group);
+            if (null != ved.getTransformer() || aggregatedGroups.contains(group)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public static Stream<Element> applyView(final Stream<Element> elementStream,
                                             final Schema schema,
                                             final View view) {
@@ -181,7 +198,43 @@ public final class GetElementsUtil {
                                             final Schema schema,
                                             final View view,
                                             final boolean includeMatchedVertex) {
+        return applyView(elementStream, schema, view, includeMatchedVertex, false);
+    }
+
+    /**
+     * Applies the {@link View} filters, query time aggregation and transforms
+     * to the elements.
+     * <p>
+     * Elements that do not need aggregating are streamed straight through.
+     * Elements that do are merged into a map keyed on their query time group-by
+     * values as they are read and returned once the input is exhausted, so only
+     * one element per distinct key is held in memory.
+     * <p>
+     * If the elements are distinct, i.e. the input contains at most one
+     * element for each stored ingest key, then aggregation is only carried out
+     * for groups where the query time group-by could merge elements that were
+     * kept separate at ingest: where the view overrides the group-by or the
+     * visibility property is part of the ingest key.
+     * <p>
+     * If the stream is parallel then each thread applies its own clone of the
+     * view, and the elements to aggregate are collected and then merged by a
+     * single thread before the rest of the view is applied in parallel.
+     *
+     * @param elementStream        the elements
+     * @param schema               the schema
+     * @param view                 the view to apply
+     * @param includeMatchedVertex whether aggregation groups should include the Edge Matched Vertex
+     * @param distinctElements     whether the input contains at most one element per stored ingest key
+     * @return the elements with the view applied
+     */
+    public static Stream<Element> applyView(final Stream<Element> elementStream,
+                                            final Schema schema,
+                                            final View view,
+                                            final boolean includeMatchedVertex,
+                                            final boolean distinctElements) {
         final Set<String> viewGroups = view.getGroups();
+        final boolean parallel = elementStream.isParallel();
+        final Supplier<View> viewSupplier = ParallelQueryUtil.getViewSupplier(view, parallel);
         Stream<Element> stream = elementStream;
         // Check group is valid
         if (!view.getEntityGroups().equals(schema.getEntityGroups())
@@ -191,23 +244,36 @@ public final class GetElementsUtil {
 
         // Apply pre-aggregation filter
         stream = stream.filter(e -> {
-            final ViewElementDefinition ved = view.getElement(e.getGroup());
+            final ViewElementDefinition ved = viewSupplier.get().getElement(e.getGroup());
             return ved.getPreAggregationFilter() == null || ved.getPreAggregationFilter().test(e);
         });
 
         // Apply aggregation
-        final Iterable<Element> iterable = AggregatorUtil.queryAggregate(stream.collect(Collectors.toList()), schema, view, includeMatchedVertex);
-        stream = StreamSupport.stream(iterable.spliterator(), false);
+        final Set<String> groupsToAggregate = getGroupsToAggregate(schema, view, distinctElements);
+        if (groupsToAggregate.isEmpty()) {
+            stream = stream.filter(Objects::nonNull);
+        } else if (parallel) {
+            stream = aggregateParallelStream(stream, groupsToAggregate,
+                    new AggregatorUtil.ToQueryElementKey(schema, view, includeMatchedVertex),
+                    new AggregatorUtil.QueryElementBinaryOperator(schema, view));
+        } else {
+            final Stream<Element> source = stream;
+            final Iterator<Element> iterator = new QueryAggregatingIterator(source.iterator(), groupsToAggregate,
+                    new AggregatorUtil.ToQueryElementKey(schema, view, includeMatchedVertex),
+                    new AggregatorUtil.QueryElementBinaryOperator(schema, view));
+            stream = StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.NONNULL), false)
+                    .onClose(source::close);
+        }
 
         // Apply post-aggregation filter
         stream = stream.filter(e -> {
-            final ViewElementDefinition ved = view.getElement(e.getGroup());
+            final ViewElementDefinition ved = viewSupplier.get().getElement(e.getGroup());
             return ved.getPostAggregationFilter() == null || ved.getPostAggregationFilter().test(e);
         });
 
         // Apply transform
         stream = stream.map(e -> {
-            final ViewElementDefinition ved = view.getElement(e.getGroup());
+            final ViewElementDefinition ved = viewSupplier.get().getElement(e.getGroup());
             final ElementTransformer transformer = ved.getTransformer();
             if (transformer != null) {
                 transformer.apply(e);
@@ -217,10 +283,111 @@ public final class GetElementsUtil {
 
         // Apply post transform filter
         stream = stream.filter(e -> {
-            final ViewElementDefinition ved = view.getElement(e.getGroup());
+            final ViewElementDefinition ved = viewSupplier.get().getElement(e.getGroup());
             return ved.getPostTransformFilter() == null || ved.getPostTransformFilter().test(e);
         });
 
         return stream;
     }
+
+    /**
+     * Collects the elements of a parallel stream, then merges the elements in
+     * the aggregated groups by their query time key on the calling thread, as
+     * the aggregators cannot be shared between threads.
+     */
+    private static Stream<Element> aggregateParallelStream(final Stream<Element> stream,
+                                                           final Set<String> groupsToAggregate,
+                                                           final Function<Element, Element> toKey,
+                                                           final BinaryOperator<Element> aggregator) {
+        final Map<Boolean, List<Element>> elementsByAggregation = stream
+                .filter(Objects::nonNull)
+                .collect(Collectors.partitioningBy(e -> groupsToAggregate.contains(e.getGroup())));
+        final Map<Element, Element> aggregatedElements = new LinkedHashMap<>();
+        for (final Element element : elementsByAggregation.get(true)) {
+            aggregatedElements.merge(toKey.apply(element), element, aggregator);
+        }
+        return Stream.concat(elementsByAggregation.get(false).stream(), aggregatedElements.values().stream())
+                .parallel()
+                .onClose(stream::close);
+    }
+
+    private static Set<String> getGroupsToAggregate(final Schema schema, final View view, final boolean distinctElements) {
+        final Set<String> groupsToAggregate = new HashSet<>();
+        final String visibilityProperty = schema.getVisibilityProperty();
+        for (final String group : schema.getAggregatedGroups()) {
+            if (!view.getGroups().contains(group)) {
+                continue;
+            }
+            if (!distinctElements) {
+                groupsToAggregate.add(group);
+            } else {
+                final SchemaElementDefinition elementDef = schema.getElement(group);
+                final Set<String> viewGroupBy = view.getElement(group).getGroupBy();
+                if ((null != visibilityProperty && elementDef.containsProperty(visibilityProperty))
+                        || (null != viewGroupBy && !viewGroupBy.equals(elementDef.getGroupBy()))) {
+                    groupsToAggregate.add(group);
+                }
+            }
+        }
+        return groupsToAggregate;
+    }
+
+    /**
+     * Returns elements in groups that are not aggregated as they are read and
+     * merges the remaining elements by their query time key, returning the
+     * aggregated elements after the input has been exhausted.
+     */
+    private static final class QueryAggregatingIterator implements Iterator<Element> {
+        private final Iterator<Element> input;
+        private final Set<String> groupsToAggregate;
+        private final Function<Element, Element> toKey;
+        private final BinaryOperator<Element> aggregator;
+        private final Map<Element, Element> aggregatedElements = new LinkedHashMap<>();
+        private Iterator<Element> aggregatedIterator;
+        private Element next;
+
+        private QueryAggregatingIterator(final Iterator<Element> input,
+                                         final Set<String> groupsToAggregate,
+                                         final Function<Element, Element> toKey,
+                                         final BinaryOperator<Element> aggregator) {
+            this.input = input;
+            this.groupsToAggregate = groupsToAggregate;
+            this.toKey = toKey;
+            this.aggregator = aggregator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (null == next) {
+                next = getNext();
+            }
+            return null != next;
+        }
+
+        @Override
+        public Element next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Element element = next;
+            next = null;
+            return element;
+        }
+
+        private Element getNext() {
+            if (null == aggregatedIterator) {
+                while (input.hasNext()) {
+                    final Element element = input.next();
+                    if (null != element) {
+                        if (!groupsToAggregate.contains(element.getGroup())) {
+                            return element;
+                        }
+                        aggregatedElements.merge(toKey.apply(element), element, aggregator);
+                    }
+                }
+                aggregatedIterator = aggregatedElements.values().iterator();
+            }
+            return aggregatedIterator.hasNext() ? aggregatedIterator.next() : null;
+        }
+    }
 }
@@ -15,8 +15,6 @@
  */
 package uk.gov.gchq.gaffer.mapstore.impl;
 
-import uk.gov.gchq.gaffer.commonutil.iterable.RepeatItemIterable;
-import uk.gov.gchq.gaffer.commonutil.stream.Streams;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.GroupedProperties;
 import uk.gov.gchq.gaffer.data.element.id.EdgeId;
@@ -24,6 +22,7 @@ import uk.gov.gchq.gaffer.data.element.id.EntityId;
 import uk.gov.gchq.gaffer.mapstore.MapStoreProperties;
 import uk.gov.gchq.gaffer.mapstore.factory.MapFactory;
 import uk.gov.gchq.gaffer.mapstore.factory.SimpleMapFactory;
+import uk.gov.gchq.gaffer.mapstore.multimap.LongVertexMultiMap;
 import uk.gov.gchq.gaffer.mapstore.multimap.MultiMap;
 import uk.gov.gchq.gaffer.operation.data.EdgeSeed;
 import uk.gov.gchq.gaffer.operation.data.EntitySeed;
@@ -31,6 +30,7 @@ import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.gaffer.store.schema.SchemaElementDefinition;
 import uk.gov.gchq.gaffer.store.util.AggregatorUtil;
 
+import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -38,6 +38,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 /**
@@ -55,6 +56,10 @@ import java.util.stream.Stream;
  * handlers for the {@link uk.gov.gchq.gaffer.mapstore.MapStore} to be placed in the
  * same package and get access to the maps, without exposing the internal state of
  * the MapStore to classes outside of this package.
+ * <p>
+ * If the {@link MapFactory} creates concurrent maps then elements may be added
+ * and read by multiple threads at once. In that case aggregated properties are
+ * never updated in place; each update replaces them with an aggregated copy.
  */
 public class MapImpl {
     public static final String AGG_ELEMENTS = "aggElements";
@@ -91,6 +96,8 @@ public class MapImpl {
     private final List<String> aggregatedGroups;
     private final Schema schema;
     private final boolean maintainIndex;
+    private final boolean concurrent;
+    private final MapPersistence persistence;
     private final AggregatorUtil.IngestPropertiesBinaryOperator propertyAggregator;
 
     public MapImpl(final Schema schema, final MapStoreProperties mapStoreProperties) {
@@ -98,6 +105,7 @@ public class MapImpl {
         propertyAggregator = new AggregatorUtil.IngestPropertiesBinaryOperator(schema);
         mapFactory = createMapFactory(schema, mapStoreProperties);
         maintainIndex = mapStoreProperties.getCreateIndex();
+        concurrent = mapFactory.isConcurrent();
 
         for (final String group : schema.getGroups()) {
             aggElements.put(group, mapFactory.getMap(group + "|" + AGG_ELEMENTS, Element.class, GroupedProperties.class));
@@ -115,15 +123,40 @@ public class MapImpl {
         this.aggregatedGroups = schema.getAggregatedGroups();
         schema.getEntityGroups().forEach(this::addToGroupByMap);
         schema.getEdgeGroups().forEach(this::addToGroupByMap);
+
+        final String persistenceDirectory = mapStoreProperties.getPersistenceDirectory();
+        if (null == persistenceDirectory) {
+            persistence = null;
+        } else {
+            persistence = new MapPersistence(Paths.get(persistenceDirectory), schema, mapStoreProperties.getPersistenceSnapshotInterval());
+            persistence.restore(this);
+        }
     }
 
+    /**
+     * Removes all the elements, including any elements which have been
+     * persisted.
+     */
     public void clear() {
-        aggElements.clear();
-        nonAggElements.clear();
+        aggElements.values().forEach(Map::clear);
+        nonAggElements.values().forEach(Map::clear);
         if (maintainIndex) {
             entityIdToElements.clear();
             edgeIdToElements.clear();
         }
+        if (null != persistence) {
+            persistence.clear();
+        }
+    }
+
+    /**
+     * Closes the persistence log, if persistence is enabled. Elements can not
+     * be added after this map has been closed.
+     */
+    public void close() {
+        if (null != persistence) {
+            persistence.close();
+        }
     }
 
     void addNonAggElement(final Element element) {
@@ -131,9 +164,15 @@ public class MapImpl {
     }
 
     void addAggElement(final Element elementWithGroupByProperties, final GroupedProperties properties) {
-        if (null != aggElements.get(elementWithGroupByProperties.getGroup())) {
-            aggElements.get(elementWithGroupByProperties.getGroup())
-                    .merge(elementWithGroupByProperties, properties, propertyAggregator);
+        final Map<Element, GroupedProperties> map = aggElements.get(elementWithGroupByProperties.getGroup());
+        if (null != map) {
+            if (concurrent) {
+                // Aggregate into a copy so readers never see partially aggregated properties
+                map.merge(elementWithGroupByProperties, properties,
+                        (existing, update) -> propertyAggregator.apply(copyProperties(elementWithGroupByProperties, existing), update));
+            } else {
+                map.merge(elementWithGroupByProperties, properties, propertyAggregator);
+            }
         }
     }
 
@@ -146,6 +185,21 @@ public class MapImpl {
         return results;
     }
 
+    /**
+     * Looks up the elements for a vertex. If the index is keyed on primitive
+     * vertices then this avoids creating an {@link EntitySeed} for the lookup.
+     *
+     * @param vertex the vertex to lookup
+     * @return the elements for the vertex
+     */
+    Collection<Element> lookupVertex(final Object vertex) {
+        if (entityIdToElements instanceof LongVertexMultiMap) {
+            final Collection<Element> results = ((LongVertexMultiMap<Element>) entityIdToElements).getByVertex(vertex);
+            return null == results ? Collections.emptySet() : results;
+        }
+        return lookup(new EntitySeed(vertex));
+    }
+
     Collection<Element> lookup(final EdgeId edgeId) {
         Collection<Element> results = edgeIdToElements.get(edgeId);
         if (null == results) {
@@ -160,8 +214,10 @@ public class MapImpl {
         if (null == count || count < 1) {
             return Collections.emptyList();
         }
-        final Element clone = element.shallowClone();
-        return new RepeatItemIterable<>(clone, count);
+        // Each copy is a separate clone, as the copies may be transformed independently
+        return () -> LongStream.range(0, count)
+                .mapToObj(i -> element.shallowClone())
+                .iterator();
     }
 
     Element getAggElement(final Element element) {
@@ -183,12 +239,7 @@ public class MapImpl {
                 .filter(entry -> groups.contains(entry.getKey()))
                 .map(Map.Entry::getValue)
                 .flatMap(map -> map.entrySet().stream())
-                .map(x -> {
-                    final Element element = x.getKey().emptyClone();
-                    element.copyProperties(x.getKey().getProperties());
-                    element.copyProperties(x.getValue());
-                    return cloneElement(element, schema);
-                });
+                .map(this::toAggElement);
     }
 
     Stream<Element> getAllNonAggElements(final Set<String> groups) {
@@ -196,22 +247,69 @@ public class MapImpl {
                 .filter(entry -> groups.contains(entry.getKey()))
                 .map(Map.Entry::getValue)
                 .flatMap(map -> map.entrySet().stream())
-                .map(x -> new RepeatItemIterable<>(cloneElement(x.getKey(), schema), x.getValue()))
-                .flatMap(Streams::toStream);
+                .flatMap(this::toNonAggElements);
     }
 
     Stream<Element> getAllElements(final Set<String> groups) {
         return Stream.concat(getAllAggElements(groups), getAllNonAggElements(groups));
     }
 
+    /**
+     * Gets all the elements in the groups as a parallel stream. Each group map
+     * is split across the threads, rather than each group being processed by
+     * a single thread.
+     *
+     * @param groups the groups to get the elements for
+     * @return a parallel stream of the elements
+     */
+    Stream<Element> getAllElementsInParallel(final Set<String> groups) {
+        Stream<Element> elements = Stream.empty();
+        for (final Map.Entry<String, Map<Element, GroupedProperties>> entry : aggElements.entrySet()) {
+            if (groups.contains(entry.getKey())) {
+                elements = Stream.concat(elements, entry.getValue().entrySet().parallelStream().map(this::toAggElement));
+            }
+        }
+        for (final Map.Entry<String, Map<Element, Long>> entry : nonAggElements.entrySet()) {
+            if (groups.contains(entry.getKey())) {
+                elements = Stream.concat(elements, entry.getValue().entrySet().parallelStream().flatMap(this::toNonAggElements));
+            }
+        }
+        return elements.parallel();
+    }
+
+    private Element toAggElement(final Map.Entry<Element, GroupedProperties> entry) {
+        final Element element = entry.getKey().emptyClone();
+        element.copyProperties(entry.getKey().getProperties());
+        element.copyProperties(entry.getValue());
+        return cloneElement(element, schema);
+    }
+
+    private Stream<Element> toNonAggElements(final Map.Entry<Element, Long> entry) {
+        // Each copy is a separate clone, as the copies may be transformed independently
+        return LongStream.range(0, entry.getValue())
+                .mapToObj(i -> cloneElement(entry.getKey(), schema));
+    }
+
     void addIndex(final EntitySeed entitySeed, final Element element) {
         entityIdToElements.put(entitySeed, element);
     }
 
+    void addVertexIndex(final Object vertex, final Element element) {
+        if (entityIdToElements instanceof LongVertexMultiMap) {
+            ((LongVertexMultiMap<Element>) entityIdToElements).putByVertex(vertex, element);
+        } else {
+            addIndex(new EntitySeed(vertex), element);
+        }
+    }
+
     void addIndex(final EdgeSeed edgeSeed, final Element element) {
         edgeIdToElements.put(edgeSeed, element);
     }
 
+    MapPersistence getPersistence() {
+        return persistence;
+    }
+
     boolean isMaintainIndex() {
         return maintainIndex;
     }
@@ -272,6 +370,14 @@ public class MapImpl {
         return mapFactory;
     }
 
+    private GroupedProperties copyProperties(final Element elementWithGroupByProperties, final GroupedProperties properties) {
+        final Element element = elementWithGroupByProperties.emptyClone();
+        element.copyProperties(properties);
+        final GroupedProperties copy = new GroupedProperties(properties.getGroup());
+        copy.putAll(cloneElement(element, schema).getProperties());
+        return copy;
+    }
+
     private void addToGroupByMap(final String group) {
         final SchemaElementDefinition sed = schema.getElement(group);
         groupToGroupByProperties.put(group, sed.getGroupBy());
@@ -0,0 +1,397 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.mapstore.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.serialiser.ElementSerialiser;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Persists the elements added to a {@link MapImpl} so they can be restored
+ * when the store is next initialised.
+ * <p>
+ * Each batch of added elements is appended to a log file followed by a commit
+ * record, and the log is forced to disk when the batch is committed. After a
+ * configured number of batches all the elements in the map are written to a
+ * snapshot file and the log is replaced by a new, empty log. On restore every
+ * element in the snapshot is added back into the map, then any batches
+ * committed to later logs are replayed, so restart time is proportional to the
+ * size of the whole graph. Incomplete batches at the end of a log are
+ * discarded, so elements from a batch that failed part way through remain in
+ * memory but are not restored.
+ * <p>
+ * Only one store should use a persistence directory at a time. Use a static
+ * map store to share the persisted elements between graphs in the same JVM.
+ * The log is kept open until the persistence is closed.
+ */
+class MapPersistence implements Closeable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MapPersistence.class);
+
+    static final String SNAPSHOT_FILE = "snapshot.bin";
+    static final String LOG_FILE_PREFIX = "log-";
+    static final String LOG_FILE_SUFFIX = ".bin";
+
+    private static final int SNAPSHOT_MAGIC = 0x4D415053;
+    private static final int SNAPSHOT_HEADER_SIZE = Integer.BYTES + Long.BYTES;
+    private static final byte ELEMENT_RECORD = 1;
+    private static final byte COMMIT_RECORD = 2;
+    private static final int RECORD_HEADER_SIZE = 1 + Integer.BYTES;
+    private static final long MAX_MAPPED_BYTES = 256L * 1024 * 1024;
+    private static final int SNAPSHOT_LOAD_BATCH_SIZE = 10000;
+
+    private final Path directory;
+    private final Schema schema;
+    private final ElementSerialiser serialiser;
+    private final int snapshotInterval;
+
+    private long generation;
+    private FileChannel logChannel;
+    private DataOutputStream logOutput;
+    private long committedSize;
+    private int batchesSinceSnapshot;
+
+    MapPersistence(final Path directory, final Schema schema, final int snapshotInterval) {
+        this.directory = directory;
+        this.schema = schema;
+        this.serialiser = new ElementSerialiser(schema);
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * Loads the snapshot and replays the logs into the map, then opens the
+     * latest log for appending new batches.
+     *
+     * @param mapImpl the map to restore the elements into
+     */
+    synchronized void restore(final MapImpl mapImpl) {
+        try {
+            Files.createDirectories(directory);
+            long snapshotGeneration = -1;
+            final Path snapshot = directory.resolve(SNAPSHOT_FILE);
+            if (Files.exists(snapshot)) {
+                snapshotGeneration = readSnapshotGeneration(snapshot);
+                replay(snapshot, SNAPSHOT_HEADER_SIZE, mapImpl, false);
+                LOGGER.info("Restored elements from snapshot {}", snapshot);
+            }
+
+            generation = snapshotGeneration + 1;
+            committedSize = 0;
+            batchesSinceSnapshot = 0;
+            for (final Map.Entry<Long, Path> log : getLogFiles().entrySet()) {
+                if (log.getKey() <= snapshotGeneration) {
+                    Files.delete(log.getValue());
+                } else {
+                    generation = log.getKey();
+                    committedSize = replay(log.getValue(), 0, mapImpl, true);
+                    LOGGER.info("Replayed committed batches from log {}", log.getValue());
+                }
+            }
+            openLog(committedSize);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to restore elements from " + directory, e);
+        }
+    }
+
+    /**
+     * Starts a new batch, discarding any records left by a batch that was
+     * not committed.
+     */
+    synchronized void beginBatch() {
+        if (null == logOutput) {
+            throw new IllegalStateException("Persistence in " + directory + " has been closed");
+        }
+        try {
+            logOutput.flush();
+            if (logChannel.size() > committedSize) {
+                logChannel.truncate(committedSize);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to start a new batch in " + directory, e);
+        }
+    }
+
+    /**
+     * Wraps the elements so that each element is appended to the log as it is
+     * read.
+     *
+     * @param elements the elements being added
+     * @return the elements
+     */
+    Iterable<Element> log(final Iterable<? extends Element> elements) {
+        return () -> {
+            final Iterator<? extends Element> iterator = elements.iterator();
+            return new Iterator<Element>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Element next() {
+                    final Element element = iterator.next();
+                    if (null != element) {
+                        append(element);
+                    }
+                    return element;
+                }
+            };
+        };
+    }
+
+    /**
+     * Commits the current batch, writing a snapshot if enough batches have
+     * been committed since the last one.
+     *
+     * @param mapImpl the map the batch was added to
+     */
+    synchronized void commitBatch(final MapImpl mapImpl) {
+        try {
+            writeRecord(logOutput, COMMIT_RECORD, new byte[0]);
+            logOutput.flush();
+            logChannel.force(false);
+            committedSize = logChannel.size();
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to commit batch to " + directory, e);
+        }
+
+        batchesSinceSnapshot++;
+        if (snapshotInterval > 0 && batchesSinceSnapshot >= snapshotInterval) {
+            snapshot(mapImpl);
+        }
+    }
+
+    /**
+     * Writes all the elements in the map to a new snapshot and replaces the
+     * current log with an empty log.
+     *
+     * @param mapImpl the map to snapshot
+     */
+    synchronized void snapshot(final MapImpl mapImpl) {
+        final Path snapshot = directory.resolve(SNAPSHOT_FILE);
+        final Path tmpSnapshot = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        try {
+            try (final FileChannel channel = FileChannel.open(tmpSnapshot, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                 final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+                 final Stream<Element> elements = mapImpl.getAllElements(schema.getGroups())) {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeLong(generation);
+                for (final Element element : (Iterable<Element>) elements::iterator) {
+                    writeRecord(out, ELEMENT_RECORD, serialise(element));
+                }
+                writeRecord(out, COMMIT_RECORD, new byte[0]);
+                out.flush();
+                channel.force(true);
+            }
+            Files.move(tmpSnapshot, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            // The snapshot now contains everything in the current log
+            final Path oldLog = getLogFile(generation);
+            closeLog();
+            generation++;
+            openLog(0);
+            Files.deleteIfExists(oldLog);
+            batchesSinceSnapshot = 0;
+            LOGGER.info("Wrote snapshot {}", snapshot);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to write snapshot to " + directory, e);
+        }
+    }
+
+    /**
+     * Deletes the snapshot and all the logs, so none of the elements added so
+     * far are restored, then starts a new, empty log.
+     */
+    synchronized void clear() {
+        try {
+            closeLog();
+            Files.deleteIfExists(directory.resolve(SNAPSHOT_FILE));
+            Files.deleteIfExists(directory.resolve(SNAPSHOT_FILE + ".tmp"));
+            for (final Path log : getLogFiles().values()) {
+                Files.delete(log);
+            }
+            generation = 0;
+            batchesSinceSnapshot = 0;
+            openLog(0);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to clear the persisted elements in " + directory, e);
+        }
+    }
+
+    /**
+     * Closes the current log. Batches which have not been committed are not
+     * restored.
+     */
+    @Override
+    public synchronized void close() {
+        try {
+            closeLog();
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to close the log in " + directory, e);
+        }
+    }
+
+    private synchronized void append(final Element element) {
+        try {
+            writeRecord(logOutput, ELEMENT_RECORD, serialise(element));
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to append element to log in " + directory, e);
+        }
+    }
+
+    /**
+     * Adds the elements from each committed batch in the file to the map.
+     * If the batches are not atomic, as in a snapshot, the elements are added
+     * in fixed size batches rather than held until the commit record is read.
+     *
+     * @return the position after the last commit record
+     */
+    private long replay(final Path file, final long offset, final MapImpl mapImpl, final boolean atomicBatches) throws IOException {
+        long committed = offset;
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            final List<Element> batch = new ArrayList<>();
+            long position = offset;
+            while (position < size) {
+                final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(size - position, MAX_MAPPED_BYTES));
+                int recordStart = 0;
+                while (buffer.remaining() >= RECORD_HEADER_SIZE) {
+                    recordStart = buffer.position();
+                    final byte type = buffer.get();
+                    final int length = buffer.getInt();
+                    if (length < 0 || length > buffer.remaining()
+                            || (ELEMENT_RECORD != type && COMMIT_RECORD != type)) {
+                        buffer.position(recordStart);
+                        break;
+                    }
+                    if (ELEMENT_RECORD == type) {
+                        final byte[] bytes = new byte[length];
+                        buffer.get(bytes);
+                        batch.add(deserialise(bytes));
+                        if (!atomicBatches && batch.size() >= SNAPSHOT_LOAD_BATCH_SIZE) {
+                            AddElementsHandler.addBatch(mapImpl, schema, batch);
+                            batch.clear();
+                        }
+                    } else {
+                        AddElementsHandler.addBatch(mapImpl, schema, batch);
+                        batch.clear();
+                        committed = position + buffer.position();
+                    }
+                }
+                if (0 == buffer.position()) {
+                    // The rest of the file is an incomplete or corrupt record
+                    break;
+                }
+                position += buffer.position();
+            }
+            if (!batch.isEmpty()) {
+                LOGGER.warn("Discarding {} elements from an incomplete batch in {}", batch.size(), file);
+            }
+        }
+        return committed;
+    }
+
+    private void openLog(final long size) throws IOException {
+        logChannel = FileChannel.open(getLogFile(generation), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        logChannel.truncate(size);
+        logChannel.position(size);
+        logOutput = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(logChannel)));
+        committedSize = size;
+    }
+
+    private void closeLog() throws IOException {
+        if (null != logOutput) {
+            logOutput.close();
+        }
+        logChannel = null;
+        logOutput = null;
+    }
+
+    private long readSnapshotGeneration(final Path snapshot) throws IOException {
+        try (final FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            final MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, SNAPSHOT_HEADER_SIZE);
+            if (SNAPSHOT_MAGIC != header.getInt()) {
+                throw new IOException("File is not a MapStore snapshot: " + snapshot);
+            }
+            return header.getLong();
+        }
+    }
+
+    private TreeMap<Long, Path> getLogFiles() throws IOException {
+        final TreeMap<Long, Path> logs = new TreeMap<>();
+        try (final DirectoryStream<Path> files = Files.newDirectoryStream(directory, LOG_FILE_PREFIX + "*" + LOG_FILE_SUFFIX)) {
+            for (final Path file : files) {
+                final String name = file.getFileName().toString();
+                try {
+                    logs.put(Long.parseLong(name.substring(LOG_FILE_PREFIX.length(), name.length() - LOG_FILE_SUFFIX.length())), file);
+                } catch (final NumberFormatException e) {
+                    LOGGER.warn("Ignoring unexpected file {}", file);
+                }
+            }
+        }
+        return logs;
+    }
+
+    private Path getLogFile(final long logGeneration) {
+        return directory.resolve(LOG_FILE_PREFIX + logGeneration + LOG_FILE_SUFFIX);
+    }
+
+    private byte[] serialise(final Element element) {
+        try {
+            return serialiser.serialise(element);
+        } catch (final SerialisationException e) {
+            throw new RuntimeException("Unable to serialise element " + element, e);
+        }
+    }
+
+    private Element deserialise(final byte[] bytes) {
+        try {
+            return serialiser.deserialise(bytes);
+        } catch (final SerialisationException e) {
+            throw new RuntimeException("Unable to deserialise persisted element", e);
+        }
+    }
+
+    private static void writeRecord(final DataOutputStream out, final byte type, final byte[] bytes) throws IOException {
+        out.writeByte(type);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
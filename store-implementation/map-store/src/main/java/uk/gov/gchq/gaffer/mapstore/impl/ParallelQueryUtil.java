@@ -0,0 +1,122 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.mapstore.impl;
+
+import uk.gov.gchq.gaffer.core.exception.GafferRuntimeException;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.mapstore.MapStoreProperties;
+import uk.gov.gchq.gaffer.operation.Operation;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Utility methods for executing get operations on the
+ * {@link uk.gov.gchq.gaffer.mapstore.MapStore} in parallel.
+ * <p>
+ * Parallel execution is enabled using {@link MapStoreProperties#PARALLEL_QUERIES}
+ * and can be overridden for each operation using an operation option with the
+ * same name. Results are collected in a fork/join pool before they are returned,
+ * in an arbitrary order unless {@link MapStoreProperties#PARALLEL_QUERIES_PRESERVE_ORDER}
+ * is set.
+ */
+public final class ParallelQueryUtil {
+
+    private ParallelQueryUtil() {
+        // Private constructor to prevent instantiation.
+    }
+
+    public static boolean isParallel(final Operation operation, final MapStoreProperties properties) {
+        return Boolean.parseBoolean(operation.getOption(MapStoreProperties.PARALLEL_QUERIES,
+                Boolean.toString(properties.isParallelQueries())));
+    }
+
+    public static boolean isOrderPreserved(final Operation operation, final MapStoreProperties properties) {
+        return Boolean.parseBoolean(operation.getOption(MapStoreProperties.PARALLEL_QUERIES_PRESERVE_ORDER,
+                Boolean.toString(properties.isParallelQueriesPreserveOrder())));
+    }
+
+    /**
+     * Makes the stream parallel, relaxing its ordering unless order should be
+     * preserved.
+     *
+     * @param stream        the stream
+     * @param preserveOrder whether the order of the stream should be preserved
+     * @param <T>           the type of the stream items
+     * @return the parallel stream
+     */
+    public static <T> Stream<T> parallel(final Stream<T> stream, final boolean preserveOrder) {
+        return preserveOrder ? stream.parallel() : stream.parallel().unordered();
+    }
+
+    /**
+     * Creates the stream and collects all of its items within the pool, so
+     * the parallel stages of the stream are run by the pool's threads.
+     *
+     * @param pool           the pool to run the stream in
+     * @param streamSupplier creates the stream
+     * @param <T>            the type of the stream items
+     * @return an iterator over the collected items
+     */
+    public static <T> Iterator<T> collect(final ForkJoinPool pool, final Supplier<Stream<T>> streamSupplier) {
+        final List<T> results;
+        try {
+            results = pool.submit(() -> {
+                try (Stream<T> stream = streamSupplier.get()) {
+                    return stream.collect(Collectors.toList());
+                }
+            }).get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GafferRuntimeException("Interrupted whilst executing parallel query", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new GafferRuntimeException("Unable to execute parallel query", e.getCause());
+        }
+        return results.iterator();
+    }
+
+    /**
+     * Returns a supplier of the view. For parallel streams each thread is
+     * given its own clone of the view, as the view filters, aggregators and
+     * transformers hold state whilst they are being applied.
+     * <p>
+     * The clones are held by the supplier rather than by the threads, so
+     * they are released with the query instead of remaining on the pool
+     * threads.
+     *
+     * @param view     the view
+     * @param parallel whether the view will be used by multiple threads
+     * @return the view supplier
+     */
+    public static Supplier<View> getViewSupplier(final View view, final boolean parallel) {
+        if (!parallel) {
+            return () -> view;
+        }
+        final Map<Thread, View> threadViews = new ConcurrentHashMap<>();
+        return () -> threadViews.computeIfAbsent(Thread.currentThread(), thread -> view.clone());
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.mapstore.multimap;
+
+import uk.gov.gchq.gaffer.data.element.id.EntityId;
+import uk.gov.gchq.gaffer.operation.data.EntitySeed;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * A {@link MultiMap} from {@link EntityId}s with {@link Long} or {@link Integer}
+ * vertices to values, keyed on the primitive vertex value.
+ * <p>
+ * The vertices are held in an open addressing table of longs, so no
+ * {@link EntityId} or boxed vertex is stored for each key. The values for each
+ * vertex are held in a compact array, which is replaced by a {@link HashSet}
+ * once it contains more than {@link #MAX_ARRAY_SIZE} values.
+ * Values can be looked up directly by vertex using {@link #getByVertex(Object)}.
+ * <p>
+ * This class is not thread safe.
+ *
+ * @param <V> the type of the values
+ */
+public class LongVertexMultiMap<V> implements MultiMap<EntityId, V> {
+    static final int MAX_ARRAY_SIZE = 16;
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final double MAX_LOAD_FACTOR = 0.7;
+
+    private final Class<? extends Number> vertexClass;
+
+    private long[] vertices;
+
+    /**
+     * The values for each vertex, either an Object[] or a Set.
+     */
+    private Object[] values;
+    private int[] sizes;
+    private boolean[] used;
+    private int size;
+
+    /**
+     * @param vertexClass the class of the vertices, either {@link Long} or {@link Integer}
+     */
+    public LongVertexMultiMap(final Class<? extends Number> vertexClass) {
+        if (!Long.class.equals(vertexClass) && !Integer.class.equals(vertexClass)) {
+            throw new IllegalArgumentException("Vertex class must be Long or Integer but was: " + vertexClass);
+        }
+        this.vertexClass = vertexClass;
+        clear();
+    }
+
+    @Override
+    public boolean put(final EntityId key, final V value) {
+        return putByVertex(key.getVertex(), value);
+    }
+
+    @Override
+    public void put(final EntityId key, final Collection<V> newValues) {
+        for (final V value : newValues) {
+            put(key, value);
+        }
+    }
+
+    /**
+     * Add a value to the specified vertex, without needing to create an
+     * {@link EntityId}.
+     *
+     * @param vertex the vertex to add a value to
+     * @param value  the value to add
+     * @return true if the value was added, false if it was already present
+     * @throws IllegalArgumentException if the vertex is not of the expected type
+     */
+    public boolean putByVertex(final Object vertex, final V value) {
+        if (!isSupportedVertex(vertex)) {
+            throw new IllegalArgumentException("Vertex must be a " + vertexClass.getSimpleName() + " but was: " + vertex);
+        }
+        return put(((Number) vertex).longValue(), value);
+    }
+
+    /**
+     * Add a value to the specified vertex.
+     *
+     * @param vertex the vertex to add a value to
+     * @param value  the value to add
+     * @return true if the value was added, false if it was already present
+     */
+    @SuppressWarnings("unchecked")
+    public boolean put(final long vertex, final V value) {
+        int slot = findSlot(vertex);
+        if (!used[slot]) {
+            if (size + 1 > vertices.length * MAX_LOAD_FACTOR) {
+                resize();
+                slot = findSlot(vertex);
+            }
+            used[slot] = true;
+            vertices[slot] = vertex;
+            values[slot] = new Object[] {value};
+            sizes[slot] = 1;
+            size++;
+            return true;
+        }
+
+        if (values[slot] instanceof Set) {
+            return ((Set<V>) values[slot]).add(value);
+        }
+
+        final Object[] array = (Object[]) values[slot];
+        final int count = sizes[slot];
+        for (int i = 0; i < count; i++) {
+            if (array[i].equals(value)) {
+                return false;
+            }
+        }
+        if (count >= MAX_ARRAY_SIZE) {
+            final Set<Object> set = new HashSet<>(Arrays.asList(array));
+            set.add(value);
+            values[slot] = set;
+        } else if (count == array.length) {
+            final Object[] larger = Arrays.copyOf(array, Math.min(MAX_ARRAY_SIZE, count * 2));
+            larger[count] = value;
+            values[slot] = larger;
+            sizes[slot] = count + 1;
+        } else {
+            array[count] = value;
+            sizes[slot] = count + 1;
+        }
+        return true;
+    }
+
+    @Override
+    public Collection<V> get(final EntityId key) {
+        return getByVertex(key.getVertex());
+    }
+
+    /**
+     * Get all of the values associated with the specified vertex, without
+     * needing to create an {@link EntityId}.
+     *
+     * @param vertex the vertex to lookup
+     * @return the values, or null if there are none
+     */
+    public Collection<V> getByVertex(final Object vertex) {
+        if (!isSupportedVertex(vertex)) {
+            return null;
+        }
+        return get(((Number) vertex).longValue());
+    }
+
+    /**
+     * Get all of the values associated with the specified vertex.
+     *
+     * @param vertex the vertex to lookup
+     * @return the values, or null if there are none
+     */
+    @SuppressWarnings("unchecked")
+    public Collection<V> get(final long vertex) {
+        final int slot = findSlot(vertex);
+        if (!used[slot]) {
+            return null;
+        }
+        if (values[slot] instanceof Set) {
+            return Collections.unmodifiableSet((Set<V>) values[slot]);
+        }
+        return (Collection<V>) Collections.unmodifiableList(Arrays.asList((Object[]) values[slot]).subList(0, sizes[slot]));
+    }
+
+    @Override
+    public Set<EntityId> keySet() {
+        final Set<EntityId> keys = new LinkedHashSet<>();
+        for (int i = 0; i < vertices.length; i++) {
+            if (used[i]) {
+                keys.add(new EntitySeed(Integer.class.equals(vertexClass) ? (Object) (int) vertices[i] : (Object) vertices[i]));
+            }
+        }
+        return keys;
+    }
+
+    @Override
+    public final void clear() {
+        vertices = new long[INITIAL_CAPACITY];
+        values = new Object[INITIAL_CAPACITY];
+        sizes = new int[INITIAL_CAPACITY];
+        used = new boolean[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    private boolean isSupportedVertex(final Object vertex) {
+        return vertexClass.isInstance(vertex);
+    }
+
+    private int findSlot(final long vertex) {
+        final int mask = vertices.length - 1;
+        int slot = hash(vertex) & mask;
+        while (used[slot] && vertices[slot] != vertex) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        final long[] oldVertices = vertices;
+        final Object[] oldValues = values;
+        final int[] oldSizes = sizes;
+        final boolean[] oldUsed = used;
+        final int capacity = oldVertices.length * 2;
+        vertices = new long[capacity];
+        values = new Object[capacity];
+        sizes = new int[capacity];
+        used = new boolean[capacity];
+        for (int i = 0; i < oldVertices.length; i++) {
+            if (oldUsed[i]) {
+                final int slot = findSlot(oldVertices[i]);
+                used[slot] = true;
+                vertices[slot] = oldVertices[i];
+                values[slot] = oldValues[i];
+                sizes[slot] = oldSizes[i];
+            }
+        }
+    }
+
+    private static int hash(final long vertex) {
+        final long hash = vertex * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+}
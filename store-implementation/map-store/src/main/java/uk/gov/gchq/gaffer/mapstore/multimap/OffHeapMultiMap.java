@@ -0,0 +1,156 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.mapstore.multimap;
+
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.mapstore.utils.OffHeapHashTable;
+import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+
+/**
+ * A {@link MultiMap} that stores its keys and values as serialised bytes in
+ * off-heap {@link OffHeapHashTable}s.
+ * <p>
+ * Each distinct key and value pair is stored once, together with the address
+ * of the previous value added for the same key, so the values for a key form
+ * a chain that is walked and deserialised when the key is looked up.
+ * Keys and values are compared using their serialised form.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public class OffHeapMultiMap<K, V> implements MultiMap<K, V> {
+    private static final long NO_ADDRESS = 0L;
+
+    /**
+     * Map from the key bytes to the address of the most recent entry for that key.
+     */
+    private final OffHeapHashTable heads;
+
+    /**
+     * Map from the key and value bytes to the address of the previous entry for that key.
+     * This is never compacted, so entry addresses remain valid until it is cleared.
+     */
+    private final OffHeapHashTable entries;
+
+    private final ToBytesSerialiser<K> keySerialiser;
+    private final ToBytesSerialiser<V> valueSerialiser;
+
+    public OffHeapMultiMap(final ToBytesSerialiser<K> keySerialiser,
+                           final ToBytesSerialiser<V> valueSerialiser,
+                           final int segmentSize) {
+        this.heads = new OffHeapHashTable(segmentSize, true);
+        this.entries = new OffHeapHashTable(segmentSize, false);
+        this.keySerialiser = keySerialiser;
+        this.valueSerialiser = valueSerialiser;
+    }
+
+    @Override
+    public boolean put(final K key, final V value) {
+        final byte[] keyBytes = serialise(keySerialiser, key);
+        final byte[] entryKey = toEntryKey(keyBytes, serialise(valueSerialiser, value));
+        if (entries.containsKey(entryKey)) {
+            return false;
+        }
+
+        final byte[] head = heads.get(keyBytes);
+        final long address = entries.put(entryKey, null == head ? toBytes(NO_ADDRESS) : head);
+        heads.put(keyBytes, toBytes(address));
+        return true;
+    }
+
+    @Override
+    public void put(final K key, final Collection<V> values) {
+        for (final V value : values) {
+            put(key, value);
+        }
+    }
+
+    @Override
+    public Collection<V> get(final K key) {
+        final byte[] head = heads.get(serialise(keySerialiser, key));
+        if (null == head) {
+            return null;
+        }
+
+        final Set<V> values = new LinkedHashSet<>();
+        long address = toLong(head);
+        while (NO_ADDRESS != address) {
+            final byte[] entryKey = entries.readKey(address);
+            final int keyLength = ByteBuffer.wrap(entryKey).getInt();
+            final int valueOffset = Integer.BYTES + keyLength;
+            values.add(deserialise(valueSerialiser, entryKey, valueOffset, entryKey.length - valueOffset));
+            address = toLong(entries.readValue(address));
+        }
+        return values;
+    }
+
+    @Override
+    public Set<K> keySet() {
+        final Set<K> keys = new HashSet<>();
+        final PrimitiveIterator.OfLong addresses = heads.addresses();
+        while (addresses.hasNext()) {
+            final byte[] keyBytes = heads.readKey(addresses.nextLong());
+            keys.add(deserialise(keySerialiser, keyBytes, 0, keyBytes.length));
+        }
+        return keys;
+    }
+
+    @Override
+    public void clear() {
+        heads.clear();
+        entries.clear();
+    }
+
+    private static byte[] toEntryKey(final byte[] keyBytes, final byte[] valueBytes) {
+        return ByteBuffer.allocate(Integer.BYTES + keyBytes.length + valueBytes.length)
+                .putInt(keyBytes.length)
+                .put(keyBytes)
+                .put(valueBytes)
+                .array();
+    }
+
+    private static byte[] toBytes(final long address) {
+        return ByteBuffer.allocate(Long.BYTES).putLong(address).array();
+    }
+
+    private static long toLong(final byte[] bytes) {
+        return ByteBuffer.wrap(bytes).getLong();
+    }
+
+    private static <T> byte[] serialise(final ToBytesSerialiser<T> serialiser, final T object) {
+        try {
+            return serialiser.serialise(object);
+        } catch (final SerialisationException e) {
+            throw new RuntimeException("Unable to serialise " + object, e);
+        }
+    }
+
+    private static <T> T deserialise(final ToBytesSerialiser<T> serialiser, final byte[] bytes, final int offset, final int length) {
+        try {
+            return serialiser.deserialise(bytes, offset, length);
+        } catch (final SerialisationException e) {
+            throw new RuntimeException("Unable to deserialise bytes", e);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.mapstore.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.gov.gchq.gaffer.commonutil.elementvisibilityutil.Authorisations;
+import uk.gov.gchq.gaffer.commonutil.elementvisibilityutil.ElementVisibility;
+import uk.gov.gchq.gaffer.commonutil.elementvisibilityutil.VisibilityEvaluator;
+import uk.gov.gchq.gaffer.commonutil.elementvisibilityutil.exception.VisibilityParseException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Evaluates visibility expressions against a set of {@link Authorisations},
+ * remembering the result for each distinct expression.
+ * <p>
+ * Results are shared between all evaluators created for equal {@link Authorisations},
+ * so repeated queries by users with the same authorisations reuse earlier results.
+ * Parsed {@link ElementVisibility} expressions are shared between all evaluators.
+ * Both caches are cleared if they grow beyond a fixed size.
+ */
+public final class CachingVisibilityEvaluator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CachingVisibilityEvaluator.class);
+    private static final int MAX_AUTHORISATIONS = 1000;
+    private static final int MAX_EXPRESSIONS = 10000;
+
+    private static final Map<Authorisations, Map<String, Boolean>> RESULTS = new ConcurrentHashMap<>();
+    private static final Map<String, ElementVisibility> EXPRESSIONS = new ConcurrentHashMap<>();
+
+    private final VisibilityEvaluator evaluator;
+    private final Map<String, Boolean> results;
+
+    private CachingVisibilityEvaluator(final Authorisations authorisations) {
+        this.evaluator = new VisibilityEvaluator(authorisations);
+        if (RESULTS.size() >= MAX_AUTHORISATIONS) {
+            RESULTS.clear();
+        }
+        this.results = RESULTS.computeIfAbsent(authorisations, k -> new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Gets an evaluator for the given {@link Authorisations}. A single evaluator
+     * should be used for all elements returned by a query.
+     *
+     * @param authorisations the authorisations to evaluate expressions against
+     * @return the evaluator
+     */
+    public static CachingVisibilityEvaluator forAuthorisations(final Authorisations authorisations) {
+        return new CachingVisibilityEvaluator(authorisations);
+    }
+
+    /**
+     * Clears the results and parsed expressions shared between evaluators.
+     */
+    public static void clearCaches() {
+        RESULTS.clear();
+        EXPRESSIONS.clear();
+    }
+
+    /**
+     * @param expression the visibility expression
+     * @return true if the authorisations satisfy the expression, false if they do not
+     * or the expression cannot be parsed
+     */
+    public boolean isVisible(final String expression) {
+        final Boolean cached = results.get(expression);
+        if (null != cached) {
+            return cached;
+        }
+
+        final boolean visible = evaluate(expression);
+        if (results.size() >= MAX_EXPRESSIONS) {
+            results.clear();
+        }
+        results.put(expression, visible);
+        return visible;
+    }
+
+    private boolean evaluate(final String expression) {
+        final ElementVisibility elementVisibility = getElementVisibility(expression);
+        try {
+            return evaluator.evaluate(elementVisibility);
+        } catch (final VisibilityParseException visibilityParseException) {
+            LOGGER.warn("Unable to parse element visibility: {}. Received exception: {}",
+                    elementVisibility,
+                    visibilityParseException.getMessage());
+            return false;
+        }
+    }
+
+    private static ElementVisibility getElementVisibility(final String expression) {
+        ElementVisibility elementVisibility = EXPRESSIONS.get(expression);
+        if (null == elementVisibility) {
+            elementVisibility = new ElementVisibility(expression);
+            if (EXPRESSIONS.size() >= MAX_EXPRESSIONS) {
+                EXPRESSIONS.clear();
+            }
+            EXPRESSIONS.put(expression, elementVisibility);
+        }
+        return elementVisibility;
+    }
+}
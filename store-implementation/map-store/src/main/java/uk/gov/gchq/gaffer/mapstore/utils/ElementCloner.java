@@ -24,11 +24,23 @@ import uk.gov.gchq.gaffer.serialisation.Serialiser;
 import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.gaffer.store.schema.SchemaElementDefinition;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
 /**
  * Utility class to create a clone of an {@link Element}.
+ * Properties of immutable types, such as {@link String} and the boxed primitives,
+ * are shared with the clone rather than copied.
  */
 public class ElementCloner {
     private static final Logger LOGGER = LoggerFactory.getLogger(ElementCloner.class);
+    private static final Set<Class<?>> IMMUTABLE_CLASSES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class,
+            Long.class, Float.class, Double.class, BigInteger.class, BigDecimal.class)));
 
     /**
      * Clone an {@link Element}, based on a target {@link Schema}.
@@ -47,6 +59,8 @@ public class ElementCloner {
                     // This can happen if transient properties are derived - they will not have serialisers.
                     LOGGER.warn("Can't find Serialisation for {}, returning uncloned property", propertyName);
                     clone.putProperty(propertyName, property);
+                } else if (isImmutable(property)) {
+                    clone.putProperty(propertyName, property);
                 } else if (null != property) {
                     final Serialiser serialiser = sed.getPropertyTypeDef(propertyName).getSerialiser();
                     clone.putProperty(propertyName, serialiser.deserialise(serialiser.serialise(property)));
@@ -59,4 +73,9 @@ public class ElementCloner {
             throw new RuntimeException("SerialisationException converting elements", e);
         }
     }
+
+    private static boolean isImmutable(final Object property) {
+        return null != property
+                && (IMMUTABLE_CLASSES.contains(property.getClass()) || property.getClass().isEnum());
+    }
 }
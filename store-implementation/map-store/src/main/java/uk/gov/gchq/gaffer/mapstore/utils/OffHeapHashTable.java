@@ -0,0 +1,326 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.mapstore.utils;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * An open addressing hash table from byte array keys to byte array values,
+ * with the keys and values stored in direct (off-heap) {@link ByteBuffer}
+ * segments.
+ * <p>
+ * Each record is appended to the current segment and referenced from the
+ * on-heap slot arrays by a long address, so the heap holds only an int hash
+ * and a long address per entry. Updating or removing an entry leaves the old
+ * record in place. If compaction is enabled the live records are copied into
+ * new segments once more than half of the stored bytes are unused.
+ * Addresses must therefore not be held across updates to a compacting table.
+ * <p>
+ * This class is not thread safe.
+ */
+public class OffHeapHashTable {
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    private static final long EMPTY = 0L;
+    private static final long DELETED = -1L;
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final double MAX_LOAD_FACTOR = 0.7;
+
+    private final int segmentSize;
+    private final boolean compact;
+    private final List<ByteBuffer> segments = new ArrayList<>();
+
+    private int[] hashes;
+    private long[] addresses;
+    private int size;
+    private int usedSlots;
+    private long liveBytes;
+    private long storedBytes;
+
+    public OffHeapHashTable() {
+        this(DEFAULT_SEGMENT_SIZE, true);
+    }
+
+    public OffHeapHashTable(final int segmentSize, final boolean compact) {
+        if (segmentSize <= HEADER_SIZE) {
+            throw new IllegalArgumentException("Segment size must be greater than " + HEADER_SIZE + " bytes but was: " + segmentSize);
+        }
+        this.segmentSize = segmentSize;
+        this.compact = compact;
+        clear();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean containsKey(final byte[] key) {
+        return findSlot(key, hash(key)) >= 0;
+    }
+
+    /**
+     * @param key the key bytes
+     * @return the value bytes, or null if there is no entry for the key
+     */
+    public byte[] get(final byte[] key) {
+        final int slot = findSlot(key, hash(key));
+        return slot < 0 ? null : readValue(addresses[slot]);
+    }
+
+    /**
+     * Adds or replaces the entry for a key.
+     *
+     * @param key   the key bytes
+     * @param value the value bytes
+     * @return the address of the new record
+     */
+    public long put(final byte[] key, final byte[] value) {
+        compactIfRequired();
+        final int hash = hash(key);
+        final int slot = findSlot(key, hash);
+        final long address = write(key, value);
+        if (slot >= 0) {
+            liveBytes -= recordSize(addresses[slot]);
+            addresses[slot] = address;
+        } else {
+            insert(hash, address);
+            size++;
+        }
+        liveBytes += recordSize(address);
+        return address;
+    }
+
+    /**
+     * Adds an entry if there is no existing entry for the key.
+     *
+     * @param key   the key bytes
+     * @param value the value bytes
+     * @return the address of the new record, or -1 if the key already exists
+     */
+    public long putIfAbsent(final byte[] key, final byte[] value) {
+        if (containsKey(key)) {
+            return -1L;
+        }
+        return put(key, value);
+    }
+
+    public boolean remove(final byte[] key) {
+        final int slot = findSlot(key, hash(key));
+        if (slot < 0) {
+            return false;
+        }
+        liveBytes -= recordSize(addresses[slot]);
+        addresses[slot] = DELETED;
+        size--;
+        return true;
+    }
+
+    public final void clear() {
+        segments.clear();
+        hashes = new int[INITIAL_CAPACITY];
+        addresses = new long[INITIAL_CAPACITY];
+        size = 0;
+        usedSlots = 0;
+        liveBytes = 0;
+        storedBytes = 0;
+    }
+
+    /**
+     * @return an iterator over the addresses of the records of all entries
+     */
+    public PrimitiveIterator.OfLong addresses() {
+        return new PrimitiveIterator.OfLong() {
+            private int slot = nextSlot(0);
+
+            @Override
+            public boolean hasNext() {
+                return slot < addresses.length;
+            }
+
+            @Override
+            public long nextLong() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final long address = addresses[slot];
+                slot = nextSlot(slot + 1);
+                return address;
+            }
+
+            private int nextSlot(final int from) {
+                int next = from;
+                while (next < addresses.length && (EMPTY == addresses[next] || DELETED == addresses[next])) {
+                    next++;
+                }
+                return next;
+            }
+        };
+    }
+
+    public byte[] readKey(final long address) {
+        final ByteBuffer segment = segment(address);
+        final int offset = offset(address);
+        return read(segment, offset + HEADER_SIZE, segment.getInt(offset));
+    }
+
+    public byte[] readValue(final long address) {
+        final ByteBuffer segment = segment(address);
+        final int offset = offset(address);
+        final int keyLength = segment.getInt(offset);
+        return read(segment, offset + HEADER_SIZE + keyLength, segment.getInt(offset + Integer.BYTES));
+    }
+
+    /**
+     * @return the number of bytes held in off-heap segments
+     */
+    public long getStoredBytes() {
+        return storedBytes;
+    }
+
+    /**
+     * @return the number of bytes used by the records of current entries
+     */
+    public long getLiveBytes() {
+        return liveBytes;
+    }
+
+    private int findSlot(final byte[] key, final int hash) {
+        final int mask = addresses.length - 1;
+        int slot = hash & mask;
+        while (EMPTY != addresses[slot]) {
+            if (DELETED != addresses[slot] && hash == hashes[slot] && keyEquals(addresses[slot], key)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void insert(final int hash, final long address) {
+        if (usedSlots + 1 > addresses.length * MAX_LOAD_FACTOR) {
+            resize();
+        }
+        final int mask = addresses.length - 1;
+        int slot = hash & mask;
+        while (EMPTY != addresses[slot] && DELETED != addresses[slot]) {
+            slot = (slot + 1) & mask;
+        }
+        if (EMPTY == addresses[slot]) {
+            usedSlots++;
+        }
+        hashes[slot] = hash;
+        addresses[slot] = address;
+    }
+
+    private void resize() {
+        final int[] oldHashes = hashes;
+        final long[] oldAddresses = addresses;
+        // Only grow if the table is mostly live entries rather than deleted slots
+        final int capacity = size + 1 > oldAddresses.length * MAX_LOAD_FACTOR / 2 ? oldAddresses.length * 2 : oldAddresses.length;
+        hashes = new int[capacity];
+        addresses = new long[capacity];
+        usedSlots = 0;
+        for (int i = 0; i < oldAddresses.length; i++) {
+            if (EMPTY != oldAddresses[i] && DELETED != oldAddresses[i]) {
+                insert(oldHashes[i], oldAddresses[i]);
+            }
+        }
+    }
+
+    private long write(final byte[] key, final byte[] value) {
+        final int recordSize = HEADER_SIZE + key.length + value.length;
+        ByteBuffer segment = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+        if (null == segment || segment.remaining() < recordSize) {
+            segment = ByteBuffer.allocateDirect(Math.max(segmentSize, recordSize));
+            segments.add(segment);
+        }
+        final int offset = segment.position();
+        segment.putInt(key.length).putInt(value.length).put(key).put(value);
+        storedBytes += recordSize;
+        return (((long) (segments.size() - 1)) << Integer.SIZE | offset) + 1;
+    }
+
+    private void compactIfRequired() {
+        if (compact && storedBytes > segmentSize && storedBytes - liveBytes > liveBytes) {
+            final List<ByteBuffer> oldSegments = new ArrayList<>(segments);
+            final long[] oldAddresses = Arrays.copyOf(addresses, addresses.length);
+            segments.clear();
+            storedBytes = 0;
+            for (int i = 0; i < oldAddresses.length; i++) {
+                if (EMPTY != oldAddresses[i] && DELETED != oldAddresses[i]) {
+                    final ByteBuffer segment = oldSegments.get(segmentIndex(oldAddresses[i]));
+                    final int offset = offset(oldAddresses[i]);
+                    final int keyLength = segment.getInt(offset);
+                    addresses[i] = write(read(segment, offset + HEADER_SIZE, keyLength),
+                            read(segment, offset + HEADER_SIZE + keyLength, segment.getInt(offset + Integer.BYTES)));
+                }
+            }
+        }
+    }
+
+    private boolean keyEquals(final long address, final byte[] key) {
+        final ByteBuffer segment = segment(address);
+        final int offset = offset(address);
+        if (segment.getInt(offset) != key.length) {
+            return false;
+        }
+        final int keyOffset = offset + HEADER_SIZE;
+        for (int i = 0; i < key.length; i++) {
+            if (segment.get(keyOffset + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int recordSize(final long address) {
+        final ByteBuffer segment = segment(address);
+        final int offset = offset(address);
+        return HEADER_SIZE + segment.getInt(offset) + segment.getInt(offset + Integer.BYTES);
+    }
+
+    private ByteBuffer segment(final long address) {
+        return segments.get(segmentIndex(address));
+    }
+
+    private static int segmentIndex(final long address) {
+        return (int) ((address - 1) >>> Integer.SIZE);
+    }
+
+    private static int offset(final long address) {
+        return (int) (address - 1);
+    }
+
+    private static byte[] read(final ByteBuffer segment, final int offset, final int length) {
+        final byte[] bytes = new byte[length];
+        final ByteBuffer buffer = segment.duplicate();
+        buffer.position(offset);
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static int hash(final byte[] key) {
+        final int hash = Arrays.hashCode(key);
+        return hash ^ (hash >>> 16);
+    }
+}
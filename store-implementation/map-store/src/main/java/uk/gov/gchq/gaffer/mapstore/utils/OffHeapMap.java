@@ -0,0 +1,158 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.mapstore.utils;
+
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+
+/**
+ * A {@link Map} that stores its keys and values as serialised bytes in an
+ * {@link OffHeapHashTable}.
+ * <p>
+ * Keys are compared using their serialised form, so the key serialiser must
+ * always produce the same bytes for equal keys. Keys and values are
+ * deserialised each time they are read, so the returned objects are copies
+ * and changes to them are not reflected in the map.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public class OffHeapMap<K, V> extends AbstractMap<K, V> {
+    private final OffHeapHashTable table;
+    private final ToBytesSerialiser<K> keySerialiser;
+    private final ToBytesSerialiser<V> valueSerialiser;
+    private final Class<K> keyClass;
+
+    public OffHeapMap(final Class<K> keyClass,
+                      final ToBytesSerialiser<K> keySerialiser,
+                      final ToBytesSerialiser<V> valueSerialiser,
+                      final int segmentSize) {
+        this.table = new OffHeapHashTable(segmentSize, true);
+        this.keyClass = keyClass;
+        this.keySerialiser = keySerialiser;
+        this.valueSerialiser = valueSerialiser;
+    }
+
+    @Override
+    public int size() {
+        return table.size();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return keyClass.isInstance(key) && table.containsKey(serialiseKey(keyClass.cast(key)));
+    }
+
+    @Override
+    public V get(final Object key) {
+        if (!keyClass.isInstance(key)) {
+            return null;
+        }
+        final byte[] value = table.get(serialiseKey(keyClass.cast(key)));
+        return null == value ? null : deserialise(valueSerialiser, value);
+    }
+
+    @Override
+    public V put(final K key, final V value) {
+        final byte[] keyBytes = serialiseKey(key);
+        final byte[] previous = table.get(keyBytes);
+        table.put(keyBytes, serialise(valueSerialiser, value));
+        return null == previous ? null : deserialise(valueSerialiser, previous);
+    }
+
+    @Override
+    public V remove(final Object key) {
+        if (!keyClass.isInstance(key)) {
+            return null;
+        }
+        final byte[] keyBytes = serialiseKey(keyClass.cast(key));
+        final byte[] previous = table.get(keyBytes);
+        if (null == previous) {
+            return null;
+        }
+        table.remove(keyBytes);
+        return deserialise(valueSerialiser, previous);
+    }
+
+    @Override
+    public void clear() {
+        table.clear();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                final PrimitiveIterator.OfLong addresses = table.addresses();
+                return new Iterator<Entry<K, V>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return addresses.hasNext();
+                    }
+
+                    @Override
+                    public Entry<K, V> next() {
+                        final long address = addresses.nextLong();
+                        return new SimpleImmutableEntry<>(
+                                deserialise(keySerialiser, table.readKey(address)),
+                                deserialise(valueSerialiser, table.readValue(address)));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return table.size();
+            }
+        };
+    }
+
+    /**
+     * @return the number of off-heap bytes used to store the entries
+     */
+    public long getStoredBytes() {
+        return table.getStoredBytes();
+    }
+
+    private byte[] serialiseKey(final K key) {
+        return serialise(keySerialiser, key);
+    }
+
+    private static <T> byte[] serialise(final ToBytesSerialiser<T> serialiser, final T object) {
+        try {
+            return null == object ? serialiser.serialiseNull() : serialiser.serialise(object);
+        } catch (final SerialisationException e) {
+            throw new RuntimeException("Unable to serialise " + object, e);
+        }
+    }
+
+    private static <T> T deserialise(final ToBytesSerialiser<T> serialiser, final byte[] bytes) {
+        try {
+            return bytes.length == 0 ? serialiser.deserialiseEmpty() : serialiser.deserialise(bytes);
+        } catch (final SerialisationException e) {
+            throw new RuntimeException("Unable to deserialise bytes", e);
+        }
+    }
+}
@@ -25,8 +25,10 @@ import uk.gov.gchq.gaffer.store.schema.Schema;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class MapStoreTest {
@@ -59,4 +61,23 @@ public class MapStoreTest {
         assertEquals(1, mapStore.getOperationChainOptimisers().size());
         assertTrue(mapStore.getOperationChainOptimisers().contains(new CountAllElementsOperationChainOptimiser()));
     }
+
+    @Test
+    public void shouldShareQueryPoolBetweenStoresWithTheSameParallelism() throws StoreException {
+        // Given
+        final MapStoreProperties properties = new MapStoreProperties();
+        properties.setParallelQueriesThreads(3);
+        final MapStore mapStore1 = new MapStore();
+        mapStore1.initialise("graphId1", new Schema(), properties);
+        final MapStore mapStore2 = new MapStore();
+        mapStore2.initialise("graphId2", new Schema(), properties);
+
+        // When
+        final ForkJoinPool pool1 = mapStore1.getQueryPool();
+        final ForkJoinPool pool2 = mapStore2.getQueryPool();
+
+        // Then
+        assertSame(pool1, pool2);
+        assertEquals(3, pool1.getParallelism());
+    }
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.mapstore.factory;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.Entity;
+import uk.gov.gchq.gaffer.graph.Graph;
+import uk.gov.gchq.gaffer.graph.GraphConfig;
+import uk.gov.gchq.gaffer.mapstore.MapStoreProperties;
+import uk.gov.gchq.gaffer.mapstore.impl.GetAllElementsHandlerTest;
+import uk.gov.gchq.gaffer.mapstore.multimap.ConcurrentMapOfSets;
+import uk.gov.gchq.gaffer.mapstore.multimap.MultiMap;
+import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.user.User;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class ConcurrentMapFactoryTest {
+
+    private static final int THREADS = 4;
+    private static final int ELEMENTS_PER_THREAD = 500;
+
+    @Test
+    public void shouldCreateConcurrentMapsByDefault() {
+        // Given
+        final Schema schema = mock(Schema.class);
+        final MapStoreProperties properties = mock(MapStoreProperties.class);
+        final ConcurrentMapFactory factory = new ConcurrentMapFactory();
+        given(properties.get(SimpleMapFactory.MAP_CLASS, ConcurrentMapFactory.MAP_CLASS_DEFAULT)).willReturn(ConcurrentMapFactory.MAP_CLASS_DEFAULT);
+
+        // When
+        factory.initialise(schema, properties);
+        final Map<Object, Object> map = factory.getMap("map", Object.class, Object.class);
+        final MultiMap<Object, Object> multiMap = factory.getMultiMap("multiMap", Object.class, Object.class);
+
+        // Then
+        assertThat(factory.isConcurrent()).isTrue();
+        assertThat(map).isInstanceOf(ConcurrentHashMap.class);
+        assertThat(multiMap).isInstanceOf(ConcurrentMapOfSets.class);
+        assertThat(((ConcurrentMapOfSets<Object, Object>) multiMap).getWrappedMap()).isInstanceOf(ConcurrentHashMap.class);
+    }
+
+    @Test
+    public void shouldThrowExceptionIfMapClassIsNotConcurrent() {
+        // Given
+        final Schema schema = mock(Schema.class);
+        final MapStoreProperties properties = mock(MapStoreProperties.class);
+        final ConcurrentMapFactory factory = new ConcurrentMapFactory();
+        given(properties.get(SimpleMapFactory.MAP_CLASS, ConcurrentMapFactory.MAP_CLASS_DEFAULT)).willReturn(HashMap.class.getName());
+
+        // When / Then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> factory.initialise(schema, properties))
+                .withMessageContaining(HashMap.class.getName());
+    }
+
+    @Test
+    public void shouldAggregateElementsAddedConcurrently() throws Exception {
+        // Given
+        final MapStoreProperties storeProperties = new MapStoreProperties();
+        storeProperties.setMapFactory(ConcurrentMapFactory.class);
+        final Graph graph = new Graph.Builder()
+                .config(new GraphConfig.Builder()
+                        .graphId("concurrentGraph")
+                        .build())
+                .addSchema(GetAllElementsHandlerTest.getSchema())
+                .storeProperties(storeProperties)
+                .build();
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        final List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            tasks.add(() -> {
+                for (int j = 0; j < ELEMENTS_PER_THREAD; j++) {
+                    graph.execute(new AddElements.Builder()
+                            .input(getEntity("vertex" + (j % 10)))
+                            .build(), new User());
+                }
+                return null;
+            });
+        }
+
+        // When
+        try {
+            for (final Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        final Iterable<? extends Element> results = graph.execute(new GetAllElements(), new User());
+        assertThat(results)
+                .hasSize(10)
+                .allSatisfy(element -> assertThat(element.getProperty("count")).isEqualTo(THREADS * ELEMENTS_PER_THREAD / 10));
+    }
+
+    private static Entity getEntity(final String vertex) {
+        return new Entity.Builder()
+                .group("BasicEntity")
+                .vertex(vertex)
+                .property("property1", "p")
+                .property("count", 1)
+                .build();
+    }
+}
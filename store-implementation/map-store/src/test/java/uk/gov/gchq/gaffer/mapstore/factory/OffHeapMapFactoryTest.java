@@ -0,0 +1,118 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.mapstore.factory;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.id.EntityId;
+import uk.gov.gchq.gaffer.graph.Graph;
+import uk.gov.gchq.gaffer.graph.GraphConfig;
+import uk.gov.gchq.gaffer.mapstore.MapStoreProperties;
+import uk.gov.gchq.gaffer.mapstore.impl.GetAllElementsHandlerTest;
+import uk.gov.gchq.gaffer.operation.OperationException;
+import uk.gov.gchq.gaffer.operation.data.EntitySeed;
+import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAdjacentIds;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
+import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.user.User;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class OffHeapMapFactoryTest {
+
+    @Test
+    public void shouldExtractSegmentSizeFromPropertiesWhenInitialised() {
+        // Given
+        final Schema schema = mock(Schema.class);
+        final MapStoreProperties properties = mock(MapStoreProperties.class);
+        final OffHeapMapFactory factory = new OffHeapMapFactory();
+        given(properties.get(OffHeapMapFactory.SEGMENT_SIZE, OffHeapMapFactory.SEGMENT_SIZE_DEFAULT)).willReturn("1024");
+
+        // When
+        factory.initialise(schema, properties);
+
+        // Then
+        assertThat(factory.getSegmentSize()).isEqualTo(1024);
+    }
+
+    @Test
+    public void shouldThrowExceptionIfSegmentSizeIsInvalid() {
+        // Given
+        final Schema schema = mock(Schema.class);
+        final MapStoreProperties properties = mock(MapStoreProperties.class);
+        final OffHeapMapFactory factory = new OffHeapMapFactory();
+        given(properties.get(OffHeapMapFactory.SEGMENT_SIZE, OffHeapMapFactory.SEGMENT_SIZE_DEFAULT)).willReturn("invalid");
+
+        // When / Then
+        assertThatIllegalArgumentException().isThrownBy(() -> factory.initialise(schema, properties));
+    }
+
+    @Test
+    public void shouldAddAndGetElementsStoredOffHeap() throws OperationException {
+        // Given
+        final Graph graph = getGraph();
+        graph.execute(new AddElements.Builder()
+                .input(GetAllElementsHandlerTest.getElements())
+                .build(), new User());
+        graph.execute(new AddElements.Builder()
+                .input(GetAllElementsHandlerTest.getElements())
+                .build(), new User());
+
+        // When
+        final Iterable<? extends Element> allElements = graph.execute(new GetAllElements(), new User());
+        final Iterable<? extends Element> seededElements = graph.execute(new GetElements.Builder()
+                .input(new EntitySeed("A"))
+                .build(), new User());
+        final Iterable<? extends EntityId> adjacentIds = graph.execute(new GetAdjacentIds.Builder()
+                .input(new EntitySeed("A"))
+                .build(), new User());
+
+        // Then
+        final List<Element> expectedElements = new ArrayList<>();
+        for (final Element element : GetAllElementsHandlerTest.getElements()) {
+            element.putProperty("count", 2 * (Integer) element.getProperty("count"));
+            expectedElements.add(element);
+        }
+        assertThat(allElements).containsExactlyInAnyOrderElementsOf(expectedElements);
+        assertThat(seededElements).hasSize(10)
+                .allSatisfy(element -> assertThat(element.getGroup()).isEqualTo("BasicEdge"));
+        assertThat(adjacentIds).hasSize(10)
+                .contains(new EntitySeed("B0"), new EntitySeed("B9"));
+    }
+
+    private static Graph getGraph() {
+        final MapStoreProperties storeProperties = new MapStoreProperties();
+        storeProperties.setMapFactory(OffHeapMapFactory.class);
+        storeProperties.set(OffHeapMapFactory.SEGMENT_SIZE, "4096");
+        return new Graph.Builder()
+                .config(new GraphConfig.Builder()
+                        .graphId("offHeapGraph")
+                        .build())
+                .addSchema(GetAllElementsHandlerTest.getSchema())
+                .storeProperties(storeProperties)
+                .build();
+    }
+}
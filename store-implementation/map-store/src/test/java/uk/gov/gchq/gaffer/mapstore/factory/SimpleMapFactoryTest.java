@@ -18,9 +18,15 @@ package uk.gov.gchq.gaffer.mapstore.factory;
 import org.junit.jupiter.api.Test;
 
 import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.id.EdgeId;
+import uk.gov.gchq.gaffer.data.element.id.EntityId;
 import uk.gov.gchq.gaffer.mapstore.MapStoreProperties;
+import uk.gov.gchq.gaffer.mapstore.multimap.LongVertexMultiMap;
 import uk.gov.gchq.gaffer.mapstore.multimap.MapOfSets;
+import uk.gov.gchq.gaffer.mapstore.multimap.MultiMap;
 import uk.gov.gchq.gaffer.mapstore.utils.ElementCloner;
+import uk.gov.gchq.gaffer.serialisation.implementation.StringSerialiser;
+import uk.gov.gchq.gaffer.serialisation.implementation.raw.CompactRawLongSerialiser;
 import uk.gov.gchq.gaffer.store.StoreException;
 import uk.gov.gchq.gaffer.store.schema.Schema;
 
@@ -139,6 +145,46 @@ public class SimpleMapFactoryTest {
         assertNotSame(map1, map2);
     }
 
+    @Test
+    public void shouldCreateLongVertexMultiMapForEntityIdsWhenVerticesAreLongs() throws StoreException {
+        // Given
+        final Schema schema = mock(Schema.class);
+        final MapStoreProperties properties = mock(MapStoreProperties.class);
+        final SimpleMapFactory factory = new SimpleMapFactory();
+
+        given(properties.get(SimpleMapFactory.MAP_CLASS, SimpleMapFactory.MAP_CLASS_DEFAULT)).willReturn(SimpleMapFactory.MAP_CLASS_DEFAULT);
+        given(schema.getVertexSerialiser()).willReturn(new CompactRawLongSerialiser());
+
+        factory.initialise(schema, properties);
+
+        // When
+        final MultiMap<EntityId, Object> entityIdMultiMap = factory.getMultiMap("entityIds", EntityId.class, Object.class);
+        final MultiMap<EdgeId, Object> edgeIdMultiMap = factory.getMultiMap("edgeIds", EdgeId.class, Object.class);
+
+        // Then
+        assertThat(entityIdMultiMap).isInstanceOf(LongVertexMultiMap.class);
+        assertThat(edgeIdMultiMap).isInstanceOf(MapOfSets.class);
+    }
+
+    @Test
+    public void shouldCreateMapOfSetsForEntityIdsWhenVerticesAreNotPrimitive() throws StoreException {
+        // Given
+        final Schema schema = mock(Schema.class);
+        final MapStoreProperties properties = mock(MapStoreProperties.class);
+        final SimpleMapFactory factory = new SimpleMapFactory();
+
+        given(properties.get(SimpleMapFactory.MAP_CLASS, SimpleMapFactory.MAP_CLASS_DEFAULT)).willReturn(SimpleMapFactory.MAP_CLASS_DEFAULT);
+        given(schema.getVertexSerialiser()).willReturn(new StringSerialiser());
+
+        factory.initialise(schema, properties);
+
+        // When
+        final MultiMap<EntityId, Object> entityIdMultiMap = factory.getMultiMap("entityIds", EntityId.class, Object.class);
+
+        // Then
+        assertThat(entityIdMultiMap).isInstanceOf(MapOfSets.class);
+    }
+
     @Test
     public void shouldCloneElementUsingCloner() throws StoreException {
         // Given
@@ -24,6 +24,7 @@ import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.Entity;
 import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
+import uk.gov.gchq.gaffer.data.element.function.ElementTransformer;
 import uk.gov.gchq.gaffer.data.element.id.DirectedType;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
@@ -36,6 +37,7 @@ import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
 import uk.gov.gchq.gaffer.store.StoreException;
 import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.gaffer.user.User;
+import uk.gov.gchq.koryphe.impl.function.MultiplyBy;
 import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
 
 import java.util.ArrayList;
@@ -137,6 +139,45 @@ public class GetAllElementsHandlerTest {
         assertThat(resultsSet).isEqualTo(expectedResults);
     }
 
+    @Test
+    public void shouldTransformEachCopyOfDuplicateNonAggregatedElementsSeparately() throws OperationException {
+        // Given
+        final Graph graph = getGraphNoAggregation();
+        final AddElements addElements = new AddElements.Builder()
+                .input(getDuplicateElements())
+                .build();
+        graph.execute(addElements, new User());
+
+        // When
+        final GetAllElements getAllElements = new GetAllElements.Builder()
+                .view(new View.Builder()
+                        .edge(BASIC_EDGE1, new ViewElementDefinition.Builder()
+                                .transformer(new ElementTransformer.Builder()
+                                        .select(COUNT)
+                                        .execute(new MultiplyBy(10))
+                                        .project(COUNT)
+                                        .build())
+                                .excludeProperties(PROPERTY1)
+                                .build())
+                        .build())
+                .build();
+        final Iterable<? extends Element> results = graph.execute(getAllElements, new User());
+
+        // Then
+        final Edge expected = new Edge.Builder()
+                .group(BASIC_EDGE1)
+                .source("A")
+                .dest("B")
+                .directed(true)
+                .property(COUNT, 20)
+                .build();
+        final List<Element> resultsList = new ArrayList<>();
+        Streams.toStream(results).forEach(resultsList::add);
+        assertThat(resultsList)
+                .hasSize(NUM_LOOPS)
+                .containsOnly(expected);
+    }
+
     @Test
     public void testGetAllElementsWithViewRestrictedByGroup() throws OperationException {
         // Given
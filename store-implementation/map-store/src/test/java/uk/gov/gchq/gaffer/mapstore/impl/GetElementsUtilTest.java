@@ -0,0 +1,125 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.mapstore.impl;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.data.element.Edge;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.Entity;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.gchq.gaffer.mapstore.impl.GetAllElementsHandlerTest.BASIC_EDGE2;
+import static uk.gov.gchq.gaffer.mapstore.impl.GetAllElementsHandlerTest.BASIC_ENTITY;
+import static uk.gov.gchq.gaffer.mapstore.impl.GetAllElementsHandlerTest.COUNT;
+import static uk.gov.gchq.gaffer.mapstore.impl.GetAllElementsHandlerTest.PROPERTY1;
+import static uk.gov.gchq.gaffer.mapstore.impl.GetAllElementsHandlerTest.PROPERTY2;
+
+public class GetElementsUtilTest {
+
+    private final Schema schema = GetAllElementsHandlerTest.getSchema();
+
+    @Test
+    public void shouldStreamDistinctElementsWhenViewDoesNotChangeGroupBy() {
+        // Given
+        final View view = new View.Builder()
+                .entity(BASIC_ENTITY)
+                .build();
+        final AtomicInteger vertex = new AtomicInteger();
+        final Stream<Element> elements = Stream.generate(() -> getEntity(String.valueOf(vertex.getAndIncrement()), 1));
+
+        // When
+        final List<Element> results = GetElementsUtil.applyView(elements, schema, view, false, true)
+                .limit(5)
+                .collect(Collectors.toList());
+
+        // Then
+        assertThat(results).hasSize(5);
+        assertThat(vertex.get()).isEqualTo(5);
+    }
+
+    @Test
+    public void shouldAggregateDistinctElementsWhenViewOverridesGroupBy() {
+        // Given
+        final View view = new View.Builder()
+                .entity(BASIC_ENTITY)
+                .edge(BASIC_EDGE2, new ViewElementDefinition.Builder()
+                        .groupBy(PROPERTY1)
+                        .build())
+                .build();
+        final Stream<Element> elements = Stream.of(
+                getEdge("s", 1),
+                getEntity("A", 1),
+                getEdge("t", 2));
+
+        // When
+        final List<Element> results = GetElementsUtil.applyView(elements, schema, view, false, true)
+                .collect(Collectors.toList());
+
+        // Then
+        final Edge expectedEdge = getEdge("s,t", 3);
+        assertThat(results).containsExactly(getEntity("A", 1), expectedEdge);
+    }
+
+    @Test
+    public void shouldAggregateDuplicateElementsWhenElementsAreNotDistinct() {
+        // Given
+        final View view = new View.Builder()
+                .entity(BASIC_ENTITY)
+                .build();
+        final Stream<Element> elements = Stream.of(
+                getEntity("A", 1),
+                getEntity("A", 2),
+                getEntity("B", 1));
+
+        // When
+        final List<Element> results = GetElementsUtil.applyView(elements, schema, view)
+                .collect(Collectors.toList());
+
+        // Then
+        assertThat(results).containsExactly(getEntity("A", 3), getEntity("B", 1));
+    }
+
+    private static Entity getEntity(final String vertex, final int count) {
+        return new Entity.Builder()
+                .group(BASIC_ENTITY)
+                .vertex(vertex)
+                .property(PROPERTY1, "p")
+                .property(COUNT, count)
+                .build();
+    }
+
+    private static Edge getEdge(final String property2, final int count) {
+        return new Edge.Builder()
+                .group(BASIC_EDGE2)
+                .source("X")
+                .dest("Y")
+                .directed(false)
+                .property(PROPERTY1, "r")
+                .property(PROPERTY2, property2)
+                .property(COUNT, count)
+                .build();
+    }
+}
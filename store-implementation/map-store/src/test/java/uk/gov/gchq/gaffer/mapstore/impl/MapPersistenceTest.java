@@ -0,0 +1,159 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.mapstore.impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.graph.Graph;
+import uk.gov.gchq.gaffer.graph.GraphConfig;
+import uk.gov.gchq.gaffer.mapstore.MapStore;
+import uk.gov.gchq.gaffer.mapstore.MapStoreProperties;
+import uk.gov.gchq.gaffer.operation.OperationException;
+import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
+import uk.gov.gchq.gaffer.store.StoreException;
+import uk.gov.gchq.gaffer.user.User;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.gchq.gaffer.mapstore.impl.GetAllElementsHandlerTest.COUNT;
+
+public class MapPersistenceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void shouldRestoreElementsFromLogWhenStoreIsRecreated() throws OperationException {
+        // Given
+        final Graph graph = getGraph("graph1", 0);
+        addElements(graph);
+        addElements(graph);
+
+        // When
+        final Graph restoredGraph = getGraph("graph2", 0);
+
+        // Then
+        assertThat(tempDir.resolve(MapPersistence.SNAPSHOT_FILE)).doesNotExist();
+        assertThat(getAllElements(restoredGraph)).containsExactlyInAnyOrderElementsOf(getExpectedElements(2));
+    }
+
+    @Test
+    public void shouldRestoreElementsFromSnapshotAndLogWhenStoreIsRecreated() throws OperationException {
+        // Given
+        final Graph graph = getGraph("graph1", 2);
+        addElements(graph);
+        addElements(graph);
+        addElements(graph);
+
+        // When
+        final Graph restoredGraph = getGraph("graph2", 2);
+
+        // Then
+        assertThat(tempDir.resolve(MapPersistence.SNAPSHOT_FILE)).exists();
+        assertThat(getAllElements(restoredGraph)).containsExactlyInAnyOrderElementsOf(getExpectedElements(3));
+    }
+
+    @Test
+    public void shouldDiscardIncompleteBatchWhenStoreIsRecreated() throws OperationException, IOException {
+        // Given
+        final Graph graph = getGraph("graph1", 0);
+        addElements(graph);
+        final Path log = tempDir.resolve(MapPersistence.LOG_FILE_PREFIX + 0 + MapPersistence.LOG_FILE_SUFFIX);
+        Files.write(log, new byte[] {1, 0, 0, 0, 100, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        // When
+        final Graph restoredGraph = getGraph("graph2", 0);
+        addElements(restoredGraph);
+        final Graph secondRestoredGraph = getGraph("graph3", 0);
+
+        // Then
+        assertThat(getAllElements(restoredGraph)).containsExactlyInAnyOrderElementsOf(getExpectedElements(2));
+        assertThat(getAllElements(secondRestoredGraph)).containsExactlyInAnyOrderElementsOf(getExpectedElements(2));
+    }
+
+    @Test
+    public void shouldNotRestoreClearedElementsWhenStoreIsRecreated() throws OperationException, StoreException {
+        // Given
+        final MapStore store = new MapStore();
+        store.initialise("graph1", GetAllElementsHandlerTest.getSchema(), getStoreProperties(2));
+        final Graph graph = new Graph.Builder()
+                .config(new GraphConfig.Builder()
+                        .graphId("graph1")
+                        .build())
+                .store(store)
+                .build();
+        addElements(graph);
+        addElements(graph);
+        addElements(graph);
+
+        // When
+        store.getMapImpl().clear();
+        addElements(graph);
+        store.getMapImpl().close();
+        final Graph restoredGraph = getGraph("graph2", 2);
+
+        // Then
+        assertThat(tempDir.resolve(MapPersistence.SNAPSHOT_FILE)).doesNotExist();
+        assertThat(getAllElements(graph)).containsExactlyInAnyOrderElementsOf(getExpectedElements(1));
+        assertThat(getAllElements(restoredGraph)).containsExactlyInAnyOrderElementsOf(getExpectedElements(1));
+    }
+
+    private Graph getGraph(final String graphId, final int snapshotInterval) {
+        return new Graph.Builder()
+                .config(new GraphConfig.Builder()
+                        .graphId(graphId)
+                        .build())
+                .addSchema(GetAllElementsHandlerTest.getSchema())
+                .storeProperties(getStoreProperties(snapshotInterval))
+                .build();
+    }
+
+    private MapStoreProperties getStoreProperties(final int snapshotInterval) {
+        final MapStoreProperties storeProperties = new MapStoreProperties();
+        storeProperties.setPersistenceDirectory(tempDir.toString());
+        storeProperties.setPersistenceSnapshotInterval(snapshotInterval);
+        return storeProperties;
+    }
+
+    private static void addElements(final Graph graph) throws OperationException {
+        graph.execute(new AddElements.Builder()
+                .input(GetAllElementsHandlerTest.getElements())
+                .build(), new User());
+    }
+
+    private static Iterable<? extends Element> getAllElements(final Graph graph) throws OperationException {
+        return graph.execute(new GetAllElements(), new User());
+    }
+
+    private static List<Element> getExpectedElements(final int times) {
+        final List<Element> expectedElements = new ArrayList<>();
+        for (final Element element : GetAllElementsHandlerTest.getElements()) {
+            element.putProperty(COUNT, times * (Integer) element.getProperty(COUNT));
+            expectedElements.add(element);
+        }
+        return expectedElements;
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.mapstore.impl;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.data.element.Edge;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.id.EntityId;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
+import uk.gov.gchq.gaffer.graph.Graph;
+import uk.gov.gchq.gaffer.graph.GraphConfig;
+import uk.gov.gchq.gaffer.mapstore.MapStoreProperties;
+import uk.gov.gchq.gaffer.operation.OperationException;
+import uk.gov.gchq.gaffer.operation.data.EntitySeed;
+import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAdjacentIds;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
+import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
+import uk.gov.gchq.gaffer.user.User;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.gchq.gaffer.mapstore.impl.GetAllElementsHandlerTest.BASIC_EDGE1;
+import static uk.gov.gchq.gaffer.mapstore.impl.GetAllElementsHandlerTest.COUNT;
+import static uk.gov.gchq.gaffer.mapstore.impl.GetAllElementsHandlerTest.PROPERTY1;
+
+public class ParallelQueryTest {
+
+    @Test
+    public void shouldGetAllElementsInParallel() throws OperationException {
+        // Given
+        final Graph graph = getGraph("parallelGraph", true);
+
+        // When
+        final Iterable<? extends Element> results = graph.execute(new GetAllElements(), new User());
+
+        // Then
+        assertThat(results).containsExactlyInAnyOrderElementsOf(getElements());
+    }
+
+    @Test
+    public void shouldAggregateElementsAtQueryTimeInParallel() throws OperationException {
+        // Given
+        final Graph graph = getGraph("parallelGraph", true);
+        final GetAllElements getAllElements = new GetAllElements.Builder()
+                .view(new View.Builder()
+                        .edge(BASIC_EDGE1, new ViewElementDefinition.Builder()
+                                .groupBy()
+                                .build())
+                        .build())
+                .build();
+
+        // When
+        final Iterable<? extends Element> results = graph.execute(getAllElements, new User());
+
+        // Then
+        final List<Element> expectedResults = new ArrayList<>();
+        for (final Element element : GetAllElementsHandlerTest.getElements()) {
+            if (BASIC_EDGE1.equals(element.getGroup())) {
+                if ("B0".equals(((Edge) element).getDestination())) {
+                    element.putProperty(COUNT, 100);
+                }
+                expectedResults.add(element);
+            }
+        }
+        assertThat(results).hasSize(expectedResults.size())
+                .allSatisfy(element -> assertThat(expectedResults)
+                        .anySatisfy(expected -> {
+                            assertThat(element.getGroup()).isEqualTo(expected.getGroup());
+                            assertThat(((Edge) element).getDestination()).isEqualTo(((Edge) expected).getDestination());
+                            assertThat(element.getProperty(COUNT)).isEqualTo(expected.getProperty(COUNT));
+                        }));
+    }
+
+    @Test
+    public void shouldPreserveOrderOfResultsWhenRequestedInOperationOptions() throws OperationException {
+        // Given
+        final Graph sequentialGraph = getGraph("sequentialGraph", false);
+        final Graph parallelGraph = getGraph("parallelGraph", false);
+        final List<EntitySeed> seeds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            seeds.add(new EntitySeed("" + i));
+            seeds.add(new EntitySeed("B" + i));
+            seeds.add(new EntitySeed("Y" + i));
+        }
+
+        // When
+        final Iterable<? extends Element> sequentialResults = sequentialGraph.execute(new GetElements.Builder()
+                .input(seeds)
+                .build(), new User());
+        final Iterable<? extends Element> parallelResults = parallelGraph.execute(new GetElements.Builder()
+                .input(seeds)
+                .option(MapStoreProperties.PARALLEL_QUERIES, "true")
+                .option(MapStoreProperties.PARALLEL_QUERIES_PRESERVE_ORDER, "true")
+                .build(), new User());
+
+        // Then
+        assertThat(parallelResults).isNotEmpty().containsExactlyElementsOf(sequentialResults);
+    }
+
+    @Test
+    public void shouldGetAdjacentIdsInParallel() throws OperationException {
+        // Given
+        final Graph sequentialGraph = getGraph("sequentialGraph", false);
+        final Graph parallelGraph = getGraph("parallelGraph", true);
+        final GetAdjacentIds getAdjacentIds = new GetAdjacentIds.Builder()
+                .input(new EntitySeed("A"), new EntitySeed("X"))
+                .build();
+
+        // When
+        final Iterable<? extends EntityId> sequentialResults = sequentialGraph.execute(getAdjacentIds, new User());
+        final Iterable<? extends EntityId> parallelResults = parallelGraph.execute(getAdjacentIds, new User());
+
+        // Then
+        assertThat(parallelResults).isNotEmpty().containsExactlyInAnyOrderElementsOf(sequentialResults);
+    }
+
+    @Test
+    public void shouldGiveEachThreadItsOwnCloneOfTheView() throws Exception {
+        // Given
+        final View view = new View.Builder()
+                .edge(BASIC_EDGE1)
+                .build();
+        final Supplier<View> viewSupplier = ParallelQueryUtil.getViewSupplier(view, true);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        // When
+        final View callerView = viewSupplier.get();
+        final View otherThreadView;
+        try {
+            otherThreadView = executor.submit(viewSupplier::get).get();
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        assertThat(viewSupplier.get()).isSameAs(callerView);
+        assertThat(callerView).isNotSameAs(view).isNotSameAs(otherThreadView);
+        assertThat(otherThreadView).isNotSameAs(view);
+    }
+
+    private static Graph getGraph(final String graphId, final boolean parallel) throws OperationException {
+        final MapStoreProperties storeProperties = new MapStoreProperties();
+        storeProperties.setParallelQueries(parallel);
+        storeProperties.setParallelQueriesThreads(4);
+        final Graph graph = new Graph.Builder()
+                .config(new GraphConfig.Builder()
+                        .graphId(graphId)
+                        .build())
+                .addSchema(GetAllElementsHandlerTest.getSchema())
+                .storeProperties(storeProperties)
+                .build();
+        graph.execute(new AddElements.Builder()
+                .input(getElements())
+                .build(), new User());
+        return graph;
+    }
+
+    private static List<Element> getElements() {
+        final List<Element> elements = new ArrayList<>(GetAllElementsHandlerTest.getElements());
+        elements.add(new Edge.Builder()
+                .group(BASIC_EDGE1)
+                .source("A")
+                .dest("B0")
+                .directed(true)
+                .property(PROPERTY1, "z")
+                .property(COUNT, 100)
+                .build());
+        return elements;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.mapstore.multimap;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.operation.data.EntitySeed;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class LongVertexMultiMapTest {
+
+    @Test
+    public void shouldPutAndGetValuesByEntityIdAndVertex() {
+        // Given
+        final LongVertexMultiMap<String> multiMap = new LongVertexMultiMap<>(Long.class);
+
+        // When
+        final boolean firstPut = multiMap.put(new EntitySeed(1L), "value1");
+        final boolean duplicatePut = multiMap.put(new EntitySeed(1L), "value1");
+        multiMap.put(new EntitySeed(1L), Arrays.asList("value2", "value3"));
+        multiMap.put(2L, "value4");
+
+        // Then
+        assertThat(firstPut).isTrue();
+        assertThat(duplicatePut).isFalse();
+        assertThat(multiMap.get(new EntitySeed(1L))).containsExactly("value1", "value2", "value3");
+        assertThat(multiMap.getByVertex(2L)).containsExactly("value4");
+        assertThat(multiMap.get(3L)).isNull();
+    }
+
+    @Test
+    public void shouldHoldManyValuesForOneVertex() {
+        // Given
+        final LongVertexMultiMap<Integer> multiMap = new LongVertexMultiMap<>(Long.class);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            multiMap.put(1L, i);
+            multiMap.put(1L, i);
+        }
+
+        // Then
+        assertThat(multiMap.get(1L)).hasSize(100).contains(0, LongVertexMultiMap.MAX_ARRAY_SIZE, 99);
+    }
+
+    @Test
+    public void shouldHoldManyVertices() {
+        // Given
+        final LongVertexMultiMap<Long> multiMap = new LongVertexMultiMap<>(Long.class);
+
+        // When
+        for (long i = -500; i < 500; i++) {
+            multiMap.put(i, i * 2);
+        }
+
+        // Then
+        assertThat(multiMap.keySet()).hasSize(1000).contains(new EntitySeed(-500L), new EntitySeed(499L));
+        for (long i = -500; i < 500; i++) {
+            assertThat(multiMap.get(i)).containsExactly(i * 2);
+        }
+    }
+
+    @Test
+    public void shouldRestoreIntegerVerticesInKeySet() {
+        // Given
+        final LongVertexMultiMap<String> multiMap = new LongVertexMultiMap<>(Integer.class);
+
+        // When
+        multiMap.put(new EntitySeed(5), "value");
+
+        // Then
+        assertThat(multiMap.keySet()).containsExactly(new EntitySeed(5));
+        assertThat(multiMap.getByVertex(5L)).isNull();
+    }
+
+    @Test
+    public void shouldReturnNullForUnsupportedVertexAndThrowExceptionOnPut() {
+        // Given
+        final LongVertexMultiMap<String> multiMap = new LongVertexMultiMap<>(Long.class);
+
+        // When / Then
+        assertThat(multiMap.getByVertex("1")).isNull();
+        assertThatIllegalArgumentException().isThrownBy(() -> multiMap.put(new EntitySeed("1"), "value"));
+    }
+
+    @Test
+    public void shouldClearAllValues() {
+        // Given
+        final LongVertexMultiMap<String> multiMap = new LongVertexMultiMap<>(Long.class);
+        multiMap.put(1L, "value");
+
+        // When
+        multiMap.clear();
+
+        // Then
+        assertThat(multiMap.get(1L)).isNull();
+        assertThat(multiMap.keySet()).isEmpty();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.mapstore.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.commonutil.elementvisibilityutil.Authorisations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CachingVisibilityEvaluatorTest {
+
+    @BeforeEach
+    public void before() {
+        CachingVisibilityEvaluator.clearCaches();
+    }
+
+    @Test
+    public void shouldEvaluateVisibilityExpressions() {
+        // Given
+        final CachingVisibilityEvaluator evaluator = CachingVisibilityEvaluator.forAuthorisations(new Authorisations("public", "private"));
+
+        // When / Then
+        assertThat(evaluator.isVisible("public")).isTrue();
+        assertThat(evaluator.isVisible("public&private")).isTrue();
+        assertThat(evaluator.isVisible("secret|private")).isTrue();
+        assertThat(evaluator.isVisible("secret")).isFalse();
+        assertThat(evaluator.isVisible("public&secret")).isFalse();
+        assertThat(evaluator.isVisible("")).isTrue();
+    }
+
+    @Test
+    public void shouldReturnSameResultWhenExpressionIsRepeated() {
+        // Given
+        final CachingVisibilityEvaluator evaluator = CachingVisibilityEvaluator.forAuthorisations(new Authorisations("public"));
+
+        // When / Then
+        for (int i = 0; i < 3; i++) {
+            assertThat(evaluator.isVisible("public")).isTrue();
+            assertThat(evaluator.isVisible("private")).isFalse();
+        }
+    }
+
+    @Test
+    public void shouldNotShareResultsBetweenDifferentAuthorisations() {
+        // Given
+        final CachingVisibilityEvaluator publicEvaluator = CachingVisibilityEvaluator.forAuthorisations(new Authorisations("public"));
+        final CachingVisibilityEvaluator privateEvaluator = CachingVisibilityEvaluator.forAuthorisations(new Authorisations("private"));
+
+        // When / Then
+        assertThat(publicEvaluator.isVisible("private")).isFalse();
+        assertThat(privateEvaluator.isVisible("private")).isTrue();
+        assertThat(CachingVisibilityEvaluator.forAuthorisations(new Authorisations("private")).isVisible("private")).isTrue();
+    }
+}
@@ -17,13 +17,23 @@ package uk.gov.gchq.gaffer.mapstore.utils;
 
 import org.junit.jupiter.api.Test;
 
+import uk.gov.gchq.gaffer.commonutil.TestGroups;
 import uk.gov.gchq.gaffer.commonutil.pair.Pair;
 import uk.gov.gchq.gaffer.commonutil.stream.Streams;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.Entity;
 import uk.gov.gchq.gaffer.mapstore.MapStore;
 import uk.gov.gchq.gaffer.mapstore.MapStoreProperties;
 import uk.gov.gchq.gaffer.mapstore.impl.GetAllElementsHandlerTest;
+import uk.gov.gchq.gaffer.serialisation.FreqMapSerialiser;
+import uk.gov.gchq.gaffer.serialisation.implementation.StringSerialiser;
 import uk.gov.gchq.gaffer.store.StoreException;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.schema.SchemaEntityDefinition;
+import uk.gov.gchq.gaffer.store.schema.TypeDefinition;
+import uk.gov.gchq.gaffer.types.FreqMap;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class ElementClonerTest {
@@ -40,4 +50,40 @@ public class ElementClonerTest {
                 .map(element -> new Pair<>(element, cloner.cloneElement(element, mapStore.getSchema())))
                 .forEach(pair -> assertEquals(pair.getFirst(), pair.getSecond()));
     }
+
+    @Test
+    public void shouldShareImmutablePropertiesAndCopyMutableProperties() {
+        // Given
+        final Schema schema = new Schema.Builder()
+                .entity(TestGroups.ENTITY, new SchemaEntityDefinition.Builder()
+                        .vertex("string")
+                        .property("name", "string")
+                        .property("freqMap", "freqMap")
+                        .build())
+                .type("string", new TypeDefinition.Builder()
+                        .clazz(String.class)
+                        .serialiser(new StringSerialiser())
+                        .build())
+                .type("freqMap", new TypeDefinition.Builder()
+                        .clazz(FreqMap.class)
+                        .serialiser(new FreqMapSerialiser())
+                        .build())
+                .build();
+        final FreqMap freqMap = new FreqMap();
+        freqMap.upsert("a", 1L);
+        final Element element = new Entity.Builder()
+                .group(TestGroups.ENTITY)
+                .vertex("vertex")
+                .property("name", new String("value"))
+                .property("freqMap", freqMap)
+                .build();
+
+        // When
+        final Element clone = new ElementCloner().cloneElement(element, schema);
+
+        // Then
+        assertThat(clone).isEqualTo(element);
+        assertThat(clone.getProperty("name")).isSameAs(element.getProperty("name"));
+        assertThat(clone.getProperty("freqMap")).isNotSameAs(freqMap);
+    }
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2023 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.mapstore.utils;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.commonutil.StringUtil;
+
+import java.util.HashSet;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class OffHeapHashTableTest {
+
+    @Test
+    public void shouldPutGetAndRemoveEntries() {
+        // Given
+        final OffHeapHashTable table = new OffHeapHashTable(1024, true);
+
+        // When
+        table.put(bytes("key1"), bytes("value1"));
+        table.put(bytes("key2"), bytes("value2"));
+        table.put(bytes("key1"), bytes("updated"));
+        final boolean removed = table.remove(bytes("key2"));
+
+        // Then
+        assertThat(removed).isTrue();
+        assertThat(table.size()).isOne();
+        assertThat(table.get(bytes("key1"))).isEqualTo(bytes("updated"));
+        assertThat(table.get(bytes("key2"))).isNull();
+        assertThat(table.containsKey(bytes("key2"))).isFalse();
+    }
+
+    @Test
+    public void shouldGrowToHoldManyEntries() {
+        // Given
+        final OffHeapHashTable table = new OffHeapHashTable(256, true);
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            table.put(bytes("key" + i), bytes("value" + i));
+        }
+
+        // Then
+        assertThat(table.size()).isEqualTo(1000);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(table.get(bytes("key" + i))).isEqualTo(bytes("value" + i));
+        }
+        final Set<String> keys = new HashSet<>();
+        final PrimitiveIterator.OfLong addresses = table.addresses();
+        while (addresses.hasNext()) {
+            keys.add(StringUtil.toString(table.readKey(addresses.nextLong())));
+        }
+        assertThat(keys).hasSize(1000).contains("key0", "key999");
+    }
+
+    @Test
+    public void shouldCompactRecordsWhenMostStoredBytesAreUnused() {
+        // Given
+        final OffHeapHashTable table = new OffHeapHashTable(64, true);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            table.put(bytes("key"), bytes("value" + i));
+        }
+
+        // Then
+        assertThat(table.get(bytes("key"))).isEqualTo(bytes("value99"));
+        assertThat(table.getStoredBytes()).isLessThanOrEqualTo(2 * 64L + table.getLiveBytes());
+    }
+
+    @Test
+    public void shouldNotCompactRecordsIfCompactionIsDisabled() {
+        // Given
+        final OffHeapHashTable table = new OffHeapHashTable(64, false);
+
+        // When
+        final long firstAddress = table.put(bytes("key"), bytes("value"));
+        for (int i = 0; i < 100; i++) {
+            table.put(bytes("key"), bytes("value" + i));
+        }
+
+        // Then
+        assertThat(table.readValue(firstAddress)).isEqualTo(bytes("value"));
+    }
+
+    @Test
+    public void shouldThrowExceptionIfSegmentSizeIsTooSmall() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new OffHeapHashTable(1, true));
+    }
+
+    private static byte[] bytes(final String value) {
+        return StringUtil.toBytes(value);
+    }
+}
@@ -35,12 +35,16 @@ public class ProxyProperties extends StoreProperties {
     public static final String GAFFER_CONTEXT_ROOT = "gaffer.context-root";
     public static final String CONNECT_TIMEOUT = "gaffer.connect-timeout";
     public static final String READ_TIMEOUT = "gaffer.read-timeout";
+    public static final String ELEMENT_STREAM = "gaffer.element-stream";
+    public static final String CHUNKED_RESULTS = "gaffer.chunked-results";
 
     public static final String DEFAULT_GAFFER_HOST = "localhost";
     public static final String DEFAULT_GAFFER_CONTEXT_ROOT = "/rest";
     public static final int DEFAULT_GAFFER_PORT = 8080;
     public static final int DEFAULT_CONNECT_TIMEOUT = 10000;
     public static final int DEFAULT_READ_TIMEOUT = 10000;
+    public static final boolean DEFAULT_ELEMENT_STREAM = false;
+    public static final boolean DEFAULT_CHUNKED_RESULTS = false;
 
 
     public ProxyProperties() {
@@ -93,6 +97,37 @@ public class ProxyProperties extends StoreProperties {
         set(READ_TIMEOUT, String.valueOf(timeout));
     }
 
+    /**
+     * Whether {@link Iterable} results should be requested from the remote
+     * REST API using the binary element stream format rather than JSON.
+     *
+     * @return true if the element stream format should be requested
+     */
+    public boolean isElementStream() {
+        return Boolean.parseBoolean(get(ELEMENT_STREAM, String.valueOf(DEFAULT_ELEMENT_STREAM)));
+    }
+
+    public void setElementStream(final boolean elementStream) {
+        set(ELEMENT_STREAM, String.valueOf(elementStream));
+    }
+
+    /**
+     * Whether {@link Iterable} results should be requested from the chunked
+     * execute endpoint of the remote REST API and read lazily, rather than
+     * reading the whole response before returning. This requires
+     * {@link #isElementStream()}, as only the element stream format can show
+     * that a chunked response was cut short.
+     *
+     * @return true if the chunked execute endpoint should be used
+     */
+    public boolean isChunkedResults() {
+        return Boolean.parseBoolean(get(CHUNKED_RESULTS, String.valueOf(DEFAULT_CHUNKED_RESULTS)));
+    }
+
+    public void setChunkedResults(final boolean chunkedResults) {
+        set(CHUNKED_RESULTS, String.valueOf(chunkedResults));
+    }
+
     public String getGafferHost() {
         return get(GAFFER_HOST, DEFAULT_GAFFER_HOST);
     }
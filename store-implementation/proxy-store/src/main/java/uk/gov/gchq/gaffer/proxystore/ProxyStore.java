@@ -17,6 +17,8 @@
 package uk.gov.gchq.gaffer.proxystore;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.glassfish.jersey.client.ClientProperties;
 import org.slf4j.Logger;
@@ -61,6 +63,7 @@ import uk.gov.gchq.gaffer.store.operation.GetTraits;
 import uk.gov.gchq.gaffer.store.operation.handler.OperationHandler;
 import uk.gov.gchq.gaffer.store.operation.handler.OutputOperationHandler;
 import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.serialiser.ElementStreamSerialiser;
 
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
@@ -70,6 +73,7 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status.Family;
 
+import java.io.InputStream;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
@@ -89,6 +93,7 @@ public class ProxyStore extends Store {
     private static final Logger LOGGER = LoggerFactory.getLogger(ProxyStore.class);
     public static final String ERROR_FETCHING_SCHEMA_FROM_REMOTE_STORE = "Error fetching schema from remote store.";
     private Client client;
+    private volatile ElementStreamSerialiser elementStreamSerialiser;
 
     public ProxyStore() {
         super(false);
@@ -98,7 +103,12 @@ public class ProxyStore extends Store {
     @Override
     public void initialise(final String graphId, final Schema unusedSchema, final StoreProperties properties) throws StoreException {
         setProperties(properties);
+        if (getProperties().isChunkedResults() && !getProperties().isElementStream()) {
+            throw new StoreException(ProxyProperties.CHUNKED_RESULTS + " requires " + ProxyProperties.ELEMENT_STREAM
+                    + " to be set, as chunked JSON results have no end marker to detect a truncated response");
+        }
         client = createClient();
+        elementStreamSerialiser = null;
 
         super.initialise(graphId, new Schema(), getProperties());
         checkDelegateStoreStatus();
@@ -240,6 +250,16 @@ public class ProxyStore extends Store {
                 responseDeserialiser = getResponseDeserialiserForNamedOperation((NamedOperation) lastOp, context);
             } else {
                 responseDeserialiser = getResponseDeserialiserFor(opChain.getOutputTypeReference());
+                if (getProperties().isElementStream()) {
+                    final JavaType itemType = getIterableItemType(opChain.getOutputTypeReference());
+                    if (nonNull(itemType)) {
+                        // The chunked endpoint is only used when it will respond with an element stream
+                        final URL iterableUrl = getProperties().isChunkedResults() && isElementStreamSupported()
+                                ? getProperties().getGafferUrl("graph/operations/execute/chunked")
+                                : url;
+                        return doPostForIterable(iterableUrl, opChainJson, itemType, responseDeserialiser, context);
+                    }
+                }
             }
             return doPost(url, opChainJson, responseDeserialiser, context);
         } catch (final StoreException e) {
@@ -274,6 +294,89 @@ public class ProxyStore extends Store {
         return handleResponse(response, responseDeserialiser);
     }
 
+    /**
+     * Posts an operation chain which outputs an {@link Iterable}. The returned
+     * {@link Iterable} reads the results lazily from the response, can only be
+     * iterated over once and should be closed to release the connection if it
+     * is not fully consumed.
+     * <p>
+     * The results are requested using the binary element stream format, which
+     * ends with an end frame so a truncated response is detected. The url may
+     * be the chunked execute endpoint if {@link ProxyProperties#CHUNKED_RESULTS}
+     * is set. If the response is not an element stream it is handled as normal.
+     *
+     * @param url                  the url to post to
+     * @param jsonBody             the operation chain JSON
+     * @param itemType             the type of the items in the results
+     * @param responseDeserialiser the deserialiser to use for other JSON responses
+     * @param context              the context
+     * @param <O>                  the output type
+     * @return the results
+     * @throws StoreException if the request fails
+     */
+    @SuppressWarnings("unchecked")
+    protected <O> O doPostForIterable(final URL url, final String jsonBody, final JavaType itemType,
+                                      final ResponseDeserialiser<O> responseDeserialiser,
+                                      final Context context)
+            throws StoreException {
+        final Invocation.Builder request = createRequest(jsonBody, url, context);
+        request.header("Accept", null);
+        request.accept(ElementStreamSerialiser.MEDIA_TYPE, MediaType.APPLICATION_JSON);
+        final Response response;
+        try {
+            response = request.post(Entity.json(jsonBody));
+        } catch (final Exception e) {
+            throw new StoreException(String.format("Failed to execute post via the Gaffer URL %s", url.toExternalForm()), e);
+        }
+
+        if (Family.SUCCESSFUL == response.getStatusInfo().getFamily()
+                && nonNull(response.getMediaType())
+                && MediaType.valueOf(ElementStreamSerialiser.MEDIA_TYPE).isCompatible(response.getMediaType())) {
+            return (O) getElementStreamSerialiser().deserialise(response.readEntity(InputStream.class), itemType.getRawClass());
+        }
+        return handleResponse(response, responseDeserialiser);
+    }
+
+    /**
+     * @return true if the schema of the remote store can be written as an
+     * element stream, so the remote REST API will not fall back to JSON
+     */
+    protected boolean isElementStreamSupported() {
+        try {
+            getElementStreamSerialiser();
+            return true;
+        } catch (final IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * The element stream serialiser is created from the original schema of
+     * the remote store, in the same way as the remote REST API creates it.
+     * Concurrent callers may each create a serialiser, but they are all
+     * equivalent so only one of them is kept.
+     *
+     * @return the element stream serialiser
+     */
+    protected ElementStreamSerialiser getElementStreamSerialiser() {
+        ElementStreamSerialiser serialiser = elementStreamSerialiser;
+        if (null == serialiser) {
+            serialiser = new ElementStreamSerialiser(getOriginalSchema());
+            elementStreamSerialiser = serialiser;
+        }
+        return serialiser;
+    }
+
+    private static JavaType getIterableItemType(final TypeReference<?> typeReference) {
+        final TypeFactory typeFactory = JSONSerialiser.getMapper().getTypeFactory();
+        final JavaType type = typeFactory.constructType(typeReference);
+        if (!Iterable.class.equals(type.getRawClass())) {
+            return null;
+        }
+        final JavaType[] itemTypes = typeFactory.findTypeParameters(type, Iterable.class);
+        return 1 == itemTypes.length ? itemTypes[0] : typeFactory.constructType(Object.class);
+    }
+
     protected <O> O doGet(final URL url, final ResponseDeserialiser<O> responseDeserialiser, final Context context) throws StoreException {
         final Invocation.Builder request = createRequest(null, url, context);
         final Response response;
@@ -423,6 +526,16 @@ public class ProxyStore extends Store {
             return this;
         }
 
+        public Builder elementStream(final boolean elementStream) {
+            properties.setElementStream(elementStream);
+            return this;
+        }
+
+        public Builder chunkedResults(final boolean chunkedResults) {
+            properties.setChunkedResults(chunkedResults);
+            return this;
+        }
+
         public Builder jsonSerialiser(final Class<? extends JSONSerialiser> serialiserClass) {
             properties.setJsonSerialiserClass(serialiserClass);
             return this;
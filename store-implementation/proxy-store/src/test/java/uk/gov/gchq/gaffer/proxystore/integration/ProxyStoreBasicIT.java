@@ -147,6 +147,51 @@ public class ProxyStoreBasicIT {
         assertThat(results).asInstanceOf(InstanceOfAssertFactories.iterable(Element.class)).contains(DEFAULT_ELEMENTS);
     }
 
+    @Test
+    public void shouldAddElementsAndGetAllElementsAsElementStream() throws Exception {
+        // Given
+        addDefaultElements();
+        final Graph elementStreamGraph = new Graph.Builder()
+                .store(new ProxyStore.Builder()
+                        .graphId("graph2")
+                        .host("localhost")
+                        .port(8080)
+                        .contextRoot("rest/v2")
+                        .elementStream(true)
+                        .build())
+                .build();
+
+        // When
+        final Iterable<? extends Element> results = elementStreamGraph.execute(new GetAllElements(), USER);
+
+        // Then
+        assertThat(results).asInstanceOf(InstanceOfAssertFactories.iterable(Element.class))
+                .containsExactlyInAnyOrder(DEFAULT_ELEMENTS);
+    }
+
+    @Test
+    public void shouldAddElementsAndGetAllElementsAsChunkedResults() throws Exception {
+        // Given
+        addDefaultElements();
+        final Graph chunkedGraph = new Graph.Builder()
+                .store(new ProxyStore.Builder()
+                        .graphId("graph3")
+                        .host("localhost")
+                        .port(8080)
+                        .contextRoot("rest/v2")
+                        .elementStream(true)
+                        .chunkedResults(true)
+                        .build())
+                .build();
+
+        // When
+        final Iterable<? extends Element> results = chunkedGraph.execute(new GetAllElements(), USER);
+
+        // Then
+        assertThat(results).asInstanceOf(InstanceOfAssertFactories.iterable(Element.class))
+                .containsExactlyInAnyOrder(DEFAULT_ELEMENTS);
+    }
+
     @Test
     public void shouldAddElementsAndGetRelatedElements() throws Exception {
         // Given